@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.benchmark;
+
+import org.apache.paimon.CoreOptions;
+import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.index.HashBucketAssigner;
+import org.apache.paimon.options.Options;
+import org.apache.paimon.table.FileStoreTable;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/** Benchmark for {@link HashBucketAssigner#assign}. */
+public class HashBucketAssignerBenchmark extends TableBenchmark {
+
+    private static final int NUM_KEYS = 10_000_000;
+
+    @Test
+    public void testAssign() throws Exception {
+        Options options = new Options();
+        options.set(CoreOptions.BUCKET, -1);
+        FileStoreTable table = (FileStoreTable) createTable(options);
+
+        int[] hashes = new int[NUM_KEYS];
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < NUM_KEYS; i++) {
+            hashes[i] = random.nextInt();
+        }
+
+        Benchmark benchmark =
+                new Benchmark("hash-bucket-assigner", NUM_KEYS)
+                        .setNumWarmupIters(1)
+                        .setOutputPerIteration(true);
+        for (long targetRowNumber : new long[] {100_000, 10_000}) {
+            HashBucketAssigner existing = createAssigner(table, targetRowNumber);
+            for (int hash : hashes) {
+                existing.assign(BinaryRow.EMPTY_ROW, hash);
+            }
+
+            benchmark.addCase(
+                    "assign-new-keys-target-" + targetRowNumber,
+                    5,
+                    () -> {
+                        HashBucketAssigner assigner = createAssigner(table, targetRowNumber);
+                        for (int hash : hashes) {
+                            assigner.assign(BinaryRow.EMPTY_ROW, hash);
+                        }
+                    });
+            benchmark.addCase(
+                    "assign-existing-keys-target-" + targetRowNumber,
+                    5,
+                    () -> {
+                        for (int hash : hashes) {
+                            existing.assign(BinaryRow.EMPTY_ROW, hash);
+                        }
+                    });
+        }
+        benchmark.run();
+    }
+
+    private HashBucketAssigner createAssigner(FileStoreTable table, long targetRowNumber) {
+        return new HashBucketAssigner(
+                table.snapshotManager(),
+                UUID.randomUUID().toString(),
+                table.store().newIndexFileHandler(),
+                1,
+                0,
+                targetRowNumber);
+    }
+}
@@ -139,6 +139,31 @@ public class CoreOptions implements Serializable {
                             "Default file compression format, can be overridden by "
                                     + FILE_COMPRESSION_PER_LEVEL.key());
 
+    public static final ConfigOption<Boolean> FILE_KEY_BLOOM_FILTER_ENABLED =
+            key("file.key-bloom-filter.enabled")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to write a bloom filter of primary keys as a sidecar file for each"
+                                    + " data file. Point queries and lookups use it to skip data files"
+                                    + " which do not contain the key.");
+
+    public static final ConfigOption<Double> FILE_KEY_BLOOM_FILTER_FPP =
+            key("file.key-bloom-filter.fpp")
+                    .doubleType()
+                    .defaultValue(0.01)
+                    .withDescription(
+                            "Define the false positive probability for the bloom filter of primary keys"
+                                    + " of data files.");
+
+    public static final ConfigOption<MemorySize> FILE_KEY_BLOOM_FILTER_CACHE_MAX_MEMORY_SIZE =
+            key("file.key-bloom-filter.cache-max-memory-size")
+                    .memoryType()
+                    .defaultValue(MemorySize.parse("64 mb"))
+                    .withDescription(
+                            "Max memory size for the key bloom filters of data files cached by"
+                                    + " lookups and by point query plans.");
+
     public static final ConfigOption<FileFormatType> MANIFEST_FORMAT =
             key("manifest.format")
                     .enumType(FileFormatType.class)
@@ -166,6 +191,16 @@ public class CoreOptions implements Serializable {
                             "To avoid frequent manifest merges, this parameter specifies the minimum number "
                                     + "of ManifestFileMeta to merge.");
 
+    public static final ConfigOption<Boolean> MANIFEST_SORT_BY_PARTITION =
+            key("manifest.sort-by-partition")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to sort the entries of manifest files by partition. Rolled "
+                                    + "manifest files then cover narrow partition ranges, so that "
+                                    + "scans on a few partitions can skip most manifest files by "
+                                    + "their partition stats.");
+
     public static final ConfigOption<String> PARTITION_DEFAULT_NAME =
             key("partition.default-name")
                     .stringType()
@@ -263,6 +298,16 @@ public class CoreOptions implements Serializable {
                             "Open file cost of a source file. It is used to avoid reading"
                                     + " too many files with a source split, which can be very slow.");
 
+    public static final ConfigOption<Boolean> WRITE_BUFFER_ASYNC_FLUSH_ENABLED =
+            key("write-buffer-async-flush.enabled")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to split the write buffer into two halves and flush a full half"
+                                    + " in background while the other half keeps accepting records."
+                                    + " Writing only blocks when both halves are busy. Spillable write"
+                                    + " buffers are always flushed synchronously.");
+
     public static final ConfigOption<MemorySize> WRITE_BUFFER_SIZE =
             key("write-buffer-size")
                     .memoryType()
@@ -342,6 +387,16 @@ public class CoreOptions implements Serializable {
                             "The size amplification is defined as the amount (in percentage) of additional storage "
                                     + "needed to store a single byte of data in the merge tree for changelog mode table.");
 
+    public static final ConfigOption<Integer> COMPACTION_MAX_SUBTASKS =
+            key("compaction.max-subtasks")
+                    .intType()
+                    .defaultValue(1)
+                    .withDescription(
+                            "The maximum number of key range subtasks a compaction of a bucket is split"
+                                    + " into, which are rewritten concurrently. Each subtask rewrites at"
+                                    + " least target-file-size of data. 1 means compactions are rewritten"
+                                    + " by a single thread.");
+
     public static final ConfigOption<Integer> COMPACTION_SIZE_RATIO =
             key("compaction.size-ratio")
                     .intType()
@@ -351,6 +406,15 @@ public class CoreOptions implements Serializable {
                                     + "size is 1% smaller than the next sorted run's size, then include next sorted run "
                                     + "into this candidate set.");
 
+    public static final ConfigOption<Integer> COMPACTION_THREADS =
+            key("compaction.threads")
+                    .intType()
+                    .defaultValue(1)
+                    .withDescription(
+                            "The number of threads shared by the buckets of a writer to run compactions."
+                                    + " Compactions of buckets close to 'num-sorted-run.stop-trigger'"
+                                    + " are run before background compactions.");
+
     public static final ConfigOption<Integer> COMPACTION_MIN_FILE_NUM =
             key("compaction.min.file-num")
                     .intType()
@@ -633,12 +697,93 @@ public class CoreOptions implements Serializable {
                     .defaultValue(MemorySize.parse("256 mb"))
                     .withDescription("Max memory size for lookup cache.");
 
+    public static final ConfigOption<MemorySize> LOOKUP_CACHE_MAX_MMAP_SIZE =
+            key("lookup.cache-max-mmap-size")
+                    .memoryType()
+                    .defaultValue(MemorySize.ZERO)
+                    .withDescription(
+                            "Max total size of local lookup files which are read by memory mapping,"
+                                    + " these files are served by the page cache of the operating system"
+                                    + " without copying pages into lookup cache. Files exceeding it are read"
+                                    + " through lookup cache. 0 means memory mapping is disabled.");
+
+    public static final ConfigOption<Boolean> LOOKUP_CACHE_OFF_HEAP_ENABLED =
+            key("lookup.cache-off-heap.enabled")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to allocate pages of lookup cache in off-heap memory, this keeps"
+                                    + " large lookup caches out of the JVM heap. The off-heap memory is"
+                                    + " limited by the max direct memory size of the JVM.");
+
+    public static final ConfigOption<Boolean> LOOKUP_CACHE_BLOOM_FILTER_ENABLED =
+            key("lookup.cache-bloom-filter.enabled")
+                    .booleanType()
+                    .defaultValue(true)
+                    .withDescription(
+                            "Whether to build a bloom filter for each local lookup file, the filter is"
+                                    + " kept in memory and checked before probing the file.");
+
+    public static final ConfigOption<Double> LOOKUP_CACHE_BLOOM_FILTER_FPP =
+            key("lookup.cache-bloom-filter.fpp")
+                    .doubleType()
+                    .defaultValue(0.05)
+                    .withDescription(
+                            "Define the default false positive probability for lookup cache bloom filters.");
+
+    public static final ConfigOption<Integer> LOOKUP_CACHE_PREFETCH_THREADS =
+            key("lookup.cache-prefetch.threads")
+                    .intType()
+                    .defaultValue(0)
+                    .withDescription(
+                            "The number of background threads to build local lookup files for the data"
+                                    + " files produced by compaction, so that lookups do not need to build"
+                                    + " them synchronously. 0 means prefetching is disabled.");
+
+    public static final ConfigOption<Integer> LOOKUP_CACHE_PREFETCH_QUEUE_SIZE =
+            key("lookup.cache-prefetch.queue-size")
+                    .intType()
+                    .defaultValue(128)
+                    .withDescription(
+                            "The max number of pending lookup file prefetches, new data files are not"
+                                    + " prefetched when the queue is full.");
+
+    public static final ConfigOption<LookupStoreType> LOOKUP_STORE_TYPE =
+            key("lookup.store-type")
+                    .enumType(LookupStoreType.class)
+                    .defaultValue(LookupStoreType.HASH)
+                    .withDescription("The type of local store to build lookup files.");
+
+    public static final ConfigOption<MemorySize> LOOKUP_SORT_STORE_BLOCK_SIZE =
+            key("lookup.sort-store.block-size")
+                    .memoryType()
+                    .defaultValue(MemorySize.parse("16 kb"))
+                    .withDescription(
+                            "The target size of data blocks in local lookup files of the 'sort' store type.");
+
+    public static final ConfigOption<Boolean> LOOKUP_SORT_STORE_BLOCK_COMPRESSION_ENABLED =
+            key("lookup.sort-store.block-compression.enabled")
+                    .booleanType()
+                    .defaultValue(true)
+                    .withDescription(
+                            "Whether to compress data blocks of local lookup files of the 'sort' store type.");
+
     public static final ConfigOption<Integer> READ_BATCH_SIZE =
             key("read.batch-size")
                     .intType()
                     .defaultValue(1024)
                     .withDescription("Read batch size for orc and parquet.");
 
+    public static final ConfigOption<Integer> READ_PREFETCH_SECTIONS =
+            key("read.prefetch-sections")
+                    .intType()
+                    .defaultValue(0)
+                    .withDescription(
+                            "The number of sections of a merge-on-read split to open ahead, whose"
+                                    + " files are opened and first batches are read in background"
+                                    + " while the current section is being merged. 0 means sections"
+                                    + " are opened one after another.");
+
     public static final ConfigOption<Integer> ORC_WRITE_BATCH_SIZE =
             key("orc.write.batch-size")
                     .intType()
@@ -921,6 +1066,18 @@ public class CoreOptions implements Serializable {
         return options.get(FILE_COMPRESSION);
     }
 
+    public boolean fileKeyBloomFilterEnabled() {
+        return options.get(FILE_KEY_BLOOM_FILTER_ENABLED);
+    }
+
+    public double fileKeyBloomFilterFpp() {
+        return options.get(FILE_KEY_BLOOM_FILTER_FPP);
+    }
+
+    public MemorySize fileKeyBloomFilterCacheMaxMemorySize() {
+        return options.get(FILE_KEY_BLOOM_FILTER_CACHE_MAX_MEMORY_SIZE);
+    }
+
     public int snapshotNumRetainMin() {
         return options.get(SNAPSHOT_NUM_RETAINED_MIN);
     }
@@ -937,6 +1094,10 @@ public class CoreOptions implements Serializable {
         return options.get(MANIFEST_MERGE_MIN_COUNT);
     }
 
+    public boolean manifestSortByPartition() {
+        return options.get(MANIFEST_SORT_BY_PARTITION);
+    }
+
     public MergeEngine mergeEngine() {
         return options.get(MERGE_ENGINE);
     }
@@ -967,6 +1128,22 @@ public class CoreOptions implements Serializable {
         return options.get(WRITE_BUFFER_SIZE).getBytes();
     }
 
+    public int compactionThreads() {
+        return options.get(COMPACTION_THREADS);
+    }
+
+    public int compactionMaxSubtasks() {
+        return options.get(COMPACTION_MAX_SUBTASKS);
+    }
+
+    public int readPrefetchSections() {
+        return options.get(READ_PREFETCH_SECTIONS);
+    }
+
+    public boolean writeBufferAsyncFlushEnabled() {
+        return options.get(WRITE_BUFFER_ASYNC_FLUSH_ENABLED);
+    }
+
     public boolean writeBufferSpillable(boolean usingObjectStore, boolean isStreaming) {
         // if not streaming mode, we turn spillable on by default.
         return options.getOptional(WRITE_BUFFER_SPILLABLE).orElse(usingObjectStore || !isStreaming);
@@ -984,6 +1161,18 @@ public class CoreOptions implements Serializable {
         return options.get(LOCAL_SORT_MAX_NUM_FILE_HANDLES);
     }
 
+    public LookupStoreType lookupStoreType() {
+        return options.get(LOOKUP_STORE_TYPE);
+    }
+
+    public int lookupSortStoreBlockSize() {
+        return (int) options.get(LOOKUP_SORT_STORE_BLOCK_SIZE).getBytes();
+    }
+
+    public boolean lookupSortStoreBlockCompressionEnabled() {
+        return options.get(LOOKUP_SORT_STORE_BLOCK_COMPRESSION_ENABLED);
+    }
+
     public int pageSize() {
         return (int) options.get(PAGE_SIZE).getBytes();
     }
@@ -1731,4 +1920,31 @@ public class CoreOptions implements Serializable {
             return text(description);
         }
     }
+
+    /** Specifies the local store type for lookup. */
+    public enum LookupStoreType implements DescribedEnum {
+        HASH("hash", "Store records in hash slots grouped by key length."),
+        SORT(
+                "sort",
+                "Store records sorted by key in blocks with prefix compressed keys, located by a block"
+                        + " index. Local files are smaller and support range scans.");
+
+        private final String value;
+        private final String description;
+
+        LookupStoreType(String value, String description) {
+            this.value = value;
+            this.description = description;
+        }
+
+        @Override
+        public String toString() {
+            return value;
+        }
+
+        @Override
+        public InlineElement getDescription() {
+            return text(description);
+        }
+    }
 }
@@ -24,6 +24,8 @@ import org.apache.paimon.utils.RecyclableIterator;
 
 import javax.annotation.Nullable;
 
+import java.util.function.IntPredicate;
+
 /**
  * A {@link RecordReader.RecordIterator} that returns {@link InternalRow}s. The next row is set by
  * {@link ColumnarRow#setRowId}.
@@ -35,6 +37,10 @@ public class ColumnarRowIterator extends RecyclableIterator<InternalRow> {
     private int num;
     private int pos;
 
+    // row ids to iterate, or null to iterate all rows of the batch
+    @Nullable private int[] selection;
+    @Nullable private int[] selectionBuffer;
+
     public ColumnarRowIterator(ColumnarRow rowData, @Nullable Runnable recycler) {
         super(recycler);
         this.rowData = rowData;
@@ -43,13 +49,41 @@ public class ColumnarRowIterator extends RecyclableIterator<InternalRow> {
     public void set(int num) {
         this.num = num;
         this.pos = 0;
+        this.selection = null;
+    }
+
+    /** The column batch of the rows, rows are accessed by their row ids in the batch. */
+    public VectorizedColumnBatch batch() {
+        return rowData.batch();
+    }
+
+    /**
+     * Keeps only the rows whose row ids are accepted by the filter. The accepted row ids are kept
+     * in a selection vector, so filtered rows are skipped without being returned. Must be called
+     * before iterating the batch.
+     */
+    public void selectRows(IntPredicate rowIdFilter) {
+        if (selection == null && (selectionBuffer == null || selectionBuffer.length < num)) {
+            selectionBuffer = new int[num];
+        }
+
+        int selected = 0;
+        for (int i = 0; i < num; i++) {
+            int rowId = selection == null ? i : selection[i];
+            if (rowIdFilter.test(rowId)) {
+                selectionBuffer[selected++] = rowId;
+            }
+        }
+        this.selection = selectionBuffer;
+        this.num = selected;
+        this.pos = 0;
     }
 
     @Nullable
     @Override
     public InternalRow next() {
         if (pos < num) {
-            rowData.setRowId(pos++);
+            rowData.setRowId(selection == null ? pos++ : selection[pos++]);
             return rowData;
         } else {
             return null;
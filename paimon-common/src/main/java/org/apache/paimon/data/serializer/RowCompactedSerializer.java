@@ -42,6 +42,7 @@ import javax.annotation.Nullable;
 import java.io.IOException;
 import java.io.Serializable;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.Objects;
 
 import static org.apache.paimon.data.BinaryRow.HEADER_SIZE_IN_BITS;
@@ -159,6 +160,26 @@ public class RowCompactedSerializer implements Serializer<InternalRow> {
         return row;
     }
 
+    /**
+     * Create a comparator of rows serialized by {@link #serializeToBytes}. Fields are compared in
+     * place without deserializing the rows, in ascending order with nulls first, which is the order
+     * of the generated record comparators. Returns null if a field type can not be compared in
+     * place.
+     *
+     * <p>The comparator is not thread safe.
+     */
+    @Nullable
+    public Comparator<byte[]> createBytesComparator() {
+        FieldComparator[] comparators = new FieldComparator[rowType.getFieldCount()];
+        for (int i = 0; i < comparators.length; i++) {
+            comparators[i] = createFieldComparator(rowType.getTypeAt(i));
+            if (comparators[i] == null) {
+                return null;
+            }
+        }
+        return new BytesComparator(comparators, calculateBitSetInBytes(comparators.length));
+    }
+
     private static FieldWriter createFieldWriter(DataType fieldType) {
         final FieldWriter fieldWriter;
         switch (fieldType.getTypeRoot()) {
@@ -314,6 +335,60 @@ public class RowCompactedSerializer implements Serializer<InternalRow> {
         };
     }
 
+    @Nullable
+    private static FieldComparator createFieldComparator(DataType fieldType) {
+        switch (fieldType.getTypeRoot()) {
+            case CHAR:
+            case VARCHAR:
+            case BINARY:
+            case VARBINARY:
+                return RowReader::compareBinary;
+            case BOOLEAN:
+                return (r1, r2) -> Boolean.compare(r1.readBoolean(), r2.readBoolean());
+            case DECIMAL:
+                if (!Decimal.isCompact(getPrecision(fieldType))) {
+                    return null;
+                }
+                // compact decimals of the same type are compared by their unscaled longs
+                return (r1, r2) -> Long.compare(r1.readLong(), r2.readLong());
+            case TINYINT:
+                return (r1, r2) -> Byte.compare(r1.readByte(), r2.readByte());
+            case SMALLINT:
+                return (r1, r2) -> Short.compare(r1.readShort(), r2.readShort());
+            case INTEGER:
+            case DATE:
+            case TIME_WITHOUT_TIME_ZONE:
+                return (r1, r2) -> Integer.compare(r1.readInt(), r2.readInt());
+            case BIGINT:
+                return (r1, r2) -> Long.compare(r1.readLong(), r2.readLong());
+            case FLOAT:
+                return (r1, r2) -> {
+                    float f1 = r1.readFloat();
+                    float f2 = r2.readFloat();
+                    return f1 > f2 ? 1 : f1 < f2 ? -1 : 0;
+                };
+            case DOUBLE:
+                return (r1, r2) -> {
+                    double d1 = r1.readDouble();
+                    double d2 = r2.readDouble();
+                    return d1 > d2 ? 1 : d1 < d2 ? -1 : 0;
+                };
+            case TIMESTAMP_WITHOUT_TIME_ZONE:
+            case TIMESTAMP_WITH_LOCAL_TIME_ZONE:
+                if (Timestamp.isCompact(getPrecision(fieldType))) {
+                    return (r1, r2) -> Long.compare(r1.readLong(), r2.readLong());
+                }
+                return (r1, r2) -> {
+                    int cmp = Long.compare(r1.readLong(), r2.readLong());
+                    int nanos1 = r1.readUnsignedInt();
+                    int nanos2 = r2.readUnsignedInt();
+                    return cmp != 0 ? cmp : Integer.compare(nanos1, nanos2);
+                };
+            default:
+                return null;
+        }
+    }
+
     private interface FieldWriter extends Serializable {
         void writeField(RowWriter writer, int pos, Object value);
     }
@@ -322,6 +397,47 @@ public class RowCompactedSerializer implements Serializer<InternalRow> {
         Object readField(RowReader reader, int pos);
     }
 
+    private interface FieldComparator {
+        int compare(RowReader reader1, RowReader reader2);
+    }
+
+    private static class BytesComparator implements Comparator<byte[]> {
+
+        private final FieldComparator[] comparators;
+        private final RowReader reader1;
+        private final RowReader reader2;
+
+        private BytesComparator(FieldComparator[] comparators, int headerSizeInBytes) {
+            this.comparators = comparators;
+            this.reader1 = new RowReader(headerSizeInBytes);
+            this.reader2 = new RowReader(headerSizeInBytes);
+        }
+
+        @Override
+        public int compare(byte[] o1, byte[] o2) {
+            reader1.pointTo(o1);
+            reader2.pointTo(o2);
+            for (int i = 0; i < comparators.length; i++) {
+                // null fields are not written, so they are skipped by the readers
+                boolean isNull1 = reader1.isNullAt(i);
+                boolean isNull2 = reader2.isNullAt(i);
+                if (isNull1 && isNull2) {
+                    continue;
+                } else if (isNull1) {
+                    return -1;
+                } else if (isNull2) {
+                    return 1;
+                }
+
+                int cmp = comparators[i].compare(reader1, reader2);
+                if (cmp != 0) {
+                    return cmp;
+                }
+            }
+            return 0;
+        }
+    }
+
     private static class RowWriter {
 
         // Including RowKind and null bits.
@@ -569,6 +685,15 @@ public class RowCompactedSerializer implements Serializer<InternalRow> {
             return string;
         }
 
+        private int compareBinary(RowReader other) {
+            int length1 = readUnsignedInt();
+            int length2 = other.readUnsignedInt();
+            int cmp = segment.compare(other.segment, position, other.position, length1, length2);
+            position += length1;
+            other.position += length2;
+            return cmp;
+        }
+
         private int readUnsignedInt() {
             for (int offset = 0, result = 0; offset < 32; offset += 7) {
                 int b = readByte();
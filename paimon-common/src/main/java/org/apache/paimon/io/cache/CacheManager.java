@@ -21,25 +21,74 @@ package org.apache.paimon.io.cache;
 import org.apache.paimon.annotation.VisibleForTesting;
 import org.apache.paimon.memory.MemorySegment;
 import org.apache.paimon.options.MemorySize;
+import org.apache.paimon.utils.IOFunction;
 
 import org.apache.paimon.shade.caffeine2.com.github.benmanes.caffeine.cache.Cache;
 import org.apache.paimon.shade.caffeine2.com.github.benmanes.caffeine.cache.Caffeine;
 import org.apache.paimon.shade.caffeine2.com.github.benmanes.caffeine.cache.RemovalCause;
 import org.apache.paimon.shade.guava30.com.google.common.util.concurrent.MoreExecutors;
 
+import java.io.EOFException;
+import java.io.File;
 import java.io.IOException;
 import java.io.RandomAccessFile;
-import java.util.Objects;
+import java.lang.ref.PhantomReference;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Consumer;
 
-/** Cache manager to cache bytes to paged {@link MemorySegment}s. */
+/**
+ * Cache manager to cache bytes to paged {@link MemorySegment}s.
+ *
+ * <p>Pages are evicted by the Window TinyLFU policy of Caffeine: a new page has to be accessed
+ * more frequently than the eviction candidate to be admitted into the main space, so one-off scans
+ * do not evict the hot pages. Pages can be allocated off-heap to keep large caches out of the
+ * garbage collected heap.
+ *
+ * <p>Files can also be read by memory mapping them, see {@link #createInputView}. The total size
+ * of mapped files is limited by a budget, files exceeding it are read through cached pages. A
+ * mapped region is counted until the garbage collector unmaps it, not only until its view is
+ * closed.
+ *
+ * <p>Besides fixed size pages of files, variable sized blocks loaded by readers, for example
+ * decompressed data blocks, can be cached in the same memory budget, see {@link #getBlock}.
+ */
 public class CacheManager {
 
     private final int pageSize;
+    private final boolean offHeap;
     private final Cache<CacheKey, CacheValue> cache;
+    private final long maxMmapSize;
+    private final AtomicLong mmapSize = new AtomicLong();
+    private final ReferenceQueue<MappedByteBuffer> unmappedRegions = new ReferenceQueue<>();
+    // phantom references have to be reachable until they are enqueued
+    private final Set<MappedRegion> mappedRegions = ConcurrentHashMap.newKeySet();
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
 
     public CacheManager(int pageSize, MemorySize maxMemorySize) {
+        this(pageSize, maxMemorySize, false);
+    }
+
+    public CacheManager(int pageSize, MemorySize maxMemorySize, boolean offHeap) {
+        this(pageSize, maxMemorySize, offHeap, MemorySize.ZERO);
+    }
+
+    /** @param maxMmapSize max total size of memory mapped files, zero disables memory mapping. */
+    public CacheManager(
+            int pageSize, MemorySize maxMemorySize, boolean offHeap, MemorySize maxMmapSize) {
         this.pageSize = pageSize;
+        this.offHeap = offHeap;
+        this.maxMmapSize = maxMmapSize.getBytes();
         this.cache =
                 Caffeine.newBuilder()
                         .weigher(this::weigh)
@@ -58,13 +107,119 @@ public class CacheManager {
         return pageSize;
     }
 
+    public boolean isOffHeap() {
+        return offHeap;
+    }
+
+    /** Total size of the files which are currently memory mapped. */
+    public long mmapSize() {
+        releaseUnmappedRegions();
+        return mmapSize.get();
+    }
+
+    /**
+     * Create a {@link RandomInputView} to read the file. The file is memory mapped if it fits into
+     * the mmap budget, otherwise it is read through pages cached by this manager.
+     */
+    public RandomInputView createInputView(File file) throws IOException {
+        releaseUnmappedRegions();
+        long length = file.length();
+        if (length > 0 && reserveMmap(length)) {
+            AtomicLong mapped = new AtomicLong();
+            try {
+                return new MappedRandomInputView(
+                        file,
+                        buffer -> {
+                            mappedRegions.add(new MappedRegion(buffer, unmappedRegions));
+                            mapped.addAndGet(buffer.capacity());
+                        });
+            } catch (IOException | RuntimeException e) {
+                // regions which are already mapped are released when they are unmapped
+                mmapSize.addAndGet(mapped.get() - length);
+                throw e;
+            }
+        }
+        return new CachedRandomInputView(file, this);
+    }
+
+    private void releaseUnmappedRegions() {
+        Reference<? extends MappedByteBuffer> reference;
+        while ((reference = unmappedRegions.poll()) != null) {
+            MappedRegion region = (MappedRegion) reference;
+            mappedRegions.remove(region);
+            mmapSize.addAndGet(-region.size);
+        }
+    }
+
+    private boolean reserveMmap(long length) {
+        while (true) {
+            long current = mmapSize.get();
+            if (current + length > maxMmapSize) {
+                return false;
+            }
+            if (mmapSize.compareAndSet(current, current + length)) {
+                return true;
+            }
+        }
+    }
+
+    /** Number of page requests served from the cache. */
+    public long hitCount() {
+        return hitCount.sum();
+    }
+
+    /** Number of page requests which read the page from file. */
+    public long missCount() {
+        return missCount.sum();
+    }
+
+    /** Number of pages evicted because the cache exceeds its max memory size. */
+    public long evictionCount() {
+        return evictionCount.sum();
+    }
+
     public MemorySegment getPage(
             RandomAccessFile file, int pageNumber, Consumer<Integer> cleanCallback) {
-        CacheKey key = new CacheKey(file, pageNumber);
+        return getSegment(
+                new CacheKey(file, pageNumber),
+                page -> readPage(file, page, pageSize, offHeap),
+                cleanCallback);
+    }
+
+    public void invalidPage(RandomAccessFile file, int pageNumber) {
+        cache.invalidate(new CacheKey(file, pageNumber));
+    }
+
+    /**
+     * Get a block of the owner, the block is loaded by the reader if it is not cached. Blocks are
+     * identified by the owner instance and the block index, so the owner should invalidate its
+     * blocks with {@link #invalidBlock} when it is closed.
+     */
+    public MemorySegment getBlock(
+            Object owner,
+            int blockIndex,
+            IOFunction<Integer, MemorySegment> reader,
+            Consumer<Integer> cleanCallback) {
+        return getSegment(new CacheKey(owner, blockIndex), reader, cleanCallback);
+    }
+
+    public void invalidBlock(Object owner, int blockIndex) {
+        cache.invalidate(new CacheKey(owner, blockIndex));
+    }
+
+    private MemorySegment getSegment(
+            CacheKey key,
+            IOFunction<Integer, MemorySegment> reader,
+            Consumer<Integer> cleanCallback) {
         CacheValue value = cache.getIfPresent(key);
+        if (value == null || value.isClosed) {
+            missCount.increment();
+        } else {
+            hitCount.increment();
+        }
         while (value == null || value.isClosed) {
             try {
-                value = createValue(key, cleanCallback);
+                value = new CacheValue(reader.apply(key.index), cleanCallback);
             } catch (IOException e) {
                 throw new RuntimeException(e);
             }
@@ -73,42 +228,51 @@ public class CacheManager {
         return value.segment;
     }
 
-    public void invalidPage(RandomAccessFile file, int pageNumber) {
-        cache.invalidate(new CacheKey(file, pageNumber));
-    }
-
     private int weigh(CacheKey cacheKey, CacheValue cacheValue) {
         return cacheValue.segment.size();
     }
 
     private void onRemoval(CacheKey key, CacheValue value, RemovalCause cause) {
+        if (cause.wasEvicted()) {
+            evictionCount.increment();
+        }
         value.isClosed = true;
-        value.cleanCallback.accept(key.pageNumber);
+        value.cleanCallback.accept(key.index);
     }
 
-    private CacheValue createValue(CacheKey key, Consumer<Integer> cleanCallback)
+    private static MemorySegment readPage(
+            RandomAccessFile file, int pageNumber, int pageSize, boolean offHeap)
             throws IOException {
-        return new CacheValue(key.read(pageSize), cleanCallback);
+        long length = file.length();
+        long pageAddress = (long) pageNumber * pageSize;
+        int len = (int) Math.min(pageSize, length - pageAddress);
+        MemorySegment segment =
+                offHeap
+                        ? MemorySegment.allocateOffHeapMemory(len)
+                        : MemorySegment.allocateHeapMemory(len);
+
+        // positional read does not move the file pointer, so pages of a file can be read
+        // concurrently
+        ByteBuffer buffer = segment.wrap(0, len);
+        FileChannel channel = file.getChannel();
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, pageAddress + buffer.position()) < 0) {
+                throw new EOFException(
+                        "Unexpected end of file when reading page " + pageNumber + ".");
+            }
+        }
+        return segment;
     }
 
     private static class CacheKey {
 
-        private final RandomAccessFile file;
-        private final int pageNumber;
+        // the file of a page or the owner of a block, compared by identity
+        private final Object owner;
+        private final int index;
 
-        private CacheKey(RandomAccessFile file, int pageNumber) {
-            this.file = file;
-            this.pageNumber = pageNumber;
-        }
-
-        private MemorySegment read(int pageSize) throws IOException {
-            long length = file.length();
-            long pageAddress = (long) pageNumber * pageSize;
-            int len = (int) Math.min(pageSize, length - pageAddress);
-            byte[] bytes = new byte[len];
-            file.seek(pageAddress);
-            file.readFully(bytes);
-            return MemorySegment.wrap(bytes);
+        private CacheKey(Object owner, int index) {
+            this.owner = owner;
+            this.index = index;
         }
 
         @Override
@@ -120,12 +284,22 @@ public class CacheManager {
                 return false;
             }
             CacheKey cacheKey = (CacheKey) o;
-            return pageNumber == cacheKey.pageNumber && Objects.equals(file, cacheKey.file);
+            return index == cacheKey.index && owner == cacheKey.owner;
         }
 
         @Override
         public int hashCode() {
-            return Objects.hash(file, pageNumber);
+            return 31 * System.identityHashCode(owner) + index;
+        }
+    }
+
+    private static class MappedRegion extends PhantomReference<MappedByteBuffer> {
+
+        private final long size;
+
+        private MappedRegion(MappedByteBuffer buffer, ReferenceQueue<MappedByteBuffer> queue) {
+            super(buffer, queue);
+            this.size = buffer.capacity();
         }
     }
 
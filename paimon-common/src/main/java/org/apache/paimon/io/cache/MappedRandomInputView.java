@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.io.cache;
+
+import org.apache.paimon.data.AbstractPagedInputView;
+import org.apache.paimon.memory.MemorySegment;
+
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.function.Consumer;
+
+/**
+ * A {@link RandomInputView} to read a memory mapped file, the bytes are served by the page cache
+ * of the operating system without copying them into cached pages. The file is mapped in regions
+ * of at most 1 GB.
+ *
+ * <p>The JDK only unmaps a region when its buffer is garbage collected, closing the view just
+ * drops the references to the regions. Unmapping explicitly is not safe, a concurrent read of a
+ * closed view would access unmapped memory and crash the JVM.
+ */
+public class MappedRandomInputView extends AbstractPagedInputView implements RandomInputView {
+
+    private static final int REGION_SIZE_BITS = 30;
+    private static final int REGION_SIZE_MASK = (1 << REGION_SIZE_BITS) - 1;
+
+    private MemorySegment[] regions;
+    private int currentRegionIndex;
+
+    /**
+     * @param mapCallback called with each mapped region, to track when the region is unmapped by
+     *     the garbage collector.
+     */
+    public MappedRandomInputView(File file, Consumer<MappedByteBuffer> mapCallback)
+            throws IOException {
+        try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r")) {
+            FileChannel channel = randomAccessFile.getChannel();
+            long fileLength = channel.size();
+            int numRegions = (int) ((fileLength + REGION_SIZE_MASK) >>> REGION_SIZE_BITS);
+            this.regions = new MemorySegment[numRegions];
+            for (int i = 0; i < numRegions; i++) {
+                long position = (long) i << REGION_SIZE_BITS;
+                long size = Math.min(1L << REGION_SIZE_BITS, fileLength - position);
+                // the mapping stays valid after the channel is closed
+                MappedByteBuffer buffer =
+                        channel.map(FileChannel.MapMode.READ_ONLY, position, size);
+                mapCallback.accept(buffer);
+                regions[i] = MemorySegment.wrapOffHeapMemory(buffer);
+            }
+        }
+        this.currentRegionIndex = -1;
+    }
+
+    @Override
+    public void setReadPosition(long position) {
+        this.currentRegionIndex = (int) (position >>> REGION_SIZE_BITS);
+        MemorySegment region = regions[currentRegionIndex];
+        seekInput(region, (int) (position & REGION_SIZE_MASK), getLimitForSegment(region));
+    }
+
+    @Override
+    protected MemorySegment nextSegment(MemorySegment current) throws EOFException {
+        if (currentRegionIndex + 1 >= regions.length) {
+            throw new EOFException();
+        }
+        return regions[++currentRegionIndex];
+    }
+
+    @Override
+    protected int getLimitForSegment(MemorySegment segment) {
+        return segment.size();
+    }
+
+    @Override
+    public void close() {
+        // drop all references to the regions, so that they can be unmapped by the garbage collector
+        regions = null;
+        clear();
+    }
+}
@@ -20,28 +20,46 @@ package org.apache.paimon.lookup.hash;
 
 import org.apache.paimon.io.cache.CacheManager;
 import org.apache.paimon.lookup.LookupStoreFactory;
+import org.apache.paimon.utils.BloomFilter;
+
+import javax.annotation.Nullable;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.concurrent.atomic.LongAdder;
 
 /** A {@link LookupStoreFactory} which uses hash to lookup records on disk. */
 public class HashLookupStoreFactory implements LookupStoreFactory {
 
     private final CacheManager cacheManager;
     private final double loadFactor;
+    @Nullable private final LongAdder bloomFilterSkippedCounter;
 
     public HashLookupStoreFactory(CacheManager cacheManager, double loadFactor) {
+        this(cacheManager, loadFactor, null);
+    }
+
+    /**
+     * @param bloomFilterSkippedCounter counter of lookups which are answered by the bloom filter
+     *     without probing the file, can be shared by multiple factories.
+     */
+    public HashLookupStoreFactory(
+            CacheManager cacheManager,
+            double loadFactor,
+            @Nullable LongAdder bloomFilterSkippedCounter) {
         this.cacheManager = cacheManager;
         this.loadFactor = loadFactor;
+        this.bloomFilterSkippedCounter = bloomFilterSkippedCounter;
     }
 
     @Override
-    public HashLookupStoreWriter createWriter(File file) throws IOException {
-        return new HashLookupStoreWriter(loadFactor, file);
+    public HashLookupStoreWriter createWriter(
+            File file, @Nullable BloomFilter.Builder bloomFilter) throws IOException {
+        return new HashLookupStoreWriter(loadFactor, file, bloomFilter);
     }
 
     @Override
     public HashLookupStoreReader createReader(File file) throws IOException {
-        return new HashLookupStoreReader(cacheManager, file);
+        return new HashLookupStoreReader(cacheManager, file, bloomFilterSkippedCounter);
     }
 }
@@ -19,14 +19,18 @@
 package org.apache.paimon.lookup.hash;
 
 import org.apache.paimon.io.cache.CacheManager;
-import org.apache.paimon.io.cache.CachedRandomInputView;
+import org.apache.paimon.io.cache.RandomInputView;
 import org.apache.paimon.lookup.LookupStoreReader;
+import org.apache.paimon.memory.MemorySegment;
+import org.apache.paimon.utils.BloomFilter;
 import org.apache.paimon.utils.MurmurHashUtils;
 import org.apache.paimon.utils.VarLengthIntUtils;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.Nullable;
+
 import java.io.BufferedInputStream;
 import java.io.DataInputStream;
 import java.io.File;
@@ -39,6 +43,7 @@ import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Iterator;
 import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
 
 /** Internal read implementation for hash kv store. */
 public class HashLookupStoreReader
@@ -58,11 +63,18 @@ public class HashLookupStoreReader
     // Offset of the data for different key length
     private final long[] dataOffsets;
     // File input view
-    private CachedRandomInputView inputView;
+    private RandomInputView inputView;
     // Buffers
     private final byte[] slotBuffer;
-
-    HashLookupStoreReader(CacheManager cacheManager, File file) throws IOException {
+    // On-heap bloom filter of keys, null if not built by the writer
+    @Nullable private final BloomFilter bloomFilter;
+    // Counter of lookups skipped by the bloom filter
+    @Nullable private final LongAdder bloomFilterSkippedCounter;
+
+    HashLookupStoreReader(
+            CacheManager cacheManager, File file, @Nullable LongAdder bloomFilterSkippedCounter)
+            throws IOException {
+        this.bloomFilterSkippedCounter = bloomFilterSkippedCounter;
         // File path
         if (!file.exists()) {
             throw new FileNotFoundException("File " + file.getAbsolutePath() + " not found");
@@ -110,6 +122,10 @@ public class HashLookupStoreReader
 
             slotBuffer = new byte[maxSlotSize];
 
+            // Read bloom filter metadata
+            int numHashFunctions = dataInputStream.readInt();
+            int bloomFilterSize = dataInputStream.readInt();
+
             // Read index offset to resign indexOffsets
             indexOffset = dataInputStream.readInt();
             for (int i = 0; i < indexOffsets.length; i++) {
@@ -120,14 +136,24 @@ public class HashLookupStoreReader
             for (int i = 0; i < dataOffsets.length; i++) {
                 dataOffsets[i] = dataOffset + dataOffsets[i];
             }
+
+            // Read bloom filter into heap
+            if (bloomFilterSize > 0) {
+                byte[] bloomFilterBytes = new byte[bloomFilterSize];
+                dataInputStream.readFully(bloomFilterBytes);
+                bloomFilter =
+                        new BloomFilter(MemorySegment.wrap(bloomFilterBytes), numHashFunctions);
+            } else {
+                bloomFilter = null;
+            }
         } finally {
             // Close metadata
             dataInputStream.close();
             inputStream.close();
         }
 
-        // Create Mapped file in read-only mode
-        inputView = new CachedRandomInputView(file, cacheManager);
+        // Open file in read-only mode, memory mapped or cached
+        inputView = cacheManager.createInputView(file);
 
         // logging
         DecimalFormat integerFormat = new DecimalFormat("#,##0.00");
@@ -146,6 +172,11 @@ public class HashLookupStoreReader
         statMsg.append("  Index size: ")
                 .append(integerFormat.format((dataOffset - indexOffset) / (1024.0 * 1024.0)))
                 .append(" Mb\n");
+        if (bloomFilter != null) {
+            statMsg.append("  Bloom filter size: ")
+                    .append(integerFormat.format(bloomFilter.getBuffer().size() / 1024.0))
+                    .append(" Kb\n");
+        }
         statMsg.append("  Data size: ")
                 .append(integerFormat.format((file.length() - dataOffset) / (1024.0 * 1024.0)))
                 .append(" Mb\n");
@@ -158,7 +189,15 @@ public class HashLookupStoreReader
         if (keyLength >= slots.length || keyCounts[keyLength] == 0) {
             return null;
         }
-        long hash = MurmurHashUtils.hashBytesPositive(key);
+        int hashCode = MurmurHashUtils.hashBytesPositive(key);
+        if (bloomFilter != null && !bloomFilter.testHash(hashCode)) {
+            if (bloomFilterSkippedCounter != null) {
+                bloomFilterSkippedCounter.increment();
+            }
+            return null;
+        }
+
+        long hash = hashCode;
         int numSlots = slots[keyLength];
         int slotSize = slotSizes[keyLength];
         int indexOffset = indexOffsets[keyLength];
@@ -19,12 +19,16 @@
 package org.apache.paimon.lookup.hash;
 
 import org.apache.paimon.lookup.LookupStoreWriter;
+import org.apache.paimon.memory.MemorySegment;
+import org.apache.paimon.utils.BloomFilter;
 import org.apache.paimon.utils.MurmurHashUtils;
 import org.apache.paimon.utils.VarLengthIntUtils;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.Nullable;
+
 import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
 import java.io.DataInputStream;
@@ -76,9 +80,13 @@ public class HashLookupStoreWriter implements LookupStoreWriter {
     private int valueCount;
     // Number of collisions
     private int collisions;
+    // Bloom filter of keys
+    @Nullable private final BloomFilter.Builder bloomFilter;
 
-    HashLookupStoreWriter(double loadFactor, File file) throws IOException {
+    HashLookupStoreWriter(double loadFactor, File file, @Nullable BloomFilter.Builder bloomFilter)
+            throws IOException {
         this.loadFactor = loadFactor;
+        this.bloomFilter = bloomFilter;
         if (loadFactor <= 0.0 || loadFactor >= 1.0) {
             throw new IllegalArgumentException(
                     "Illegal load factor = " + loadFactor + ", should be between 0.0 and 1.0.");
@@ -104,6 +112,11 @@ public class HashLookupStoreWriter implements LookupStoreWriter {
     public void put(byte[] key, byte[] value) throws IOException {
         int keyLength = key.length;
 
+        // Add key to bloom filter
+        if (bloomFilter != null) {
+            bloomFilter.addHash(MurmurHashUtils.hashBytesPositive(key));
+        }
+
         // Get the Output stream for that keyLength, each key length has its own file
         DataOutputStream indexStream = getIndexStream(keyLength);
 
@@ -255,11 +268,30 @@ public class HashLookupStoreWriter implements LookupStoreWriter {
             }
         }
 
+        // Write the number of hash functions and the size of bloom filter, 0 means no filter
+        int bloomFilterSize = 0;
+        if (bloomFilter != null) {
+            bloomFilterSize = bloomFilter.getBuffer().size();
+            dataOutputStream.writeInt(bloomFilter.numHashFunctions());
+        } else {
+            dataOutputStream.writeInt(0);
+        }
+        dataOutputStream.writeInt(bloomFilterSize);
+
         // Write the position of the index and the data
         int indexOffset =
-                dataOutputStream.size() + (Integer.SIZE / Byte.SIZE) + (Long.SIZE / Byte.SIZE);
+                dataOutputStream.size()
+                        + (Integer.SIZE / Byte.SIZE)
+                        + (Long.SIZE / Byte.SIZE)
+                        + bloomFilterSize;
         dataOutputStream.writeInt(indexOffset);
         dataOutputStream.writeLong(indexOffset + indexesLength);
+
+        // Write the bloom filter right before the index
+        if (bloomFilter != null) {
+            MemorySegment buffer = bloomFilter.getBuffer();
+            buffer.get(dataOutputStream, 0, buffer.size());
+        }
     }
 
     private File buildIndex(int keyLength) throws IOException {
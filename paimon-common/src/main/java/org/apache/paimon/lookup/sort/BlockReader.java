@@ -0,0 +1,139 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.lookup.sort;
+
+import org.apache.paimon.io.DataInputDeserializer;
+import org.apache.paimon.utils.VarLengthIntUtils;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Comparator;
+
+/** Reader of a data block written by {@link BlockWriter}. */
+class BlockReader {
+
+    private final byte[] data;
+    private final int restartsOffset;
+    private final int numRestarts;
+    private final Comparator<byte[]> keyComparator;
+
+    BlockReader(byte[] data, Comparator<byte[]> keyComparator) {
+        this.data = data;
+        this.numRestarts = readInt(data, data.length - 4);
+        this.restartsOffset = data.length - 4 - numRestarts * 4;
+        this.keyComparator = keyComparator;
+    }
+
+    BlockIterator iterator() {
+        BlockIterator iterator = new BlockIterator();
+        iterator.seekToRestart(0);
+        return iterator;
+    }
+
+    /** Returns an iterator positioned at the first entry whose key is not less than the target. */
+    BlockIterator seek(byte[] target) throws IOException {
+        BlockIterator iterator = new BlockIterator();
+
+        // binary search the last restart point whose key is less than the target
+        int low = 0;
+        int high = numRestarts - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            iterator.seekToRestart(mid);
+            iterator.next();
+            if (keyComparator.compare(iterator.key(), target) < 0) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+
+        iterator.seekToRestart(low);
+        while (iterator.hasNext()) {
+            iterator.next();
+            if (keyComparator.compare(iterator.key(), target) >= 0) {
+                iterator.hold();
+                return iterator;
+            }
+        }
+        return iterator;
+    }
+
+    private int restartPoint(int index) {
+        return readInt(data, restartsOffset + index * 4);
+    }
+
+    private static int readInt(byte[] bytes, int offset) {
+        return ((bytes[offset] & 0xFF) << 24)
+                | ((bytes[offset + 1] & 0xFF) << 16)
+                | ((bytes[offset + 2] & 0xFF) << 8)
+                | (bytes[offset + 3] & 0xFF);
+    }
+
+    /** Iterator over the entries of the block, keys are decoded against the previous entry. */
+    class BlockIterator {
+
+        private final DataInputDeserializer input = new DataInputDeserializer();
+
+        private byte[] key = new byte[0];
+        private int valueOffset;
+        private int valueLength;
+        private boolean held;
+
+        private void seekToRestart(int index) {
+            int position = restartPoint(index);
+            input.setBuffer(data, position, restartsOffset - position);
+            key = new byte[0];
+            held = false;
+        }
+
+        /** Let the next call of {@link #next()} return the current entry again. */
+        private void hold() {
+            held = true;
+        }
+
+        boolean hasNext() {
+            return held || input.getPosition() < restartsOffset;
+        }
+
+        void next() throws IOException {
+            if (held) {
+                held = false;
+                return;
+            }
+
+            int shared = VarLengthIntUtils.decodeInt(input);
+            int unshared = VarLengthIntUtils.decodeInt(input);
+            valueLength = VarLengthIntUtils.decodeInt(input);
+            byte[] newKey = Arrays.copyOf(key, shared + unshared);
+            input.readFully(newKey, shared, unshared);
+            key = newKey;
+            valueOffset = input.getPosition();
+            input.skipBytesToRead(valueLength);
+        }
+
+        byte[] key() {
+            return key;
+        }
+
+        byte[] value() {
+            return Arrays.copyOfRange(data, valueOffset, valueOffset + valueLength);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.lookup.sort;
+
+import org.apache.paimon.io.DataOutputSerializer;
+import org.apache.paimon.utils.VarLengthIntUtils;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Writer to build a data block of {@link SortLookupStoreWriter}. Keys in the block are prefix
+ * compressed against the previous key, and a full key is stored every {@link #RESTART_INTERVAL}
+ * entries as a restart point, which allows binary searching inside the block.
+ *
+ * <p>Block format: entries, then the int offsets of the restart points, then the number of
+ * restart points. Each entry is {@code shared key length, unshared key length, value length,
+ * unshared key bytes, value bytes}, lengths are var-length encoded.
+ */
+class BlockWriter {
+
+    static final int RESTART_INTERVAL = 16;
+
+    private final DataOutputSerializer block;
+
+    private int[] restarts;
+    private int numRestarts;
+    private int entryCount;
+    private byte[] lastKey;
+
+    BlockWriter(int blockSize) {
+        this.block = new DataOutputSerializer(blockSize + blockSize / 4);
+        this.restarts = new int[32];
+        reset();
+    }
+
+    void add(byte[] key, byte[] value) throws IOException {
+        int shared = 0;
+        if (entryCount % RESTART_INTERVAL == 0) {
+            if (numRestarts == restarts.length) {
+                restarts = Arrays.copyOf(restarts, numRestarts * 2);
+            }
+            restarts[numRestarts++] = block.length();
+        } else {
+            int maxShared = Math.min(lastKey.length, key.length);
+            while (shared < maxShared && lastKey[shared] == key[shared]) {
+                shared++;
+            }
+        }
+
+        VarLengthIntUtils.encodeInt(block, shared);
+        VarLengthIntUtils.encodeInt(block, key.length - shared);
+        VarLengthIntUtils.encodeInt(block, value.length);
+        block.write(key, shared, key.length - shared);
+        block.write(value);
+
+        lastKey = key;
+        entryCount++;
+    }
+
+    boolean isEmpty() {
+        return entryCount == 0;
+    }
+
+    /** Estimated size of the block when finished. */
+    int size() {
+        return block.length() + (numRestarts + 1) * 4;
+    }
+
+    /** Finish the block and return its bytes, {@link #reset()} must be called before reusing. */
+    byte[] finish() throws IOException {
+        for (int i = 0; i < numRestarts; i++) {
+            block.writeInt(restarts[i]);
+        }
+        block.writeInt(numRestarts);
+        return block.getCopyOfBuffer();
+    }
+
+    void reset() {
+        block.clear();
+        numRestarts = 0;
+        entryCount = 0;
+        lastKey = null;
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.lookup.sort;
+
+import org.apache.paimon.io.cache.CacheManager;
+import org.apache.paimon.lookup.LookupStoreFactory;
+import org.apache.paimon.utils.BloomFilter;
+
+import javax.annotation.Nullable;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Comparator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * A {@link LookupStoreFactory} which stores records sorted by key in prefix compressed blocks,
+ * records are located by a block index on disk.
+ */
+public class SortLookupStoreFactory implements LookupStoreFactory {
+
+    private final CacheManager cacheManager;
+    private final Supplier<Comparator<byte[]>> keyComparatorSupplier;
+    private final int blockSize;
+    private final boolean compressionEnabled;
+    @Nullable private final LongAdder bloomFilterSkippedCounter;
+
+    /**
+     * @param keyComparatorSupplier supplier of comparators of key bytes, a comparator is created
+     *     for each writer and reader, so it does not need to be thread safe.
+     * @param bloomFilterSkippedCounter counter of lookups which are answered by the bloom filter
+     *     without probing the file, can be shared by multiple factories.
+     */
+    public SortLookupStoreFactory(
+            CacheManager cacheManager,
+            Supplier<Comparator<byte[]>> keyComparatorSupplier,
+            int blockSize,
+            boolean compressionEnabled,
+            @Nullable LongAdder bloomFilterSkippedCounter) {
+        this.cacheManager = cacheManager;
+        this.keyComparatorSupplier = keyComparatorSupplier;
+        this.blockSize = blockSize;
+        this.compressionEnabled = compressionEnabled;
+        this.bloomFilterSkippedCounter = bloomFilterSkippedCounter;
+    }
+
+    @Override
+    public SortLookupStoreWriter createWriter(File file, @Nullable BloomFilter.Builder bloomFilter)
+            throws IOException {
+        return new SortLookupStoreWriter(
+                file, keyComparatorSupplier.get(), blockSize, compressionEnabled, bloomFilter);
+    }
+
+    @Override
+    public SortLookupStoreReader createReader(File file) throws IOException {
+        return new SortLookupStoreReader(
+                cacheManager, file, keyComparatorSupplier.get(), bloomFilterSkippedCounter);
+    }
+}
@@ -0,0 +1,344 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.lookup.sort;
+
+import org.apache.paimon.io.DataInputDeserializer;
+import org.apache.paimon.io.cache.CacheManager;
+import org.apache.paimon.io.cache.RandomInputView;
+import org.apache.paimon.lookup.LookupStoreReader;
+import org.apache.paimon.lookup.sort.BlockReader.BlockIterator;
+import org.apache.paimon.memory.MemorySegment;
+import org.apache.paimon.utils.BloomFilter;
+import org.apache.paimon.utils.MurmurHashUtils;
+import org.apache.paimon.utils.VarLengthIntUtils;
+
+import javax.annotation.Nullable;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+import static org.apache.paimon.lookup.sort.SortLookupStoreWriter.FOOTER_SIZE;
+import static org.apache.paimon.lookup.sort.SortLookupStoreWriter.MAGIC_NUMBER;
+
+/**
+ * Internal read implementation for sort kv store. The block index and the bloom filter are kept
+ * on heap, data blocks are read through {@link CacheManager}. Compressed blocks are cached after
+ * decompression, so hot blocks are not inflated again on each lookup.
+ */
+public class SortLookupStoreReader
+        implements LookupStoreReader, Iterable<Map.Entry<byte[], byte[]>> {
+
+    private final Comparator<byte[]> keyComparator;
+    private final long recordCount;
+
+    // Last key of each block
+    private final byte[][] blockLastKeys;
+    // Position of each block in the file
+    private final long[] blockOffsets;
+    // Size of each block in the file
+    private final int[] blockSizes;
+    // Uncompressed size of each block, -1 if the block is not compressed
+    private final int[] uncompressedSizes;
+    // On-heap bloom filter of keys, null if not built by the writer
+    @Nullable private final BloomFilter bloomFilter;
+    // Counter of lookups skipped by the bloom filter
+    @Nullable private final LongAdder bloomFilterSkippedCounter;
+
+    private final CacheManager cacheManager;
+    // Compressed blocks which are cached decompressed in the cache manager
+    private final Set<Integer> cachedBlocks;
+    private final Inflater inflater;
+    private RandomInputView inputView;
+
+    SortLookupStoreReader(
+            CacheManager cacheManager,
+            File file,
+            Comparator<byte[]> keyComparator,
+            @Nullable LongAdder bloomFilterSkippedCounter)
+            throws IOException {
+        if (!file.exists()) {
+            throw new FileNotFoundException("File " + file.getAbsolutePath() + " not found");
+        }
+        this.keyComparator = keyComparator;
+        this.bloomFilterSkippedCounter = bloomFilterSkippedCounter;
+
+        byte[] indexBytes;
+        try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r")) {
+            randomAccessFile.seek(randomAccessFile.length() - FOOTER_SIZE);
+            long indexOffset = randomAccessFile.readLong();
+            int indexSize = randomAccessFile.readInt();
+            long bloomFilterOffset = randomAccessFile.readLong();
+            int bloomFilterSize = randomAccessFile.readInt();
+            int numHashFunctions = randomAccessFile.readInt();
+            this.recordCount = randomAccessFile.readLong();
+            int magic = randomAccessFile.readInt();
+            if (magic != MAGIC_NUMBER) {
+                throw new IOException(
+                        "File " + file.getAbsolutePath() + " is not a sort lookup store file.");
+            }
+
+            indexBytes = new byte[indexSize];
+            randomAccessFile.seek(indexOffset);
+            randomAccessFile.readFully(indexBytes);
+
+            if (bloomFilterSize > 0) {
+                byte[] bloomFilterBytes = new byte[bloomFilterSize];
+                randomAccessFile.seek(bloomFilterOffset);
+                randomAccessFile.readFully(bloomFilterBytes);
+                this.bloomFilter =
+                        new BloomFilter(MemorySegment.wrap(bloomFilterBytes), numHashFunctions);
+            } else {
+                this.bloomFilter = null;
+            }
+        }
+
+        // Read block index, the number of blocks is unknown, so collect into growable arrays
+        DataInputDeserializer indexInput = new DataInputDeserializer(indexBytes);
+        int capacity = 16;
+        byte[][] lastKeys = new byte[capacity][];
+        long[] offsets = new long[capacity];
+        int[] sizes = new int[capacity];
+        int[] uncompressed = new int[capacity];
+        int blockCount = 0;
+        while (indexInput.available() > 0) {
+            if (blockCount == capacity) {
+                capacity *= 2;
+                lastKeys = Arrays.copyOf(lastKeys, capacity);
+                offsets = Arrays.copyOf(offsets, capacity);
+                sizes = Arrays.copyOf(sizes, capacity);
+                uncompressed = Arrays.copyOf(uncompressed, capacity);
+            }
+            byte[] lastKey = new byte[VarLengthIntUtils.decodeInt(indexInput)];
+            indexInput.readFully(lastKey);
+            lastKeys[blockCount] = lastKey;
+            offsets[blockCount] = VarLengthIntUtils.decodeLong(indexInput);
+            sizes[blockCount] = VarLengthIntUtils.decodeInt(indexInput);
+            uncompressed[blockCount] =
+                    indexInput.readBoolean() ? VarLengthIntUtils.decodeInt(indexInput) : -1;
+            blockCount++;
+        }
+        this.blockLastKeys = Arrays.copyOf(lastKeys, blockCount);
+        this.blockOffsets = Arrays.copyOf(offsets, blockCount);
+        this.blockSizes = Arrays.copyOf(sizes, blockCount);
+        this.uncompressedSizes = Arrays.copyOf(uncompressed, blockCount);
+
+        this.cacheManager = cacheManager;
+        this.cachedBlocks = ConcurrentHashMap.newKeySet();
+        this.inflater = new Inflater();
+        this.inputView = cacheManager.createInputView(file);
+    }
+
+    public long recordCount() {
+        return recordCount;
+    }
+
+    @Nullable
+    @Override
+    public byte[] lookup(byte[] key) throws IOException {
+        if (bloomFilter != null && !bloomFilter.testHash(MurmurHashUtils.hashBytesPositive(key))) {
+            if (bloomFilterSkippedCounter != null) {
+                bloomFilterSkippedCounter.increment();
+            }
+            return null;
+        }
+
+        int blockIndex = findBlock(key);
+        if (blockIndex >= blockLastKeys.length) {
+            return null;
+        }
+
+        BlockIterator iterator = readBlock(blockIndex).seek(key);
+        if (iterator.hasNext()) {
+            iterator.next();
+            if (keyComparator.compare(iterator.key(), key) == 0) {
+                return iterator.value();
+            }
+        }
+        return null;
+    }
+
+    /** Find the first block whose last key is not less than the key. */
+    private int findBlock(byte[] key) {
+        int low = 0;
+        int high = blockLastKeys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keyComparator.compare(blockLastKeys[mid], key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private BlockReader readBlock(int blockIndex) throws IOException {
+        if (uncompressedSizes[blockIndex] < 0) {
+            // the raw bytes are already cached as pages of the file
+            return new BlockReader(readBlockBytes(blockIndex), keyComparator);
+        }
+
+        MemorySegment block =
+                cacheManager.getBlock(
+                        this, blockIndex, this::readCompressedBlock, cachedBlocks::remove);
+        cachedBlocks.add(blockIndex);
+        return new BlockReader(block.getArray(), keyComparator);
+    }
+
+    private MemorySegment readCompressedBlock(int blockIndex) throws IOException {
+        int uncompressedSize = uncompressedSizes[blockIndex];
+        byte[] uncompressed = new byte[uncompressedSize];
+        inflater.reset();
+        inflater.setInput(readBlockBytes(blockIndex));
+        try {
+            int len = inflater.inflate(uncompressed);
+            if (len != uncompressedSize) {
+                throw new IOException(
+                        "Corrupted block "
+                                + blockIndex
+                                + ", expected "
+                                + uncompressedSize
+                                + " bytes but got "
+                                + len
+                                + " bytes.");
+            }
+        } catch (DataFormatException e) {
+            throw new IOException(e);
+        }
+        return MemorySegment.wrap(uncompressed);
+    }
+
+    private byte[] readBlockBytes(int blockIndex) throws IOException {
+        inputView.setReadPosition(blockOffsets[blockIndex]);
+        byte[] bytes = new byte[blockSizes[blockIndex]];
+        inputView.readFully(bytes);
+        return bytes;
+    }
+
+    /** Iterate all records in key order. */
+    @Override
+    public Iterator<Map.Entry<byte[], byte[]>> iterator() {
+        return scan(null, null);
+    }
+
+    /**
+     * Iterate records whose keys are in the range [fromKey, toKey) in key order.
+     *
+     * @param fromKey inclusive lower bound, null means unbounded.
+     * @param toKey exclusive upper bound, null means unbounded.
+     */
+    public Iterator<Map.Entry<byte[], byte[]>> scan(
+            @Nullable byte[] fromKey, @Nullable byte[] toKey) {
+        return new RangeIterator(fromKey, toKey);
+    }
+
+    @Override
+    public void close() throws IOException {
+        // copy out to avoid ConcurrentModificationException
+        List<Integer> blocks = new ArrayList<>(cachedBlocks);
+        blocks.forEach(block -> cacheManager.invalidBlock(this, block));
+
+        inputView.close();
+        inputView = null;
+        inflater.end();
+    }
+
+    private class RangeIterator implements Iterator<Map.Entry<byte[], byte[]>> {
+
+        @Nullable private final byte[] toKey;
+
+        private int blockIndex;
+        private BlockIterator blockIterator;
+        private Map.Entry<byte[], byte[]> next;
+
+        private RangeIterator(@Nullable byte[] fromKey, @Nullable byte[] toKey) {
+            this.toKey = toKey;
+            try {
+                if (fromKey == null) {
+                    this.blockIndex = 0;
+                    if (blockLastKeys.length > 0) {
+                        this.blockIterator = readBlock(0).iterator();
+                    }
+                } else {
+                    this.blockIndex = findBlock(fromKey);
+                    if (blockIndex < blockLastKeys.length) {
+                        this.blockIterator = readBlock(blockIndex).seek(fromKey);
+                    }
+                }
+                advance();
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        }
+
+        private void advance() throws IOException {
+            next = null;
+            while (blockIterator != null) {
+                if (blockIterator.hasNext()) {
+                    blockIterator.next();
+                    byte[] key = blockIterator.key();
+                    if (toKey != null && keyComparator.compare(key, toKey) >= 0) {
+                        blockIterator = null;
+                        return;
+                    }
+                    next = new AbstractMap.SimpleImmutableEntry<>(key, blockIterator.value());
+                    return;
+                }
+
+                blockIndex++;
+                blockIterator =
+                        blockIndex < blockLastKeys.length ? readBlock(blockIndex).iterator() : null;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public Map.Entry<byte[], byte[]> next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            Map.Entry<byte[], byte[]> result = next;
+            try {
+                advance();
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+            return result;
+        }
+    }
+}
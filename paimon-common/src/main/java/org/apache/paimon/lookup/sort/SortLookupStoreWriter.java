@@ -0,0 +1,217 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.lookup.sort;
+
+import org.apache.paimon.lookup.LookupStoreWriter;
+import org.apache.paimon.memory.MemorySegment;
+import org.apache.paimon.utils.BloomFilter;
+import org.apache.paimon.utils.MurmurHashUtils;
+import org.apache.paimon.utils.VarLengthIntUtils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Comparator;
+import java.util.zip.Deflater;
+
+/**
+ * Internal write implementation for sort kv store. Records must be put in strictly ascending key
+ * order.
+ *
+ * <p>File format: data blocks written by {@link BlockWriter} (optionally deflate compressed), an
+ * index with the last key, position and size of each data block, an optional bloom filter of
+ * keys, and a fixed size footer, see {@link SortLookupStoreReader}.
+ */
+public class SortLookupStoreWriter implements LookupStoreWriter {
+
+    private static final Logger LOG =
+            LoggerFactory.getLogger(SortLookupStoreWriter.class.getName());
+
+    static final int MAGIC_NUMBER = 0x50534F52;
+
+    // Size of footer: index offset, index size, bloom filter offset, bloom filter size, number of
+    // hash functions, record count and magic number
+    static final int FOOTER_SIZE = 8 + 4 + 8 + 4 + 4 + 8 + 4;
+
+    private final File file;
+    private final DataOutputStream dataOutputStream;
+    private final Comparator<byte[]> keyComparator;
+    private final int blockSize;
+    @Nullable private final Deflater deflater;
+    @Nullable private final BloomFilter.Builder bloomFilter;
+
+    private final BlockWriter blockWriter;
+    private final ByteArrayOutputStream indexBuffer;
+    private final DataOutputStream indexOutputStream;
+    private final ByteArrayOutputStream compressBuffer;
+    private final byte[] deflateBuffer;
+
+    private long position;
+    private byte[] lastKey;
+    private long recordCount;
+    private int blockCount;
+    private long uncompressedSize;
+
+    SortLookupStoreWriter(
+            File file,
+            Comparator<byte[]> keyComparator,
+            int blockSize,
+            boolean compressionEnabled,
+            @Nullable BloomFilter.Builder bloomFilter)
+            throws IOException {
+        this.file = file;
+        this.dataOutputStream =
+                new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)));
+        this.keyComparator = keyComparator;
+        this.blockSize = blockSize;
+        this.deflater = compressionEnabled ? new Deflater(Deflater.BEST_SPEED) : null;
+        this.bloomFilter = bloomFilter;
+        this.blockWriter = new BlockWriter(blockSize);
+        this.indexBuffer = new ByteArrayOutputStream();
+        this.indexOutputStream = new DataOutputStream(indexBuffer);
+        this.compressBuffer = new ByteArrayOutputStream();
+        this.deflateBuffer = new byte[4096];
+        this.position = 0;
+    }
+
+    @Override
+    public void put(byte[] key, byte[] value) throws IOException {
+        if (lastKey != null && keyComparator.compare(lastKey, key) >= 0) {
+            throw new IllegalArgumentException(
+                    "Keys must be put in strictly ascending order into sort lookup store "
+                            + file.getName()
+                            + ".");
+        }
+
+        if (bloomFilter != null) {
+            bloomFilter.addHash(MurmurHashUtils.hashBytesPositive(key));
+        }
+
+        blockWriter.add(key, value);
+        lastKey = key;
+        recordCount++;
+
+        if (blockWriter.size() >= blockSize) {
+            flushBlock();
+        }
+    }
+
+    private void flushBlock() throws IOException {
+        byte[] block = blockWriter.finish();
+        blockWriter.reset();
+        uncompressedSize += block.length;
+
+        byte[] bytes = block;
+        boolean compressed = false;
+        if (deflater != null) {
+            byte[] compressedBytes = compress(block);
+            // only keep compressed bytes if the compression saves at least 1/8 of the space
+            if (compressedBytes.length < block.length - block.length / 8) {
+                bytes = compressedBytes;
+                compressed = true;
+            }
+        }
+
+        dataOutputStream.write(bytes);
+
+        VarLengthIntUtils.encodeInt(indexOutputStream, lastKey.length);
+        indexOutputStream.write(lastKey);
+        VarLengthIntUtils.encodeLong(indexOutputStream, position);
+        VarLengthIntUtils.encodeInt(indexOutputStream, bytes.length);
+        indexOutputStream.writeBoolean(compressed);
+        if (compressed) {
+            VarLengthIntUtils.encodeInt(indexOutputStream, block.length);
+        }
+
+        position += bytes.length;
+        blockCount++;
+    }
+
+    private byte[] compress(byte[] block) {
+        deflater.reset();
+        deflater.setInput(block);
+        deflater.finish();
+        compressBuffer.reset();
+        while (!deflater.finished()) {
+            int len = deflater.deflate(deflateBuffer);
+            compressBuffer.write(deflateBuffer, 0, len);
+        }
+        return compressBuffer.toByteArray();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            if (!blockWriter.isEmpty()) {
+                flushBlock();
+            }
+
+            // Write index
+            long indexOffset = position;
+            indexOutputStream.flush();
+            int indexSize = indexBuffer.size();
+            indexBuffer.writeTo(dataOutputStream);
+            position += indexSize;
+
+            // Write bloom filter
+            long bloomFilterOffset = position;
+            int bloomFilterSize = 0;
+            int numHashFunctions = 0;
+            if (bloomFilter != null) {
+                MemorySegment buffer = bloomFilter.getBuffer();
+                bloomFilterSize = buffer.size();
+                numHashFunctions = bloomFilter.numHashFunctions();
+                buffer.get(dataOutputStream, 0, bloomFilterSize);
+                position += bloomFilterSize;
+            }
+
+            // Write footer
+            dataOutputStream.writeLong(indexOffset);
+            dataOutputStream.writeInt(indexSize);
+            dataOutputStream.writeLong(bloomFilterOffset);
+            dataOutputStream.writeInt(bloomFilterSize);
+            dataOutputStream.writeInt(numHashFunctions);
+            dataOutputStream.writeLong(recordCount);
+            dataOutputStream.writeInt(MAGIC_NUMBER);
+            position += FOOTER_SIZE;
+        } finally {
+            dataOutputStream.close();
+            if (deflater != null) {
+                deflater.end();
+            }
+        }
+
+        LOG.info(
+                "Sort lookup store {} written, {} records in {} blocks, total size {} bytes,"
+                        + " uncompressed data size {} bytes",
+                file.getName(),
+                recordCount,
+                blockCount,
+                position,
+                uncompressedSize);
+    }
+}
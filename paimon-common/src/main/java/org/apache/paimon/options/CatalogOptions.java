@@ -78,6 +78,16 @@ public class CatalogOptions {
                     .withDescription(
                             "Allow to fallback to hadoop File IO when no file io found for the scheme.");
 
+    public static final ConfigOption<MemorySize> CACHE_MANIFEST_MAX_MEMORY =
+            key("cache.manifest.max-memory")
+                    .memoryType()
+                    .noDefaultValue()
+                    .withDescription(
+                            "Maximum memory of the cache of manifest files and manifest lists "
+                                    + "shared by all tables of the catalog, so that repeated "
+                                    + "queries do not read unchanged manifests again. "
+                                    + "The cache is disabled if it is not set.");
+
     public static final ConfigOption<String> LINEAGE_META =
             key("lineage-meta")
                     .stringType()
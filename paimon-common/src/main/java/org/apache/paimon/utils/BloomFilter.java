@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.utils;
+
+import org.apache.paimon.memory.MemorySegment;
+
+import static org.apache.paimon.utils.Preconditions.checkArgument;
+
+/**
+ * A bloom filter on a {@link MemorySegment}. It works on int hash codes, so that callers can reuse
+ * the hash they have already computed for a key.
+ */
+public class BloomFilter {
+
+    private static final int MAX_NUM_BYTES = Integer.MAX_VALUE / Byte.SIZE;
+
+    private final MemorySegment segment;
+    private final int numBits;
+    private final int numHashFunctions;
+
+    public BloomFilter(MemorySegment segment, int numHashFunctions) {
+        checkArgument(segment.size() > 0, "Bloom filter should not be empty.");
+        checkArgument(numHashFunctions > 0, "Number of hash functions should be positive.");
+        this.segment = segment;
+        this.numBits = segment.size() * Byte.SIZE;
+        this.numHashFunctions = numHashFunctions;
+    }
+
+    public MemorySegment getBuffer() {
+        return segment;
+    }
+
+    public int numHashFunctions() {
+        return numHashFunctions;
+    }
+
+    public void addHash(int hash1) {
+        int hash2 = hash1 >>> 16;
+        for (int i = 1; i <= numHashFunctions; i++) {
+            int bitIndex = bitIndex(hash1, hash2, i);
+            int byteIndex = bitIndex >>> 3;
+            segment.put(byteIndex, (byte) (segment.get(byteIndex) | (1 << (bitIndex & 7))));
+        }
+    }
+
+    public boolean testHash(int hash1) {
+        int hash2 = hash1 >>> 16;
+        for (int i = 1; i <= numHashFunctions; i++) {
+            int bitIndex = bitIndex(hash1, hash2, i);
+            if ((segment.get(bitIndex >>> 3) & (1 << (bitIndex & 7))) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int bitIndex(int hash1, int hash2, int i) {
+        int combinedHash = hash1 + (i * hash2);
+        // hashcode should be positive, flip all the bits if it's negative
+        if (combinedHash < 0) {
+            combinedHash = ~combinedHash;
+        }
+        return combinedHash % numBits;
+    }
+
+    /**
+     * Compute optimal bits number with given expected entries and false positive probability.
+     *
+     * @param expectedEntries expected entries
+     * @param fpp false positive probability
+     * @return optimal bits number
+     */
+    public static int optimalNumOfBits(long expectedEntries, double fpp) {
+        int numBits =
+                (int)
+                        Math.min(
+                                (-expectedEntries * Math.log(fpp) / (Math.log(2) * Math.log(2))),
+                                (double) MAX_NUM_BYTES * Byte.SIZE);
+        return Math.max(numBits, Byte.SIZE);
+    }
+
+    /**
+     * Compute the optimal hash function number with given expected entries and bits size.
+     *
+     * @param expectedEntries expected entries
+     * @param bitSize bits size
+     * @return hash function number
+     */
+    public static int optimalNumOfHashFunctions(long expectedEntries, long bitSize) {
+        return Math.max(1, (int) Math.round((double) bitSize / expectedEntries * Math.log(2)));
+    }
+
+    public static Builder builder(long expectedEntries, double fpp) {
+        checkArgument(expectedEntries > 0, "Expected entries should be positive.");
+        checkArgument(fpp > 0.0 && fpp < 1.0, "False positive probability should be in (0, 1).");
+        int numBytes = (int) Math.ceil(optimalNumOfBits(expectedEntries, fpp) / (double) Byte.SIZE);
+        int numHashFunctions = optimalNumOfHashFunctions(expectedEntries, numBytes * 8L);
+        return new Builder(
+                new BloomFilter(MemorySegment.wrap(new byte[numBytes]), numHashFunctions),
+                expectedEntries);
+    }
+
+    /** Bloom filter based on one memory segment, used to build the filter while writing. */
+    public static class Builder {
+
+        private final BloomFilter filter;
+        private final long expectedEntries;
+
+        private Builder(BloomFilter filter, long expectedEntries) {
+            this.filter = filter;
+            this.expectedEntries = expectedEntries;
+        }
+
+        public void addHash(int hash) {
+            filter.addHash(hash);
+        }
+
+        public boolean testHash(int hash) {
+            return filter.testHash(hash);
+        }
+
+        public MemorySegment getBuffer() {
+            return filter.getBuffer();
+        }
+
+        public int numHashFunctions() {
+            return filter.numHashFunctions();
+        }
+
+        public long expectedEntries() {
+            return expectedEntries;
+        }
+    }
+}
@@ -26,10 +26,14 @@ import it.unimi.dsi.fastutil.io.FastBufferedOutputStream;
 
 import java.io.EOFException;
 import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.IntConsumer;
 
 /** File to store ints. */
 public class IntFileUtils {
 
+    private static final int BULK_READ_BUFFER_SIZE = 64 * 1024;
+
     public static IntIterator readInts(FileIO fileIO, Path path) throws IOException {
         FastBufferedInputStream in = new FastBufferedInputStream(fileIO.newInputStream(path));
         return new IntIterator() {
@@ -46,6 +50,33 @@ public class IntFileUtils {
         };
     }
 
+    /**
+     * Read all ints of the file into the consumer. The file is read in bulk buffers instead of
+     * byte by byte, and the end of file is not signaled by {@link EOFException}.
+     */
+    public static void readInts(FileIO fileIO, Path path, IntConsumer consumer)
+            throws IOException {
+        try (InputStream in = fileIO.newInputStream(path)) {
+            byte[] buffer = new byte[BULK_READ_BUFFER_SIZE];
+            int remaining = 0;
+            int read;
+            while ((read = in.read(buffer, remaining, buffer.length - remaining)) != -1) {
+                int length = remaining + read;
+                int end = length - (length & 3);
+                for (int i = 0; i < end; i += 4) {
+                    consumer.accept(
+                            ((buffer[i] & 0xFF) << 24)
+                                    | ((buffer[i + 1] & 0xFF) << 16)
+                                    | ((buffer[i + 2] & 0xFF) << 8)
+                                    | (buffer[i + 3] & 0xFF));
+                }
+                // keep the bytes of an int split across two reads
+                remaining = length - end;
+                System.arraycopy(buffer, end, buffer, 0, remaining);
+            }
+        }
+    }
+
     public static void writeInts(FileIO fileIO, Path path, IntIterator input) throws IOException {
         try (FastBufferedOutputStream out =
                         new FastBufferedOutputStream(fileIO.newOutputStream(path, false));
@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.data.columnar;
+
+import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.data.columnar.heap.HeapIntVector;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Tests for {@link ColumnarRowIterator}. */
+public class ColumnarRowIteratorTest {
+
+    @Test
+    public void testSelectRows() {
+        HeapIntVector vector = new HeapIntVector(10);
+        for (int i = 0; i < 10; i++) {
+            vector.setInt(i, i * 10);
+        }
+        VectorizedColumnBatch batch = new VectorizedColumnBatch(new ColumnVector[] {vector});
+        batch.setNumRows(10);
+        ColumnarRowIterator iterator = new ColumnarRowIterator(new ColumnarRow(batch), null);
+
+        iterator.set(10);
+        assertThat(iterator.batch()).isSameAs(batch);
+        iterator.selectRows(rowId -> rowId % 2 == 0);
+        assertThat(readAll(iterator)).containsExactly(0, 20, 40, 60, 80);
+
+        // selections are applied on top of each other
+        iterator.set(10);
+        iterator.selectRows(rowId -> rowId % 2 == 0);
+        iterator.selectRows(rowId -> rowId > 4);
+        assertThat(readAll(iterator)).containsExactly(60, 80);
+
+        // setting the next batch resets the selection
+        iterator.set(3);
+        assertThat(readAll(iterator)).containsExactly(0, 10, 20);
+    }
+
+    private List<Integer> readAll(ColumnarRowIterator iterator) {
+        List<Integer> result = new ArrayList<>();
+        InternalRow row;
+        while ((row = iterator.next()) != null) {
+            result.add(row.getInt(0));
+        }
+        return result;
+    }
+}
@@ -23,9 +23,12 @@ import org.apache.paimon.options.MemorySize;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.RandomAccessFile;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
@@ -42,22 +45,47 @@ public class CachedRandomInputViewTest {
 
     private final ThreadLocalRandom rnd = ThreadLocalRandom.current();
 
-    @Test
-    public void testMatched() throws IOException {
-        innerTest(1024 * 512);
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    public void testMatched(boolean offHeap) throws IOException {
+        innerTest(1024 * 512, offHeap);
     }
 
-    @Test
-    public void testNotMatched() throws IOException {
-        innerTest(131092);
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    public void testNotMatched(boolean offHeap) throws IOException {
+        innerTest(131092, offHeap);
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    public void testRandom(boolean offHeap) throws IOException {
+        innerTest(rnd.nextInt(5000, 100000), offHeap);
     }
 
     @Test
-    public void testRandom() throws IOException {
-        innerTest(rnd.nextInt(5000, 100000));
+    public void testCacheMetrics() throws IOException {
+        File file = writeFile(new byte[4096]);
+        CacheManager cacheManager = new CacheManager(1024, MemorySize.ofKibiBytes(2));
+        try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r")) {
+            cacheManager.getPage(randomAccessFile, 0, page -> {});
+            assertThat(cacheManager.missCount()).isEqualTo(1);
+            assertThat(cacheManager.hitCount()).isEqualTo(0);
+
+            cacheManager.getPage(randomAccessFile, 0, page -> {});
+            assertThat(cacheManager.missCount()).isEqualTo(1);
+            assertThat(cacheManager.hitCount()).isEqualTo(1);
+
+            for (int i = 1; i < 4; i++) {
+                cacheManager.getPage(randomAccessFile, i, page -> {});
+            }
+            cacheManager.cache().cleanUp();
+            assertThat(cacheManager.missCount()).isEqualTo(4);
+            assertThat(cacheManager.evictionCount()).isGreaterThan(0);
+        }
     }
 
-    private void innerTest(int len) throws IOException {
+    private void innerTest(int len, boolean offHeap) throws IOException {
         byte[] bytes = new byte[len];
         MemorySegment segment = MemorySegment.wrap(bytes);
         for (int i = 0; i < bytes.length; i++) {
@@ -65,7 +93,7 @@ public class CachedRandomInputViewTest {
         }
 
         File file = writeFile(bytes);
-        CacheManager cacheManager = new CacheManager(1024, MemorySize.ofKibiBytes(128));
+        CacheManager cacheManager = new CacheManager(1024, MemorySize.ofKibiBytes(128), offHeap);
         CachedRandomInputView view = new CachedRandomInputView(file, cacheManager);
 
         // read first one
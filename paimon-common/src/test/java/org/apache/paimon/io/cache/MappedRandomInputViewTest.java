@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.io.cache;
+
+import org.apache.paimon.memory.MemorySegment;
+import org.apache.paimon.options.MemorySize;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Test for {@link MappedRandomInputView}. */
+public class MappedRandomInputViewTest {
+
+    @TempDir Path tempDir;
+
+    private final ThreadLocalRandom rnd = ThreadLocalRandom.current();
+
+    @Test
+    public void testMappedRead() throws Exception {
+        byte[] bytes = randomBytes(rnd.nextInt(5000, 100000));
+        File file = writeFile(bytes);
+        CacheManager cacheManager =
+                new CacheManager(
+                        1024, MemorySize.ofKibiBytes(128), false, MemorySize.ofMebiBytes(1));
+
+        RandomInputView view = cacheManager.createInputView(file);
+        assertThat(view).isInstanceOf(MappedRandomInputView.class);
+        assertThat(cacheManager.mmapSize()).isEqualTo(bytes.length);
+        assertRead(view, bytes);
+
+        view.close();
+        assertThat(cacheManager.cache().asMap().size()).isEqualTo(0);
+
+        // the budget is released when the closed view is garbage collected
+        view = null;
+        waitUntilUnmapped(cacheManager);
+    }
+
+    @Test
+    public void testFallbackExceedBudget() throws Exception {
+        byte[] bytes1 = randomBytes(6000);
+        byte[] bytes2 = randomBytes(6000);
+        CacheManager cacheManager =
+                new CacheManager(
+                        1024, MemorySize.ofKibiBytes(128), false, MemorySize.ofKibiBytes(10));
+
+        RandomInputView view1 = cacheManager.createInputView(writeFile(bytes1));
+        RandomInputView view2 = cacheManager.createInputView(writeFile(bytes2));
+        assertThat(view1).isInstanceOf(MappedRandomInputView.class);
+        assertThat(view2).isInstanceOf(CachedRandomInputView.class);
+        assertThat(cacheManager.mmapSize()).isEqualTo(6000);
+        assertRead(view1, bytes1);
+        assertRead(view2, bytes2);
+
+        view1.close();
+        view2.close();
+        view1 = null;
+        waitUntilUnmapped(cacheManager);
+
+        // budget is released, the next file is mapped again
+        RandomInputView view3 = cacheManager.createInputView(writeFile(bytes2));
+        assertThat(view3).isInstanceOf(MappedRandomInputView.class);
+        view3.close();
+    }
+
+    @Test
+    public void testMmapDisabled() throws IOException {
+        CacheManager cacheManager = new CacheManager(1024, MemorySize.ofKibiBytes(128));
+        RandomInputView view = cacheManager.createInputView(writeFile(randomBytes(100)));
+        assertThat(view).isInstanceOf(CachedRandomInputView.class);
+        view.close();
+    }
+
+    private void waitUntilUnmapped(CacheManager cacheManager) throws InterruptedException {
+        for (int i = 0; i < 100 && cacheManager.mmapSize() > 0; i++) {
+            System.gc();
+            Thread.sleep(50);
+        }
+        assertThat(cacheManager.mmapSize()).isEqualTo(0);
+    }
+
+    private void assertRead(RandomInputView view, byte[] bytes) throws IOException {
+        MemorySegment segment = MemorySegment.wrap(bytes);
+
+        view.setReadPosition(0);
+        assertThat(view.readLong()).isEqualTo(segment.getLongBigEndian(0));
+
+        view.setReadPosition(bytes.length - 1);
+        assertThat(view.readByte()).isEqualTo(bytes[bytes.length - 1]);
+
+        for (int i = 0; i < 1000; i++) {
+            int position = rnd.nextInt(bytes.length - 8);
+            view.setReadPosition(position);
+            assertThat(view.readLong()).isEqualTo(segment.getLongBigEndian(position));
+        }
+    }
+
+    private byte[] randomBytes(int len) {
+        byte[] bytes = new byte[len];
+        rnd.nextBytes(bytes);
+        return bytes;
+    }
+
+    private File writeFile(byte[] bytes) throws IOException {
+        File file = new File(tempDir.toFile(), UUID.randomUUID().toString());
+        Files.write(file.toPath(), bytes);
+        return file;
+    }
+}
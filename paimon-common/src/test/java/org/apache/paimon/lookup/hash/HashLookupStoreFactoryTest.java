@@ -25,6 +25,7 @@ package org.apache.paimon.lookup.hash;
 import org.apache.paimon.io.DataOutputSerializer;
 import org.apache.paimon.io.cache.CacheManager;
 import org.apache.paimon.options.MemorySize;
+import org.apache.paimon.utils.BloomFilter;
 import org.apache.paimon.utils.MathUtils;
 import org.apache.paimon.utils.VarLengthIntUtils;
 
@@ -45,6 +46,7 @@ import java.util.Random;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -79,7 +81,7 @@ public class HashLookupStoreFactoryTest {
 
     @Test
     public void testEmpty() throws IOException {
-        HashLookupStoreWriter writer = factory.createWriter(file);
+        HashLookupStoreWriter writer = factory.createWriter(file, null);
         writer.close();
 
         assertThat(file.exists()).isTrue();
@@ -93,7 +95,7 @@ public class HashLookupStoreFactoryTest {
 
     @Test
     public void testOneKey() throws IOException {
-        HashLookupStoreWriter writer = factory.createWriter(file);
+        HashLookupStoreWriter writer = factory.createWriter(file, null);
         writer.put(toBytes(1), toBytes("foo"));
         writer.close();
 
@@ -317,6 +319,34 @@ public class HashLookupStoreFactoryTest {
         assertThat(valuesSet).isEmpty();
     }
 
+    @Test
+    public void testBloomFilter() throws IOException {
+        Integer[] keys = generateIntKeys(1000);
+        String[] values = generateStringData(keys.length, 12);
+
+        // Write
+        writeStore(file, keys, values, BloomFilter.builder(keys.length, 0.01));
+
+        // Read
+        LongAdder skipped = new LongAdder();
+        factory =
+                new HashLookupStoreFactory(
+                        new CacheManager(1024, MemorySize.ofMebiBytes(1)), 0.75d, skipped);
+        HashLookupStoreReader reader = factory.createReader(file);
+        for (int i = 0; i < keys.length; i++) {
+            assertThat(reader.lookup(toBytes(keys[i]))).isEqualTo(toBytes(values[i]));
+        }
+        assertThat(skipped.sum()).isEqualTo(0);
+
+        int misses = 1000;
+        for (int i = 0; i < misses; i++) {
+            assertThat(reader.lookup(toBytes(keys.length + i))).isNull();
+        }
+        // most of misses should be filtered by bloom filter
+        assertThat(skipped.sum()).isGreaterThan(misses / 2);
+        reader.close();
+    }
+
     // UTILITY
 
     private void testReadKeyToString(Object[] keys) throws IOException {
@@ -350,7 +380,13 @@ public class HashLookupStoreFactoryTest {
     }
 
     private void writeStore(File location, Object[] keys, Object[] values) throws IOException {
-        HashLookupStoreWriter writer = factory.createWriter(location);
+        writeStore(location, keys, values, null);
+    }
+
+    private void writeStore(
+            File location, Object[] keys, Object[] values, BloomFilter.Builder bloomFilter)
+            throws IOException {
+        HashLookupStoreWriter writer = factory.createWriter(location, bloomFilter);
         for (int i = 0; i < keys.length; i++) {
             writer.put(toBytes(keys[i]), toBytes(values[i]));
         }
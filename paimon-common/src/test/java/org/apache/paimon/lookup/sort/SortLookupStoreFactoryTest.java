@@ -0,0 +1,230 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.lookup.sort;
+
+import org.apache.paimon.io.cache.CacheManager;
+import org.apache.paimon.options.MemorySize;
+import org.apache.paimon.utils.BloomFilter;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/** Test for {@link SortLookupStoreFactory}. */
+public class SortLookupStoreFactoryTest {
+
+    private static final Comparator<byte[]> COMPARATOR =
+            (b1, b2) -> {
+                int len = Math.min(b1.length, b2.length);
+                for (int i = 0; i < len; i++) {
+                    int cmp = Integer.compare(b1[i] & 0xFF, b2[i] & 0xFF);
+                    if (cmp != 0) {
+                        return cmp;
+                    }
+                }
+                return Integer.compare(b1.length, b2.length);
+            };
+
+    @TempDir Path tempDir;
+
+    private SortLookupStoreFactory createFactory(
+            boolean compressionEnabled, LongAdder bloomFilterSkippedCounter) {
+        return new SortLookupStoreFactory(
+                new CacheManager(1024, MemorySize.ofMebiBytes(1)),
+                () -> COMPARATOR,
+                512,
+                compressionEnabled,
+                bloomFilterSkippedCounter);
+    }
+
+    private File newFile() {
+        return new File(tempDir.toFile(), UUID.randomUUID().toString());
+    }
+
+    private static byte[] toKey(int i) {
+        return new byte[] {(byte) (i >>> 24), (byte) (i >>> 16), (byte) (i >>> 8), (byte) i};
+    }
+
+    private static int fromKey(byte[] key) {
+        return ((key[0] & 0xFF) << 24)
+                | ((key[1] & 0xFF) << 16)
+                | ((key[2] & 0xFF) << 8)
+                | (key[3] & 0xFF);
+    }
+
+    private static byte[] toValue(int i) {
+        return ("value-" + i).getBytes(StandardCharsets.UTF_8);
+    }
+
+    /** Write even keys in [0, 2 * count). */
+    private void writeStore(
+            SortLookupStoreFactory factory,
+            File file,
+            int count,
+            BloomFilter.Builder bloomFilter)
+            throws IOException {
+        SortLookupStoreWriter writer = factory.createWriter(file, bloomFilter);
+        for (int i = 0; i < count; i++) {
+            writer.put(toKey(i * 2), toValue(i * 2));
+        }
+        writer.close();
+    }
+
+    @Test
+    public void testEmpty() throws IOException {
+        SortLookupStoreFactory factory = createFactory(true, null);
+        File file = newFile();
+        writeStore(factory, file, 0, null);
+
+        SortLookupStoreReader reader = factory.createReader(file);
+        assertThat(reader.recordCount()).isEqualTo(0);
+        assertThat(reader.lookup(toKey(1))).isNull();
+        assertThat(reader.iterator().hasNext()).isFalse();
+        reader.close();
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    public void testLookup(boolean compressionEnabled) throws IOException {
+        SortLookupStoreFactory factory = createFactory(compressionEnabled, null);
+        File file = newFile();
+        int count = 10000;
+        writeStore(factory, file, count, null);
+
+        SortLookupStoreReader reader = factory.createReader(file);
+        assertThat(reader.recordCount()).isEqualTo(count);
+        for (int i = 0; i < count * 2; i++) {
+            if (i % 2 == 0) {
+                assertThat(reader.lookup(toKey(i))).isEqualTo(toValue(i));
+            } else {
+                assertThat(reader.lookup(toKey(i))).isNull();
+            }
+        }
+        assertThat(reader.lookup(toKey(-1))).isNull();
+        reader.close();
+    }
+
+    @Test
+    public void testCompression() throws IOException {
+        File compressed = newFile();
+        writeStore(createFactory(true, null), compressed, 10000, null);
+        File uncompressed = newFile();
+        writeStore(createFactory(false, null), uncompressed, 10000, null);
+        assertThat(compressed.length()).isLessThan(uncompressed.length());
+    }
+
+    @Test
+    public void testCacheDecompressedBlocks() throws IOException {
+        CacheManager cacheManager = new CacheManager(1024, MemorySize.ofMebiBytes(1));
+        SortLookupStoreFactory factory =
+                new SortLookupStoreFactory(cacheManager, () -> COMPARATOR, 512, true, null);
+        File file = newFile();
+        writeStore(factory, file, 1000, null);
+
+        SortLookupStoreReader reader = factory.createReader(file);
+        assertThat(reader.lookup(toKey(10))).isEqualTo(toValue(10));
+        long missCount = cacheManager.missCount();
+        long hitCount = cacheManager.hitCount();
+
+        // the decompressed block is served from the cache without reading the file again
+        assertThat(reader.lookup(toKey(12))).isEqualTo(toValue(12));
+        assertThat(cacheManager.missCount()).isEqualTo(missCount);
+        assertThat(cacheManager.hitCount()).isEqualTo(hitCount + 1);
+        reader.close();
+    }
+
+    @Test
+    public void testScan() throws IOException {
+        SortLookupStoreFactory factory = createFactory(true, null);
+        File file = newFile();
+        writeStore(factory, file, 1000, null);
+
+        SortLookupStoreReader reader = factory.createReader(file);
+
+        List<Integer> keys = new ArrayList<>();
+        reader.forEach(entry -> keys.add(fromKey(entry.getKey())));
+        assertThat(keys).hasSize(1000);
+        assertThat(keys).isSorted();
+
+        keys.clear();
+        Iterator<Map.Entry<byte[], byte[]>> iterator = reader.scan(toKey(101), toKey(301));
+        while (iterator.hasNext()) {
+            Map.Entry<byte[], byte[]> entry = iterator.next();
+            int key = fromKey(entry.getKey());
+            assertThat(entry.getValue()).isEqualTo(toValue(key));
+            keys.add(key);
+        }
+        assertThat(keys).hasSize(100);
+        assertThat(keys.get(0)).isEqualTo(102);
+        assertThat(keys.get(99)).isEqualTo(300);
+
+        assertThat(reader.scan(toKey(1998), null)).toIterable().hasSize(1);
+        assertThat(reader.scan(toKey(1999), null).hasNext()).isFalse();
+        assertThat(reader.scan(null, toKey(0)).hasNext()).isFalse();
+        reader.close();
+    }
+
+    @Test
+    public void testBloomFilter() throws IOException {
+        LongAdder skipped = new LongAdder();
+        SortLookupStoreFactory factory = createFactory(true, skipped);
+        File file = newFile();
+        int count = 1000;
+        writeStore(factory, file, count, BloomFilter.builder(count, 0.01));
+
+        SortLookupStoreReader reader = factory.createReader(file);
+        for (int i = 0; i < count * 2; i++) {
+            if (i % 2 == 0) {
+                assertThat(reader.lookup(toKey(i))).isEqualTo(toValue(i));
+            } else {
+                assertThat(reader.lookup(toKey(i))).isNull();
+            }
+        }
+        assertThat(skipped.sum()).isGreaterThan(count / 2);
+        reader.close();
+    }
+
+    @Test
+    public void testOutOfOrder() throws IOException {
+        SortLookupStoreWriter writer = createFactory(true, null).createWriter(newFile(), null);
+        writer.put(toKey(2), toValue(2));
+        assertThatThrownBy(() -> writer.put(toKey(1), toValue(1)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("strictly ascending order");
+        assertThatThrownBy(() -> writer.put(toKey(2), toValue(2)))
+                .isInstanceOf(IllegalArgumentException.class);
+        writer.close();
+    }
+}
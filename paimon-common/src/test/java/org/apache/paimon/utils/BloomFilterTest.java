@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.utils;
+
+import org.apache.paimon.memory.MemorySegment;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Test for {@link BloomFilter}. */
+public class BloomFilterTest {
+
+    @Test
+    public void testNoFalseNegative() {
+        BloomFilter.Builder builder = BloomFilter.builder(1000, 0.01);
+        Set<Integer> hashes = new HashSet<>();
+        Random rnd = new Random();
+        for (int i = 0; i < 1000; i++) {
+            int hash = rnd.nextInt();
+            hashes.add(hash);
+            builder.addHash(hash);
+        }
+
+        for (int hash : hashes) {
+            assertThat(builder.testHash(hash)).isTrue();
+        }
+
+        // restore from the bytes
+        byte[] bytes = new byte[builder.getBuffer().size()];
+        builder.getBuffer().get(0, bytes);
+        BloomFilter filter = new BloomFilter(MemorySegment.wrap(bytes), builder.numHashFunctions());
+        for (int hash : hashes) {
+            assertThat(filter.testHash(hash)).isTrue();
+        }
+    }
+
+    @Test
+    public void testFalsePositiveProbability() {
+        BloomFilter.Builder builder = BloomFilter.builder(10000, 0.01);
+        for (int i = 0; i < 10000; i++) {
+            builder.addHash(MurmurHashUtils.fmix(i));
+        }
+
+        int falsePositives = 0;
+        for (int i = 10000; i < 20000; i++) {
+            if (builder.testHash(MurmurHashUtils.fmix(i))) {
+                falsePositives++;
+            }
+        }
+        assertThat(falsePositives).isLessThan(300);
+    }
+}
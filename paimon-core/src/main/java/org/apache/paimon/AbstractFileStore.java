@@ -59,13 +59,15 @@ public abstract class AbstractFileStore<T> implements FileStore<T> {
     protected final RowType partitionType;
 
     @Nullable private final SegmentsCache<String> writeManifestCache;
+    @Nullable private final SegmentsCache<String> readManifestCache;
 
     public AbstractFileStore(
             FileIO fileIO,
             SchemaManager schemaManager,
             long schemaId,
             CoreOptions options,
-            RowType partitionType) {
+            RowType partitionType,
+            @Nullable SegmentsCache<String> readManifestCache) {
         this.fileIO = fileIO;
         this.schemaManager = schemaManager;
         this.schemaId = schemaId;
@@ -76,6 +78,7 @@ public abstract class AbstractFileStore<T> implements FileStore<T> {
                 writeManifestCache.getBytes() == 0
                         ? null
                         : new SegmentsCache<>(options.pageSize(), writeManifestCache);
+        this.readManifestCache = readManifestCache;
     }
 
     public FileStorePathFactory pathFactory() {
@@ -104,7 +107,8 @@ public abstract class AbstractFileStore<T> implements FileStore<T> {
                 options.manifestFormat(),
                 pathFactory(),
                 options.manifestTargetSize().getBytes(),
-                forWrite ? writeManifestCache : null);
+                options.manifestSortByPartition(),
+                forWrite ? writeManifestCache : readManifestCache);
     }
 
     @VisibleForTesting
@@ -117,7 +121,7 @@ public abstract class AbstractFileStore<T> implements FileStore<T> {
                 fileIO,
                 options.manifestFormat(),
                 pathFactory(),
-                forWrite ? writeManifestCache : null);
+                forWrite ? writeManifestCache : readManifestCache);
     }
 
     protected IndexManifestFile.Factory indexManifestFileFactory() {
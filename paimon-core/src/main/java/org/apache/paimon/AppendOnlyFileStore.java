@@ -30,6 +30,9 @@ import org.apache.paimon.predicate.Predicate;
 import org.apache.paimon.schema.SchemaManager;
 import org.apache.paimon.table.BucketMode;
 import org.apache.paimon.types.RowType;
+import org.apache.paimon.utils.SegmentsCache;
+
+import javax.annotation.Nullable;
 
 import java.util.Comparator;
 import java.util.List;
@@ -51,8 +54,9 @@ public class AppendOnlyFileStore extends AbstractFileStore<InternalRow> {
             CoreOptions options,
             RowType partitionType,
             RowType bucketKeyType,
-            RowType rowType) {
-        super(fileIO, schemaManager, schemaId, options, partitionType);
+            RowType rowType,
+            @Nullable SegmentsCache<String> readManifestCache) {
+        super(fileIO, schemaManager, schemaId, options, partitionType, readManifestCache);
         this.bucketKeyType = bucketKeyType;
         this.rowType = rowType;
     }
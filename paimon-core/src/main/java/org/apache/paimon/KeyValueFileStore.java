@@ -24,7 +24,9 @@ import org.apache.paimon.format.FileFormatDiscover;
 import org.apache.paimon.fs.FileIO;
 import org.apache.paimon.index.HashIndexMaintainer;
 import org.apache.paimon.index.IndexMaintainer;
+import org.apache.paimon.io.KeyValueFileReaderFactory;
 import org.apache.paimon.manifest.ManifestCacheFilter;
+import org.apache.paimon.mergetree.KeyBloomFilterCache;
 import org.apache.paimon.mergetree.compact.MergeFunctionFactory;
 import org.apache.paimon.operation.KeyValueFileStoreRead;
 import org.apache.paimon.operation.KeyValueFileStoreScan;
@@ -37,8 +39,11 @@ import org.apache.paimon.table.BucketMode;
 import org.apache.paimon.types.RowType;
 import org.apache.paimon.utils.FileStorePathFactory;
 import org.apache.paimon.utils.KeyComparatorSupplier;
+import org.apache.paimon.utils.SegmentsCache;
 import org.apache.paimon.utils.ValueEqualiserSupplier;
 
+import javax.annotation.Nullable;
+
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -66,6 +71,8 @@ public class KeyValueFileStore extends AbstractFileStore<KeyValue> {
     private final Supplier<RecordEqualiser> valueEqualiserSupplier;
     private final MergeFunctionFactory<KeyValue> mfFactory;
 
+    @Nullable private transient KeyBloomFilterCache scanKeyBloomFilters;
+
     public KeyValueFileStore(
             FileIO fileIO,
             SchemaManager schemaManager,
@@ -77,8 +84,9 @@ public class KeyValueFileStore extends AbstractFileStore<KeyValue> {
             RowType keyType,
             RowType valueType,
             KeyValueFieldsExtractor keyValueFieldsExtractor,
-            MergeFunctionFactory<KeyValue> mfFactory) {
-        super(fileIO, schemaManager, schemaId, options, partitionType);
+            MergeFunctionFactory<KeyValue> mfFactory,
+            @Nullable SegmentsCache<String> readManifestCache) {
+        super(fileIO, schemaManager, schemaId, options, partitionType, readManifestCache);
         this.crossPartitionUpdate = crossPartitionUpdate;
         this.bucketKeyType = bucketKeyType;
         this.keyType = keyType;
@@ -99,6 +107,26 @@ public class KeyValueFileStore extends AbstractFileStore<KeyValue> {
         }
     }
 
+    public RowType keyType() {
+        return keyType;
+    }
+
+    public RowType valueType() {
+        return valueType;
+    }
+
+    public KeyValueFileReaderFactory.Builder newReaderFactoryBuilder() {
+        return KeyValueFileReaderFactory.builder(
+                fileIO,
+                schemaManager,
+                schemaId,
+                keyType,
+                valueType,
+                FileFormatDiscover.of(options),
+                pathFactory(),
+                keyValueFieldsExtractor);
+    }
+
     @Override
     public KeyValueFileStoreScan newScan() {
         return newScan(false);
@@ -195,7 +223,21 @@ public class KeyValueFileStore extends AbstractFileStore<KeyValue> {
                 manifestListFactory(forWrite),
                 options.bucket(),
                 forWrite,
-                options.scanManifestParallelism());
+                options.scanManifestParallelism(),
+                fileIO,
+                pathFactory(),
+                scanKeyBloomFilters());
+    }
+
+    private KeyBloomFilterCache scanKeyBloomFilters() {
+        // shared by all scans of this store, so that the filters are cached across plans
+        if (scanKeyBloomFilters == null) {
+            scanKeyBloomFilters =
+                    new KeyBloomFilterCache(
+                            options.toConfiguration().get(CoreOptions.LOOKUP_CACHE_FILE_RETENTION),
+                            options.fileKeyBloomFilterCacheMaxMemorySize());
+        }
+        return scanKeyBloomFilters;
     }
 
     @Override
@@ -36,6 +36,7 @@ import javax.annotation.Nullable;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -380,9 +381,16 @@ public class Snapshot {
      * @return total record count of Snapshot.
      */
     public Long totalRecordCount(FileStoreScan scan) {
-        return totalRecordCount == null
-                ? recordCount(scan.withSnapshot(id).plan().files())
-                : totalRecordCount;
+        if (totalRecordCount != null) {
+            return totalRecordCount;
+        }
+
+        long recordCount = 0;
+        Iterator<ManifestEntry> files = scan.withSnapshot(id).readFileIterator();
+        while (files.hasNext()) {
+            recordCount += files.next().file().rowCount();
+        }
+        return recordCount;
     }
 
     public static long recordCount(List<ManifestEntry> manifestEntries) {
@@ -21,6 +21,7 @@ package org.apache.paimon.append;
 import org.apache.paimon.AppendOnlyFileStore;
 import org.apache.paimon.annotation.VisibleForTesting;
 import org.apache.paimon.compact.CompactFutureManager;
+import org.apache.paimon.compact.CompactPriority;
 import org.apache.paimon.compact.CompactResult;
 import org.apache.paimon.compact.CompactTask;
 import org.apache.paimon.io.DataFileMeta;
@@ -86,7 +87,11 @@ public class AppendOnlyCompactManager extends CompactFutureManager {
             return;
         }
 
-        taskFuture = executor.submit(new FullCompactTask(toCompact, targetFileSize, rewriter));
+        taskFuture =
+                submit(
+                        executor,
+                        new FullCompactTask(toCompact, targetFileSize, rewriter),
+                        CompactPriority.NORMAL);
         compacting = new ArrayList<>(toCompact);
         toCompact.clear();
     }
@@ -98,7 +103,11 @@ public class AppendOnlyCompactManager extends CompactFutureManager {
         Optional<List<DataFileMeta>> picked = pickCompactBefore();
         if (picked.isPresent()) {
             compacting = picked.get();
-            taskFuture = executor.submit(new AutoCompactTask(compacting, rewriter));
+            taskFuture =
+                    submit(
+                            executor,
+                            new AutoCompactTask(compacting, rewriter),
+                            CompactPriority.LOW);
         }
     }
 
@@ -18,6 +18,7 @@
 
 package org.apache.paimon.catalog;
 
+import org.apache.paimon.CoreOptions;
 import org.apache.paimon.annotation.VisibleForTesting;
 import org.apache.paimon.factories.FactoryUtil;
 import org.apache.paimon.fs.FileIO;
@@ -25,6 +26,8 @@ import org.apache.paimon.fs.Path;
 import org.apache.paimon.lineage.LineageMeta;
 import org.apache.paimon.lineage.LineageMetaFactory;
 import org.apache.paimon.operation.Lock;
+import org.apache.paimon.operation.metrics.ManifestCacheMetrics;
+import org.apache.paimon.options.MemorySize;
 import org.apache.paimon.options.Options;
 import org.apache.paimon.schema.TableSchema;
 import org.apache.paimon.table.CatalogEnvironment;
@@ -33,6 +36,7 @@ import org.apache.paimon.table.FileStoreTableFactory;
 import org.apache.paimon.table.Table;
 import org.apache.paimon.table.system.AllTableOptionsTable;
 import org.apache.paimon.table.system.SystemTableLoader;
+import org.apache.paimon.utils.SegmentsCache;
 import org.apache.paimon.utils.StringUtils;
 
 import javax.annotation.Nullable;
@@ -42,6 +46,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import static org.apache.paimon.options.CatalogOptions.CACHE_MANIFEST_MAX_MEMORY;
 import static org.apache.paimon.options.CatalogOptions.LINEAGE_META;
 
 /** Common implementation of {@link Catalog}. */
@@ -57,10 +62,14 @@ public abstract class AbstractCatalog implements Catalog {
 
     @Nullable protected final LineageMeta lineageMeta;
 
+    @Nullable private final SegmentsCache<String> manifestCache;
+    @Nullable private ManifestCacheMetrics manifestCacheMetrics;
+
     protected AbstractCatalog(FileIO fileIO) {
         this.fileIO = fileIO;
         this.lineageMeta = null;
         this.tableDefaultOptions = new HashMap<>();
+        this.manifestCache = null;
     }
 
     protected AbstractCatalog(FileIO fileIO, Map<String, String> options) {
@@ -69,6 +78,12 @@ public abstract class AbstractCatalog implements Catalog {
                 findAndCreateLineageMeta(
                         Options.fromMap(options), AbstractCatalog.class.getClassLoader());
         this.tableDefaultOptions = new HashMap<>();
+        this.manifestCache =
+                Options.fromMap(options)
+                        .getOptional(CACHE_MANIFEST_MAX_MEMORY)
+                        .filter(size -> size.getBytes() > 0)
+                        .map(this::createManifestCache)
+                        .orElse(null);
 
         options.keySet().stream()
                 .filter(key -> key.startsWith(TABLE_DEFAULT_OPTION_PREFIX))
@@ -90,6 +105,20 @@ public abstract class AbstractCatalog implements Catalog {
                 .orElse(null);
     }
 
+    private SegmentsCache<String> createManifestCache(MemorySize maxMemory) {
+        return new SegmentsCache<>(
+                (int) CoreOptions.PAGE_SIZE.defaultValue().getBytes(), maxMemory);
+    }
+
+    /** The manifest cache shared by all tables of this catalog, metrics are registered lazily. */
+    @Nullable
+    private synchronized SegmentsCache<String> manifestCache() {
+        if (manifestCache != null && manifestCacheMetrics == null) {
+            manifestCacheMetrics = new ManifestCacheMetrics(warehouse(), manifestCache);
+        }
+        return manifestCache;
+    }
+
     @Override
     public Table getTable(Identifier identifier) throws TableNotExistException {
         if (isSystemDatabase(identifier.getDatabaseName())) {
@@ -124,7 +153,18 @@ public abstract class AbstractCatalog implements Catalog {
                 new CatalogEnvironment(
                         Lock.factory(lockFactory().orElse(null), identifier),
                         metastoreClientFactory(identifier).orElse(null),
-                        lineageMeta));
+                        lineageMeta,
+                        manifestCache()));
+    }
+
+    @Override
+    public void close() throws Exception {
+        synchronized (this) {
+            if (manifestCacheMetrics != null) {
+                manifestCacheMetrics.close();
+                manifestCacheMetrics = null;
+            }
+        }
     }
 
     @VisibleForTesting
@@ -227,9 +227,6 @@ public class FileSystemCatalog extends AbstractCatalog {
         return name.substring(0, name.length() - DB_SUFFIX.length());
     }
 
-    @Override
-    public void close() throws Exception {}
-
     @Override
     protected String warehouse() {
         return warehouse.toString();
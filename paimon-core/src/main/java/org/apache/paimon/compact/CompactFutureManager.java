@@ -23,9 +23,12 @@ import org.apache.paimon.annotation.VisibleForTesting;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.Nullable;
+
 import java.util.Optional;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 
 /** Base implementation of {@link CompactManager} which runs compaction in a separate thread. */
@@ -35,18 +38,38 @@ public abstract class CompactFutureManager implements CompactManager {
 
     protected Future<CompactResult> taskFuture;
 
+    @Nullable private CompactScheduler scheduler;
+
+    /** Submit the compaction, with the priority if the executor is a {@link CompactScheduler}. */
+    protected Future<CompactResult> submit(
+            ExecutorService executor, CompactTask task, CompactPriority priority) {
+        if (executor instanceof CompactScheduler) {
+            scheduler = (CompactScheduler) executor;
+            return scheduler.submit(task, priority);
+        }
+        return executor.submit(task);
+    }
+
     @Override
     public void cancelCompaction() {
         // TODO this method may leave behind orphan files if compaction is actually finished
         //  but some CPU work still needs to be done
         if (taskFuture != null && !taskFuture.isCancelled()) {
             taskFuture.cancel(true);
+            if (scheduler != null) {
+                // do not let the cancelled task hold its place in the queue
+                scheduler.purge();
+            }
         }
     }
 
     protected final Optional<CompactResult> innerGetCompactionResult(boolean blocking)
             throws ExecutionException, InterruptedException {
         if (taskFuture != null) {
+            if (blocking && scheduler != null && !taskFuture.isDone()) {
+                // the writer is stalled by this compaction, run it before other queued ones
+                scheduler.raisePriority(taskFuture, CompactPriority.HIGH);
+            }
             if (blocking || taskFuture.isDone()) {
                 CompactResult result;
                 try {
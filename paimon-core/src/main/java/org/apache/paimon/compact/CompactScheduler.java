@@ -0,0 +1,169 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.compact;
+
+import org.apache.paimon.metrics.Histogram;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RunnableFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A bounded thread pool shared by the compact managers of a write. Queued compactions are run in
+ * the order of their {@link CompactPriority}, and in submission order within the same priority.
+ * Tasks submitted without a priority are {@link CompactPriority#NORMAL}.
+ */
+public class CompactScheduler extends ThreadPoolExecutor {
+
+    private final AtomicLong sequence = new AtomicLong();
+    private final Map<CompactPriority, List<Histogram>> waitTimes =
+            new EnumMap<>(CompactPriority.class);
+
+    public CompactScheduler(int threads, ThreadFactory threadFactory) {
+        super(
+                threads,
+                threads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new PriorityBlockingQueue<>(),
+                threadFactory);
+        for (CompactPriority priority : CompactPriority.values()) {
+            waitTimes.put(priority, new CopyOnWriteArrayList<>());
+        }
+    }
+
+    /**
+     * Record the time in milliseconds compactions of the priority waited in the queue. A scheduler
+     * shared by several writes records every wait time into the histograms of all of them.
+     */
+    public CompactScheduler withWaitTime(CompactPriority priority, Histogram waitTime) {
+        waitTimes.get(priority).add(waitTime);
+        return this;
+    }
+
+    /** Stop recording wait times into a histogram added by {@link #withWaitTime}. */
+    public void removeWaitTime(CompactPriority priority, Histogram waitTime) {
+        waitTimes.get(priority).remove(waitTime);
+    }
+
+    public <T> Future<T> submit(Callable<T> task, CompactPriority priority) {
+        PrioritizedTask<T> future = new PrioritizedTask<>(task, priority);
+        execute(future);
+        return future;
+    }
+
+    /**
+     * Raise the priority of a queued task, for example when a writer starts waiting for it. Running
+     * tasks, tasks with a higher priority and tasks of a shut down scheduler are not changed.
+     */
+    public void raisePriority(Future<?> future, CompactPriority priority) {
+        if (!(future instanceof PrioritizedTask) || isShutdown()) {
+            return;
+        }
+        PrioritizedTask<?> task = (PrioritizedTask<?>) future;
+        if (task.priority.compareTo(priority) > 0 && getQueue().remove(task)) {
+            task.priority = priority;
+            try {
+                execute(task);
+            } catch (RejectedExecutionException e) {
+                // shut down after the task was removed, do not leave its waiters blocked
+                task.cancel(false);
+            }
+        }
+    }
+
+    /** Number of queued tasks of the priority. */
+    public int queueLength(CompactPriority priority) {
+        int length = 0;
+        for (Runnable runnable : getQueue()) {
+            if (runnable instanceof PrioritizedTask
+                    && ((PrioritizedTask<?>) runnable).priority == priority) {
+                length++;
+            }
+        }
+        return length;
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        super.execute(
+                command instanceof PrioritizedTask
+                        ? command
+                        : new PrioritizedTask<>(
+                                Executors.callable(command), CompactPriority.NORMAL));
+    }
+
+    @Override
+    protected <T> RunnableFuture<T> newTaskFor(Callable<T> callable) {
+        return new PrioritizedTask<>(callable, CompactPriority.NORMAL);
+    }
+
+    @Override
+    protected <T> RunnableFuture<T> newTaskFor(Runnable runnable, T value) {
+        return new PrioritizedTask<>(Executors.callable(runnable, value), CompactPriority.NORMAL);
+    }
+
+    @Override
+    protected void beforeExecute(Thread t, Runnable r) {
+        super.beforeExecute(t, r);
+        if (r instanceof PrioritizedTask) {
+            PrioritizedTask<?> task = (PrioritizedTask<?>) r;
+            long waited = System.currentTimeMillis() - task.submitTime;
+            for (Histogram waitTime : waitTimes.get(task.priority)) {
+                waitTime.update(waited);
+            }
+        }
+    }
+
+    /** A {@link FutureTask} ordered by priority and then by submission order. */
+    private class PrioritizedTask<T> extends FutureTask<T>
+            implements Comparable<PrioritizedTask<?>> {
+
+        private final long seq;
+        private final long submitTime;
+
+        // only changed while the task is not in the queue
+        private volatile CompactPriority priority;
+
+        private PrioritizedTask(Callable<T> callable, CompactPriority priority) {
+            super(callable);
+            this.seq = sequence.getAndIncrement();
+            this.submitTime = System.currentTimeMillis();
+            this.priority = priority;
+        }
+
+        @Override
+        public int compareTo(PrioritizedTask<?> o) {
+            int result = priority.compareTo(o.priority);
+            return result != 0 ? result : Long.compare(seq, o.seq);
+        }
+    }
+}
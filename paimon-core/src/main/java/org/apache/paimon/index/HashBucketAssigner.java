@@ -21,11 +21,15 @@ package org.apache.paimon.index;
 import org.apache.paimon.Snapshot;
 import org.apache.paimon.annotation.VisibleForTesting;
 import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.metrics.Gauge;
+import org.apache.paimon.operation.metrics.BucketAssignerMetrics;
 import org.apache.paimon.utils.SnapshotManager;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.Nullable;
+
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
@@ -47,6 +51,8 @@ public class HashBucketAssigner {
 
     private final Map<BinaryRow, PartitionIndex> partitionIndex;
 
+    @Nullable private BucketAssignerMetrics metrics;
+
     public HashBucketAssigner(
             SnapshotManager snapshotManager,
             String commitUser,
@@ -79,7 +85,7 @@ public class HashBucketAssigner {
             this.partitionIndex.put(partition, index);
         }
 
-        int assigned = index.assign(hash, (bucket) -> computeAssignId(bucket) == assignId);
+        int assigned = index.assign(hash);
         if (LOG.isDebugEnabled()) {
             LOG.debug(
                     "Assign " + assigned + " to the partition " + partition + " key hash " + hash);
@@ -153,10 +159,40 @@ public class HashBucketAssigner {
     }
 
     private PartitionIndex loadIndex(BinaryRow partition) {
-        return PartitionIndex.loadIndex(
-                indexFileHandler,
-                partition,
-                targetBucketRowNumber,
-                (hash) -> computeAssignId(hash) == assignId);
+        long start = System.currentTimeMillis();
+        PartitionIndex index =
+                PartitionIndex.loadIndex(
+                        indexFileHandler,
+                        partition,
+                        targetBucketRowNumber,
+                        (hash) -> computeAssignId(hash) == assignId,
+                        (bucket) -> computeAssignId(bucket) == assignId);
+        long duration = System.currentTimeMillis() - start;
+        metrics().partitionIndexLoadLatency().update(duration);
+        if (LOG.isDebugEnabled()) {
+            LOG.debug(
+                    "Loaded index of partition {} with {} keys in {} ms.",
+                    partition,
+                    index.hash2Bucket.size(),
+                    duration);
+        }
+        return index;
+    }
+
+    private BucketAssignerMetrics metrics() {
+        if (metrics == null) {
+            metrics =
+                    new BucketAssignerMetrics(
+                            snapshotManager.tablePath().getName(),
+                            (Gauge<Integer>) partitionIndex::size);
+        }
+        return metrics;
+    }
+
+    public void close() {
+        if (metrics != null) {
+            metrics.close();
+            metrics = null;
+        }
     }
 }
@@ -25,6 +25,7 @@ import org.apache.paimon.utils.PathFactory;
 
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.util.function.IntConsumer;
 
 import static org.apache.paimon.utils.IntFileUtils.readInts;
 import static org.apache.paimon.utils.IntFileUtils.writeInts;
@@ -54,6 +55,10 @@ public class HashIndexFile {
         return readInts(fileIO, pathFactory.toPath(fileName));
     }
 
+    public void read(String fileName, IntConsumer consumer) throws IOException {
+        readInts(fileIO, pathFactory.toPath(fileName), consumer);
+    }
+
     public String write(IntIterator input) throws IOException {
         Path path = pathFactory.newPath();
         writeInts(fileIO, path, input);
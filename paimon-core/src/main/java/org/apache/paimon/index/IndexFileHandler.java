@@ -31,6 +31,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.IntConsumer;
 
 import static org.apache.paimon.index.HashIndexFile.HASH_INDEX;
 
@@ -110,6 +111,19 @@ public class IndexFileHandler {
         }
     }
 
+    /** Read all hashes of the hash index file in bulk into the consumer. */
+    public void readHashIndex(IndexFileMeta file, IntConsumer consumer) {
+        if (!file.indexType().equals(HASH_INDEX)) {
+            throw new IllegalArgumentException("Input file is not hash index: " + file.indexType());
+        }
+
+        try {
+            hashIndex.read(file.fileName(), consumer);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     public IndexFileMeta writeHashIndex(int[] ints) {
         return writeHashIndex(ints.length, IntIterator.create(ints));
     }
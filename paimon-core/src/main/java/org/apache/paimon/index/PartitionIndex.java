@@ -21,43 +21,71 @@ package org.apache.paimon.index;
 import org.apache.paimon.data.BinaryRow;
 import org.apache.paimon.manifest.IndexManifestEntry;
 import org.apache.paimon.utils.Int2ShortHashMap;
-import org.apache.paimon.utils.IntIterator;
+import org.apache.paimon.utils.IntArrayList;
+import org.apache.paimon.utils.ParallellyExecuteUtils;
 
-import java.io.EOFException;
-import java.io.IOException;
-import java.io.UncheckedIOException;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
 import java.util.function.IntPredicate;
+import java.util.stream.Collectors;
 
 import static org.apache.paimon.index.HashIndexFile.HASH_INDEX;
 
-/** Bucket Index Per Partition. */
+/**
+ * Bucket Index Per Partition.
+ *
+ * <p>Row numbers of buckets are kept in a primitive array indexed by bucket, and the buckets of
+ * this assigner which are not full are kept in a stack, so a new hash is assigned in constant time
+ * without iterating all buckets.
+ */
 public class PartitionIndex {
 
-    public final Int2ShortHashMap hash2Bucket;
+    private static final int INITIAL_HASHES_CAPACITY = 1024;
 
-    public final Map<Integer, Long> bucketInformation;
+    public final Int2ShortHashMap hash2Bucket;
 
     private final long targetBucketRowNumber;
 
+    private final IntPredicate bucketFilter;
+
+    /** Row numbers indexed by bucket, zero means the bucket does not exist. */
+    private long[] bucketRowNumbers;
+
+    /** Buckets passing the bucket filter which are not full, the smallest bucket is on top. */
+    private int[] nonFullBuckets;
+
+    private int numNonFullBuckets;
+
+    /** All buckets less than it are either existing or filtered. */
+    private int nextNewBucket;
+
     public boolean accessed;
 
     public long lastAccessedCommitIdentifier;
 
     public PartitionIndex(
             Int2ShortHashMap hash2Bucket,
-            Map<Integer, Long> bucketInformation,
-            long targetBucketRowNumber) {
+            long[] bucketRowNumbers,
+            long targetBucketRowNumber,
+            IntPredicate bucketFilter) {
         this.hash2Bucket = hash2Bucket;
-        this.bucketInformation = bucketInformation;
+        this.bucketRowNumbers = bucketRowNumbers;
         this.targetBucketRowNumber = targetBucketRowNumber;
+        this.bucketFilter = bucketFilter;
+        this.nonFullBuckets = new int[8];
+        for (int bucket = bucketRowNumbers.length - 1; bucket >= 0; bucket--) {
+            long number = bucketRowNumbers[bucket];
+            if (number > 0 && number < targetBucketRowNumber && bucketFilter.test(bucket)) {
+                pushNonFullBucket(bucket);
+            }
+        }
+        this.nextNewBucket = 0;
         this.lastAccessedCommitIdentifier = Long.MIN_VALUE;
         this.accessed = true;
     }
 
-    public int assign(int hash, IntPredicate bucketFilter) {
+    public int assign(int hash) {
         accessed = true;
 
         // 1. is it a key that has appeared before
@@ -65,63 +93,131 @@ public class PartitionIndex {
             return hash2Bucket.get(hash);
         }
 
-        // 2. find bucket from existing buckets
-        for (Integer bucket : bucketInformation.keySet()) {
-            if (bucketFilter.test(bucket)) {
-                // it is my bucket
-                Long number = bucketInformation.get(bucket);
-                if (number < targetBucketRowNumber) {
-                    bucketInformation.put(bucket, number + 1);
-                    hash2Bucket.put(hash, bucket.shortValue());
-                    return bucket;
-                }
+        // 2. find bucket from existing buckets which are not full
+        if (numNonFullBuckets > 0) {
+            int bucket = nonFullBuckets[numNonFullBuckets - 1];
+            if (++bucketRowNumbers[bucket] >= targetBucketRowNumber) {
+                numNonFullBuckets--;
             }
+            hash2Bucket.put(hash, (short) bucket);
+            return bucket;
         }
 
         // 3. create a new bucket
-        for (int i = 0; i < Short.MAX_VALUE; i++) {
-            if (bucketFilter.test(i) && !bucketInformation.containsKey(i)) {
-                hash2Bucket.put(hash, (short) i);
-                bucketInformation.put(i, 1L);
-                return i;
+        while (nextNewBucket < Short.MAX_VALUE) {
+            int bucket = nextNewBucket++;
+            if (bucketFilter.test(bucket) && rowNumber(bucket) == 0) {
+                if (bucket >= bucketRowNumbers.length) {
+                    bucketRowNumbers =
+                            Arrays.copyOf(
+                                    bucketRowNumbers,
+                                    Math.min(
+                                            Math.max(bucket + 1, bucketRowNumbers.length * 2),
+                                            Short.MAX_VALUE));
+                }
+                bucketRowNumbers[bucket] = 1;
+                if (1 < targetBucketRowNumber) {
+                    pushNonFullBucket(bucket);
+                }
+                hash2Bucket.put(hash, (short) bucket);
+                return bucket;
             }
         }
 
-        @SuppressWarnings("OptionalGetWithoutIsPresent")
-        int maxBucket =
-                bucketInformation.keySet().stream().mapToInt(Integer::intValue).max().getAsInt();
+        int maxBucket = bucketRowNumbers.length - 1;
+        while (maxBucket > 0 && bucketRowNumbers[maxBucket] == 0) {
+            maxBucket--;
+        }
         throw new RuntimeException(
                 String.format(
                         "To more bucket %s, you should increase target bucket row number %s.",
                         maxBucket, targetBucketRowNumber));
     }
 
+    /** Row number of the bucket, zero if the bucket does not exist. */
+    public long rowNumber(int bucket) {
+        return bucket < bucketRowNumbers.length ? bucketRowNumbers[bucket] : 0;
+    }
+
+    private void pushNonFullBucket(int bucket) {
+        if (numNonFullBuckets == nonFullBuckets.length) {
+            nonFullBuckets = Arrays.copyOf(nonFullBuckets, nonFullBuckets.length * 2);
+        }
+        nonFullBuckets[numNonFullBuckets++] = bucket;
+    }
+
+    /**
+     * Load the index of the partition. Index files are read in parallel, in batches of the IO pool
+     * parallelism, into primitive arrays of filtered hashes, then the hashes are put into a map
+     * pre-sized to the number of filtered hashes.
+     */
     public static PartitionIndex loadIndex(
             IndexFileHandler indexFileHandler,
             BinaryRow partition,
             long targetBucketRowNumber,
-            IntPredicate loadFilter) {
-        Int2ShortHashMap map = new Int2ShortHashMap();
+            IntPredicate loadFilter,
+            IntPredicate bucketFilter) {
         List<IndexManifestEntry> files = indexFileHandler.scan(HASH_INDEX, partition);
-        Map<Integer, Long> buckets = new HashMap<>();
-        for (IndexManifestEntry file : files) {
-            try (IntIterator iterator = indexFileHandler.readHashIndex(file.indexFile())) {
-                while (true) {
-                    try {
-                        int hash = iterator.next();
-                        if (loadFilter.test(hash)) {
-                            map.put(hash, (short) file.bucket());
-                        }
-                        buckets.compute(
-                                file.bucket(), (bucket, number) -> number == null ? 1 : number + 1);
-                    } catch (EOFException ignored) {
-                        break;
-                    }
-                }
-            } catch (IOException e) {
-                throw new UncheckedIOException(e);
+        Iterable<LoadedFile> loadedIterable =
+                ParallellyExecuteUtils.parallelismBatchIterable(
+                        batch ->
+                                batch.parallelStream()
+                                        .map(file -> loadFile(indexFileHandler, file, loadFilter))
+                                        .collect(Collectors.toList()),
+                        files,
+                        null);
+
+        List<LoadedFile> loadedFiles = new ArrayList<>(files.size());
+        int maxBucket = -1;
+        long numHashes = 0;
+        for (LoadedFile loaded : loadedIterable) {
+            loadedFiles.add(loaded);
+            maxBucket = Math.max(maxBucket, loaded.bucket);
+            numHashes += loaded.hashes.size();
+        }
+
+        Int2ShortHashMap map = new Int2ShortHashMap((int) Math.min(numHashes, Integer.MAX_VALUE));
+        long[] buckets = new long[maxBucket + 1];
+        for (LoadedFile loaded : loadedFiles) {
+            short bucket = (short) loaded.bucket;
+            IntArrayList hashes = loaded.hashes;
+            for (int i = 0; i < hashes.size(); i++) {
+                map.put(hashes.get(i), bucket);
             }
+            buckets[loaded.bucket] += loaded.rowCount;
+        }
+        return new PartitionIndex(map, buckets, targetBucketRowNumber, bucketFilter);
+    }
+
+    private static LoadedFile loadFile(
+            IndexFileHandler indexFileHandler, IndexManifestEntry file, IntPredicate loadFilter) {
+        IndexFileMeta indexFile = file.indexFile();
+        // only a part of the hashes pass the load filter, so the list grows from a small capacity
+        IntArrayList hashes =
+                new IntArrayList((int) Math.min(indexFile.rowCount(), INITIAL_HASHES_CAPACITY));
+        long[] rowCount = new long[1];
+        indexFileHandler.readHashIndex(
+                indexFile,
+                hash -> {
+                    if (loadFilter.test(hash)) {
+                        hashes.add(hash);
+                    }
+                    rowCount[0]++;
+                });
+        return new LoadedFile(file.bucket(), hashes, rowCount[0]);
+    }
+
+    /** Filtered hashes of an index file. */
+    private static class LoadedFile {
+
+        private final int bucket;
+        private final IntArrayList hashes;
+        private final long rowCount;
+
+        private LoadedFile(int bucket, IntArrayList hashes, long rowCount) {
+            this.bucket = bucket;
+            this.hashes = hashes;
+            this.rowCount = rowCount;
         }
-        return new PartitionIndex(map, buckets, targetBucketRowNumber);
     }
 }
@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.io;
+
+import org.apache.paimon.fs.FileIO;
+import org.apache.paimon.fs.Path;
+import org.apache.paimon.fs.PositionOutputStream;
+import org.apache.paimon.fs.SeekableInputStream;
+import org.apache.paimon.memory.MemorySegment;
+import org.apache.paimon.utils.BloomFilter;
+import org.apache.paimon.utils.MurmurHashUtils;
+
+import javax.annotation.Nullable;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * Sidecar file of a key-value data file, which stores a bloom filter of the keys in the data file.
+ * The file is referenced from {@link DataFileMeta#extraFiles()}, so it is deleted together with
+ * the data file.
+ *
+ * <p>Keys are hashed by {@link #hash} on the bytes of {@link
+ * org.apache.paimon.data.serializer.RowCompactedSerializer}.
+ */
+public class KeyBloomFilterFile {
+
+    public static final String SUFFIX = ".key-bf";
+
+    private static final int VERSION = 1;
+
+    private KeyBloomFilterFile() {}
+
+    public static String fileName(String dataFileName) {
+        return dataFileName + SUFFIX;
+    }
+
+    /** Find the key bloom filter file of this data file, returns null if there is none. */
+    @Nullable
+    public static String find(DataFileMeta file) {
+        for (String extraFile : file.extraFiles()) {
+            if (extraFile.endsWith(SUFFIX)) {
+                return extraFile;
+            }
+        }
+        return null;
+    }
+
+    public static int hash(byte[] keyBytes) {
+        return MurmurHashUtils.hashBytesPositive(keyBytes);
+    }
+
+    public static void write(FileIO fileIO, Path path, BloomFilter.Builder bloomFilter)
+            throws IOException {
+        MemorySegment buffer = bloomFilter.getBuffer();
+        try (PositionOutputStream out = fileIO.newOutputStream(path, false);
+                DataOutputStream dataOut = new DataOutputStream(out)) {
+            dataOut.writeInt(VERSION);
+            dataOut.writeInt(bloomFilter.numHashFunctions());
+            dataOut.writeInt(buffer.size());
+            buffer.get(dataOut, 0, buffer.size());
+        }
+    }
+
+    public static BloomFilter read(FileIO fileIO, Path path) throws IOException {
+        try (SeekableInputStream in = fileIO.newInputStream(path);
+                DataInputStream dataIn = new DataInputStream(in)) {
+            int version = dataIn.readInt();
+            if (version != VERSION) {
+                throw new IOException(
+                        "Unsupported version " + version + " of key bloom filter file " + path);
+            }
+            int numHashFunctions = dataIn.readInt();
+            byte[] bytes = new byte[dataIn.readInt()];
+            dataIn.readFully(bytes);
+            return new BloomFilter(MemorySegment.wrap(bytes), numHashFunctions);
+        }
+    }
+}
@@ -22,10 +22,13 @@ import org.apache.paimon.KeyValue;
 import org.apache.paimon.KeyValueSerializer;
 import org.apache.paimon.casting.CastFieldGetter;
 import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.data.columnar.ColumnarRowIterator;
+import org.apache.paimon.data.columnar.VectorizedColumnBatch;
 import org.apache.paimon.format.FormatReaderFactory;
 import org.apache.paimon.fs.FileIO;
 import org.apache.paimon.fs.Path;
 import org.apache.paimon.reader.RecordReader;
+import org.apache.paimon.types.RowKind;
 import org.apache.paimon.types.RowType;
 import org.apache.paimon.utils.FileUtils;
 
@@ -41,6 +44,8 @@ public class KeyValueDataFileRecordReader implements RecordReader<KeyValue> {
     private final int level;
     @Nullable private final int[] indexMapping;
     @Nullable private final CastFieldGetter[] castMapping;
+    private final boolean dropDelete;
+    private final int valueKindField;
 
     public KeyValueDataFileRecordReader(
             FileIO fileIO,
@@ -50,22 +55,36 @@ public class KeyValueDataFileRecordReader implements RecordReader<KeyValue> {
             RowType valueType,
             int level,
             @Nullable int[] indexMapping,
-            @Nullable CastFieldGetter[] castMapping)
+            @Nullable CastFieldGetter[] castMapping,
+            boolean dropDelete)
             throws IOException {
         this.reader = FileUtils.createFormatReader(fileIO, readerFactory, path);
         this.serializer = new KeyValueSerializer(keyType, valueType);
         this.level = level;
         this.indexMapping = indexMapping;
         this.castMapping = castMapping;
+        this.dropDelete = dropDelete;
+        // file rows are key fields, sequence number, value kind and value fields
+        this.valueKindField = keyType.getFieldCount() + 1;
     }
 
     @Nullable
     @Override
     public RecordIterator<KeyValue> readBatch() throws IOException {
         RecordReader.RecordIterator<InternalRow> iterator = reader.readBatch();
-        return iterator == null
-                ? null
-                : new KeyValueDataFileRecordIterator(iterator, indexMapping, castMapping);
+        if (iterator == null) {
+            return null;
+        }
+
+        if (dropDelete && indexMapping == null && iterator instanceof ColumnarRowIterator) {
+            // filter the value kind column of the whole batch instead of checking row by row
+            ColumnarRowIterator columnarIterator = (ColumnarRowIterator) iterator;
+            VectorizedColumnBatch batch = columnarIterator.batch();
+            columnarIterator.selectRows(
+                    rowId -> RowKind.fromByteValue(batch.getByte(rowId, valueKindField)).isAdd());
+            return new KeyValueDataFileRecordIterator(iterator, indexMapping, castMapping, false);
+        }
+        return new KeyValueDataFileRecordIterator(iterator, indexMapping, castMapping, dropDelete);
     }
 
     @Override
@@ -76,23 +95,31 @@ public class KeyValueDataFileRecordReader implements RecordReader<KeyValue> {
     private class KeyValueDataFileRecordIterator extends AbstractFileRecordIterator<KeyValue> {
 
         private final RecordReader.RecordIterator<InternalRow> iterator;
+        private final boolean dropDelete;
 
         private KeyValueDataFileRecordIterator(
                 RecordReader.RecordIterator<InternalRow> iterator,
                 @Nullable int[] indexMapping,
-                @Nullable CastFieldGetter[] castMapping) {
+                @Nullable CastFieldGetter[] castMapping,
+                boolean dropDelete) {
             super(indexMapping, castMapping);
             this.iterator = iterator;
+            this.dropDelete = dropDelete;
         }
 
         @Override
         public KeyValue next() throws IOException {
-            InternalRow result = iterator.next();
+            while (true) {
+                InternalRow result = iterator.next();
+
+                if (result == null) {
+                    return null;
+                }
 
-            if (result == null) {
-                return null;
-            } else {
-                return serializer.fromRow(mappingRowData(result)).setLevel(level);
+                KeyValue kv = serializer.fromRow(mappingRowData(result)).setLevel(level);
+                if (!dropDelete || kv.valueKind().isAdd()) {
+                    return kv;
+                }
             }
         }
 
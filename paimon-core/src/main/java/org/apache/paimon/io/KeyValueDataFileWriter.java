@@ -22,7 +22,9 @@ import org.apache.paimon.CoreOptions;
 import org.apache.paimon.KeyValue;
 import org.apache.paimon.data.BinaryRow;
 import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.data.Timestamp;
 import org.apache.paimon.data.serializer.InternalRowSerializer;
+import org.apache.paimon.data.serializer.RowCompactedSerializer;
 import org.apache.paimon.format.FieldStats;
 import org.apache.paimon.format.FormatWriterFactory;
 import org.apache.paimon.format.TableStatsExtractor;
@@ -31,6 +33,7 @@ import org.apache.paimon.fs.Path;
 import org.apache.paimon.stats.BinaryTableStats;
 import org.apache.paimon.stats.FieldStatsArraySerializer;
 import org.apache.paimon.types.RowType;
+import org.apache.paimon.utils.BloomFilter;
 import org.apache.paimon.utils.StatsCollectorFactories;
 
 import org.slf4j.Logger;
@@ -39,7 +42,9 @@ import org.slf4j.LoggerFactory;
 import javax.annotation.Nullable;
 
 import java.io.IOException;
+import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.function.Function;
 
 /**
@@ -54,6 +59,8 @@ public class KeyValueDataFileWriter
 
     private static final Logger LOG = LoggerFactory.getLogger(KeyValueDataFileWriter.class);
 
+    private static final int KEY_BLOOM_FILTER_SAMPLES = 1024;
+
     private final RowType keyType;
     private final RowType valueType;
     private final long schemaId;
@@ -63,6 +70,18 @@ public class KeyValueDataFileWriter
     private final FieldStatsArraySerializer valueStatsConverter;
     private final InternalRowSerializer keySerializer;
 
+    // serializers for the key bloom filter, null if the filter is not required
+    @Nullable private final RowCompactedSerializer keyCompactedSerializer;
+    @Nullable private final RowCompactedSerializer valueCompactedSerializer;
+    private final double keyBloomFilterFpp;
+    private final long targetFileSize;
+
+    // key hashes and record sizes of the first records, used to size the key bloom filter
+    @Nullable private int[] sampledKeyHashes;
+    private long sampledRecordSize;
+    @Nullable private BloomFilter.Builder keyBloomFilter;
+    @Nullable private Path keyBloomFilterPath;
+
     private BinaryRow minKey = null;
     private InternalRow maxKey = null;
     private long minSeqNumber = Long.MAX_VALUE;
@@ -79,7 +98,8 @@ public class KeyValueDataFileWriter
             long schemaId,
             int level,
             String compression,
-            CoreOptions options) {
+            CoreOptions options,
+            boolean writeKeyBloomFilter) {
         super(
                 fileIO,
                 factory,
@@ -99,6 +119,14 @@ public class KeyValueDataFileWriter
         this.keyStatsConverter = new FieldStatsArraySerializer(keyType);
         this.valueStatsConverter = new FieldStatsArraySerializer(valueType);
         this.keySerializer = new InternalRowSerializer(keyType);
+
+        this.keyCompactedSerializer =
+                writeKeyBloomFilter ? new RowCompactedSerializer(keyType) : null;
+        this.valueCompactedSerializer =
+                writeKeyBloomFilter ? new RowCompactedSerializer(valueType) : null;
+        this.keyBloomFilterFpp = options.fileKeyBloomFilterFpp();
+        this.targetFileSize = options.targetFileSize();
+        this.sampledKeyHashes = writeKeyBloomFilter ? new int[KEY_BLOOM_FILTER_SAMPLES] : null;
     }
 
     @Override
@@ -111,6 +139,10 @@ public class KeyValueDataFileWriter
         updateMinSeqNumber(kv);
         updateMaxSeqNumber(kv);
 
+        if (keyCompactedSerializer != null) {
+            addKeyHash(kv);
+        }
+
         if (LOG.isDebugEnabled()) {
             LOG.debug("Write to Path " + path + " key value " + kv.toString(keyType, valueType));
         }
@@ -134,6 +166,83 @@ public class KeyValueDataFileWriter
         maxSeqNumber = Math.max(maxSeqNumber, kv.sequenceNumber());
     }
 
+    private void addKeyHash(KeyValue kv) {
+        byte[] keyBytes = keyCompactedSerializer.serializeToBytes(kv.key());
+        int keyHash = KeyBloomFilterFile.hash(keyBytes);
+        if (keyBloomFilter != null) {
+            keyBloomFilter.addHash(keyHash);
+            return;
+        }
+
+        int index = (int) recordCount() - 1;
+        sampledKeyHashes[index] = keyHash;
+        sampledRecordSize +=
+                keyBytes.length + valueCompactedSerializer.serializeToBytes(kv.value()).length;
+        if (index + 1 == KEY_BLOOM_FILTER_SAMPLES) {
+            // the file is expected to hold target file size divided by the average record size
+            // of records. The sizes are taken before compression, so a highly compressed file
+            // may hold more keys than expected and get a higher false positive rate.
+            long averageRecordSize = Math.max(1, sampledRecordSize / KEY_BLOOM_FILTER_SAMPLES);
+            createKeyBloomFilter(targetFileSize / averageRecordSize);
+        }
+    }
+
+    private void createKeyBloomFilter(long expectedEntries) {
+        int numSamples = (int) Math.min(recordCount(), KEY_BLOOM_FILTER_SAMPLES);
+        keyBloomFilter =
+                BloomFilter.builder(Math.max(expectedEntries, numSamples), keyBloomFilterFpp);
+        for (int i = 0; i < numSamples; i++) {
+            keyBloomFilter.addHash(sampledKeyHashes[i]);
+        }
+        sampledKeyHashes = null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+
+        super.close();
+
+        if (keyCompactedSerializer != null && recordCount() > 0) {
+            if (keyBloomFilter == null) {
+                // small file, all keys are sampled
+                createKeyBloomFilter(recordCount());
+            }
+
+            Path bloomFilterPath =
+                    new Path(path.getParent(), KeyBloomFilterFile.fileName(path.getName()));
+            try {
+                KeyBloomFilterFile.write(fileIO, bloomFilterPath, keyBloomFilter);
+            } catch (IOException e) {
+                LOG.warn("Exception occurs when writing key bloom filter " + bloomFilterPath, e);
+                abort();
+                fileIO.deleteQuietly(bloomFilterPath);
+                throw e;
+            }
+            keyBloomFilterPath = bloomFilterPath;
+            keyBloomFilter = null;
+        }
+    }
+
+    @Override
+    public void abort() {
+        super.abort();
+        if (keyBloomFilterPath != null) {
+            fileIO.deleteQuietly(keyBloomFilterPath);
+        }
+    }
+
+    @Override
+    public AbortExecutor abortExecutor() {
+        if (!closed) {
+            throw new RuntimeException("Writer should be closed!");
+        }
+
+        return new AbortExecutor(fileIO, path, keyBloomFilterPath);
+    }
+
     @Override
     @Nullable
     public DataFileMeta result() throws IOException {
@@ -162,6 +271,10 @@ public class KeyValueDataFileWriter
                 minSeqNumber,
                 maxSeqNumber,
                 schemaId,
-                level);
+                level,
+                keyBloomFilterPath == null
+                        ? Collections.emptyList()
+                        : Collections.singletonList(keyBloomFilterPath.getName()),
+                Timestamp.fromLocalDateTime(LocalDateTime.now()));
     }
 }
@@ -28,7 +28,9 @@ import org.apache.paimon.reader.RecordReader;
 import org.apache.paimon.schema.KeyValueFieldsExtractor;
 import org.apache.paimon.schema.SchemaManager;
 import org.apache.paimon.schema.TableSchema;
+import org.apache.paimon.types.RowKind;
 import org.apache.paimon.types.RowType;
+import org.apache.paimon.utils.BloomFilter;
 import org.apache.paimon.utils.BulkFormatMapping;
 import org.apache.paimon.utils.FileStorePathFactory;
 import org.apache.paimon.utils.Projection;
@@ -37,9 +39,9 @@ import javax.annotation.Nullable;
 
 import java.io.IOException;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /** Factory to create {@link RecordReader}s for reading {@link KeyValue} files. */
 public class KeyValueFileReaderFactory {
@@ -53,6 +55,7 @@ public class KeyValueFileReaderFactory {
     private final BulkFormatMapping.BulkFormatMappingBuilder bulkFormatMappingBuilder;
     private final Map<FormatKey, BulkFormatMapping> bulkFormatMappings;
     private final DataFilePathFactory pathFactory;
+    private final boolean dropDelete;
 
     private KeyValueFileReaderFactory(
             FileIO fileIO,
@@ -61,7 +64,8 @@ public class KeyValueFileReaderFactory {
             RowType keyType,
             RowType valueType,
             BulkFormatMapping.BulkFormatMappingBuilder bulkFormatMappingBuilder,
-            DataFilePathFactory pathFactory) {
+            DataFilePathFactory pathFactory,
+            boolean dropDelete) {
         this.fileIO = fileIO;
         this.schemaManager = schemaManager;
         this.schemaId = schemaId;
@@ -69,7 +73,9 @@ public class KeyValueFileReaderFactory {
         this.valueType = valueType;
         this.bulkFormatMappingBuilder = bulkFormatMappingBuilder;
         this.pathFactory = pathFactory;
-        this.bulkFormatMappings = new HashMap<>();
+        this.dropDelete = dropDelete;
+        // readers may be created concurrently to prefetch lookup files
+        this.bulkFormatMappings = new ConcurrentHashMap<>();
     }
 
     public RecordReader<KeyValue> createRecordReader(long schemaId, String fileName, int level)
@@ -92,7 +98,21 @@ public class KeyValueFileReaderFactory {
                 valueType,
                 level,
                 bulkFormatMapping.getIndexMapping(),
-                bulkFormatMapping.getCastMapping());
+                bulkFormatMapping.getCastMapping(),
+                dropDelete);
+    }
+
+    /**
+     * Read the key bloom filter of the data file, see {@link KeyBloomFilterFile}. Returns null if
+     * the file has no key bloom filter or its keys may be serialized in another schema.
+     */
+    @Nullable
+    public BloomFilter readKeyBloomFilter(DataFileMeta file) throws IOException {
+        String bloomFilterFile = KeyBloomFilterFile.find(file);
+        if (bloomFilterFile == null || file.schemaId() != schemaId) {
+            return null;
+        }
+        return KeyBloomFilterFile.read(fileIO, pathFactory.toPath(bloomFilterFile));
     }
 
     public static Builder builder(
@@ -194,6 +214,20 @@ public class KeyValueFileReaderFactory {
                 int bucket,
                 boolean projectKeys,
                 @Nullable List<Predicate> filters) {
+            return build(partition, bucket, projectKeys, filters, false);
+        }
+
+        /**
+         * @param dropDelete whether to drop records which are not {@link RowKind#INSERT} or {@link
+         *     RowKind#UPDATE_AFTER} when reading files. It is only correct if no other records of
+         *     the same keys are merged with the records of the files.
+         */
+        public KeyValueFileReaderFactory build(
+                BinaryRow partition,
+                int bucket,
+                boolean projectKeys,
+                @Nullable List<Predicate> filters,
+                boolean dropDelete) {
             int[][] keyProjection = projectKeys ? this.keyProjection : fullKeyProjection;
             RowType projectedKeyType = projectKeys ? this.projectedKeyType : keyType;
 
@@ -205,7 +239,8 @@ public class KeyValueFileReaderFactory {
                     projectedValueType,
                     BulkFormatMapping.newBuilder(
                             formatDiscover, extractor, keyProjection, valueProjection, filters),
-                    pathFactory.createDataFilePathFactory(partition, bucket));
+                    pathFactory.createDataFilePathFactory(partition, bucket),
+                    dropDelete);
         }
 
         private void applyProjection() {
@@ -83,7 +83,11 @@ public class KeyValueFileWriterFactory {
 
     public RollingFileWriter<KeyValue, DataFileMeta> createRollingMergeTreeFileWriter(int level) {
         return new RollingFileWriter<>(
-                () -> createDataFileWriter(formatContext.pathFactory(level).newPath(), level),
+                () ->
+                        createDataFileWriter(
+                                formatContext.pathFactory(level).newPath(),
+                                level,
+                                options.fileKeyBloomFilterEnabled()),
                 suggestedFileSize);
     }
 
@@ -91,11 +95,14 @@ public class KeyValueFileWriterFactory {
         return new RollingFileWriter<>(
                 () ->
                         createDataFileWriter(
-                                formatContext.pathFactory(level).newChangelogPath(), level),
+                                formatContext.pathFactory(level).newChangelogPath(),
+                                level,
+                                false),
                 suggestedFileSize);
     }
 
-    private KeyValueDataFileWriter createDataFileWriter(Path path, int level) {
+    private KeyValueDataFileWriter createDataFileWriter(
+            Path path, int level, boolean writeKeyBloomFilter) {
         KeyValueSerializer kvSerializer = new KeyValueSerializer(keyType, valueType);
         return new KeyValueDataFileWriter(
                 fileIO,
@@ -108,13 +115,23 @@ public class KeyValueFileWriterFactory {
                 schemaId,
                 level,
                 formatContext.compression(level),
-                options);
+                options,
+                writeKeyBloomFilter);
     }
 
     public void deleteFile(String filename, int level) {
         fileIO.deleteQuietly(formatContext.pathFactory(level).toPath(filename));
     }
 
+    /** Delete the data file together with its extra files. */
+    public void deleteFile(DataFileMeta file) {
+        DataFilePathFactory pathFactory = formatContext.pathFactory(file.level());
+        fileIO.deleteQuietly(pathFactory.toPath(file.fileName()));
+        for (String extraFile : file.extraFiles()) {
+            fileIO.deleteQuietly(pathFactory.toPath(extraFile));
+        }
+    }
+
     public static Builder builder(
             FileIO fileIO,
             long schemaId,
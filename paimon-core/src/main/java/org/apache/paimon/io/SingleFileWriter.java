@@ -30,6 +30,8 @@ import org.apache.paimon.utils.IOUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.Nullable;
+
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.util.function.Function;
@@ -160,14 +162,23 @@ public abstract class SingleFileWriter<T, R> implements FileWriter<T, R> {
 
         private final FileIO fileIO;
         private final Path path;
+        @Nullable private final Path extraPath;
 
         private AbortExecutor(FileIO fileIO, Path path) {
+            this(fileIO, path, null);
+        }
+
+        AbortExecutor(FileIO fileIO, Path path, @Nullable Path extraPath) {
             this.fileIO = fileIO;
             this.path = path;
+            this.extraPath = extraPath;
         }
 
         public void abort() {
             fileIO.deleteQuietly(path);
+            if (extraPath != null) {
+                fileIO.deleteQuietly(extraPath);
+            }
         }
     }
 }
@@ -29,10 +29,14 @@ import org.apache.paimon.utils.Preconditions;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Set;
 
 import static org.apache.paimon.utils.SerializationUtils.newBytesType;
 
@@ -149,6 +153,85 @@ public class ManifestEntry {
         }
     }
 
+    /**
+     * Merge entries lazily with the same result as {@link #mergeEntries(Iterable)}, but the input
+     * must be in the reverse order of the manifests, so that the DELETE entry of a file is met
+     * before its ADD entry. ADD entries are returned as soon as they are read, and DELETE entries
+     * are kept in memory until their ADD entries are met. Unmatched DELETE entries are returned at
+     * last.
+     *
+     * <p>Note that the memory is not bounded by the alive files. The identifier of every added
+     * file is kept to detect files added twice, and in tables which are compacted nearly every
+     * DELETE entry in history is held at some point of reading. This only saves the data file
+     * metas of the alive files, which are the bulk of an entry because of their key and value
+     * stats.
+     */
+    public static Iterator<ManifestEntry> mergeReversedEntries(Iterator<ManifestEntry> reversed) {
+        return new Iterator<ManifestEntry>() {
+
+            private final Map<Identifier, ManifestEntry> deletes = new LinkedHashMap<>();
+            private final Set<Identifier> added = new HashSet<>();
+
+            private Iterator<ManifestEntry> unmatchedDeletes;
+            private ManifestEntry next;
+
+            @Override
+            public boolean hasNext() {
+                if (next != null) {
+                    return true;
+                }
+
+                while (reversed.hasNext()) {
+                    ManifestEntry entry = reversed.next();
+                    Identifier identifier = entry.identifier();
+                    switch (entry.kind()) {
+                        case ADD:
+                            if (deletes.remove(identifier) != null) {
+                                added.add(identifier);
+                                break;
+                            }
+                            // the file is already added in a newer manifest, and there is no
+                            // DELETE entry between the two ADD entries
+                            Preconditions.checkState(
+                                    added.add(identifier),
+                                    "Trying to add file %s which is already added. Manifest might be corrupted.",
+                                    identifier);
+                            next = entry;
+                            return true;
+                        case DELETE:
+                            Preconditions.checkState(
+                                    deletes.put(identifier, entry) == null,
+                                    "Trying to delete file %s which is already deleted. Manifest might be corrupted.",
+                                    identifier);
+                            break;
+                        default:
+                            throw new UnsupportedOperationException(
+                                    "Unknown value kind " + entry.kind().name());
+                    }
+                }
+
+                if (unmatchedDeletes == null) {
+                    unmatchedDeletes = deletes.values().iterator();
+                }
+                if (unmatchedDeletes.hasNext()) {
+                    next = unmatchedDeletes.next();
+                    return true;
+                }
+                return false;
+            }
+
+            @Override
+            public ManifestEntry next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                ManifestEntry result = next;
+                next = null;
+                return result;
+            }
+        };
+    }
+
     public static void assertNoDelete(Collection<ManifestEntry> entries) {
         for (ManifestEntry entry : entries) {
             Preconditions.checkState(
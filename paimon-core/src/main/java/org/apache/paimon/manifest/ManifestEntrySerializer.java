@@ -21,7 +21,9 @@ package org.apache.paimon.manifest;
 import org.apache.paimon.data.BinaryRow;
 import org.apache.paimon.data.GenericRow;
 import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.io.DataFileMeta;
 import org.apache.paimon.io.DataFileMetaSerializer;
+import org.apache.paimon.stats.BinaryTableStats;
 import org.apache.paimon.utils.VersionedObjectSerializer;
 
 import java.util.function.Function;
@@ -34,6 +36,8 @@ public class ManifestEntrySerializer extends VersionedObjectSerializer<ManifestE
 
     private static final long serialVersionUID = 1L;
 
+    private static final int FILE_FIELD_COUNT = DataFileMeta.schema().getFieldCount();
+
     private final DataFileMetaSerializer dataFileMetaSerializer;
 
     public ManifestEntrySerializer() {
@@ -87,4 +91,33 @@ public class ManifestEntrySerializer extends VersionedObjectSerializer<ManifestE
     public static Function<InternalRow, Integer> totalBucketGetter() {
         return row -> row.getInt(4);
     }
+
+    // The getters of the file fields below read the nested row in place, so that entries can be
+    // filtered without deserializing the whole DataFileMeta.
+
+    public static Function<InternalRow, Long> rowCountGetter() {
+        return row -> fileRow(row).getLong(2);
+    }
+
+    /** The returned stats are backed by the given row, use them before the row is reused. */
+    public static Function<InternalRow, BinaryTableStats> keyStatsGetter() {
+        return row -> BinaryTableStats.fromRowData(fileRow(row).getRow(5, 3));
+    }
+
+    /** The returned stats are backed by the given row, use them before the row is reused. */
+    public static Function<InternalRow, BinaryTableStats> valueStatsGetter() {
+        return row -> BinaryTableStats.fromRowData(fileRow(row).getRow(6, 3));
+    }
+
+    public static Function<InternalRow, Long> schemaIdGetter() {
+        return row -> fileRow(row).getLong(9);
+    }
+
+    public static Function<InternalRow, Integer> levelGetter() {
+        return row -> fileRow(row).getInt(10);
+    }
+
+    private static InternalRow fileRow(InternalRow row) {
+        return row.getRow(5, FILE_FIELD_COUNT);
+    }
 }
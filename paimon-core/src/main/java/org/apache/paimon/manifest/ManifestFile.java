@@ -20,6 +20,8 @@ package org.apache.paimon.manifest;
 
 import org.apache.paimon.CoreOptions;
 import org.apache.paimon.annotation.VisibleForTesting;
+import org.apache.paimon.codegen.CodeGenUtils;
+import org.apache.paimon.codegen.RecordComparator;
 import org.apache.paimon.format.FileFormat;
 import org.apache.paimon.format.FormatReaderFactory;
 import org.apache.paimon.format.FormatWriterFactory;
@@ -40,6 +42,8 @@ import org.apache.paimon.utils.VersionedObjectSerializer;
 import javax.annotation.Nullable;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 
 /**
@@ -52,6 +56,9 @@ public class ManifestFile extends ObjectsFile<ManifestEntry> {
     private final RowType partitionType;
     private final FormatWriterFactory writerFactory;
     private final long suggestedFileSize;
+    private final boolean sortByPartition;
+
+    @Nullable private Comparator<ManifestEntry> partitionOrder;
 
     private ManifestFile(
             FileIO fileIO,
@@ -62,12 +69,14 @@ public class ManifestFile extends ObjectsFile<ManifestEntry> {
             FormatWriterFactory writerFactory,
             PathFactory pathFactory,
             long suggestedFileSize,
+            boolean sortByPartition,
             @Nullable SegmentsCache<String> cache) {
         super(fileIO, serializer, readerFactory, writerFactory, pathFactory, cache);
         this.schemaManager = schemaManager;
         this.partitionType = partitionType;
         this.writerFactory = writerFactory;
         this.suggestedFileSize = suggestedFileSize;
+        this.sortByPartition = sortByPartition && partitionType.getFieldCount() > 0;
     }
 
     @VisibleForTesting
@@ -76,11 +85,16 @@ public class ManifestFile extends ObjectsFile<ManifestEntry> {
     }
 
     /**
-     * Write several {@link ManifestEntry}s into manifest files.
+     * Write several {@link ManifestEntry}s into manifest files. If entries are sorted by partition,
+     * the order of entries of the same partition is kept.
      *
      * <p>NOTE: This method is atomic.
      */
     public List<ManifestFileMeta> write(List<ManifestEntry> entries) {
+        if (sortByPartition) {
+            entries = sortByPartition(entries);
+        }
+
         RollingFileWriter<ManifestEntry, ManifestFileMeta> writer =
                 new RollingFileWriter<>(
                         () ->
@@ -98,6 +112,19 @@ public class ManifestFile extends ObjectsFile<ManifestEntry> {
         return writer.result();
     }
 
+    private List<ManifestEntry> sortByPartition(List<ManifestEntry> entries) {
+        if (partitionOrder == null) {
+            RecordComparator comparator =
+                    CodeGenUtils.newRecordComparator(
+                            partitionType.getFieldTypes(), "ManifestPartitionComparator");
+            partitionOrder = (e1, e2) -> comparator.compare(e1.partition(), e2.partition());
+        }
+        List<ManifestEntry> sorted = new ArrayList<>(entries);
+        // stable sort, so that an ADD and a DELETE of the same file keep their order
+        sorted.sort(partitionOrder);
+        return sorted;
+    }
+
     private class ManifestEntryWriter extends SingleFileWriter<ManifestEntry, ManifestFileMeta> {
 
         private final TableStatsCollector partitionStatsCollector;
@@ -156,6 +183,7 @@ public class ManifestFile extends ObjectsFile<ManifestEntry> {
         private final FileFormat fileFormat;
         private final FileStorePathFactory pathFactory;
         private final long suggestedFileSize;
+        private final boolean sortByPartition;
         @Nullable private final SegmentsCache<String> cache;
 
         public Factory(
@@ -165,6 +193,7 @@ public class ManifestFile extends ObjectsFile<ManifestEntry> {
                 FileFormat fileFormat,
                 FileStorePathFactory pathFactory,
                 long suggestedFileSize,
+                boolean sortByPartition,
                 @Nullable SegmentsCache<String> cache) {
             this.fileIO = fileIO;
             this.schemaManager = schemaManager;
@@ -172,6 +201,7 @@ public class ManifestFile extends ObjectsFile<ManifestEntry> {
             this.fileFormat = fileFormat;
             this.pathFactory = pathFactory;
             this.suggestedFileSize = suggestedFileSize;
+            this.sortByPartition = sortByPartition;
             this.cache = cache;
         }
 
@@ -186,6 +216,7 @@ public class ManifestFile extends ObjectsFile<ManifestEntry> {
                     fileFormat.createWriterFactory(entryType),
                     pathFactory.manifestFileFactory(),
                     suggestedFileSize,
+                    sortByPartition,
                     cache);
         }
     }
@@ -28,8 +28,11 @@ import org.apache.paimon.types.BigIntType;
 import org.apache.paimon.types.DataField;
 import org.apache.paimon.types.RowType;
 import org.apache.paimon.types.VarCharType;
+import org.apache.paimon.utils.ExceptionUtils;
 import org.apache.paimon.utils.RowDataToObjectArrayConverter;
 
+import org.apache.paimon.shade.guava30.com.google.common.collect.Lists;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -41,8 +44,12 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.stream.Collectors;
 
+import static org.apache.paimon.utils.FileUtils.COMMON_IO_FORK_JOIN_POOL;
+
 /** Metadata of a manifest file. */
 public class ManifestFileMeta {
 
@@ -215,8 +222,8 @@ public class ManifestFileMeta {
         }
 
         Map<Identifier, ManifestEntry> map = new LinkedHashMap<>();
-        for (ManifestFileMeta manifest : candidates) {
-            ManifestEntry.mergeEntries(manifestFile.read(manifest.fileName), map);
+        for (List<ManifestEntry> entries : readInParallel(candidates, manifestFile)) {
+            ManifestEntry.mergeEntries(entries, map);
         }
         if (!map.isEmpty()) {
             List<ManifestFileMeta> merged = manifestFile.write(new ArrayList<>(map.values()));
@@ -269,44 +276,13 @@ public class ManifestFileMeta {
                 deltaDeleteFileNum,
                 totalManifestSize);
 
-        // 2.1. try to skip base files by partition filter
+        // 2.1. merge delta files, they are read in parallel
 
         Map<Identifier, ManifestEntry> deltaMerged = new LinkedHashMap<>();
-        for (ManifestFileMeta manifest : delta) {
-            ManifestEntry.mergeEntries(manifestFile.read(manifest.fileName), deltaMerged);
+        for (List<ManifestEntry> entries : readInParallel(delta, manifestFile)) {
+            ManifestEntry.mergeEntries(entries, deltaMerged);
         }
 
-        List<ManifestFileMeta> result = new ArrayList<>();
-        int j = 0;
-        if (partitionType.getFieldCount() > 0) {
-            Set<BinaryRow> deletePartitions = computeDeletePartitions(deltaMerged);
-            Optional<Predicate> predicateOpt =
-                    convertPartitionToPredicate(partitionType, deletePartitions);
-
-            if (predicateOpt.isPresent()) {
-                Predicate predicate = predicateOpt.get();
-                FieldStatsArraySerializer fieldStatsArraySerializer =
-                        new FieldStatsArraySerializer(partitionType);
-                for (; j < base.size(); j++) {
-                    // TODO: optimize this to binary search.
-                    ManifestFileMeta file = base.get(j);
-                    if (predicate.test(
-                            file.numAddedFiles + file.numDeletedFiles,
-                            file.partitionStats.fields(fieldStatsArraySerializer))) {
-                        break;
-                    } else {
-                        result.add(file);
-                    }
-                }
-            } else {
-                // There is no DELETE Entry in Delta, Base don't need compaction
-                j = base.size();
-                result.addAll(base);
-            }
-        }
-
-        // 2.2. try to skip base files by reading entries
-
         Set<Identifier> deleteEntries = new HashSet<>();
         deltaMerged.forEach(
                 (k, v) -> {
@@ -315,34 +291,58 @@ public class ManifestFileMeta {
                     }
                 });
 
-        Map<Identifier, ManifestEntry> fullMerged = new LinkedHashMap<>();
-        for (; j < base.size(); j++) {
-            ManifestFileMeta file = base.get(j);
-            ManifestEntry.mergeEntries(manifestFile.read(file.fileName), fullMerged);
-            boolean contains = false;
-            for (Identifier identifier : deleteEntries) {
-                if (fullMerged.containsKey(identifier)) {
-                    contains = true;
-                    break;
+        // 2.2. try to skip base files by partition filter, only base files of the partitions
+        // with deleted files need to be read
+
+        List<ManifestFileMeta> result = new ArrayList<>();
+        List<ManifestFileMeta> candidates = new ArrayList<>();
+        if (deleteEntries.isEmpty()) {
+            // There is no DELETE Entry in Delta, Base don't need compaction
+            result.addAll(base);
+        } else if (partitionType.getFieldCount() > 0) {
+            Predicate predicate =
+                    convertPartitionToPredicate(partitionType, computeDeletePartitions(deltaMerged))
+                            .get();
+            FieldStatsArraySerializer fieldStatsArraySerializer =
+                    new FieldStatsArraySerializer(partitionType);
+            for (ManifestFileMeta file : base) {
+                if (predicate.test(
+                        file.numAddedFiles + file.numDeletedFiles,
+                        file.partitionStats.fields(fieldStatsArraySerializer))) {
+                    candidates.add(file);
+                } else {
+                    result.add(file);
                 }
             }
-            if (contains) {
-                // already read this file into fullMerged
-                j++;
-                break;
-            } else {
-                fullMerged.clear();
-                result.add(file);
-            }
+        } else {
+            candidates.addAll(base);
         }
 
-        // 2.3. merge base files
+        // 2.3. try to skip base files by reading entries, only base files containing deleted
+        // entries are rewritten, so the cost is bounded by the changed partitions. A kept base
+        // file holds no entry deleted by the delta, so its position relative to the rewritten
+        // files does not change the merged result
 
-        for (; j < base.size(); j++) {
-            ManifestFileMeta manifestFileMeta = base.get(j);
-            ManifestEntry.mergeEntries(manifestFile.read(manifestFileMeta.fileName), fullMerged);
+        Map<Identifier, ManifestEntry> fullMerged = new LinkedHashMap<>();
+        int rewritten = 0;
+        for (List<ManifestFileMeta> batch :
+                Lists.partition(candidates, COMMON_IO_FORK_JOIN_POOL.getParallelism())) {
+            List<List<ManifestEntry>> batchEntries = readInParallel(batch, manifestFile);
+            for (int k = 0; k < batch.size(); k++) {
+                List<ManifestEntry> entries = batchEntries.get(k);
+                if (entries.stream().anyMatch(e -> deleteEntries.contains(e.identifier()))) {
+                    ManifestEntry.mergeEntries(entries, fullMerged);
+                    rewritten++;
+                } else {
+                    result.add(batch.get(k));
+                }
+            }
         }
         ManifestEntry.mergeEntries(deltaMerged.values(), fullMerged);
+        LOG.info(
+                "Manifest File Full Compaction rewrites {} of {} base files.",
+                rewritten,
+                base.size());
 
         // 2.4. write new manifest files
 
@@ -356,6 +356,28 @@ public class ManifestFileMeta {
         return Optional.of(result);
     }
 
+    /** Read manifest files on the common IO pool, results are in the order of the files. */
+    private static List<List<ManifestEntry>> readInParallel(
+            List<ManifestFileMeta> manifests, ManifestFile manifestFile) {
+        List<CompletableFuture<List<ManifestEntry>>> futures = new ArrayList<>();
+        for (ManifestFileMeta manifest : manifests) {
+            futures.add(
+                    CompletableFuture.supplyAsync(
+                            () -> manifestFile.read(manifest.fileName),
+                            COMMON_IO_FORK_JOIN_POOL));
+        }
+
+        List<List<ManifestEntry>> result = new ArrayList<>();
+        try {
+            for (CompletableFuture<List<ManifestEntry>> future : futures) {
+                result.add(future.join());
+            }
+        } catch (CompletionException e) {
+            ExceptionUtils.rethrow(e.getCause());
+        }
+        return result;
+    }
+
     private static Set<BinaryRow> computeDeletePartitions(
             Map<Identifier, ManifestEntry> deltaMerged) {
         Set<BinaryRow> partitions = new HashSet<>();
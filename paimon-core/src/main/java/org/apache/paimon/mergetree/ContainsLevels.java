@@ -29,6 +29,7 @@ import org.apache.paimon.lookup.LookupStoreWriter;
 import org.apache.paimon.options.MemorySize;
 import org.apache.paimon.reader.RecordReader;
 import org.apache.paimon.types.RowType;
+import org.apache.paimon.utils.BloomFilter;
 import org.apache.paimon.utils.FileIOUtils;
 import org.apache.paimon.utils.IOFunction;
 
@@ -45,6 +46,7 @@ import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.time.Duration;
 import java.util.Comparator;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 import static org.apache.paimon.mergetree.LookupUtils.fileKibiBytes;
@@ -61,6 +63,8 @@ public class ContainsLevels implements Levels.DropFileCallback, Closeable {
     private final IOFunction<DataFileMeta, RecordReader<KeyValue>> fileReaderFactory;
     private final Supplier<File> localFileFactory;
     private final LookupStoreFactory lookupStoreFactory;
+    private final Function<Long, BloomFilter.Builder> bfGenerator;
+    private final KeyBloomFilterCache keyBloomFilters;
 
     private final Cache<String, ContainsFile> containsFiles;
 
@@ -69,16 +73,20 @@ public class ContainsLevels implements Levels.DropFileCallback, Closeable {
             Comparator<InternalRow> keyComparator,
             RowType keyType,
             IOFunction<DataFileMeta, RecordReader<KeyValue>> fileReaderFactory,
+            KeyBloomFilterCache keyBloomFilters,
             Supplier<File> localFileFactory,
             LookupStoreFactory lookupStoreFactory,
             Duration fileRetention,
-            MemorySize maxDiskSize) {
+            MemorySize maxDiskSize,
+            Function<Long, BloomFilter.Builder> bfGenerator) {
         this.levels = levels;
         this.keyComparator = keyComparator;
         this.keySerializer = new RowCompactedSerializer(keyType);
         this.fileReaderFactory = fileReaderFactory;
         this.localFileFactory = localFileFactory;
         this.lookupStoreFactory = lookupStoreFactory;
+        this.bfGenerator = bfGenerator;
+        this.keyBloomFilters = keyBloomFilters;
         this.containsFiles =
                 Caffeine.newBuilder()
                         .expireAfterAccess(fileRetention)
@@ -98,6 +106,7 @@ public class ContainsLevels implements Levels.DropFileCallback, Closeable {
     @Override
     public void notifyDropFile(String file) {
         containsFiles.invalidate(file);
+        keyBloomFilters.invalidate(file);
     }
 
     public boolean contains(InternalRow key, int startLevel) throws IOException {
@@ -112,12 +121,20 @@ public class ContainsLevels implements Levels.DropFileCallback, Closeable {
 
     @Nullable
     private Boolean contains(InternalRow key, DataFileMeta file) throws IOException {
+        byte[] keyBytes = keySerializer.serializeToBytes(key);
         ContainsFile containsFile = containsFiles.getIfPresent(file.fileName());
+        if (containsFile == null || containsFile.isClosed) {
+            // check key bloom filter of remote file before building local contains file
+            if (!keyBloomFilters.mightContain(file, keyBytes)) {
+                return null;
+            }
+            keyBloomFilters.invalidate(file.fileName());
+        }
         while (containsFile == null || containsFile.isClosed) {
             containsFile = createContainsFile(file);
             containsFiles.put(file.fileName(), containsFile);
         }
-        if (containsFile.get(keySerializer.serializeToBytes(key)) != null) {
+        if (containsFile.get(keyBytes) != null) {
             return true;
         }
         return null;
@@ -142,7 +159,9 @@ public class ContainsLevels implements Levels.DropFileCallback, Closeable {
         if (!localFile.createNewFile()) {
             throw new IOException("Can not create new file: " + localFile);
         }
-        try (LookupStoreWriter kvWriter = lookupStoreFactory.createWriter(localFile);
+        try (LookupStoreWriter kvWriter =
+                        lookupStoreFactory.createWriter(
+                                localFile, bfGenerator.apply(file.rowCount()));
                 RecordReader<KeyValue> reader = fileReaderFactory.apply(file)) {
             RecordReader.RecordIterator<KeyValue> batch;
             KeyValue kv;
@@ -164,6 +183,7 @@ public class ContainsLevels implements Levels.DropFileCallback, Closeable {
     @Override
     public void close() throws IOException {
         containsFiles.invalidateAll();
+        keyBloomFilters.invalidateAll();
     }
 
     private static class ContainsFile implements Closeable {
@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.mergetree;
+
+import org.apache.paimon.io.DataFileMeta;
+import org.apache.paimon.io.KeyBloomFilterFile;
+import org.apache.paimon.options.MemorySize;
+import org.apache.paimon.utils.BloomFilter;
+import org.apache.paimon.utils.IOFunction;
+
+import org.apache.paimon.shade.caffeine2.com.github.benmanes.caffeine.cache.Cache;
+import org.apache.paimon.shade.caffeine2.com.github.benmanes.caffeine.cache.Caffeine;
+import org.apache.paimon.shade.guava30.com.google.common.util.concurrent.MoreExecutors;
+
+import javax.annotation.Nullable;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.apache.paimon.utils.Preconditions.checkNotNull;
+
+/**
+ * Cache of key bloom filters of remote data files, used to skip building local lookup files for
+ * data files which do not contain the key, and to skip data files in point query plans. See {@link
+ * KeyBloomFilterFile}.
+ */
+public class KeyBloomFilterCache {
+
+    @Nullable private final IOFunction<DataFileMeta, BloomFilter> bloomFilterReader;
+    private final Cache<String, Optional<BloomFilter>> bloomFilters;
+
+    /** Creates a cache whose bloom filters are read by the reader given to each call. */
+    public KeyBloomFilterCache(Duration retention, MemorySize maxMemorySize) {
+        this(null, retention, maxMemorySize);
+    }
+
+    public KeyBloomFilterCache(
+            @Nullable IOFunction<DataFileMeta, BloomFilter> bloomFilterReader,
+            Duration retention,
+            MemorySize maxMemorySize) {
+        this.bloomFilterReader = bloomFilterReader;
+        this.bloomFilters =
+                Caffeine.newBuilder()
+                        .expireAfterAccess(retention)
+                        .maximumWeight(maxMemorySize.getBytes())
+                        .weigher(KeyBloomFilterCache::weigh)
+                        .executor(MoreExecutors.directExecutor())
+                        .build();
+    }
+
+    /** Returns false if the data file definitely does not contain the serialized key. */
+    public boolean mightContain(DataFileMeta file, byte[] keyBytes) throws IOException {
+        checkNotNull(bloomFilterReader, "There is no bloom filter reader for this cache.");
+        return mightContain(file, KeyBloomFilterFile.hash(keyBytes), bloomFilterReader);
+    }
+
+    /**
+     * Returns false if the data file definitely does not contain the key of this hash. The bloom
+     * filter is read by the given reader if it is not cached.
+     */
+    public boolean mightContain(
+            DataFileMeta file, int keyHash, IOFunction<DataFileMeta, BloomFilter> reader)
+            throws IOException {
+        if (KeyBloomFilterFile.find(file) == null) {
+            return true;
+        }
+
+        Optional<BloomFilter> bloomFilter = bloomFilters.getIfPresent(file.fileName());
+        if (bloomFilter == null) {
+            bloomFilter = Optional.ofNullable(reader.apply(file));
+            bloomFilters.put(file.fileName(), bloomFilter);
+        }
+        return !bloomFilter.isPresent() || bloomFilter.get().testHash(keyHash);
+    }
+
+    public void invalidate(String file) {
+        bloomFilters.invalidate(file);
+    }
+
+    public void invalidateAll() {
+        bloomFilters.invalidateAll();
+    }
+
+    private static int weigh(String file, Optional<BloomFilter> bloomFilter) {
+        // the key is counted too, so that files without bloom filter are not free to cache
+        return file.length() + bloomFilter.map(b -> b.getBuffer().size()).orElse(0);
+    }
+}
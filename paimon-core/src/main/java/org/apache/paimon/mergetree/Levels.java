@@ -45,6 +45,8 @@ public class Levels {
 
     private final List<DropFileCallback> dropFileCallbacks = new ArrayList<>();
 
+    private final List<AddFileCallback> addFileCallbacks = new ArrayList<>();
+
     public Levels(
             Comparator<InternalRow> keyComparator, List<DataFileMeta> inputFiles, int numLevels) {
         this.keyComparator = keyComparator;
@@ -90,11 +92,20 @@ public class Levels {
         dropFileCallbacks.add(callback);
     }
 
+    public void addAddFileCallback(AddFileCallback callback) {
+        addFileCallbacks.add(callback);
+    }
+
     public void addLevel0File(DataFileMeta file) {
         checkArgument(file.level() == 0);
         level0.add(file);
     }
 
+    /** Files of level 0, the newest file is in front. */
+    public TreeSet<DataFileMeta> level0() {
+        return level0;
+    }
+
     public SortedRun runOfLevel(int level) {
         checkArgument(level > 0, "Level0 does not have one single sorted run.");
         return levels.get(level - 1);
@@ -165,6 +176,19 @@ public class Levels {
                 droppedFiles.forEach(callback::notifyDropFile);
             }
         }
+
+        if (addFileCallbacks.size() > 0) {
+            Set<String> beforeFiles =
+                    before.stream().map(DataFileMeta::fileName).collect(Collectors.toSet());
+            for (DataFileMeta file : after) {
+                // exclude upgrade files
+                if (!beforeFiles.contains(file.fileName())) {
+                    for (AddFileCallback callback : addFileCallbacks) {
+                        callback.notifyAddFile(file);
+                    }
+                }
+            }
+        }
     }
 
     private void updateLevel(int level, List<DataFileMeta> before, List<DataFileMeta> after) {
@@ -193,4 +217,10 @@ public class Levels {
 
         void notifyDropFile(String file);
     }
+
+    /** A callback to notify adding file by compaction. */
+    public interface AddFileCallback {
+
+        void notifyAddFile(DataFileMeta file);
+    }
 }
@@ -28,10 +28,12 @@ import org.apache.paimon.lookup.LookupStoreFactory;
 import org.apache.paimon.lookup.LookupStoreReader;
 import org.apache.paimon.lookup.LookupStoreWriter;
 import org.apache.paimon.memory.MemorySegment;
+import org.apache.paimon.metrics.Histogram;
 import org.apache.paimon.options.MemorySize;
 import org.apache.paimon.reader.RecordReader;
 import org.apache.paimon.types.RowKind;
 import org.apache.paimon.types.RowType;
+import org.apache.paimon.utils.BloomFilter;
 import org.apache.paimon.utils.FileIOUtils;
 import org.apache.paimon.utils.IOFunction;
 
@@ -40,6 +42,9 @@ import org.apache.paimon.shade.caffeine2.com.github.benmanes.caffeine.cache.Caff
 import org.apache.paimon.shade.caffeine2.com.github.benmanes.caffeine.cache.RemovalCause;
 import org.apache.paimon.shade.guava30.com.google.common.util.concurrent.MoreExecutors;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import javax.annotation.Nullable;
 
 import java.io.Closeable;
@@ -48,23 +53,48 @@ import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.time.Duration;
 import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 import static org.apache.paimon.mergetree.LookupUtils.fileKibiBytes;
 import static org.apache.paimon.utils.Preconditions.checkArgument;
 
-/** Provide lookup by key. */
-public class LookupLevels implements Levels.DropFileCallback, Closeable {
+/**
+ * Provide lookup by key.
+ *
+ * <p>Local lookup files are built on first lookup of a data file. With {@link
+ * #withPrefetchExecutor}, lookup files of data files produced by compaction are built in
+ * background. A data file is only built once at a time, concurrent lookups wait for the pending
+ * build.
+ */
+public class LookupLevels implements Levels.DropFileCallback, Levels.AddFileCallback, Closeable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(LookupLevels.class);
 
     private final Levels levels;
     private final Comparator<InternalRow> keyComparator;
+    private final RowType keyType;
+    private final RowType valueType;
     private final RowCompactedSerializer keySerializer;
     private final RowCompactedSerializer valueSerializer;
     private final IOFunction<DataFileMeta, RecordReader<KeyValue>> fileReaderFactory;
     private final Supplier<File> localFileFactory;
     private final LookupStoreFactory lookupStoreFactory;
+    private final Function<Long, BloomFilter.Builder> bfGenerator;
+    private final KeyBloomFilterCache keyBloomFilters;
 
     private final Cache<String, LookupFile> lookupFiles;
+    private final ConcurrentHashMap<String, CompletableFuture<LookupFile>> pendingFiles;
+
+    @Nullable private ExecutorService prefetchExecutor;
+    @Nullable private Histogram buildLatency;
 
     public LookupLevels(
             Levels levels,
@@ -72,17 +102,23 @@ public class LookupLevels implements Levels.DropFileCallback, Closeable {
             RowType keyType,
             RowType valueType,
             IOFunction<DataFileMeta, RecordReader<KeyValue>> fileReaderFactory,
+            KeyBloomFilterCache keyBloomFilters,
             Supplier<File> localFileFactory,
             LookupStoreFactory lookupStoreFactory,
             Duration fileRetention,
-            MemorySize maxDiskSize) {
+            MemorySize maxDiskSize,
+            Function<Long, BloomFilter.Builder> bfGenerator) {
         this.levels = levels;
         this.keyComparator = keyComparator;
+        this.keyType = keyType;
+        this.valueType = valueType;
         this.keySerializer = new RowCompactedSerializer(keyType);
         this.valueSerializer = new RowCompactedSerializer(valueType);
         this.fileReaderFactory = fileReaderFactory;
         this.localFileFactory = localFileFactory;
         this.lookupStoreFactory = lookupStoreFactory;
+        this.bfGenerator = bfGenerator;
+        this.keyBloomFilters = keyBloomFilters;
         this.lookupFiles =
                 Caffeine.newBuilder()
                         .expireAfterAccess(fileRetention)
@@ -91,7 +127,28 @@ public class LookupLevels implements Levels.DropFileCallback, Closeable {
                         .removalListener(this::removalCallback)
                         .executor(MoreExecutors.directExecutor())
                         .build();
+        this.pendingFiles = new ConcurrentHashMap<>();
         levels.addDropFileCallback(this);
+        levels.addAddFileCallback(this);
+    }
+
+    /**
+     * Build lookup files of data files added by compaction in the given executor. The executor
+     * can be shared and bounded, files are not prefetched if it rejects the task.
+     */
+    public LookupLevels withPrefetchExecutor(ExecutorService prefetchExecutor) {
+        this.prefetchExecutor = prefetchExecutor;
+        return this;
+    }
+
+    /** Report latency in milliseconds of building lookup files to the histogram. */
+    public LookupLevels withBuildLatency(Histogram buildLatency) {
+        this.buildLatency = buildLatency;
+        return this;
+    }
+
+    public Levels levels() {
+        return levels;
     }
 
     @VisibleForTesting
@@ -101,7 +158,41 @@ public class LookupLevels implements Levels.DropFileCallback, Closeable {
 
     @Override
     public void notifyDropFile(String file) {
+        // a pending build of the file will close its result instead of publishing it
+        pendingFiles.remove(file);
         lookupFiles.invalidate(file);
+        keyBloomFilters.invalidate(file);
+    }
+
+    @Override
+    public void notifyAddFile(DataFileMeta file) {
+        // level 0 files are always compacted before they can be looked up
+        if (prefetchExecutor != null && file.level() > 0) {
+            prefetch(file);
+        }
+    }
+
+    private void prefetch(DataFileMeta file) {
+        String fileName = file.fileName();
+        CompletableFuture<LookupFile> future = new CompletableFuture<>();
+        if (lookupFiles.getIfPresent(fileName) != null
+                || pendingFiles.putIfAbsent(fileName, future) != null) {
+            return;
+        }
+
+        try {
+            prefetchExecutor.execute(
+                    () -> {
+                        try {
+                            buildLookupFile(file, future);
+                        } catch (Exception e) {
+                            LOG.warn("Failed to prefetch lookup file for {}.", fileName, e);
+                        }
+                    });
+        } catch (RejectedExecutionException e) {
+            pendingFiles.remove(fileName, future);
+            future.completeExceptionally(e);
+        }
     }
 
     @Nullable
@@ -109,21 +200,59 @@ public class LookupLevels implements Levels.DropFileCallback, Closeable {
         return LookupUtils.lookup(levels, key, startLevel, this::lookup);
     }
 
+    /**
+     * Lookup a batch of keys sorted by the key comparator, see {@link LookupUtils#lookupBatch}.
+     * Each key is serialized only once for all levels.
+     *
+     * @return results in the order of keys, null for keys which do not exist.
+     */
+    public List<KeyValue> lookupBatch(List<InternalRow> sortedKeys, int startLevel)
+            throws IOException {
+        byte[][] keyBytes = new byte[sortedKeys.size()][];
+        for (int i = 0; i < keyBytes.length; i++) {
+            keyBytes[i] = keySerializer.serializeToBytes(sortedKeys.get(i));
+        }
+        return LookupUtils.lookupBatch(
+                levels,
+                keyComparator,
+                sortedKeys,
+                startLevel,
+                (index, file) -> lookup(sortedKeys.get(index), keyBytes[index], file));
+    }
+
     @Nullable
     private KeyValue lookup(InternalRow key, SortedRun level) throws IOException {
-        return LookupUtils.lookup(keyComparator, key, level, this::lookup);
+        return LookupUtils.lookup(
+                keyComparator,
+                key,
+                level,
+                (k, file) -> lookup(k, keySerializer.serializeToBytes(k), file));
     }
 
     @Nullable
-    private KeyValue lookup(InternalRow key, DataFileMeta file) throws IOException {
+    private KeyValue lookup(InternalRow key, byte[] keyBytes, DataFileMeta file)
+            throws IOException {
         LookupFile lookupFile = lookupFiles.getIfPresent(file.fileName());
-        while (lookupFile == null || lookupFile.isClosed) {
-            lookupFile = createLookupFile(file);
-            lookupFiles.put(file.fileName(), lookupFile);
+        if (lookupFile == null || lookupFile.isClosed) {
+            // check key bloom filter of remote file before building local lookup file
+            if (!keyBloomFilters.mightContain(file, keyBytes)) {
+                return null;
+            }
+            keyBloomFilters.invalidate(file.fileName());
+        }
+        byte[] valueBytes;
+        while (true) {
+            while (lookupFile == null || lookupFile.isClosed) {
+                lookupFile = getOrCreateLookupFile(file);
+            }
+            // the file may be evicted and closed by a concurrent build, retry in this case
+            synchronized (lookupFile) {
+                if (!lookupFile.isClosed) {
+                    valueBytes = lookupFile.get(keyBytes);
+                    break;
+                }
+            }
         }
-
-        byte[] keyBytes = keySerializer.serializeToBytes(key);
-        byte[] valueBytes = lookupFile.get(keyBytes);
         if (valueBytes == null) {
             return null;
         }
@@ -149,12 +278,83 @@ public class LookupLevels implements Levels.DropFileCallback, Closeable {
         }
     }
 
+    private LookupFile getOrCreateLookupFile(DataFileMeta file) throws IOException {
+        String fileName = file.fileName();
+        CompletableFuture<LookupFile> future = new CompletableFuture<>();
+        CompletableFuture<LookupFile> pending = pendingFiles.putIfAbsent(fileName, future);
+        if (pending == null) {
+            LookupFile lookupFile = lookupFiles.getIfPresent(fileName);
+            if (lookupFile != null && !lookupFile.isClosed) {
+                // published by another build just now
+                pendingFiles.remove(fileName, future);
+                future.complete(lookupFile);
+                return lookupFile;
+            }
+            return buildLookupFile(file, future);
+        }
+
+        try {
+            return pending.get();
+        } catch (ExecutionException e) {
+            // retry by the caller, the failed build has been removed from pending files
+            LOG.warn("Pending build of lookup file for {} failed.", fileName, e.getCause());
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        }
+    }
+
+    /**
+     * Build the lookup file and publish it to cached lookup files if the build is still pending,
+     * otherwise the file has been dropped and the built lookup file is closed.
+     */
+    private LookupFile buildLookupFile(DataFileMeta file, CompletableFuture<LookupFile> future)
+            throws IOException {
+        String fileName = file.fileName();
+        long start = System.currentTimeMillis();
+        LookupFile lookupFile;
+        try {
+            lookupFile = createLookupFile(file);
+        } catch (Throwable e) {
+            pendingFiles.remove(fileName, future);
+            future.completeExceptionally(e);
+            throw e;
+        }
+        if (buildLatency != null) {
+            buildLatency.update(System.currentTimeMillis() - start);
+        }
+
+        LookupFile built = lookupFile;
+        AtomicBoolean published = new AtomicBoolean(false);
+        pendingFiles.computeIfPresent(
+                fileName,
+                (k, v) -> {
+                    if (v != future) {
+                        return v;
+                    }
+                    lookupFiles.put(k, built);
+                    published.set(true);
+                    return null;
+                });
+        if (!published.get()) {
+            lookupFile.close();
+        }
+        future.complete(lookupFile);
+        return lookupFile;
+    }
+
     private LookupFile createLookupFile(DataFileMeta file) throws IOException {
+        // serializers are not thread safe and files may be built in the prefetch executor
+        RowCompactedSerializer keySerializer = new RowCompactedSerializer(keyType);
+        RowCompactedSerializer valueSerializer = new RowCompactedSerializer(valueType);
         File localFile = localFileFactory.get();
         if (!localFile.createNewFile()) {
             throw new IOException("Can not create new file: " + localFile);
         }
-        try (LookupStoreWriter kvWriter = lookupStoreFactory.createWriter(localFile);
+        try (LookupStoreWriter kvWriter =
+                        lookupStoreFactory.createWriter(
+                                localFile, bfGenerator.apply(file.rowCount()));
                 RecordReader<KeyValue> reader = fileReaderFactory.apply(file)) {
             DataOutputSerializer valueOut = new DataOutputSerializer(32);
             RecordReader.RecordIterator<KeyValue> batch;
@@ -181,7 +381,10 @@ public class LookupLevels implements Levels.DropFileCallback, Closeable {
 
     @Override
     public void close() throws IOException {
+        // pending builds will close their results
+        pendingFiles.clear();
         lookupFiles.invalidateAll();
+        keyBloomFilters.invalidateAll();
     }
 
     private static class LookupFile implements Closeable {
@@ -190,7 +393,7 @@ public class LookupLevels implements Levels.DropFileCallback, Closeable {
         private final DataFileMeta remoteFile;
         private final LookupStoreReader reader;
 
-        private boolean isClosed = false;
+        private volatile boolean isClosed = false;
 
         public LookupFile(File localFile, DataFileMeta remoteFile, LookupStoreReader reader) {
             this.localFile = localFile;
@@ -209,7 +412,7 @@ public class LookupLevels implements Levels.DropFileCallback, Closeable {
         }
 
         @Override
-        public void close() throws IOException {
+        public synchronized void close() throws IOException {
             reader.close();
             isClosed = true;
             FileIOUtils.deleteFileOrDirectory(localFile);
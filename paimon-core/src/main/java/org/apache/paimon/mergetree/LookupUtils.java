@@ -18,31 +18,55 @@
 
 package org.apache.paimon.mergetree;
 
+import org.apache.paimon.CoreOptions;
 import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.data.serializer.RowCompactedSerializer;
 import org.apache.paimon.io.DataFileMeta;
+import org.apache.paimon.io.cache.CacheManager;
+import org.apache.paimon.lookup.LookupStoreFactory;
+import org.apache.paimon.lookup.hash.HashLookupStoreFactory;
+import org.apache.paimon.lookup.sort.SortLookupStoreFactory;
 import org.apache.paimon.options.MemorySize;
+import org.apache.paimon.types.RowType;
 import org.apache.paimon.utils.BiFunctionWithIOE;
 
+import javax.annotation.Nullable;
+
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import static org.apache.paimon.utils.Preconditions.checkArgument;
 
 /** Utils for lookup. */
 public class LookupUtils {
 
+    /**
+     * Lookup the key from the start level to the highest level. If the start level is zero, files
+     * of level 0 are looked up one by one from the newest, each as a single sorted run.
+     */
     public static <T> T lookup(
             Levels levels,
             InternalRow key,
             int startLevel,
             BiFunctionWithIOE<InternalRow, SortedRun, T> lookup)
             throws IOException {
+        T result = null;
         if (startLevel == 0) {
-            throw new IllegalArgumentException("Start level can not be zero.");
+            for (DataFileMeta file : levels.level0()) {
+                result = lookup.apply(key, SortedRun.fromSingle(file));
+                if (result != null) {
+                    return result;
+                }
+            }
         }
 
-        T result = null;
-        for (int i = startLevel; i < levels.numberOfLevels(); i++) {
+        for (int i = Math.max(startLevel, 1); i < levels.numberOfLevels(); i++) {
             SortedRun level = levels.runOfLevel(i);
             result = lookup.apply(key, level);
             if (result != null) {
@@ -92,6 +116,149 @@ public class LookupUtils {
         return index < files.size() ? lookup.apply(target, files.get(index)) : null;
     }
 
+    /**
+     * Lookup a batch of keys sorted by the key comparator. Levels are resolved one by one, in each
+     * level the sorted keys and the files of the sorted run are walked together in one pass, so
+     * files are probed in order instead of being binary searched for each key. Only keys not found
+     * in a level are looked up in the next level. If the start level is zero, files of level 0 are
+     * resolved one by one from the newest, each as a single sorted run, like {@link #lookup}.
+     *
+     * @param lookup looks up the key at the given index of {@code sortedKeys} in a file.
+     * @return results in the order of keys, null for keys which do not exist.
+     */
+    public static <T> List<T> lookupBatch(
+            Levels levels,
+            Comparator<InternalRow> keyComparator,
+            List<InternalRow> sortedKeys,
+            int startLevel,
+            BiFunctionWithIOE<Integer, DataFileMeta, T> lookup)
+            throws IOException {
+        int size = sortedKeys.size();
+        for (int i = 1; i < size; i++) {
+            checkArgument(
+                    keyComparator.compare(sortedKeys.get(i - 1), sortedKeys.get(i)) <= 0,
+                    "Keys of batch lookup should be sorted.");
+        }
+
+        List<T> results = new ArrayList<>(Collections.nCopies(size, null));
+        int[] pending = new int[size];
+        for (int i = 0; i < size; i++) {
+            pending[i] = i;
+        }
+
+        int numPending = size;
+        if (startLevel == 0) {
+            for (DataFileMeta file : levels.level0()) {
+                if (numPending == 0) {
+                    break;
+                }
+                numPending =
+                        lookupBatch(
+                                Collections.singletonList(file),
+                                keyComparator,
+                                sortedKeys,
+                                pending,
+                                numPending,
+                                results,
+                                lookup);
+            }
+        }
+
+        for (int i = Math.max(startLevel, 1); i < levels.numberOfLevels() && numPending > 0; i++) {
+            numPending =
+                    lookupBatch(
+                            levels.runOfLevel(i).files(),
+                            keyComparator,
+                            sortedKeys,
+                            pending,
+                            numPending,
+                            results,
+                            lookup);
+        }
+
+        return results;
+    }
+
+    /**
+     * Lookup the pending keys in the files of a sorted run, the keys not found are kept in {@code
+     * pending} in order.
+     *
+     * @return the number of keys still pending.
+     */
+    private static <T> int lookupBatch(
+            List<DataFileMeta> files,
+            Comparator<InternalRow> keyComparator,
+            List<InternalRow> sortedKeys,
+            int[] pending,
+            int numPending,
+            List<T> results,
+            BiFunctionWithIOE<Integer, DataFileMeta, T> lookup)
+            throws IOException {
+        int fileIndex = 0;
+        int numUnresolved = 0;
+        for (int j = 0; j < numPending; j++) {
+            int keyIndex = pending[j];
+            InternalRow key = sortedKeys.get(keyIndex);
+            // skip files whose max key is less than the key, keys are sorted so the skipped files
+            // are uninteresting for the following keys too
+            while (fileIndex < files.size()
+                    && keyComparator.compare(files.get(fileIndex).maxKey(), key) < 0) {
+                fileIndex++;
+            }
+
+            T result =
+                    fileIndex < files.size() ? lookup.apply(keyIndex, files.get(fileIndex)) : null;
+            if (result != null) {
+                results.set(keyIndex, result);
+            } else {
+                pending[numUnresolved++] = keyIndex;
+            }
+        }
+        return numUnresolved;
+    }
+
+    /** Create the {@link LookupStoreFactory} of the configured lookup store type. */
+    public static LookupStoreFactory createLookupStoreFactory(
+            CoreOptions options,
+            CacheManager cacheManager,
+            RowType keyType,
+            Supplier<Comparator<InternalRow>> keyComparatorSupplier,
+            @Nullable LongAdder bloomFilterSkippedCounter) {
+        switch (options.lookupStoreType()) {
+            case HASH:
+                return new HashLookupStoreFactory(
+                        cacheManager,
+                        options.toConfiguration().get(CoreOptions.LOOKUP_HASH_LOAD_FACTOR),
+                        bloomFilterSkippedCounter);
+            case SORT:
+                return new SortLookupStoreFactory(
+                        cacheManager,
+                        () -> createKeyBytesComparator(keyType, keyComparatorSupplier.get()),
+                        options.lookupSortStoreBlockSize(),
+                        options.lookupSortStoreBlockCompressionEnabled(),
+                        bloomFilterSkippedCounter);
+            default:
+                throw new UnsupportedOperationException(
+                        "Unsupported lookup store type: " + options.lookupStoreType());
+        }
+    }
+
+    /**
+     * Compare serialized keys in the same order as the keys in data files. Keys are compared in
+     * place if all key types support it, otherwise they are deserialized and compared by the key
+     * comparator.
+     */
+    private static Comparator<byte[]> createKeyBytesComparator(
+            RowType keyType, Comparator<InternalRow> keyComparator) {
+        RowCompactedSerializer serializer = new RowCompactedSerializer(keyType);
+        Comparator<byte[]> bytesComparator = serializer.createBytesComparator();
+        if (bytesComparator != null) {
+            return bytesComparator;
+        }
+        return (k1, k2) ->
+                keyComparator.compare(serializer.deserialize(k1), serializer.deserialize(k2));
+    }
+
     public static int fileKibiBytes(File file) {
         long kibiBytes = file.length() >> 10;
         if (kibiBytes > Integer.MAX_VALUE) {
@@ -104,12 +104,20 @@ public class MergeSorter {
         this.valueType = projectedType;
     }
 
+    /**
+     * Whether merge sorting the given number of readers spills to disk. Spilling uses the memory
+     * pool of this sorter, so such merges must not run concurrently.
+     */
+    public boolean spillable(int numReaders) {
+        return ioManager != null && numReaders > spillThreshold;
+    }
+
     public <T> RecordReader<T> mergeSort(
             List<ReaderSupplier<KeyValue>> lazyReaders,
             Comparator<InternalRow> keyComparator,
             MergeFunctionWrapper<T> mergeFunction)
             throws IOException {
-        if (ioManager != null && lazyReaders.size() > spillThreshold) {
+        if (spillable(lazyReaders.size())) {
             return spillMergeSort(lazyReaders, keyComparator, mergeFunction);
         }
 
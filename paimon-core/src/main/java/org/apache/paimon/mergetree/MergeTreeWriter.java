@@ -31,12 +31,18 @@ import org.apache.paimon.io.KeyValueFileWriterFactory;
 import org.apache.paimon.io.NewFilesIncrement;
 import org.apache.paimon.io.RollingFileWriter;
 import org.apache.paimon.memory.MemoryOwner;
+import org.apache.paimon.memory.MemorySegment;
 import org.apache.paimon.memory.MemorySegmentPool;
 import org.apache.paimon.mergetree.compact.MergeFunction;
+import org.apache.paimon.metrics.Histogram;
 import org.apache.paimon.types.RowType;
 import org.apache.paimon.utils.CommitIncrement;
+import org.apache.paimon.utils.ExceptionUtils;
 import org.apache.paimon.utils.RecordWriter;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import javax.annotation.Nullable;
 
 import java.util.ArrayList;
@@ -47,11 +53,20 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
 /** A {@link RecordWriter} to write records and generate {@link CompactIncrement}. */
 public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
 
+    private static final Logger LOG = LoggerFactory.getLogger(MergeTreeWriter.class);
+
+    // a sort buffer requires at least 3 pages, see BinaryInMemorySortBuffer
+    private static final int MIN_BUFFER_PAGES = 3;
+
     private final boolean writeBufferSpillable;
     private final int sortMaxFan;
     private final IOManager ioManager;
@@ -74,6 +89,15 @@ public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
     private long newSequenceNumber;
     private WriteBuffer writeBuffer;
 
+    @Nullable private ExecutorService flushExecutor;
+    @Nullable private Histogram flushLatency;
+    @Nullable private Histogram flushStallTime;
+
+    // the other half of the write buffer when flushing asynchronously, it is either empty or being
+    // flushed by pendingFlush
+    @Nullable private WriteBuffer flushingBuffer;
+    @Nullable private AsyncFlush pendingFlush;
+
     public MergeTreeWriter(
             boolean writeBufferSpillable,
             int sortMaxFan,
@@ -125,16 +149,46 @@ public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
         return compactManager;
     }
 
+    /**
+     * Flush full write buffers in the given executor. The memory pool is split into two buffers,
+     * one accepts records while the other is being flushed. Must be called before {@link
+     * #setMemoryPool}. Spillable write buffers are always flushed synchronously, because reading a
+     * spilled buffer returns its memory to the pool, which is not thread safe.
+     */
+    public MergeTreeWriter withAsyncFlush(ExecutorService flushExecutor) {
+        this.flushExecutor = flushExecutor;
+        return this;
+    }
+
+    /**
+     * @param flushLatency latency in milliseconds of flushing a write buffer to data files.
+     * @param flushStallTime time in milliseconds that writing was blocked by a background flush.
+     */
+    public MergeTreeWriter withFlushMetrics(Histogram flushLatency, Histogram flushStallTime) {
+        this.flushLatency = flushLatency;
+        this.flushStallTime = flushStallTime;
+        return this;
+    }
+
     @Override
     public void setMemoryPool(MemorySegmentPool memoryPool) {
-        this.writeBuffer =
-                new SortBufferWriteBuffer(
-                        keyType,
-                        valueType,
-                        memoryPool,
-                        writeBufferSpillable,
-                        sortMaxFan,
-                        ioManager);
+        boolean spillable = writeBufferSpillable && ioManager != null;
+        if (flushExecutor != null
+                && !spillable
+                && memoryPool.freePages() >= 2 * MIN_BUFFER_PAGES) {
+            int halfPages = memoryPool.freePages() / 2;
+            this.writeBuffer = createWriteBuffer(new HalfMemoryPool(memoryPool, halfPages));
+            this.flushingBuffer = createWriteBuffer(new HalfMemoryPool(memoryPool, halfPages));
+        } else {
+            // too small to be split, fall back to flushing synchronously
+            this.writeBuffer = createWriteBuffer(memoryPool);
+            this.flushingBuffer = null;
+        }
+    }
+
+    private WriteBuffer createWriteBuffer(MemorySegmentPool memoryPool) {
+        return new SortBufferWriteBuffer(
+                keyType, valueType, memoryPool, writeBufferSpillable, sortMaxFan, ioManager);
     }
 
     @Override
@@ -145,7 +199,11 @@ public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
                         : kv.sequenceNumber();
         boolean success = writeBuffer.put(sequenceNumber, kv.valueKind(), kv.key(), kv.value());
         if (!success) {
-            flushWriteBuffer(false, false);
+            if (flushingBuffer != null) {
+                flushWriteBufferAsync();
+            } else {
+                flushWriteBuffer(false, false);
+            }
             success = writeBuffer.put(sequenceNumber, kv.valueKind(), kv.key(), kv.value());
             if (!success) {
                 throw new RuntimeException("Mem table is too small to hold a single element.");
@@ -170,11 +228,17 @@ public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
 
     @Override
     public long memoryOccupancy() {
-        return writeBuffer.memoryOccupancy();
+        long occupancy = writeBuffer.memoryOccupancy();
+        if (flushingBuffer != null) {
+            occupancy += flushingBuffer.memoryOccupancy();
+        }
+        return occupancy;
     }
 
     @Override
     public void flushMemory() throws Exception {
+        // give back the memory of the flushing buffer first
+        finishAsyncFlush();
         boolean success = writeBuffer.flushMemory();
         if (!success) {
             flushWriteBuffer(false, false);
@@ -183,45 +247,133 @@ public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
 
     private void flushWriteBuffer(boolean waitForLatestCompaction, boolean forcedFullCompaction)
             throws Exception {
+        finishAsyncFlush();
         if (writeBuffer.size() > 0) {
             if (compactManager.shouldWaitForLatestCompaction()) {
                 waitForLatestCompaction = true;
             }
 
-            final RollingFileWriter<KeyValue, DataFileMeta> changelogWriter =
-                    changelogProducer == ChangelogProducer.INPUT
-                            ? writerFactory.createRollingChangelogFileWriter(0)
-                            : null;
-            final RollingFileWriter<KeyValue, DataFileMeta> dataWriter =
-                    writerFactory.createRollingMergeTreeFileWriter(0);
+            addFlushResult(writeToFiles(writeBuffer));
+            writeBuffer.clear();
+        }
 
-            try {
-                writeBuffer.forEach(
-                        keyComparator,
-                        mergeFunction,
-                        changelogWriter == null ? null : changelogWriter::write,
-                        dataWriter::write);
-            } finally {
-                if (changelogWriter != null) {
-                    changelogWriter.close();
-                }
-                dataWriter.close();
+        trySyncLatestCompaction(waitForLatestCompaction);
+        compactManager.triggerCompaction(forcedFullCompaction);
+    }
+
+    /**
+     * Hand the full write buffer over to the flush executor and continue writing into the other
+     * buffer. Blocks only if the other buffer is still being flushed.
+     */
+    private void flushWriteBufferAsync() throws Exception {
+        finishAsyncFlush();
+        if (compactManager.shouldWaitForLatestCompaction()) {
+            // compaction is lagging behind, slow down writing by flushing synchronously
+            flushWriteBuffer(false, false);
+            return;
+        }
+
+        WriteBuffer full = writeBuffer;
+        writeBuffer = flushingBuffer;
+        flushingBuffer = full;
+        // only sort and write files in background, compact manager and memory pool are not thread
+        // safe, so the result is applied and the buffer is cleared in finishAsyncFlush. Sorting an
+        // in-memory buffer does not allocate or return pages, the buffer never spills
+        pendingFlush = new AsyncFlush(full);
+
+        trySyncLatestCompaction(false);
+        compactManager.triggerCompaction(false);
+    }
+
+    /**
+     * Wait for the pending background flush and apply its result. If the waiting is interrupted,
+     * the flush is cancelled and waited for, so that the flushing buffer can be cleared.
+     */
+    private void finishAsyncFlush() throws Exception {
+        if (pendingFlush == null) {
+            return;
+        }
+
+        AsyncFlush flush = pendingFlush;
+        long started = System.currentTimeMillis();
+        boolean stalled = !flush.isDone();
+        try {
+            flush.await();
+        } catch (InterruptedException e) {
+            flush.cancel();
+            if (flush.result != null) {
+                // the flush has finished anyway, its records are lost with the buffer
+                deleteFiles(flush.result);
+            }
+            throw e;
+        } finally {
+            if (stalled && flushStallTime != null) {
+                flushStallTime.update(System.currentTimeMillis() - started);
             }
+            if (flush.isDone()) {
+                pendingFlush = null;
+                flushingBuffer.clear();
+            }
+        }
+
+        if (flush.error != null) {
+            ExceptionUtils.rethrowException(flush.error);
+        }
+        addFlushResult(flush.result);
+    }
 
+    private FlushResult writeToFiles(WriteBuffer buffer) throws Exception {
+        long started = System.currentTimeMillis();
+        final RollingFileWriter<KeyValue, DataFileMeta> changelogWriter =
+                changelogProducer == ChangelogProducer.INPUT
+                        ? writerFactory.createRollingChangelogFileWriter(0)
+                        : null;
+        final RollingFileWriter<KeyValue, DataFileMeta> dataWriter =
+                writerFactory.createRollingMergeTreeFileWriter(0);
+
+        try {
+            buffer.forEach(
+                    keyComparator,
+                    mergeFunction,
+                    changelogWriter == null ? null : changelogWriter::write,
+                    dataWriter::write);
+        } catch (Throwable t) {
+            // delete the files written so far, the rolling writers only clean up their own failures
             if (changelogWriter != null) {
-                newFilesChangelog.addAll(changelogWriter.result());
+                changelogWriter.abort();
             }
+            dataWriter.abort();
+            throw t;
+        }
 
-            for (DataFileMeta fileMeta : dataWriter.result()) {
-                newFiles.add(fileMeta);
-                compactManager.addNewFile(fileMeta);
-            }
+        if (changelogWriter != null) {
+            changelogWriter.close();
+        }
+        dataWriter.close();
 
-            writeBuffer.clear();
+        if (flushLatency != null) {
+            flushLatency.update(System.currentTimeMillis() - started);
         }
+        return new FlushResult(
+                changelogWriter == null ? null : changelogWriter.result(), dataWriter.result());
+    }
 
-        trySyncLatestCompaction(waitForLatestCompaction);
-        compactManager.triggerCompaction(forcedFullCompaction);
+    private void deleteFiles(FlushResult result) {
+        if (result.changelogFiles != null) {
+            result.changelogFiles.forEach(writerFactory::deleteFile);
+        }
+        result.dataFiles.forEach(writerFactory::deleteFile);
+    }
+
+    private void addFlushResult(FlushResult result) {
+        if (result.changelogFiles != null) {
+            newFilesChangelog.addAll(result.changelogFiles);
+        }
+
+        for (DataFileMeta fileMeta : result.dataFiles) {
+            newFiles.add(fileMeta);
+            compactManager.addNewFile(fileMeta);
+        }
     }
 
     @Override
@@ -270,7 +422,7 @@ public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
                 // 2. This file is not the input of upgraded.
                 if (!compactBefore.containsKey(file.fileName())
                         && !afterFiles.contains(file.fileName())) {
-                    writerFactory.deleteFile(file.fileName(), file.level());
+                    writerFactory.deleteFile(file);
                 }
             } else {
                 compactBefore.put(file.fileName(), file);
@@ -287,6 +439,17 @@ public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
 
     @Override
     public void close() throws Exception {
+        // wait for the background flush so that its files are deleted below, files of a failed
+        // flush have been cleaned up by the flush itself
+        try {
+            finishAsyncFlush();
+        } catch (Exception e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            LOG.warn("Failed to finish the background flush when closing the writer.", e);
+        }
+
         // cancel compaction so that it does not block job cancelling
         compactManager.cancelCompaction();
         sync();
@@ -297,7 +460,7 @@ public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
         newFiles.clear();
 
         for (DataFileMeta file : newFilesChangelog) {
-            writerFactory.deleteFile(file.fileName(), file.level());
+            writerFactory.deleteFile(file);
         }
         newFilesChangelog.clear();
 
@@ -312,12 +475,131 @@ public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
         compactAfter.clear();
 
         for (DataFileMeta file : compactChangelog) {
-            writerFactory.deleteFile(file.fileName(), file.level());
+            writerFactory.deleteFile(file);
         }
         compactChangelog.clear();
 
         for (DataFileMeta file : delete) {
-            writerFactory.deleteFile(file.fileName(), file.level());
+            writerFactory.deleteFile(file);
+        }
+    }
+
+    /** Files written by flushing a write buffer. */
+    private static class FlushResult {
+
+        @Nullable private final List<DataFileMeta> changelogFiles;
+        private final List<DataFileMeta> dataFiles;
+
+        private FlushResult(
+                @Nullable List<DataFileMeta> changelogFiles, List<DataFileMeta> dataFiles) {
+            this.changelogFiles = changelogFiles;
+            this.dataFiles = dataFiles;
+        }
+    }
+
+    /**
+     * A write buffer being flushed in background. The flush can be cancelled before or while it is
+     * running, and waited for until it does not touch the buffer anymore.
+     */
+    private class AsyncFlush {
+
+        private final AtomicBoolean started = new AtomicBoolean(false);
+        private final CountDownLatch done = new CountDownLatch(1);
+        private final Future<?> future;
+
+        @Nullable private volatile FlushResult result;
+        @Nullable private volatile Throwable error;
+
+        private AsyncFlush(WriteBuffer buffer) {
+            this.future = flushExecutor.submit(() -> run(buffer));
+        }
+
+        private void run(WriteBuffer buffer) {
+            if (!started.compareAndSet(false, true)) {
+                // cancelled before running
+                return;
+            }
+            try {
+                result = writeToFiles(buffer);
+            } catch (Throwable t) {
+                error = t;
+            } finally {
+                done.countDown();
+            }
+        }
+
+        private boolean isDone() {
+            return done.getCount() == 0;
+        }
+
+        private void await() throws InterruptedException {
+            done.await();
+        }
+
+        /** Cancel the flush and wait uninterruptibly until it has stopped. */
+        private void cancel() {
+            if (started.compareAndSet(false, true)) {
+                done.countDown();
+            }
+            future.cancel(true);
+
+            boolean interrupted = false;
+            while (!isDone()) {
+                try {
+                    done.await();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * A {@link MemorySegmentPool} limiting one of the two write buffers to half of the memory of
+     * the writer, so that the other buffer can still accept records while it is being flushed.
+     */
+    private static class HalfMemoryPool implements MemorySegmentPool {
+
+        private final MemorySegmentPool pool;
+        private final int maxPages;
+
+        private int allocatedPages = 0;
+
+        private HalfMemoryPool(MemorySegmentPool pool, int maxPages) {
+            this.pool = pool;
+            this.maxPages = maxPages;
+        }
+
+        @Override
+        public int pageSize() {
+            return pool.pageSize();
+        }
+
+        @Override
+        public void returnAll(List<MemorySegment> memory) {
+            allocatedPages -= memory.size();
+            pool.returnAll(memory);
+        }
+
+        @Override
+        public int freePages() {
+            return Math.min(maxPages - allocatedPages, pool.freePages());
+        }
+
+        @Nullable
+        @Override
+        public MemorySegment nextSegment() {
+            if (allocatedPages >= maxPages) {
+                return null;
+            }
+            MemorySegment segment = pool.nextSegment();
+            if (segment != null) {
+                allocatedPages++;
+            }
+            return segment;
         }
     }
 }
@@ -21,6 +21,7 @@ package org.apache.paimon.mergetree.compact;
 import org.apache.paimon.KeyValueFileStore;
 import org.apache.paimon.annotation.VisibleForTesting;
 import org.apache.paimon.compact.CompactFutureManager;
+import org.apache.paimon.compact.CompactPriority;
 import org.apache.paimon.compact.CompactResult;
 import org.apache.paimon.compact.CompactUnit;
 import org.apache.paimon.data.InternalRow;
@@ -150,7 +151,7 @@ public class MergeTreeCompactManager extends CompactFutureManager {
                                                                         file.fileSize()))
                                                 .collect(Collectors.joining(", ")));
                     }
-                    submitCompaction(unit, dropDelete);
+                    submitCompaction(unit, dropDelete, priority(fullCompaction));
                 });
     }
 
@@ -159,7 +160,18 @@ public class MergeTreeCompactManager extends CompactFutureManager {
         return levels;
     }
 
-    private void submitCompaction(CompactUnit unit, boolean dropDelete) {
+    /** Compactions of buckets closer to stalling writes are scheduled first. */
+    private CompactPriority priority(boolean fullCompaction) {
+        int runs = levels.numberOfSortedRuns();
+        if (runs >= numSortedRunStopTrigger) {
+            return CompactPriority.HIGH;
+        }
+        return fullCompaction || runs * 2L >= numSortedRunStopTrigger
+                ? CompactPriority.NORMAL
+                : CompactPriority.LOW;
+    }
+
+    private void submitCompaction(CompactUnit unit, boolean dropDelete, CompactPriority priority) {
         MergeTreeCompactTask task =
                 new MergeTreeCompactTask(
                         keyComparator, compactionFileSize, rewriter, unit, dropDelete);
@@ -174,7 +186,7 @@ public class MergeTreeCompactManager extends CompactFutureManager {
                                                     file.fileName(), file.level(), file.fileSize()))
                             .collect(Collectors.joining(", ")));
         }
-        taskFuture = executor.submit(task);
+        taskFuture = submit(executor, task, priority);
     }
 
     /** Finish current task, and update result files to {@link Levels}. */
@@ -31,8 +31,16 @@ import org.apache.paimon.mergetree.SortedRun;
 import org.apache.paimon.reader.RecordReader;
 import org.apache.paimon.reader.RecordReaderIterator;
 
+import javax.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
 
 /** Default {@link CompactRewriter} for merge trees. */
 public class MergeTreeCompactRewriter extends AbstractCompactRewriter {
@@ -43,6 +51,10 @@ public class MergeTreeCompactRewriter extends AbstractCompactRewriter {
     protected final MergeFunctionFactory<KeyValue> mfFactory;
     protected final MergeSorter mergeSorter;
 
+    @Nullable private ExecutorService subtaskExecutor;
+    private int maxSubtasks = 1;
+    private long minSubtaskSize;
+
     public MergeTreeCompactRewriter(
             KeyValueFileReaderFactory readerFactory,
             KeyValueFileWriterFactory writerFactory,
@@ -56,6 +68,20 @@ public class MergeTreeCompactRewriter extends AbstractCompactRewriter {
         this.mergeSorter = mergeSorter;
     }
 
+    /**
+     * Split rewriting sections into at most {@code maxSubtasks} subtasks of contiguous key ranges,
+     * each rewriting at least {@code minSubtaskSize} bytes. The first subtask is rewritten by the
+     * calling thread and the others by the given executor, which must not be the executor running
+     * the compaction task.
+     */
+    public MergeTreeCompactRewriter withSubtasks(
+            ExecutorService subtaskExecutor, int maxSubtasks, long minSubtaskSize) {
+        this.subtaskExecutor = subtaskExecutor;
+        this.maxSubtasks = maxSubtasks;
+        this.minSubtaskSize = minSubtaskSize;
+        return this;
+    }
+
     @Override
     public CompactResult rewrite(
             int outputLevel, boolean dropDelete, List<List<SortedRun>> sections) throws Exception {
@@ -64,6 +90,119 @@ public class MergeTreeCompactRewriter extends AbstractCompactRewriter {
 
     protected CompactResult rewriteCompaction(
             int outputLevel, boolean dropDelete, List<List<SortedRun>> sections) throws Exception {
+        List<List<List<SortedRun>>> subtasks = splitSubtasks(sections);
+        if (subtasks.size() == 1) {
+            return rewriteSections(outputLevel, dropDelete, sections);
+        }
+
+        List<RewriteSubtask> running = new ArrayList<>();
+        CompactResult first = null;
+        Exception exception = null;
+        try {
+            for (List<List<SortedRun>> subtask : subtasks.subList(1, subtasks.size())) {
+                RewriteSubtask rewrite = new RewriteSubtask(outputLevel, dropDelete, subtask);
+                subtaskExecutor.execute(rewrite);
+                running.add(rewrite);
+            }
+            first = rewriteSections(outputLevel, dropDelete, subtasks.get(0));
+            for (RewriteSubtask subtask : running) {
+                subtask.result.get();
+            }
+        } catch (Exception e) {
+            exception =
+                    e instanceof ExecutionException && e.getCause() instanceof Exception
+                            ? (Exception) e.getCause()
+                            : e;
+        }
+
+        if (exception != null) {
+            // cancelled subtasks delete their own files, wait for them so that no file is written
+            // after this compaction fails
+            running.forEach(RewriteSubtask::cancel);
+            try {
+                for (RewriteSubtask subtask : running) {
+                    subtask.finished.await();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                exception.addSuppressed(e);
+            }
+
+            // subtasks which completed before the failure are not cancelled
+            if (first != null) {
+                first.after().forEach(writerFactory::deleteFile);
+            }
+            for (RewriteSubtask subtask : running) {
+                if (subtask.completedNormally()) {
+                    subtask.result.join().after().forEach(writerFactory::deleteFile);
+                }
+            }
+            throw exception;
+        }
+
+        List<CompactResult> results = new ArrayList<>();
+        results.add(first);
+        for (RewriteSubtask subtask : running) {
+            results.add(subtask.result.join());
+        }
+
+        // subtasks cover contiguous key ranges in order, so their files form one sorted run
+        List<DataFileMeta> after = new ArrayList<>();
+        for (CompactResult result : results) {
+            after.addAll(result.after());
+        }
+        return new CompactResult(extractFilesFromSections(sections), after);
+    }
+
+    private List<List<List<SortedRun>>> splitSubtasks(List<List<SortedRun>> sections) {
+        if (subtaskExecutor == null || maxSubtasks <= 1 || sections.size() <= 1) {
+            return Collections.singletonList(sections);
+        }
+
+        long totalSize = 0;
+        for (List<SortedRun> section : sections) {
+            // spilling merges share the memory pool of the merge sorter
+            if (mergeSorter.spillable(section.size())) {
+                return Collections.singletonList(sections);
+            }
+            totalSize += sectionSize(section);
+        }
+
+        long subtaskNum = Math.min(maxSubtasks, sections.size());
+        if (minSubtaskSize > 0) {
+            subtaskNum = Math.min(subtaskNum, totalSize / minSubtaskSize);
+        }
+        if (subtaskNum <= 1) {
+            return Collections.singletonList(sections);
+        }
+
+        // sections are sorted by keys and do not overlap, split them into contiguous groups of
+        // similar sizes
+        long subtaskSize = totalSize / subtaskNum;
+        List<List<List<SortedRun>>> subtasks = new ArrayList<>();
+        List<List<SortedRun>> current = new ArrayList<>();
+        long currentSize = 0;
+        for (List<SortedRun> section : sections) {
+            current.add(section);
+            currentSize += sectionSize(section);
+            if (currentSize >= subtaskSize && subtasks.size() < subtaskNum - 1) {
+                subtasks.add(current);
+                current = new ArrayList<>();
+                currentSize = 0;
+            }
+        }
+        if (!current.isEmpty()) {
+            subtasks.add(current);
+        }
+        return subtasks;
+    }
+
+    private static long sectionSize(List<SortedRun> section) {
+        return section.stream().mapToLong(SortedRun::totalSize).sum();
+    }
+
+    private CompactResult rewriteSections(
+            int outputLevel, boolean dropDelete, List<List<SortedRun>> sections) throws Exception {
         RollingFileWriter<KeyValue, DataFileMeta> writer =
                 writerFactory.createRollingMergeTreeFileWriter(outputLevel);
         RecordReader<KeyValue> sectionsReader =
@@ -74,8 +213,92 @@ public class MergeTreeCompactRewriter extends AbstractCompactRewriter {
                         keyComparator,
                         mfFactory.create(),
                         mergeSorter);
-        writer.write(new RecordReaderIterator<>(sectionsReader));
-        writer.close();
+        try {
+            writer.write(new RecordReaderIterator<>(sectionsReader));
+            writer.close();
+        } catch (Throwable t) {
+            // the rolling writer only cleans up on write failures, not on read failures
+            writer.abort();
+            throw t;
+        }
         return new CompactResult(extractFilesFromSections(sections), writer.result());
     }
+
+    /**
+     * A subtask rewriting sections on the subtask executor. If it is cancelled, it deletes the
+     * files it has written by itself, otherwise the files are owned by its result.
+     */
+    private class RewriteSubtask implements Runnable {
+
+        private final int outputLevel;
+        private final boolean dropDelete;
+        private final List<List<SortedRun>> sections;
+
+        private final CompletableFuture<CompactResult> result = new CompletableFuture<>();
+        private final CountDownLatch finished = new CountDownLatch(1);
+
+        private boolean started;
+        private boolean cancelled;
+        @Nullable private Thread runner;
+
+        private RewriteSubtask(
+                int outputLevel, boolean dropDelete, List<List<SortedRun>> sections) {
+            this.outputLevel = outputLevel;
+            this.dropDelete = dropDelete;
+            this.sections = sections;
+        }
+
+        @Override
+        public void run() {
+            synchronized (this) {
+                if (cancelled) {
+                    return;
+                }
+                started = true;
+                runner = Thread.currentThread();
+            }
+
+            CompactResult rewritten = null;
+            Throwable error = null;
+            try {
+                rewritten = rewriteSections(outputLevel, dropDelete, sections);
+            } catch (Throwable t) {
+                error = t;
+            }
+
+            synchronized (this) {
+                runner = null;
+                if (cancelled) {
+                    // clear the interrupt of cancel, the thread is reused by the executor
+                    Thread.interrupted();
+                    if (rewritten != null) {
+                        rewritten.after().forEach(writerFactory::deleteFile);
+                    }
+                } else if (error != null) {
+                    result.completeExceptionally(error);
+                } else {
+                    result.complete(rewritten);
+                }
+            }
+            finished.countDown();
+        }
+
+        private synchronized void cancel() {
+            if (result.isDone()) {
+                return;
+            }
+
+            cancelled = true;
+            result.cancel(false);
+            if (runner != null) {
+                runner.interrupt();
+            } else if (!started) {
+                finished.countDown();
+            }
+        }
+
+        private synchronized boolean completedNormally() {
+            return !cancelled && result.isDone() && !result.isCompletedExceptionally();
+        }
+    }
 }
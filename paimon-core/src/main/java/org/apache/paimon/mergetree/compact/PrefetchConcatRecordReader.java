@@ -0,0 +1,182 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.mergetree.compact;
+
+import org.apache.paimon.mergetree.compact.ConcatRecordReader.ReaderSupplier;
+import org.apache.paimon.reader.RecordReader;
+import org.apache.paimon.utils.IOUtils;
+import org.apache.paimon.utils.Preconditions;
+
+import javax.annotation.Nullable;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * Like {@link ConcatRecordReader}, but opens the next readers and fetches their first batches in an
+ * {@link Executor} while the current reader is being read. At most {@code prefetchNum} readers are
+ * opened ahead, so the memory is bounded by their first batches.
+ */
+public class PrefetchConcatRecordReader<T> implements RecordReader<T> {
+
+    private final Queue<ReaderSupplier<T>> queue;
+    private final int prefetchNum;
+    private final Executor executor;
+    private final Queue<CompletableFuture<PrefetchedReader<T>>> prefetching;
+
+    @Nullable private RecordReader<T> current;
+    @Nullable private RecordIterator<T> firstBatch;
+
+    protected PrefetchConcatRecordReader(
+            List<ReaderSupplier<T>> readerFactories, int prefetchNum, Executor executor) {
+        readerFactories.forEach(
+                supplier ->
+                        Preconditions.checkNotNull(supplier, "Reader factory must not be null."));
+        Preconditions.checkArgument(prefetchNum > 0, "Prefetch number must be positive.");
+        this.queue = new LinkedList<>(readerFactories);
+        this.prefetchNum = prefetchNum;
+        this.executor = executor;
+        this.prefetching = new ArrayDeque<>(prefetchNum);
+    }
+
+    public static <R> RecordReader<R> create(
+            List<ReaderSupplier<R>> readers, int prefetchNum, Executor executor)
+            throws IOException {
+        return readers.size() == 1
+                ? readers.get(0).get()
+                : new PrefetchConcatRecordReader<>(readers, prefetchNum, executor);
+    }
+
+    @Nullable
+    @Override
+    public RecordIterator<T> readBatch() throws IOException {
+        while (true) {
+            if (current != null) {
+                RecordIterator<T> iterator;
+                if (firstBatch != null) {
+                    iterator = firstBatch;
+                    firstBatch = null;
+                } else {
+                    iterator = current.readBatch();
+                }
+                if (iterator != null) {
+                    return iterator;
+                }
+                current.close();
+                current = null;
+            } else {
+                prefetch();
+                if (prefetching.isEmpty()) {
+                    return null;
+                }
+                PrefetchedReader<T> next = join(prefetching.poll());
+                // keep the following readers opening while reading this one
+                prefetch();
+                if (next.firstBatch == null) {
+                    next.reader.close();
+                } else {
+                    current = next.reader;
+                    firstBatch = next.firstBatch;
+                }
+            }
+        }
+    }
+
+    private void prefetch() {
+        while (prefetching.size() < prefetchNum && !queue.isEmpty()) {
+            ReaderSupplier<T> supplier = queue.poll();
+            prefetching.add(CompletableFuture.supplyAsync(() -> open(supplier), executor));
+        }
+    }
+
+    private static <T> PrefetchedReader<T> open(ReaderSupplier<T> supplier) {
+        RecordReader<T> reader = null;
+        try {
+            reader = supplier.get();
+            return new PrefetchedReader<>(reader, reader.readBatch());
+        } catch (IOException e) {
+            IOUtils.closeQuietly(reader);
+            throw new UncheckedIOException(e);
+        } catch (RuntimeException e) {
+            IOUtils.closeQuietly(reader);
+            throw e;
+        }
+    }
+
+    private static <T> PrefetchedReader<T> join(CompletableFuture<PrefetchedReader<T>> future)
+            throws IOException {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof UncheckedIOException) {
+                throw ((UncheckedIOException) cause).getCause();
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        queue.clear();
+        // readers being opened are closed once they are ready, without blocking the caller
+        for (CompletableFuture<PrefetchedReader<T>> future : prefetching) {
+            future.thenAccept(PrefetchedReader::close);
+        }
+        prefetching.clear();
+        if (firstBatch != null) {
+            firstBatch.releaseBatch();
+            firstBatch = null;
+        }
+        if (current != null) {
+            current.close();
+            current = null;
+        }
+    }
+
+    /** A reader opened ahead with its first batch. */
+    private static class PrefetchedReader<T> {
+
+        private final RecordReader<T> reader;
+        @Nullable private final RecordIterator<T> firstBatch;
+
+        private PrefetchedReader(RecordReader<T> reader, @Nullable RecordIterator<T> firstBatch) {
+            this.reader = reader;
+            this.firstBatch = firstBatch;
+        }
+
+        /** Close a reader which is not read, its first batch is released too. */
+        private void close() {
+            if (firstBatch != null) {
+                firstBatch.releaseBatch();
+            }
+            IOUtils.closeQuietly(reader);
+        }
+    }
+}
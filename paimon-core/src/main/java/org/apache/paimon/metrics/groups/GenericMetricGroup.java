@@ -40,6 +40,13 @@ public class GenericMetricGroup extends AbstractMetricGroup {
         return new GenericMetricGroup(tags, groupName);
     }
 
+    public static GenericMetricGroup createCatalogMetricGroup(
+            final String warehouse, final String groupName) {
+        Map<String, String> tags = new HashMap<>();
+        tags.put("warehouse", warehouse);
+        return new GenericMetricGroup(tags, groupName);
+    }
+
     @Override
     public String getGroupName() {
         return groupName;
@@ -44,7 +44,9 @@ import javax.annotation.Nullable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.function.Function;
@@ -214,8 +216,57 @@ public abstract class AbstractFileStoreScan implements FileStoreScan {
         };
     }
 
-    private Pair<Snapshot, List<ManifestEntry>> doPlan(
-            Function<ManifestFileMeta, List<ManifestEntry>> readManifest) {
+    @Override
+    public Iterator<ManifestEntry> readFileIterator() {
+        List<ManifestFileMeta> manifests = new ArrayList<>(resolveManifests().getRight());
+        // read from the newest manifest, so that DELETE entries are met before their ADD entries
+        Collections.reverse(manifests);
+        Iterable<ManifestEntry> entries =
+                ParallellyExecuteUtils.parallelismBatchIterable(
+                        files ->
+                                files.parallelStream()
+                                        .filter(this::filterManifestFileMeta)
+                                        .flatMap(
+                                                m -> {
+                                                    List<ManifestEntry> manifestEntries =
+                                                            new ArrayList<>(
+                                                                    readManifestFileMeta(m));
+                                                    Collections.reverse(manifestEntries);
+                                                    return manifestEntries.stream();
+                                                })
+                                        .collect(Collectors.toList()),
+                        manifests,
+                        scanManifestParallelism);
+
+        Iterator<ManifestEntry> merged = ManifestEntry.mergeReversedEntries(entries.iterator());
+        return new Iterator<ManifestEntry>() {
+
+            private ManifestEntry next;
+
+            @Override
+            public boolean hasNext() {
+                while (next == null && merged.hasNext()) {
+                    ManifestEntry file = merged.next();
+                    if (filterMergedEntry(file) && filterByFileIndex(file)) {
+                        next = file;
+                    }
+                }
+                return next != null;
+            }
+
+            @Override
+            public ManifestEntry next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                ManifestEntry result = next;
+                next = null;
+                return result;
+            }
+        };
+    }
+
+    private Pair<Snapshot, List<ManifestFileMeta>> resolveManifests() {
         List<ManifestFileMeta> manifests = specifiedManifests;
         Snapshot snapshot = null;
         if (manifests == null) {
@@ -229,6 +280,14 @@ public abstract class AbstractFileStoreScan implements FileStoreScan {
                 manifests = readManifests(snapshot);
             }
         }
+        return Pair.of(snapshot, manifests);
+    }
+
+    private Pair<Snapshot, List<ManifestEntry>> doPlan(
+            Function<ManifestFileMeta, List<ManifestEntry>> readManifest) {
+        Pair<Snapshot, List<ManifestFileMeta>> resolved = resolveManifests();
+        Snapshot snapshot = resolved.getLeft();
+        List<ManifestFileMeta> manifests = resolved.getRight();
 
         Iterable<ManifestEntry> entries =
                 ParallellyExecuteUtils.parallelismBatchIterable(
@@ -236,41 +295,65 @@ public abstract class AbstractFileStoreScan implements FileStoreScan {
                                 files.parallelStream()
                                         .filter(this::filterManifestFileMeta)
                                         .flatMap(m -> readManifest.apply(m).stream())
-                                        .filter(this::filterByStats)
                                         .collect(Collectors.toList()),
                         manifests,
                         scanManifestParallelism);
 
         List<ManifestEntry> files = new ArrayList<>();
         for (ManifestEntry file : ManifestEntry.mergeEntries(entries)) {
-            if (checkNumOfBuckets && file.totalBuckets() != numOfBuckets) {
-                String partInfo =
-                        partitionConverter.getArity() > 0
-                                ? "partition "
-                                        + FileStorePathFactory.getPartitionComputer(
-                                                        partitionConverter.rowType(),
-                                                        FileStorePathFactory.PARTITION_DEFAULT_NAME
-                                                                .defaultValue())
-                                                .generatePartValues(file.partition())
-                                : "table";
-                throw new RuntimeException(
-                        String.format(
-                                "Try to write %s with a new bucket num %d, but the previous bucket num is %d. "
-                                        + "Please switch to batch mode, and perform INSERT OVERWRITE to rescale current data layout first.",
-                                partInfo, numOfBuckets, file.totalBuckets()));
-            }
-
-            // bucket filter should not be applied along with partition filter
-            // because the specifiedBucket is computed against the current
-            // numOfBuckets
-            // however entry.bucket() was computed against the old numOfBuckets
-            // and thus the filtered manifest entries might be empty
-            // which renders the bucket check invalid
-            if (filterByBucket(file) && filterByBucketSelector(file) && filterByLevel(file)) {
+            if (filterMergedEntry(file)) {
                 files.add(file);
             }
         }
-        return Pair.of(snapshot, files);
+        return Pair.of(snapshot, filterByFileIndex(files));
+    }
+
+    private List<ManifestEntry> filterByFileIndex(List<ManifestEntry> files) {
+        if (!hasFileIndexFilter()) {
+            return files;
+        }
+
+        // file indexes are read from remote storage, so read them in parallel
+        Iterable<ManifestEntry> filtered =
+                ParallellyExecuteUtils.parallelismBatchIterable(
+                        entries ->
+                                entries.parallelStream()
+                                        .filter(this::filterByFileIndex)
+                                        .collect(Collectors.toList()),
+                        files,
+                        scanManifestParallelism);
+        List<ManifestEntry> result = new ArrayList<>();
+        filtered.forEach(result::add);
+        return result;
+    }
+
+    private boolean filterMergedEntry(ManifestEntry file) {
+        if (checkNumOfBuckets && file.totalBuckets() != numOfBuckets) {
+            String partInfo =
+                    partitionConverter.getArity() > 0
+                            ? "partition "
+                                    + FileStorePathFactory.getPartitionComputer(
+                                                    partitionConverter.rowType(),
+                                                    FileStorePathFactory.PARTITION_DEFAULT_NAME
+                                                            .defaultValue())
+                                            .generatePartValues(file.partition())
+                            : "table";
+            throw new RuntimeException(
+                    String.format(
+                            "Try to write %s with a new bucket num %d, but the previous bucket num is %d. "
+                                    + "Please switch to batch mode, and perform INSERT OVERWRITE to rescale current data layout first.",
+                            partInfo, numOfBuckets, file.totalBuckets()));
+        }
+
+        // bucket filter should not be applied along with partition filter
+        // because the specifiedBucket is computed against the current
+        // numOfBuckets
+        // however entry.bucket() was computed against the old numOfBuckets
+        // and thus the filtered manifest entries might be empty
+        // which renders the bucket check invalid
+        return filterByBucket(file)
+                && filterByBucketSelector(file)
+                && filterByLevel(file);
     }
 
     private List<ManifestFileMeta> readManifests(Snapshot snapshot) {
@@ -331,8 +414,28 @@ public abstract class AbstractFileStoreScan implements FileStoreScan {
         return (levelFilter == null || levelFilter.test(entry.file().level()));
     }
 
-    /** Note: Keep this thread-safe. */
-    protected abstract boolean filterByStats(ManifestEntry entry);
+    /**
+     * Filter by the stats of the file of a serialized {@link ManifestEntry}, see the getters of
+     * {@link ManifestEntrySerializer}. The row may be reused after this method returns.
+     *
+     * <p>Note: Keep this thread-safe.
+     */
+    protected abstract boolean filterByStats(InternalRow entryRow);
+
+    /** Whether {@link #filterByFileIndex(ManifestEntry)} may filter out any entry. */
+    protected boolean hasFileIndexFilter() {
+        return false;
+    }
+
+    /**
+     * Filter merged entries by file level indexes, this is only applied on files which are alive in
+     * the snapshot, so implementations can read the index files referenced by the entries.
+     *
+     * <p>Note: Keep this thread-safe.
+     */
+    protected boolean filterByFileIndex(ManifestEntry entry) {
+        return true;
+    }
 
     /** Note: Keep this thread-safe. */
     private List<ManifestEntry> readManifestFileMeta(ManifestFileMeta manifest) {
@@ -348,6 +451,7 @@ public abstract class AbstractFileStoreScan implements FileStoreScan {
         Function<InternalRow, Integer> bucketGetter = ManifestEntrySerializer.bucketGetter();
         Function<InternalRow, Integer> totalBucketGetter =
                 ManifestEntrySerializer.totalBucketGetter();
+        Function<InternalRow, Integer> levelGetter = ManifestEntrySerializer.levelGetter();
         return row -> {
             if ((partitionFilter != null
                     && !partitionFilter.test(
@@ -355,11 +459,27 @@ public abstract class AbstractFileStoreScan implements FileStoreScan {
                 return false;
             }
 
-            if (bucketFilter != null && numOfBuckets == totalBucketGetter.apply(row)) {
-                return bucketFilter.test(bucketGetter.apply(row));
+            // Filters of merged entries are pushed down here, so that only entries which may be
+            // planned are deserialized. They only depend on the file, so an ADD and a DELETE of
+            // the same file are filtered together. Entries of other numOfBuckets are kept for the
+            // bucket check of merged entries.
+            int totalBuckets = totalBucketGetter.apply(row);
+            if (numOfBuckets == totalBuckets) {
+                int bucket = bucketGetter.apply(row);
+                if (bucketFilter != null && !bucketFilter.test(bucket)) {
+                    return false;
+                }
+
+                if (!bucketKeyFilter.select(bucket, totalBuckets)) {
+                    return false;
+                }
+
+                if (levelFilter != null && !levelFilter.test(levelGetter.apply(row))) {
+                    return false;
+                }
             }
 
-            return true;
+            return filterByStats(row);
         };
     }
 
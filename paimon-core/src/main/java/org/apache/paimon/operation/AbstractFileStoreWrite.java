@@ -20,6 +20,7 @@ package org.apache.paimon.operation;
 
 import org.apache.paimon.Snapshot;
 import org.apache.paimon.annotation.VisibleForTesting;
+import org.apache.paimon.compact.CompactScheduler;
 import org.apache.paimon.data.BinaryRow;
 import org.apache.paimon.disk.IOManager;
 import org.apache.paimon.index.IndexFileMeta;
@@ -28,6 +29,7 @@ import org.apache.paimon.io.DataFileMeta;
 import org.apache.paimon.io.IndexIncrement;
 import org.apache.paimon.manifest.ManifestEntry;
 import org.apache.paimon.memory.MemoryPoolFactory;
+import org.apache.paimon.operation.metrics.CompactionMetrics;
 import org.apache.paimon.table.sink.CommitMessage;
 import org.apache.paimon.table.sink.CommitMessageImpl;
 import org.apache.paimon.utils.CommitIncrement;
@@ -48,7 +50,6 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 
 /**
  * Base {@link FileStoreWrite} implementation.
@@ -69,7 +70,10 @@ public abstract class AbstractFileStoreWrite<T>
 
     protected final Map<BinaryRow, Map<Integer, WriterContainer<T>>> writers;
 
+    private final int compactionThreads;
+
     private ExecutorService lazyCompactExecutor;
+    @Nullable private CompactionMetrics compactionMetrics;
     private boolean closeCompactExecutorWhenLeaving = true;
     private boolean ignorePreviousFiles = false;
     protected boolean isStreamingMode = false;
@@ -78,11 +82,13 @@ public abstract class AbstractFileStoreWrite<T>
             String commitUser,
             SnapshotManager snapshotManager,
             FileStoreScan scan,
-            @Nullable IndexMaintainer.Factory<T> indexFactory) {
+            @Nullable IndexMaintainer.Factory<T> indexFactory,
+            int compactionThreads) {
         this.commitUser = commitUser;
         this.snapshotManager = snapshotManager;
         this.scan = scan;
         this.indexFactory = indexFactory;
+        this.compactionThreads = compactionThreads;
 
         this.writers = new HashMap<>();
     }
@@ -104,8 +110,21 @@ public abstract class AbstractFileStoreWrite<T>
     }
 
     public void withCompactExecutor(ExecutorService compactExecutor) {
+        if (compactExecutor == lazyCompactExecutor) {
+            return;
+        }
         this.lazyCompactExecutor = compactExecutor;
         this.closeCompactExecutorWhenLeaving = false;
+        if (compactionMetrics != null) {
+            compactionMetrics.close();
+            compactionMetrics = null;
+        }
+        if (compactExecutor instanceof CompactScheduler) {
+            compactionMetrics =
+                    new CompactionMetrics(
+                            snapshotManager.tablePath().getName(),
+                            (CompactScheduler) compactExecutor);
+        }
     }
 
     @Override
@@ -240,6 +259,9 @@ public abstract class AbstractFileStoreWrite<T>
         if (lazyCompactExecutor != null && closeCompactExecutorWhenLeaving) {
             lazyCompactExecutor.shutdownNow();
         }
+        if (compactionMetrics != null) {
+            compactionMetrics.close();
+        }
     }
 
     @Override
@@ -354,10 +376,14 @@ public abstract class AbstractFileStoreWrite<T>
 
     private ExecutorService compactExecutor() {
         if (lazyCompactExecutor == null) {
-            lazyCompactExecutor =
-                    Executors.newSingleThreadScheduledExecutor(
+            CompactScheduler scheduler =
+                    new CompactScheduler(
+                            compactionThreads,
                             new ExecutorThreadFactory(
                                     Thread.currentThread().getName() + "-compaction"));
+            compactionMetrics =
+                    new CompactionMetrics(snapshotManager.tablePath().getName(), scheduler);
+            lazyCompactExecutor = scheduler;
         }
         return lazyCompactExecutor;
     }
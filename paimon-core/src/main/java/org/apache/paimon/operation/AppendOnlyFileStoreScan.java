@@ -19,18 +19,29 @@
 package org.apache.paimon.operation;
 
 import org.apache.paimon.AppendOnlyFileStore;
-import org.apache.paimon.manifest.ManifestEntry;
+import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.manifest.ManifestEntrySerializer;
 import org.apache.paimon.manifest.ManifestFile;
 import org.apache.paimon.manifest.ManifestList;
 import org.apache.paimon.predicate.Predicate;
 import org.apache.paimon.schema.SchemaManager;
+import org.apache.paimon.stats.BinaryTableStats;
 import org.apache.paimon.stats.FieldStatsConverters;
 import org.apache.paimon.types.RowType;
 import org.apache.paimon.utils.SnapshotManager;
 
+import java.util.function.Function;
+
 /** {@link FileStoreScan} for {@link AppendOnlyFileStore}. */
 public class AppendOnlyFileStoreScan extends AbstractFileStoreScan {
 
+    private static final Function<InternalRow, Long> ROW_COUNT_GETTER =
+            ManifestEntrySerializer.rowCountGetter();
+    private static final Function<InternalRow, BinaryTableStats> VALUE_STATS_GETTER =
+            ManifestEntrySerializer.valueStatsGetter();
+    private static final Function<InternalRow, Long> SCHEMA_ID_GETTER =
+            ManifestEntrySerializer.schemaIdGetter();
+
     private final FieldStatsConverters fieldStatsConverters;
 
     private Predicate filter;
@@ -68,14 +79,19 @@ public class AppendOnlyFileStoreScan extends AbstractFileStoreScan {
 
     /** Note: Keep this thread-safe. */
     @Override
-    protected boolean filterByStats(ManifestEntry entry) {
-        return filter == null
-                || filter.test(
-                        entry.file().rowCount(),
-                        entry.file()
-                                .valueStats()
-                                .fields(
-                                        fieldStatsConverters.getOrCreate(entry.file().schemaId()),
-                                        entry.file().rowCount()));
+    protected boolean filterByStats(InternalRow entryRow) {
+        if (filter == null) {
+            return true;
+        }
+
+        long rowCount = ROW_COUNT_GETTER.apply(entryRow);
+        return filter.test(
+                rowCount,
+                VALUE_STATS_GETTER
+                        .apply(entryRow)
+                        .fields(
+                                fieldStatsConverters.getOrCreate(
+                                        SCHEMA_ID_GETTER.apply(entryRow)),
+                                rowCount));
     }
 }
@@ -82,7 +82,7 @@ public class AppendOnlyFileStoreWrite extends AbstractFileStoreWrite<InternalRow
             SnapshotManager snapshotManager,
             FileStoreScan scan,
             CoreOptions options) {
-        super(commitUser, snapshotManager, scan, null);
+        super(commitUser, snapshotManager, scan, null, options.compactionThreads());
         this.fileIO = fileIO;
         this.read = read;
         this.schemaId = schemaId;
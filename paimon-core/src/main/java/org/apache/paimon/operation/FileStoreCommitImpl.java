@@ -426,6 +426,9 @@ public class FileStoreCommitImpl implements FileStoreCommit {
 
             for (DataFileMeta file : toDelete) {
                 fileIO.deleteQuietly(pathFactory.toPath(file.fileName()));
+                for (String extraFile : file.extraFiles()) {
+                    fileIO.deleteQuietly(pathFactory.toPath(extraFile));
+                }
             }
         }
     }
@@ -706,6 +709,8 @@ public class FileStoreCommitImpl implements FileStoreCommit {
                                 fileIO.writeFileUtf8(newSnapshotPath, newSnapshot.toJson());
                         if (committed) {
                             snapshotManager.commitLatestHint(newSnapshotId);
+                            snapshotManager.commitTimeIndex(
+                                    newSnapshotId, newSnapshot.timeMillis());
                         }
                         return committed;
                     };
@@ -214,6 +214,7 @@ public class FileStoreExpireImpl implements FileStoreExpire {
         Callable<Void> callable =
                 () -> {
                     snapshotManager.commitEarliestHint(earliest);
+                    snapshotManager.expireTimeIndex(earliest);
                     return null;
                 };
 
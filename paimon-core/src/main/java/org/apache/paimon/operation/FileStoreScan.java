@@ -31,6 +31,7 @@ import org.apache.paimon.utils.Filter;
 import javax.annotation.Nullable;
 
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -64,6 +65,15 @@ public interface FileStoreScan {
     /** Produce a {@link Plan}. */
     Plan plan();
 
+    /**
+     * Produce the files of a plan lazily, without holding the entries of all alive files in memory.
+     * Manifests are read from the newest one and files are returned as soon as they are known to
+     * be alive, so the order of files differs from {@link Plan#files()}. The identifiers of all
+     * files and the DELETE entries not matched yet are still held, see {@link
+     * ManifestEntry#mergeReversedEntries} for the memory cost.
+     */
+    Iterator<ManifestEntry> readFileIterator();
+
     /** Result plan of this scan. */
     interface Plan {
 
@@ -38,6 +38,7 @@ import org.apache.paimon.mergetree.compact.IntervalPartition;
 import org.apache.paimon.mergetree.compact.MergeFunctionFactory;
 import org.apache.paimon.mergetree.compact.MergeFunctionFactory.AdjustedProjection;
 import org.apache.paimon.mergetree.compact.MergeFunctionWrapper;
+import org.apache.paimon.mergetree.compact.PrefetchConcatRecordReader;
 import org.apache.paimon.mergetree.compact.ReducerMergeFunctionWrapper;
 import org.apache.paimon.predicate.Predicate;
 import org.apache.paimon.reader.RecordReader;
@@ -46,6 +47,7 @@ import org.apache.paimon.schema.SchemaManager;
 import org.apache.paimon.schema.TableSchema;
 import org.apache.paimon.table.source.DataSplit;
 import org.apache.paimon.types.RowType;
+import org.apache.paimon.utils.ExecutorThreadFactory;
 import org.apache.paimon.utils.FileStorePathFactory;
 import org.apache.paimon.utils.ProjectedRow;
 
@@ -58,6 +60,10 @@ import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import static org.apache.paimon.io.DataFilePathFactory.CHANGELOG_FILE_PREFIX;
@@ -67,12 +73,17 @@ import static org.apache.paimon.predicate.PredicateBuilder.splitAnd;
 /** {@link FileStoreRead} implementation for {@link KeyValueFileStore}. */
 public class KeyValueFileStoreRead implements FileStoreRead<KeyValue> {
 
+    // opening sections blocks on file IO, so they are prefetched by a bounded pool of their own
+    // instead of the common IO pool, which is shared by planning and manifest reads
+    private static final ExecutorService PREFETCH_EXECUTOR = createPrefetchExecutor();
+
     private final TableSchema tableSchema;
     private final KeyValueFileReaderFactory.Builder readerFactoryBuilder;
     private final Comparator<InternalRow> keyComparator;
     private final MergeFunctionFactory<KeyValue> mfFactory;
     private final boolean valueCountMode;
     private final MergeSorter mergeSorter;
+    private final int prefetchSections;
 
     @Nullable private int[][] keyProjectedFields;
 
@@ -110,9 +121,9 @@ public class KeyValueFileStoreRead implements FileStoreRead<KeyValue> {
         this.keyComparator = keyComparator;
         this.mfFactory = mfFactory;
         this.valueCountMode = tableSchema.trimmedPrimaryKeys().isEmpty();
-        this.mergeSorter =
-                new MergeSorter(
-                        CoreOptions.fromMap(tableSchema.options()), keyType, valueType, null);
+        CoreOptions options = CoreOptions.fromMap(tableSchema.options());
+        this.mergeSorter = new MergeSorter(options, keyType, valueType, null);
+        this.prefetchSections = options.readPrefetchSections();
     }
 
     public KeyValueFileStoreRead withKeyProjection(int[][] projectedFields) {
@@ -222,30 +233,51 @@ public class KeyValueFileStoreRead implements FileStoreRead<KeyValue> {
         // So we cannot project keys or else the sorting will be incorrect.
         KeyValueFileReaderFactory overlappedSectionFactory =
                 readerFactoryBuilder.build(partition, bucket, false, filtersForOverlappedSection);
+        // Keys are unique in a section with only one run, so records are read from the files
+        // directly, and deleted records are dropped by the file readers on whole batches.
         KeyValueFileReaderFactory nonOverlappedSectionFactory =
                 readerFactoryBuilder.build(
-                        partition, bucket, false, filtersForNonOverlappedSection);
+                        partition, bucket, false, filtersForNonOverlappedSection, !keepDelete);
 
         List<ReaderSupplier<KeyValue>> sectionReaders = new ArrayList<>();
         MergeFunctionWrapper<KeyValue> mergeFuncWrapper =
                 new ReducerMergeFunctionWrapper(mfFactory.create(pushdownProjection));
-        for (List<SortedRun> section : new IntervalPartition(files, keyComparator).partition()) {
-            sectionReaders.add(
-                    () ->
-                            MergeTreeReaders.readerForSection(
-                                    section,
-                                    section.size() > 1
-                                            ? overlappedSectionFactory
-                                            : nonOverlappedSectionFactory,
-                                    keyComparator,
-                                    mergeFuncWrapper,
-                                    mergeSorter));
+        List<List<SortedRun>> sections = new IntervalPartition(files, keyComparator).partition();
+        // spilling sections share the memory pool of the merge sorter, open them one by one
+        boolean prefetch =
+                prefetchSections > 0
+                        && sections.stream()
+                                .noneMatch(section -> mergeSorter.spillable(section.size()));
+        for (List<SortedRun> section : sections) {
+            if (section.size() == 1) {
+                sectionReaders.add(
+                        () ->
+                                MergeTreeReaders.readerForRun(
+                                        section.get(0), nonOverlappedSectionFactory));
+            } else {
+                sectionReaders.add(
+                        () -> {
+                            RecordReader<KeyValue> sectionReader =
+                                    MergeTreeReaders.readerForSection(
+                                            section,
+                                            overlappedSectionFactory,
+                                            keyComparator,
+                                            mergeFuncWrapper,
+                                            mergeSorter);
+                            return keepDelete
+                                    ? sectionReader
+                                    : new DropDeleteReader(sectionReader);
+                        });
+            }
         }
 
-        RecordReader<KeyValue> reader = ConcatRecordReader.create(sectionReaders);
-        if (!keepDelete) {
-            reader = new DropDeleteReader(reader);
-        }
+        RecordReader<KeyValue> reader =
+                prefetch
+                        ? PrefetchConcatRecordReader.create(
+                                sectionReaders,
+                                prefetchSections,
+                                PREFETCH_EXECUTOR)
+                        : ConcatRecordReader.create(sectionReaders);
 
         // Project results from SortMergeReader using ProjectKeyRecordReader.
         return keyProjectedFields == null ? reader : projectKey(reader, keyProjectedFields);
@@ -281,4 +313,18 @@ public class KeyValueFileStoreRead implements FileStoreRead<KeyValue> {
         ProjectedRow projectedRow = ProjectedRow.from(keyProjectedFields);
         return reader.transform(kv -> kv.replaceKey(projectedRow.replaceRow(kv.key())));
     }
+
+    private static ExecutorService createPrefetchExecutor() {
+        int threads = Runtime.getRuntime().availableProcessors();
+        ThreadPoolExecutor executor =
+                new ThreadPoolExecutor(
+                        threads,
+                        threads,
+                        60L,
+                        TimeUnit.SECONDS,
+                        new LinkedBlockingQueue<>(),
+                        new ExecutorThreadFactory("paimon-read-prefetch"));
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
 }
@@ -19,23 +19,61 @@
 package org.apache.paimon.operation;
 
 import org.apache.paimon.KeyValueFileStore;
+import org.apache.paimon.data.GenericRow;
+import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.data.serializer.RowCompactedSerializer;
+import org.apache.paimon.fs.FileIO;
+import org.apache.paimon.io.KeyBloomFilterFile;
 import org.apache.paimon.manifest.ManifestEntry;
+import org.apache.paimon.manifest.ManifestEntrySerializer;
 import org.apache.paimon.manifest.ManifestFile;
 import org.apache.paimon.manifest.ManifestList;
+import org.apache.paimon.mergetree.KeyBloomFilterCache;
+import org.apache.paimon.predicate.Equal;
+import org.apache.paimon.predicate.LeafPredicate;
 import org.apache.paimon.predicate.Predicate;
 import org.apache.paimon.schema.KeyValueFieldsExtractor;
 import org.apache.paimon.schema.SchemaManager;
+import org.apache.paimon.stats.BinaryTableStats;
 import org.apache.paimon.stats.FieldStatsConverters;
 import org.apache.paimon.types.RowType;
+import org.apache.paimon.utils.FileStorePathFactory;
 import org.apache.paimon.utils.SnapshotManager;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+
+import java.io.IOException;
+import java.util.function.Function;
+
+import static org.apache.paimon.predicate.PredicateBuilder.splitAnd;
+
 /** {@link FileStoreScan} for {@link KeyValueFileStore}. */
 public class KeyValueFileStoreScan extends AbstractFileStoreScan {
 
+    private static final Logger LOG = LoggerFactory.getLogger(KeyValueFileStoreScan.class);
+
+    private static final Function<InternalRow, Long> ROW_COUNT_GETTER =
+            ManifestEntrySerializer.rowCountGetter();
+    private static final Function<InternalRow, BinaryTableStats> KEY_STATS_GETTER =
+            ManifestEntrySerializer.keyStatsGetter();
+    private static final Function<InternalRow, Long> SCHEMA_ID_GETTER =
+            ManifestEntrySerializer.schemaIdGetter();
+
     private final FieldStatsConverters fieldStatsConverters;
+    private final long schemaId;
+    private final KeyValueFieldsExtractor keyValueFieldsExtractor;
+    private final FileIO fileIO;
+    private final FileStorePathFactory pathFactory;
+    private final KeyBloomFilterCache keyBloomFilters;
 
     private Predicate keyFilter;
 
+    // hash of the key if the key filter is an equality on all primary keys
+    @Nullable private Integer pointKeyHash;
+
     public KeyValueFileStoreScan(
             RowType partitionType,
             ScanBucketFilter bucketFilter,
@@ -47,7 +85,10 @@ public class KeyValueFileStoreScan extends AbstractFileStoreScan {
             ManifestList.Factory manifestListFactory,
             int numOfBuckets,
             boolean checkNumOfBuckets,
-            Integer scanManifestParallelism) {
+            Integer scanManifestParallelism,
+            FileIO fileIO,
+            FileStorePathFactory pathFactory,
+            KeyBloomFilterCache keyBloomFilters) {
         super(
                 partitionType,
                 bucketFilter,
@@ -61,24 +102,95 @@ public class KeyValueFileStoreScan extends AbstractFileStoreScan {
         this.fieldStatsConverters =
                 new FieldStatsConverters(
                         sid -> keyValueFieldsExtractor.keyFields(scanTableSchema(sid)), schemaId);
+        this.schemaId = schemaId;
+        this.keyValueFieldsExtractor = keyValueFieldsExtractor;
+        this.fileIO = fileIO;
+        this.pathFactory = pathFactory;
+        this.keyBloomFilters = keyBloomFilters;
     }
 
     public KeyValueFileStoreScan withKeyFilter(Predicate predicate) {
         this.keyFilter = predicate;
         this.bucketKeyFilter.pushdown(predicate);
+        this.pointKeyHash = pointKeyHash(predicate);
         return this;
     }
 
     /** Note: Keep this thread-safe. */
     @Override
-    protected boolean filterByStats(ManifestEntry entry) {
-        return keyFilter == null
-                || keyFilter.test(
-                        entry.file().rowCount(),
-                        entry.file()
-                                .keyStats()
-                                .fields(
-                                        fieldStatsConverters.getOrCreate(entry.file().schemaId()),
-                                        entry.file().rowCount()));
+    protected boolean filterByStats(InternalRow entryRow) {
+        if (keyFilter == null) {
+            return true;
+        }
+
+        long rowCount = ROW_COUNT_GETTER.apply(entryRow);
+        return keyFilter.test(
+                rowCount,
+                KEY_STATS_GETTER
+                        .apply(entryRow)
+                        .fields(
+                                fieldStatsConverters.getOrCreate(
+                                        SCHEMA_ID_GETTER.apply(entryRow)),
+                                rowCount));
+    }
+
+    @Override
+    protected boolean hasFileIndexFilter() {
+        return pointKeyHash != null;
+    }
+
+    /** Note: Keep this thread-safe. */
+    @Override
+    protected boolean filterByFileIndex(ManifestEntry entry) {
+        if (pointKeyHash == null || entry.file().schemaId() != schemaId) {
+            return true;
+        }
+
+        try {
+            return keyBloomFilters.mightContain(
+                    entry.file(),
+                    pointKeyHash,
+                    file ->
+                            KeyBloomFilterFile.read(
+                                    fileIO,
+                                    pathFactory
+                                            .createDataFilePathFactory(
+                                                    entry.partition(), entry.bucket())
+                                            .toPath(KeyBloomFilterFile.find(file))));
+        } catch (IOException e) {
+            // the bloom filter only skips files, so the file is kept if it cannot be read
+            LOG.warn(
+                    "Failed to read the key bloom filter of data file {}, the file is not skipped.",
+                    entry.file().fileName(),
+                    e);
+            return true;
+        }
+    }
+
+    /** Returns the key hash if the predicate is an equality on all primary keys. */
+    @Nullable
+    private Integer pointKeyHash(@Nullable Predicate predicate) {
+        if (predicate == null) {
+            return null;
+        }
+
+        RowType keyType = new RowType(keyValueFieldsExtractor.keyFields(scanTableSchema(schemaId)));
+        Object[] keyValues = new Object[keyType.getFieldCount()];
+        for (Predicate child : splitAnd(predicate)) {
+            if (child instanceof LeafPredicate
+                    && ((LeafPredicate) child).function() instanceof Equal) {
+                LeafPredicate leaf = (LeafPredicate) child;
+                keyValues[leaf.index()] = leaf.literals().get(0);
+            }
+        }
+
+        for (Object value : keyValues) {
+            if (value == null) {
+                return null;
+            }
+        }
+        byte[] keyBytes =
+                new RowCompactedSerializer(keyType).serializeToBytes(GenericRow.of(keyValues));
+        return KeyBloomFilterFile.hash(keyBytes);
     }
 }
@@ -34,13 +34,14 @@ import org.apache.paimon.index.IndexMaintainer;
 import org.apache.paimon.io.DataFileMeta;
 import org.apache.paimon.io.KeyValueFileReaderFactory;
 import org.apache.paimon.io.KeyValueFileWriterFactory;
-import org.apache.paimon.lookup.hash.HashLookupStoreFactory;
+import org.apache.paimon.lookup.LookupStoreFactory;
 import org.apache.paimon.mergetree.ContainsLevels;
+import org.apache.paimon.mergetree.KeyBloomFilterCache;
 import org.apache.paimon.mergetree.Levels;
 import org.apache.paimon.mergetree.LookupLevels;
+import org.apache.paimon.mergetree.LookupUtils;
 import org.apache.paimon.mergetree.MergeSorter;
 import org.apache.paimon.mergetree.MergeTreeWriter;
-import org.apache.paimon.mergetree.compact.CompactRewriter;
 import org.apache.paimon.mergetree.compact.CompactStrategy;
 import org.apache.paimon.mergetree.compact.FirstRowMergeTreeCompactRewriter;
 import org.apache.paimon.mergetree.compact.FullChangelogMergeTreeCompactRewriter;
@@ -50,10 +51,13 @@ import org.apache.paimon.mergetree.compact.MergeFunctionFactory;
 import org.apache.paimon.mergetree.compact.MergeTreeCompactManager;
 import org.apache.paimon.mergetree.compact.MergeTreeCompactRewriter;
 import org.apache.paimon.mergetree.compact.UniversalCompaction;
+import org.apache.paimon.operation.metrics.LookupMetrics;
+import org.apache.paimon.operation.metrics.WriteBufferMetrics;
 import org.apache.paimon.schema.KeyValueFieldsExtractor;
 import org.apache.paimon.schema.SchemaManager;
 import org.apache.paimon.types.RowType;
 import org.apache.paimon.utils.CommitIncrement;
+import org.apache.paimon.utils.ExecutorThreadFactory;
 import org.apache.paimon.utils.FileStorePathFactory;
 import org.apache.paimon.utils.SnapshotManager;
 
@@ -65,7 +69,11 @@ import javax.annotation.Nullable;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 
 import static org.apache.paimon.io.DataFileMeta.getMaxSequenceNumber;
@@ -85,6 +93,12 @@ public class KeyValueFileStoreWrite extends MemoryFileStoreWrite<KeyValue> {
     private final RowType keyType;
     private final RowType valueType;
 
+    @Nullable private LookupMetrics lookupMetrics;
+    @Nullable private ThreadPoolExecutor lookupPrefetchExecutor;
+    @Nullable private WriteBufferMetrics writeBufferMetrics;
+    @Nullable private ExecutorService flushExecutor;
+    @Nullable private ExecutorService compactSubtaskExecutor;
+
     public KeyValueFileStoreWrite(
             FileIO fileIO,
             SchemaManager schemaManager,
@@ -161,18 +175,43 @@ public class KeyValueFileStoreWrite extends MemoryFileStoreWrite<KeyValue> {
                         : universalCompaction;
         CompactManager compactManager =
                 createCompactManager(partition, bucket, compactStrategy, compactExecutor, levels);
-        return new MergeTreeWriter(
-                bufferSpillable(),
-                options.localSortMaxNumFileHandles(),
-                ioManager,
-                compactManager,
-                getMaxSequenceNumber(restoreFiles),
-                keyComparator,
-                mfFactory.create(),
-                writerFactory,
-                options.commitForceCompact(),
-                options.changelogProducer(),
-                restoreIncrement);
+        MergeTreeWriter writer =
+                new MergeTreeWriter(
+                        bufferSpillable(),
+                        options.localSortMaxNumFileHandles(),
+                        ioManager,
+                        compactManager,
+                        getMaxSequenceNumber(restoreFiles),
+                        keyComparator,
+                        mfFactory.create(),
+                        writerFactory,
+                        options.commitForceCompact(),
+                        options.changelogProducer(),
+                        restoreIncrement);
+        if (options.writeBufferAsyncFlushEnabled()) {
+            writer.withAsyncFlush(flushExecutor());
+        }
+        WriteBufferMetrics metrics = writeBufferMetrics();
+        return writer.withFlushMetrics(
+                metrics.bufferFlushLatency(), metrics.bufferFlushStallTime());
+    }
+
+    private WriteBufferMetrics writeBufferMetrics() {
+        if (writeBufferMetrics == null) {
+            writeBufferMetrics = new WriteBufferMetrics(options.path().getName());
+        }
+        return writeBufferMetrics;
+    }
+
+    /** A single thread shared by all buckets to flush full write buffers in background. */
+    private ExecutorService flushExecutor() {
+        if (flushExecutor == null) {
+            flushExecutor =
+                    Executors.newSingleThreadExecutor(
+                            new ExecutorThreadFactory(
+                                    Thread.currentThread().getName() + "-buffer-flush"));
+        }
+        return flushExecutor;
     }
 
     @VisibleForTesting
@@ -190,7 +229,15 @@ public class KeyValueFileStoreWrite extends MemoryFileStoreWrite<KeyValue> {
             return new NoopCompactManager();
         } else {
             Comparator<InternalRow> keyComparator = keyComparatorSupplier.get();
-            CompactRewriter rewriter = createRewriter(partition, bucket, keyComparator, levels);
+            MergeTreeCompactRewriter rewriter =
+                    createRewriter(partition, bucket, keyComparator, levels);
+            int maxSubtasks = options.compactionMaxSubtasks();
+            if (maxSubtasks > 1) {
+                rewriter.withSubtasks(
+                        compactSubtaskExecutor(maxSubtasks),
+                        maxSubtasks,
+                        options.targetFileSize());
+            }
             return new MergeTreeCompactManager(
                     compactExecutor,
                     levels,
@@ -202,6 +249,23 @@ public class KeyValueFileStoreWrite extends MemoryFileStoreWrite<KeyValue> {
         }
     }
 
+    /**
+     * Threads to rewrite compaction subtasks, shared by all compactions of the write. The
+     * compaction thread rewrites the first subtask of its compaction itself, and up to {@code
+     * compaction.threads} compactions may run concurrently, so there are enough threads for the
+     * other subtasks of all of them.
+     */
+    private ExecutorService compactSubtaskExecutor(int maxSubtasks) {
+        if (compactSubtaskExecutor == null) {
+            compactSubtaskExecutor =
+                    Executors.newFixedThreadPool(
+                            (maxSubtasks - 1) * options.compactionThreads(),
+                            new ExecutorThreadFactory(
+                                    Thread.currentThread().getName() + "-compaction-subtask"));
+        }
+        return compactSubtaskExecutor;
+    }
+
     private MergeTreeCompactRewriter createRewriter(
             BinaryRow partition, int bucket, Comparator<InternalRow> keyComparator, Levels levels) {
         KeyValueFileReaderFactory readerFactory = readerFactoryBuilder.build(partition, bucket);
@@ -259,20 +323,28 @@ public class KeyValueFileStoreWrite extends MemoryFileStoreWrite<KeyValue> {
             throw new RuntimeException(
                     "Can not use lookup, there is no temp disk directory to use.");
         }
-        return new LookupLevels(
-                levels,
-                keyComparatorSupplier.get(),
-                keyType,
-                valueType,
-                file ->
-                        readerFactory.createRecordReader(
-                                file.schemaId(), file.fileName(), file.level()),
-                () -> ioManager.createChannel().getPathFile(),
-                new HashLookupStoreFactory(
-                        cacheManager,
-                        options.toConfiguration().get(CoreOptions.LOOKUP_HASH_LOAD_FACTOR)),
-                options.toConfiguration().get(CoreOptions.LOOKUP_CACHE_FILE_RETENTION),
-                options.toConfiguration().get(CoreOptions.LOOKUP_CACHE_MAX_DISK_SIZE));
+        LookupLevels lookupLevels =
+                new LookupLevels(
+                        levels,
+                        keyComparatorSupplier.get(),
+                        keyType,
+                        valueType,
+                        file ->
+                                readerFactory.createRecordReader(
+                                        file.schemaId(), file.fileName(), file.level()),
+                        createKeyBloomFilterCache(readerFactory),
+                        () -> ioManager.createChannel().getPathFile(),
+                        createLookupStoreFactory(),
+                        options.toConfiguration().get(CoreOptions.LOOKUP_CACHE_FILE_RETENTION),
+                        options.toConfiguration().get(CoreOptions.LOOKUP_CACHE_MAX_DISK_SIZE),
+                        LookupStoreFactory.bfGenerator(options.toConfiguration()));
+        lookupLevels.withBuildLatency(lookupMetrics().lookupFileBuildLatency());
+        int prefetchThreads =
+                options.toConfiguration().get(CoreOptions.LOOKUP_CACHE_PREFETCH_THREADS);
+        if (prefetchThreads > 0) {
+            lookupLevels.withPrefetchExecutor(lookupPrefetchExecutor(prefetchThreads));
+        }
+        return lookupLevels;
     }
 
     private ContainsLevels createContainsLevels(
@@ -288,11 +360,80 @@ public class KeyValueFileStoreWrite extends MemoryFileStoreWrite<KeyValue> {
                 file ->
                         readerFactory.createRecordReader(
                                 file.schemaId(), file.fileName(), file.level()),
+                createKeyBloomFilterCache(readerFactory),
                 () -> ioManager.createChannel().getPathFile(),
-                new HashLookupStoreFactory(
-                        cacheManager,
-                        options.toConfiguration().get(CoreOptions.LOOKUP_HASH_LOAD_FACTOR)),
+                createLookupStoreFactory(),
+                options.toConfiguration().get(CoreOptions.LOOKUP_CACHE_FILE_RETENTION),
+                options.toConfiguration().get(CoreOptions.LOOKUP_CACHE_MAX_DISK_SIZE),
+                LookupStoreFactory.bfGenerator(options.toConfiguration()));
+    }
+
+    private KeyBloomFilterCache createKeyBloomFilterCache(
+            KeyValueFileReaderFactory readerFactory) {
+        return new KeyBloomFilterCache(
+                readerFactory::readKeyBloomFilter,
                 options.toConfiguration().get(CoreOptions.LOOKUP_CACHE_FILE_RETENTION),
-                options.toConfiguration().get(CoreOptions.LOOKUP_CACHE_MAX_DISK_SIZE));
+                options.fileKeyBloomFilterCacheMaxMemorySize());
+    }
+
+    private LookupMetrics lookupMetrics() {
+        if (lookupMetrics == null) {
+            lookupMetrics =
+                    new LookupMetrics(
+                            options.path().getName(),
+                            cacheManager,
+                            () ->
+                                    lookupPrefetchExecutor == null
+                                            ? 0
+                                            : lookupPrefetchExecutor.getQueue().size());
+        }
+        return lookupMetrics;
+    }
+
+    /** A bounded executor shared by all buckets to prefetch lookup files. */
+    private ExecutorService lookupPrefetchExecutor(int threads) {
+        if (lookupPrefetchExecutor == null) {
+            lookupPrefetchExecutor =
+                    new ThreadPoolExecutor(
+                            threads,
+                            threads,
+                            0L,
+                            TimeUnit.MILLISECONDS,
+                            new ArrayBlockingQueue<>(
+                                    options.toConfiguration()
+                                            .get(CoreOptions.LOOKUP_CACHE_PREFETCH_QUEUE_SIZE)),
+                            new ExecutorThreadFactory(
+                                    Thread.currentThread().getName() + "-lookup-prefetch"));
+        }
+        return lookupPrefetchExecutor;
+    }
+
+    private LookupStoreFactory createLookupStoreFactory() {
+        return LookupUtils.createLookupStoreFactory(
+                options,
+                cacheManager,
+                keyType,
+                keyComparatorSupplier,
+                lookupMetrics().bloomFilterSkippedLookups());
+    }
+
+    @Override
+    public void close() throws Exception {
+        super.close();
+        if (lookupPrefetchExecutor != null) {
+            lookupPrefetchExecutor.shutdownNow();
+        }
+        if (lookupMetrics != null) {
+            lookupMetrics.close();
+        }
+        if (flushExecutor != null) {
+            flushExecutor.shutdownNow();
+        }
+        if (compactSubtaskExecutor != null) {
+            compactSubtaskExecutor.shutdownNow();
+        }
+        if (writeBufferMetrics != null) {
+            writeBufferMetrics.close();
+        }
     }
 }
@@ -38,6 +38,8 @@ import java.util.Iterator;
 import java.util.Map;
 
 import static org.apache.paimon.CoreOptions.LOOKUP_CACHE_MAX_MEMORY_SIZE;
+import static org.apache.paimon.CoreOptions.LOOKUP_CACHE_MAX_MMAP_SIZE;
+import static org.apache.paimon.CoreOptions.LOOKUP_CACHE_OFF_HEAP_ENABLED;
 
 /**
  * Base {@link FileStoreWrite} implementation which supports using shared memory and preempting
@@ -58,12 +60,14 @@ public abstract class MemoryFileStoreWrite<T> extends AbstractFileStoreWrite<T>
             FileStoreScan scan,
             CoreOptions options,
             @Nullable IndexMaintainer.Factory<T> indexFactory) {
-        super(commitUser, snapshotManager, scan, indexFactory);
+        super(commitUser, snapshotManager, scan, indexFactory, options.compactionThreads());
         this.options = options;
         this.cacheManager =
                 new CacheManager(
                         options.pageSize(),
-                        options.toConfiguration().get(LOOKUP_CACHE_MAX_MEMORY_SIZE));
+                        options.toConfiguration().get(LOOKUP_CACHE_MAX_MEMORY_SIZE),
+                        options.toConfiguration().get(LOOKUP_CACHE_OFF_HEAP_ENABLED),
+                        options.toConfiguration().get(LOOKUP_CACHE_MAX_MMAP_SIZE));
     }
 
     @Override
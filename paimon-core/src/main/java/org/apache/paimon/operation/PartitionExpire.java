@@ -29,10 +29,12 @@ import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 /** Expire partitions. */
 public class PartitionExpire {
@@ -115,9 +117,11 @@ public class PartitionExpire {
         // TODO optimize this to read partition only
         // NOTE: avro projection push down can't reach expected cause row-oriented design, see pull
         // request #1114
-        return scan.plan().files().stream()
-                .map(ManifestEntry::partition)
-                .distinct()
-                .collect(Collectors.toList());
+        Set<BinaryRow> partitions = new LinkedHashSet<>();
+        Iterator<ManifestEntry> files = scan.readFileIterator();
+        while (files.hasNext()) {
+            partitions.add(files.next().partition());
+        }
+        return new ArrayList<>(partitions);
     }
 }
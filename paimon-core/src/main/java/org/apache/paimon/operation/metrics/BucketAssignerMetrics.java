@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.operation.metrics;
+
+import org.apache.paimon.metrics.DescriptiveStatisticsHistogram;
+import org.apache.paimon.metrics.Gauge;
+import org.apache.paimon.metrics.Histogram;
+import org.apache.paimon.metrics.groups.GenericMetricGroup;
+
+/** Metrics to measure the dynamic bucket assigner. */
+public class BucketAssignerMetrics {
+
+    public static final String GROUP_NAME = "bucketAssigner";
+
+    public static final String PARTITION_INDEX_LOAD_LATENCY = "partitionIndexLoadLatency";
+
+    public static final String LOADED_PARTITION_INDEXES = "loadedPartitionIndexes";
+
+    private static final int HISTOGRAM_WINDOW_SIZE = 10_000;
+
+    private final GenericMetricGroup metricGroup;
+
+    private final Histogram partitionIndexLoadLatency;
+
+    /** @param loadedPartitionIndexes number of partition indexes held by the assigner. */
+    public BucketAssignerMetrics(String tableName, Gauge<Integer> loadedPartitionIndexes) {
+        this.metricGroup = GenericMetricGroup.createGenericMetricGroup(tableName, GROUP_NAME);
+        this.partitionIndexLoadLatency =
+                metricGroup.histogram(
+                        PARTITION_INDEX_LOAD_LATENCY,
+                        new DescriptiveStatisticsHistogram(HISTOGRAM_WINDOW_SIZE));
+        metricGroup.gauge(LOADED_PARTITION_INDEXES, loadedPartitionIndexes);
+    }
+
+    public GenericMetricGroup getMetricGroup() {
+        return metricGroup;
+    }
+
+    /** Histogram of latency in milliseconds of loading the index of a partition. */
+    public Histogram partitionIndexLoadLatency() {
+        return partitionIndexLoadLatency;
+    }
+
+    public void close() {
+        metricGroup.close();
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.operation.metrics;
+
+import org.apache.paimon.compact.CompactPriority;
+import org.apache.paimon.compact.CompactScheduler;
+import org.apache.paimon.metrics.DescriptiveStatisticsHistogram;
+import org.apache.paimon.metrics.Gauge;
+import org.apache.paimon.metrics.Histogram;
+import org.apache.paimon.metrics.groups.GenericMetricGroup;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/** Metrics to measure queueing of compactions in a {@link CompactScheduler}. */
+public class CompactionMetrics {
+
+    public static final String GROUP_NAME = "compaction";
+
+    public static final String QUEUE_LENGTH = "QueueLength";
+
+    public static final String WAIT_TIME = "WaitTime";
+
+    private static final int HISTOGRAM_WINDOW_SIZE = 10_000;
+
+    private final GenericMetricGroup metricGroup;
+    private final CompactScheduler scheduler;
+    private final Map<CompactPriority, Histogram> waitTimes = new EnumMap<>(CompactPriority.class);
+
+    /**
+     * Registers the queue length and wait time of every priority, for example {@code
+     * highPriorityQueueLength} and {@code highPriorityWaitTime}.
+     */
+    public CompactionMetrics(String tableName, CompactScheduler scheduler) {
+        this.metricGroup = GenericMetricGroup.createGenericMetricGroup(tableName, GROUP_NAME);
+        this.scheduler = scheduler;
+        for (CompactPriority priority : CompactPriority.values()) {
+            String prefix = priority.name().toLowerCase() + "Priority";
+            metricGroup.gauge(
+                    prefix + QUEUE_LENGTH, (Gauge<Integer>) () -> scheduler.queueLength(priority));
+            Histogram waitTime =
+                    metricGroup.histogram(
+                            prefix + WAIT_TIME,
+                            new DescriptiveStatisticsHistogram(HISTOGRAM_WINDOW_SIZE));
+            scheduler.withWaitTime(priority, waitTime);
+            waitTimes.put(priority, waitTime);
+        }
+    }
+
+    public GenericMetricGroup getMetricGroup() {
+        return metricGroup;
+    }
+
+    public void close() {
+        waitTimes.forEach(scheduler::removeWaitTime);
+        metricGroup.close();
+    }
+}
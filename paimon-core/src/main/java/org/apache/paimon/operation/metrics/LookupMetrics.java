@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.operation.metrics;
+
+import org.apache.paimon.io.cache.CacheManager;
+import org.apache.paimon.metrics.DescriptiveStatisticsHistogram;
+import org.apache.paimon.metrics.Gauge;
+import org.apache.paimon.metrics.Histogram;
+import org.apache.paimon.metrics.groups.GenericMetricGroup;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/** Metrics to measure lookups of local lookup files during compaction. */
+public class LookupMetrics {
+
+    public static final String GROUP_NAME = "lookup";
+
+    public static final String BLOOM_FILTER_SKIPPED_LOOKUPS = "bloomFilterSkippedLookups";
+
+    public static final String LOOKUP_FILE_BUILD_LATENCY = "lookupFileBuildLatency";
+
+    public static final String PREFETCH_QUEUE_DEPTH = "prefetchQueueDepth";
+
+    public static final String CACHE_HIT_COUNT = "cacheHitCount";
+
+    public static final String CACHE_MISS_COUNT = "cacheMissCount";
+
+    public static final String CACHE_EVICTION_COUNT = "cacheEvictionCount";
+
+    private static final int HISTOGRAM_WINDOW_SIZE = 10_000;
+
+    private final GenericMetricGroup metricGroup;
+
+    private final LongAdder bloomFilterSkippedLookups = new LongAdder();
+
+    private final Histogram lookupFileBuildLatency;
+
+    /**
+     * @param cacheManager page cache of the lookup files of the table.
+     * @param prefetchQueueDepth number of lookup files waiting to be built by the prefetch
+     *     executor.
+     */
+    public LookupMetrics(
+            String tableName, CacheManager cacheManager, Gauge<Integer> prefetchQueueDepth) {
+        this.metricGroup = GenericMetricGroup.createGenericMetricGroup(tableName, GROUP_NAME);
+        this.lookupFileBuildLatency =
+                metricGroup.histogram(
+                        LOOKUP_FILE_BUILD_LATENCY,
+                        new DescriptiveStatisticsHistogram(HISTOGRAM_WINDOW_SIZE));
+        registerGenericLookupMetrics(cacheManager, prefetchQueueDepth);
+    }
+
+    private void registerGenericLookupMetrics(
+            CacheManager cacheManager, Gauge<Integer> prefetchQueueDepth) {
+        metricGroup.gauge(
+                BLOOM_FILTER_SKIPPED_LOOKUPS, (Gauge<Long>) bloomFilterSkippedLookups::sum);
+        metricGroup.gauge(PREFETCH_QUEUE_DEPTH, prefetchQueueDepth);
+        metricGroup.gauge(CACHE_HIT_COUNT, (Gauge<Long>) cacheManager::hitCount);
+        metricGroup.gauge(CACHE_MISS_COUNT, (Gauge<Long>) cacheManager::missCount);
+        metricGroup.gauge(CACHE_EVICTION_COUNT, (Gauge<Long>) cacheManager::evictionCount);
+    }
+
+    public GenericMetricGroup getMetricGroup() {
+        return metricGroup;
+    }
+
+    /** Counter of lookups answered by bloom filters without probing the lookup files. */
+    public LongAdder bloomFilterSkippedLookups() {
+        return bloomFilterSkippedLookups;
+    }
+
+    /** Histogram of latency in milliseconds of building local lookup files. */
+    public Histogram lookupFileBuildLatency() {
+        return lookupFileBuildLatency;
+    }
+
+    public void close() {
+        metricGroup.close();
+    }
+}
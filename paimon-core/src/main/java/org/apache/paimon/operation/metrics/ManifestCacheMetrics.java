@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.operation.metrics;
+
+import org.apache.paimon.metrics.Gauge;
+import org.apache.paimon.metrics.groups.GenericMetricGroup;
+import org.apache.paimon.utils.SegmentsCache;
+
+/** Metrics to measure the manifest cache shared by the tables of a catalog. */
+public class ManifestCacheMetrics {
+
+    public static final String GROUP_NAME = "manifestCache";
+
+    public static final String HIT_COUNT = "hitCount";
+
+    public static final String MISS_COUNT = "missCount";
+
+    public static final String EVICTION_COUNT = "evictionCount";
+
+    public static final String CACHED_BYTES = "cachedBytes";
+
+    private final GenericMetricGroup metricGroup;
+
+    public ManifestCacheMetrics(String warehouse, SegmentsCache<?> cache) {
+        this.metricGroup = GenericMetricGroup.createCatalogMetricGroup(warehouse, GROUP_NAME);
+        metricGroup.gauge(HIT_COUNT, (Gauge<Long>) cache::hitCount);
+        metricGroup.gauge(MISS_COUNT, (Gauge<Long>) cache::missCount);
+        metricGroup.gauge(EVICTION_COUNT, (Gauge<Long>) cache::evictionCount);
+        metricGroup.gauge(CACHED_BYTES, (Gauge<Long>) cache::weightedSize);
+    }
+
+    public GenericMetricGroup getMetricGroup() {
+        return metricGroup;
+    }
+
+    public void close() {
+        metricGroup.close();
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.operation.metrics;
+
+import org.apache.paimon.metrics.DescriptiveStatisticsHistogram;
+import org.apache.paimon.metrics.Histogram;
+import org.apache.paimon.metrics.groups.GenericMetricGroup;
+
+/** Metrics to measure flushing of write buffers. */
+public class WriteBufferMetrics {
+
+    public static final String GROUP_NAME = "writeBuffer";
+
+    public static final String BUFFER_FLUSH_LATENCY = "bufferFlushLatency";
+
+    public static final String BUFFER_FLUSH_STALL_TIME = "bufferFlushStallTime";
+
+    private static final int HISTOGRAM_WINDOW_SIZE = 10_000;
+
+    private final GenericMetricGroup metricGroup;
+
+    private final Histogram bufferFlushLatency;
+
+    private final Histogram bufferFlushStallTime;
+
+    public WriteBufferMetrics(String tableName) {
+        this.metricGroup = GenericMetricGroup.createGenericMetricGroup(tableName, GROUP_NAME);
+        this.bufferFlushLatency =
+                metricGroup.histogram(
+                        BUFFER_FLUSH_LATENCY,
+                        new DescriptiveStatisticsHistogram(HISTOGRAM_WINDOW_SIZE));
+        this.bufferFlushStallTime =
+                metricGroup.histogram(
+                        BUFFER_FLUSH_STALL_TIME,
+                        new DescriptiveStatisticsHistogram(HISTOGRAM_WINDOW_SIZE));
+    }
+
+    public GenericMetricGroup getMetricGroup() {
+        return metricGroup;
+    }
+
+    /** Histogram of latency in milliseconds of flushing a write buffer to data files. */
+    public Histogram bufferFlushLatency() {
+        return bufferFlushLatency;
+    }
+
+    /** Histogram of time in milliseconds that writing waited for a background flush. */
+    public Histogram bufferFlushStallTime() {
+        return bufferFlushStallTime;
+    }
+
+    public void close() {
+        metricGroup.close();
+    }
+}
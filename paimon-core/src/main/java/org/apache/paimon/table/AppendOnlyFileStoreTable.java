@@ -82,7 +82,8 @@ public class AppendOnlyFileStoreTable extends AbstractFileStoreTable {
                             new CoreOptions(tableSchema.options()),
                             tableSchema.logicalPartitionType(),
                             tableSchema.logicalBucketKeyType(),
-                            tableSchema.logicalRowType());
+                            tableSchema.logicalRowType(),
+                            catalogEnvironment.manifestCache());
         }
         return lazyStore;
     }
@@ -21,14 +21,15 @@ package org.apache.paimon.table;
 import org.apache.paimon.lineage.LineageMeta;
 import org.apache.paimon.metastore.MetastoreClient;
 import org.apache.paimon.operation.Lock;
+import org.apache.paimon.utils.SegmentsCache;
 
 import javax.annotation.Nullable;
 
 import java.io.Serializable;
 
 /**
- * Catalog environment in table which contains log factory, metastore client factory and lineage
- * meta.
+ * Catalog environment in table which contains log factory, metastore client factory, lineage meta
+ * and the manifest cache shared by the tables of a catalog.
  */
 public class CatalogEnvironment implements Serializable {
 
@@ -38,13 +39,25 @@ public class CatalogEnvironment implements Serializable {
     @Nullable private final MetastoreClient.Factory metastoreClientFactory;
     @Nullable private final LineageMeta lineageMeta;
 
+    // the cache lives in the JVM of the catalog, it is not shipped with the table
+    @Nullable private final transient SegmentsCache<String> manifestCache;
+
     public CatalogEnvironment(
             Lock.Factory lockFactory,
             @Nullable MetastoreClient.Factory metastoreClientFactory,
             @Nullable LineageMeta lineageMeta) {
+        this(lockFactory, metastoreClientFactory, lineageMeta, null);
+    }
+
+    public CatalogEnvironment(
+            Lock.Factory lockFactory,
+            @Nullable MetastoreClient.Factory metastoreClientFactory,
+            @Nullable LineageMeta lineageMeta,
+            @Nullable SegmentsCache<String> manifestCache) {
         this.lockFactory = lockFactory;
         this.metastoreClientFactory = metastoreClientFactory;
         this.lineageMeta = lineageMeta;
+        this.manifestCache = manifestCache;
     }
 
     public Lock.Factory lockFactory() {
@@ -60,4 +73,9 @@ public class CatalogEnvironment implements Serializable {
     public LineageMeta lineageMeta() {
         return lineageMeta;
     }
+
+    @Nullable
+    public SegmentsCache<String> manifestCache() {
+        return manifestCache;
+    }
 }
@@ -139,7 +139,8 @@ public class ChangelogWithKeyFileStoreTable extends AbstractFileStoreTable {
                             new RowType(extractor.keyFields(tableSchema)),
                             rowType,
                             extractor,
-                            mfFactory);
+                            mfFactory,
+                            catalogEnvironment.manifestCache());
         }
         return lazyStore;
     }
@@ -78,9 +78,10 @@ public class RollbackHelper {
             tagDeletion.cleanUnusedManifests(snapshot, manifestsSkippingSet);
         }
 
-        // modify the latest hint
+        // modify the latest hint and drop commit times of cleaned snapshots
         try {
             snapshotManager.commitLatestHint(retainedSnapshot.id());
+            snapshotManager.timeIndex().truncate(retainedSnapshot.id());
         } catch (IOException e) {
             throw new UncheckedIOException(e);
         }
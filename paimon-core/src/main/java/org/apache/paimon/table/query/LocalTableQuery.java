@@ -0,0 +1,224 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.table.query;
+
+import org.apache.paimon.CoreOptions;
+import org.apache.paimon.KeyValue;
+import org.apache.paimon.KeyValueFileStore;
+import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.disk.IOManager;
+import org.apache.paimon.io.DataFileMeta;
+import org.apache.paimon.io.KeyValueFileReaderFactory;
+import org.apache.paimon.io.cache.CacheManager;
+import org.apache.paimon.lookup.LookupStoreFactory;
+import org.apache.paimon.mergetree.KeyBloomFilterCache;
+import org.apache.paimon.mergetree.Levels;
+import org.apache.paimon.mergetree.LookupLevels;
+import org.apache.paimon.mergetree.LookupUtils;
+import org.apache.paimon.options.Options;
+import org.apache.paimon.table.FileStoreTable;
+import org.apache.paimon.types.RowType;
+
+import javax.annotation.Nullable;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.apache.paimon.CoreOptions.LOOKUP_CACHE_FILE_RETENTION;
+import static org.apache.paimon.CoreOptions.LOOKUP_CACHE_MAX_DISK_SIZE;
+import static org.apache.paimon.CoreOptions.LOOKUP_CACHE_MAX_MEMORY_SIZE;
+import static org.apache.paimon.CoreOptions.LOOKUP_CACHE_MAX_MMAP_SIZE;
+import static org.apache.paimon.CoreOptions.LOOKUP_CACHE_OFF_HEAP_ENABLED;
+import static org.apache.paimon.utils.Preconditions.checkArgument;
+import static org.apache.paimon.utils.Preconditions.checkNotNull;
+
+/**
+ * Query the values of primary keys directly from the data files of a primary key table. Data
+ * files of each bucket are organized by {@link Levels} and looked up by {@link LookupLevels}, which
+ * builds local lookup files on demand. Files are added and dropped by {@link #refreshFiles}.
+ *
+ * <p>The newest record of a key is the result, so it is only correct for tables whose records of
+ * the same key do not need to be merged, like the deduplicate merge engine.
+ */
+public class LocalTableQuery implements Closeable {
+
+    private final Map<BinaryRow, Map<Integer, LookupLevels>> tableView;
+    private final CoreOptions options;
+    private final Supplier<Comparator<InternalRow>> keyComparatorSupplier;
+    private final Comparator<InternalRow> keyComparator;
+    private final KeyValueFileReaderFactory.Builder readerFactoryBuilder;
+    private final RowType keyType;
+    private final RowType valueType;
+    private final LookupStoreFactory lookupStoreFactory;
+
+    @Nullable private IOManager ioManager;
+
+    public LocalTableQuery(FileStoreTable table) {
+        checkArgument(
+                table.store() instanceof KeyValueFileStore,
+                "Local query only supports primary key table.");
+        KeyValueFileStore store = (KeyValueFileStore) table.store();
+        this.tableView = new HashMap<>();
+        this.options = table.coreOptions();
+        this.keyComparatorSupplier = store::newKeyComparator;
+        this.keyComparator = keyComparatorSupplier.get();
+        this.readerFactoryBuilder = store.newReaderFactoryBuilder();
+        this.keyType = store.keyType();
+        this.valueType = store.valueType();
+
+        Options conf = options.toConfiguration();
+        CacheManager cacheManager =
+                new CacheManager(
+                        options.pageSize(),
+                        conf.get(LOOKUP_CACHE_MAX_MEMORY_SIZE),
+                        conf.get(LOOKUP_CACHE_OFF_HEAP_ENABLED),
+                        conf.get(LOOKUP_CACHE_MAX_MMAP_SIZE));
+        this.lookupStoreFactory =
+                LookupUtils.createLookupStoreFactory(
+                        options, cacheManager, keyType, keyComparatorSupplier, null);
+    }
+
+    public LocalTableQuery withIOManager(IOManager ioManager) {
+        this.ioManager = ioManager;
+        return this;
+    }
+
+    /**
+     * Drop {@code beforeFiles} from and add {@code dataFiles} to the bucket. Lookup files of the
+     * dropped data files are removed, lookup files of added data files are built on lookup.
+     */
+    public void refreshFiles(
+            BinaryRow partition,
+            int bucket,
+            List<DataFileMeta> beforeFiles,
+            List<DataFileMeta> dataFiles) {
+        Map<Integer, LookupLevels> buckets =
+                tableView.computeIfAbsent(partition, k -> new HashMap<>());
+        LookupLevels lookupLevels = buckets.get(bucket);
+        if (lookupLevels == null) {
+            checkArgument(
+                    beforeFiles.isEmpty(),
+                    "Can not drop files %s from bucket %s of partition %s which is unknown.",
+                    beforeFiles,
+                    bucket,
+                    partition);
+            buckets.put(bucket, newLookupLevels(partition, bucket, dataFiles));
+        } else {
+            lookupLevels.levels().update(beforeFiles, dataFiles);
+        }
+    }
+
+    private LookupLevels newLookupLevels(
+            BinaryRow partition, int bucket, List<DataFileMeta> dataFiles) {
+        checkNotNull(ioManager, "Local query requires an IOManager to build lookup files.");
+        Levels levels = new Levels(keyComparatorSupplier.get(), dataFiles, options.numLevels());
+        KeyValueFileReaderFactory readerFactory = readerFactoryBuilder.build(partition, bucket);
+        Options conf = options.toConfiguration();
+        return new LookupLevels(
+                levels,
+                keyComparatorSupplier.get(),
+                keyType,
+                valueType,
+                file ->
+                        readerFactory.createRecordReader(
+                                file.schemaId(), file.fileName(), file.level()),
+                new KeyBloomFilterCache(
+                        readerFactory::readKeyBloomFilter,
+                        conf.get(LOOKUP_CACHE_FILE_RETENTION),
+                        options.fileKeyBloomFilterCacheMaxMemorySize()),
+                () -> ioManager.createChannel().getPathFile(),
+                lookupStoreFactory,
+                conf.get(LOOKUP_CACHE_FILE_RETENTION),
+                conf.get(LOOKUP_CACHE_MAX_DISK_SIZE),
+                LookupStoreFactory.bfGenerator(conf));
+    }
+
+    /** Lookup the value of the key, null if the key does not exist or has been deleted. */
+    @Nullable
+    public InternalRow lookup(BinaryRow partition, int bucket, InternalRow key)
+            throws IOException {
+        Map<Integer, LookupLevels> buckets = tableView.get(partition);
+        if (buckets == null) {
+            return null;
+        }
+        LookupLevels lookupLevels = buckets.get(bucket);
+        if (lookupLevels == null) {
+            return null;
+        }
+
+        // level 0 files are not compacted yet, they are looked up first
+        KeyValue kv = lookupLevels.lookup(key, 0);
+        if (kv == null || kv.valueKind().isRetract()) {
+            return null;
+        }
+        return kv.value();
+    }
+
+    /**
+     * Lookup the values of a batch of keys in the bucket, the results are in the order of keys and
+     * null for keys which do not exist or have been deleted. Keys are sorted to look up the files
+     * of each level in one pass, see {@link LookupLevels#lookupBatch}.
+     */
+    public List<InternalRow> lookupBatch(BinaryRow partition, int bucket, List<InternalRow> keys)
+            throws IOException {
+        List<InternalRow> results = new ArrayList<>(Collections.nCopies(keys.size(), null));
+        Map<Integer, LookupLevels> buckets = tableView.get(partition);
+        LookupLevels lookupLevels = buckets == null ? null : buckets.get(bucket);
+        if (lookupLevels == null) {
+            return results;
+        }
+
+        List<Integer> order = new ArrayList<>(keys.size());
+        for (int i = 0; i < keys.size(); i++) {
+            order.add(i);
+        }
+        order.sort((i1, i2) -> keyComparator.compare(keys.get(i1), keys.get(i2)));
+        List<InternalRow> sortedKeys = new ArrayList<>(keys.size());
+        for (int i : order) {
+            sortedKeys.add(keys.get(i));
+        }
+
+        List<KeyValue> kvs = lookupLevels.lookupBatch(sortedKeys, 0);
+        for (int i = 0; i < kvs.size(); i++) {
+            KeyValue kv = kvs.get(i);
+            if (kv != null && !kv.valueKind().isRetract()) {
+                results.set(order.get(i), kv.value());
+            }
+        }
+        return results;
+    }
+
+    @Override
+    public void close() throws IOException {
+        for (Map<Integer, LookupLevels> buckets : tableView.values()) {
+            for (LookupLevels lookupLevels : buckets.values()) {
+                lookupLevels.close();
+            }
+        }
+        tableView.clear();
+    }
+}
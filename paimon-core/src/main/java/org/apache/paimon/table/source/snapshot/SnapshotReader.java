@@ -60,6 +60,9 @@ public interface SnapshotReader {
     /** Get splits plan from snapshot. */
     Plan read();
 
+    /** Get splits plan of the files added and deleted by the snapshot. */
+    Plan readChanges();
+
     /** Get splits plan from an overwritten snapshot. */
     Plan readOverwrittenChanges();
 
@@ -231,6 +231,12 @@ public class SnapshotReaderImpl implements SnapshotReader {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public Plan readChanges() {
+        withKind(ScanKind.DELTA);
+        return toChangesPlan(scan.plan());
+    }
+
     /** Get splits from an overwritten snapshot files. */
     @Override
     public Plan readOverwrittenChanges() {
@@ -244,6 +250,10 @@ public class SnapshotReaderImpl implements SnapshotReader {
                     "Cannot read overwrite splits from a non-overwrite snapshot.");
         }
 
+        return toChangesPlan(plan);
+    }
+
+    private Plan toChangesPlan(FileStoreScan.Plan plan) {
         Map<BinaryRow, Map<Integer, List<DataFileMeta>>> beforeFiles =
                 groupByPartFiles(plan.files(FileKind.DELETE));
         Map<BinaryRow, Map<Integer, List<DataFileMeta>>> dataFiles =
@@ -245,6 +245,11 @@ public class AuditLogTable implements DataTable, ReadonlyTable {
             return snapshotReader.read();
         }
 
+        @Override
+        public Plan readChanges() {
+            return snapshotReader.readChanges();
+        }
+
         @Override
         public Plan readOverwrittenChanges() {
             return snapshotReader.readOverwrittenChanges();
@@ -28,7 +28,15 @@ import org.apache.paimon.fs.FileIO;
 import org.apache.paimon.fs.Path;
 import org.apache.paimon.manifest.FileKind;
 import org.apache.paimon.operation.FileStoreScan;
+import org.apache.paimon.predicate.Equal;
+import org.apache.paimon.predicate.GreaterOrEqual;
+import org.apache.paimon.predicate.GreaterThan;
+import org.apache.paimon.predicate.LeafFunction;
+import org.apache.paimon.predicate.LeafPredicate;
+import org.apache.paimon.predicate.LessOrEqual;
+import org.apache.paimon.predicate.LessThan;
 import org.apache.paimon.predicate.Predicate;
+import org.apache.paimon.predicate.PredicateBuilder;
 import org.apache.paimon.reader.RecordReader;
 import org.apache.paimon.table.FileStoreTable;
 import org.apache.paimon.table.ReadonlyTable;
@@ -50,6 +58,8 @@ import org.apache.paimon.utils.SnapshotManager;
 
 import org.apache.paimon.shade.guava30.com.google.common.collect.Iterators;
 
+import javax.annotation.Nullable;
+
 import java.io.IOException;
 import java.time.Instant;
 import java.time.LocalDateTime;
@@ -60,6 +70,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.stream.LongStream;
 
 import static org.apache.paimon.catalog.Catalog.SYSTEM_TABLE_SPLITTER;
 
@@ -199,6 +210,10 @@ public class SnapshotsTable implements ReadonlyTable {
         private final FileIO fileIO;
         private int[][] projection;
 
+        // commit time bounds in epoch millis pushed down from the filter, both inclusive
+        @Nullable private Long minCommitTime;
+        @Nullable private Long maxCommitTime;
+
         private final FileStoreTable dataTable;
 
         public SnapshotsRead(FileIO fileIO, FileStoreTable dataTable) {
@@ -208,10 +223,42 @@ public class SnapshotsTable implements ReadonlyTable {
 
         @Override
         public InnerTableRead withFilter(Predicate predicate) {
-            // TODO
+            for (Predicate p : PredicateBuilder.splitAnd(predicate)) {
+                if (p instanceof LeafPredicate) {
+                    pushDownCommitTime((LeafPredicate) p);
+                }
+            }
             return this;
         }
 
+        private void pushDownCommitTime(LeafPredicate predicate) {
+            if (!predicate.fieldName().equals("commit_time")
+                    || predicate.literals().size() != 1
+                    || !(predicate.literals().get(0) instanceof Timestamp)) {
+                return;
+            }
+
+            long millis =
+                    ((Timestamp) predicate.literals().get(0))
+                            .toLocalDateTime()
+                            .atZone(ZoneId.systemDefault())
+                            .toInstant()
+                            .toEpochMilli();
+            LeafFunction function = predicate.function();
+            if (function instanceof Equal
+                    || function instanceof GreaterOrEqual
+                    || function instanceof GreaterThan) {
+                long min = function instanceof GreaterThan ? millis + 1 : millis;
+                minCommitTime = minCommitTime == null ? min : Math.max(minCommitTime, min);
+            }
+            if (function instanceof Equal
+                    || function instanceof LessOrEqual
+                    || function instanceof LessThan) {
+                long max = function instanceof LessThan ? millis - 1 : millis;
+                maxCommitTime = maxCommitTime == null ? max : Math.min(maxCommitTime, max);
+            }
+        }
+
         @Override
         public InnerTableRead withProjection(int[][] projection) {
             this.projection = projection;
@@ -229,7 +276,7 @@ public class SnapshotsTable implements ReadonlyTable {
                 throw new IllegalArgumentException("Unsupported split: " + split.getClass());
             }
             Path location = ((SnapshotsSplit) split).location;
-            Iterator<Snapshot> snapshots = new SnapshotManager(fileIO, location).snapshots();
+            Iterator<Snapshot> snapshots = snapshots(new SnapshotManager(fileIO, location));
             Iterator<InternalRow> rows =
                     Iterators.transform(snapshots, snapshot -> toRow(snapshot, dataTable));
             if (projection != null) {
@@ -240,6 +287,37 @@ public class SnapshotsTable implements ReadonlyTable {
             return new IteratorRecordReader<>(rows);
         }
 
+        /**
+         * Snapshots within the commit time bounds, the bounds are resolved to snapshot ids by the
+         * snapshot time index without reading all snapshots.
+         */
+        private Iterator<Snapshot> snapshots(SnapshotManager snapshotManager) throws IOException {
+            if (minCommitTime == null && maxCommitTime == null) {
+                return snapshotManager.snapshots();
+            }
+
+            Long earliest = snapshotManager.earliestSnapshotId();
+            Long latest = snapshotManager.latestSnapshotId();
+            if (earliest == null || latest == null) {
+                return Collections.emptyIterator();
+            }
+
+            if (minCommitTime != null) {
+                Long earlier = snapshotManager.earlierThanTimeMills(minCommitTime);
+                earliest = earlier == null ? earliest : Math.max(earliest, earlier + 1);
+            }
+            if (maxCommitTime != null) {
+                Snapshot snapshot = snapshotManager.earlierOrEqualTimeMills(maxCommitTime);
+                if (snapshot == null) {
+                    return Collections.emptyIterator();
+                }
+                latest = Math.min(latest, snapshot.id());
+            }
+            return LongStream.rangeClosed(earliest, latest)
+                    .mapToObj(snapshotManager::snapshot)
+                    .iterator();
+        }
+
         private InternalRow toRow(Snapshot snapshot, FileStoreTable dataTable) {
             FileStoreScan.Plan plan = dataTable.store().newScan().withSnapshot(snapshot).plan();
             return GenericRow.of(
@@ -90,7 +90,9 @@ public abstract class ObjectsFile<T> {
             String fileName, Filter<InternalRow> loadFilter, Filter<InternalRow> readFilter) {
         try {
             if (cache != null) {
-                return cache.read(fileName, loadFilter, readFilter);
+                // the cache may be shared by tables, so cache by the full path
+                return cache.read(
+                        pathFactory.toPath(fileName).toString(), loadFilter, readFilter);
             }
 
             RecordReader<InternalRow> reader =
@@ -133,9 +135,9 @@ public abstract class ObjectsFile<T> {
         }
     }
 
-    private CloseableIterator<InternalRow> createIterator(String fileName) {
+    private CloseableIterator<InternalRow> createIterator(String path) {
         try {
-            return createFormatReader(fileIO, readerFactory, pathFactory.toPath(fileName))
+            return createFormatReader(fileIO, readerFactory, new Path(path))
                     .toCloseableIterator();
         } catch (IOException e) {
             throw new RuntimeException(e);
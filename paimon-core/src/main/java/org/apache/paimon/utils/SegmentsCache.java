@@ -42,6 +42,7 @@ public class SegmentsCache<T> {
                         .weigher(this::weigh)
                         .maximumWeight(maxMemorySize.getBytes())
                         .executor(MoreExecutors.directExecutor())
+                        .recordStats()
                         .build();
     }
 
@@ -53,6 +54,23 @@ public class SegmentsCache<T> {
         return cache.get(key, viewFunction);
     }
 
+    public long hitCount() {
+        return cache.stats().hitCount();
+    }
+
+    public long missCount() {
+        return cache.stats().missCount();
+    }
+
+    public long evictionCount() {
+        return cache.stats().evictionCount();
+    }
+
+    /** Approximate number of bytes of the cached segments. */
+    public long weightedSize() {
+        return cache.policy().eviction().map(e -> e.weightedSize().orElse(0L)).orElse(0L);
+    }
+
     private int weigh(T cacheKey, Segments segments) {
         return OBJECT_MEMORY_SIZE + segments.segments().size() * pageSize;
     }
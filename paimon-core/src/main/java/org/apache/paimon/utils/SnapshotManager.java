@@ -22,6 +22,9 @@ import org.apache.paimon.Snapshot;
 import org.apache.paimon.fs.FileIO;
 import org.apache.paimon.fs.Path;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import javax.annotation.Nullable;
 
 import java.io.IOException;
@@ -41,6 +44,8 @@ public class SnapshotManager implements Serializable {
 
     private static final long serialVersionUID = 1L;
 
+    private static final Logger LOG = LoggerFactory.getLogger(SnapshotManager.class);
+
     private static final String SNAPSHOT_PREFIX = "snapshot-";
     public static final String EARLIEST = "EARLIEST";
     public static final String LATEST = "LATEST";
@@ -132,8 +137,9 @@ public class SnapshotManager implements Serializable {
     }
 
     /**
-     * Returns a snapshot earlier than the timestamp mills. A non-existent snapshot may be returned
-     * if all snapshots are later than the timestamp mills.
+     * Returns the latest snapshot whose commit time is earlier than the given time, or the id
+     * before the earliest snapshot if no such snapshot exists. Commit times are read from the
+     * {@link SnapshotTimeIndex}.
      */
     public @Nullable Long earlierThanTimeMills(long timestampMills) {
         Long earliest = earliestSnapshotId();
@@ -142,18 +148,26 @@ public class SnapshotManager implements Serializable {
             return null;
         }
 
-        for (long i = latest; i >= earliest; i--) {
-            long commitTime = snapshot(i).timeMillis();
-            if (commitTime < timestampMills) {
-                return i;
+        SnapshotTimeIndex timeIndex = timeIndex();
+        if (timeIndex.commitTime(earliest) >= timestampMills) {
+            return earliest - 1;
+        }
+
+        // commit time of `earliest` is always less than the given time
+        while (earliest < latest) {
+            long mid = earliest + (latest - earliest + 1) / 2; // Avoid overflow
+            if (timeIndex.commitTime(mid) < timestampMills) {
+                earliest = mid;
+            } else {
+                latest = mid - 1;
             }
         }
-        return earliest - 1;
+        return earliest;
     }
 
     /**
-     * Returns a {@link Snapshot} whoes commit time is earlier than or equal to given timestamp
-     * mills. If there is no such a snapshot, returns null.
+     * Returns the latest snapshot whose commit time is earlier than or equal to the given time.
+     * Commit times are read from the {@link SnapshotTimeIndex}.
      */
     public @Nullable Snapshot earlierOrEqualTimeMills(long timestampMills) {
         Long earliest = earliestSnapshotId();
@@ -162,25 +176,26 @@ public class SnapshotManager implements Serializable {
             return null;
         }
 
-        if (snapshot(earliest).timeMillis() > timestampMills) {
+        SnapshotTimeIndex timeIndex = timeIndex();
+        if (timeIndex.commitTime(earliest) > timestampMills) {
             return null;
         }
-        Snapshot finnalSnapshot = null;
-        while (earliest <= latest) {
-            long mid = earliest + (latest - earliest) / 2; // Avoid overflow
-            Snapshot snapshot = snapshot(mid);
-            long commitTime = snapshot.timeMillis();
-            if (commitTime > timestampMills) {
-                latest = mid - 1; // Search in the left half
-            } else if (commitTime < timestampMills) {
-                earliest = mid + 1; // Search in the right half
-                finnalSnapshot = snapshot;
+
+        // commit time of `earliest` is always less than or equal to the given time
+        while (earliest < latest) {
+            long mid = earliest + (latest - earliest + 1) / 2; // Avoid overflow
+            if (timeIndex.commitTime(mid) <= timestampMills) {
+                earliest = mid;
             } else {
-                finnalSnapshot = snapshot; // Found the exact match
-                break;
+                latest = mid - 1;
             }
         }
-        return finnalSnapshot;
+        return snapshot(earliest);
+    }
+
+    /** Index of commit times of snapshots, a new instance should be used for each search. */
+    public SnapshotTimeIndex timeIndex() {
+        return new SnapshotTimeIndex(this);
     }
 
     public long snapshotCount() throws IOException {
@@ -321,6 +336,30 @@ public class SnapshotManager implements Serializable {
         commitHint(snapshotId, EARLIEST);
     }
 
+    /**
+     * Add the commit time of a new snapshot to the {@link SnapshotTimeIndex}. The index is best
+     * effort, failures are logged and not thrown.
+     */
+    public void commitTimeIndex(long snapshotId, long timeMillis) {
+        try {
+            timeIndex().add(snapshotId, timeMillis);
+        } catch (Exception e) {
+            LOG.warn("Failed to add snapshot {} to time index.", snapshotId, e);
+        }
+    }
+
+    /**
+     * Compact entries of the {@link SnapshotTimeIndex} into segments and delete segments which only
+     * contain expired snapshots.
+     */
+    public void expireTimeIndex(long earliestSnapshotId) {
+        try {
+            timeIndex().expire(earliestSnapshotId);
+        } catch (Exception e) {
+            LOG.warn("Failed to expire time index before snapshot {}.", earliestSnapshotId, e);
+        }
+    }
+
     private void commitHint(long snapshotId, String fileName) throws IOException {
         Path snapshotDir = snapshotDirectory();
         Path hintFile = new Path(snapshotDir, fileName);
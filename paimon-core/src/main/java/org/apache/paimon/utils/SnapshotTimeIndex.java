@@ -0,0 +1,255 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.utils;
+
+import org.apache.paimon.fs.FileIO;
+import org.apache.paimon.fs.Path;
+import org.apache.paimon.fs.PositionOutputStream;
+import org.apache.paimon.fs.SeekableInputStream;
+
+import javax.annotation.Nullable;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.apache.paimon.utils.FileUtils.listVersionedFiles;
+
+/**
+ * Index from snapshot id to commit time of the snapshot, so that snapshots can be searched by time
+ * without reading one snapshot file per probe.
+ *
+ * <p>Each commit writes an immutable entry file of its snapshot in the snapshot directory. On
+ * expiration, entries of segments of {@link #SEGMENT_SIZE} snapshots which are all committed are
+ * compacted into an immutable segment file of commit times, the position of a commit time in its
+ * segment is given by the snapshot id. Files are never rewritten in place, so readers see either
+ * a complete file or no file. The index is maintained on a best-effort basis, commit times which
+ * are not indexed (for example, a failed entry write) are read from the snapshot files.
+ *
+ * <p>An instance caches the segments it has read, it should only be used for one search.
+ */
+public class SnapshotTimeIndex {
+
+    public static final String TIME_INDEX_PREFIX = "time-index-";
+
+    public static final String TIME_ENTRY_PREFIX = "time-entry-";
+
+    static final int SEGMENT_SIZE = 4096;
+
+    private static final long UNKNOWN = -1;
+
+    private final SnapshotManager snapshotManager;
+    private final FileIO fileIO;
+    private final Map<Long, long[]> segments;
+
+    public SnapshotTimeIndex(SnapshotManager snapshotManager) {
+        this.snapshotManager = snapshotManager;
+        this.fileIO = snapshotManager.fileIO();
+        this.segments = new HashMap<>();
+    }
+
+    /** Commit time of the snapshot, read from the snapshot file if it is not indexed. */
+    public long commitTime(long snapshotId) {
+        long[] segment = segments.computeIfAbsent(segmentId(snapshotId), this::readSegment);
+        int offset = offset(snapshotId);
+        if (offset < segment.length && segment[offset] != UNKNOWN) {
+            return segment[offset];
+        }
+
+        if (segment.length == 0) {
+            // not compacted yet
+            Long timeMillis = readEntry(snapshotId);
+            if (timeMillis != null) {
+                return timeMillis;
+            }
+        }
+        return snapshotManager.snapshot(snapshotId).timeMillis();
+    }
+
+    /** Add commit time of a new snapshot to the index by writing its entry file. */
+    public void add(long snapshotId, long timeMillis) throws IOException {
+        Path path = entryPath(snapshotId);
+        if (!fileIO.writeFileUtf8(path, String.valueOf(timeMillis))) {
+            // an entry of a rolled back snapshot is left, the snapshot file is read while it is
+            // replaced
+            fileIO.delete(path, false);
+            fileIO.writeFileUtf8(path, String.valueOf(timeMillis));
+        }
+    }
+
+    /**
+     * Compact entries of segments whose snapshots are all committed into segment files, and delete
+     * segments and entries of which all snapshots are earlier than the earliest snapshot.
+     */
+    public void expire(long earliestSnapshotId) throws IOException {
+        Long latestSnapshotId = snapshotManager.latestSnapshotId();
+        if (latestSnapshotId != null) {
+            long lastCompleteSegment = segmentId(latestSnapshotId + 1) - 1;
+            // entries are listed only once for each segment, when the segment is not compacted or
+            // its entries are not deleted yet
+            long lastSnapshotOfSegment = (lastCompleteSegment + 1) * SEGMENT_SIZE - 1;
+            boolean needCompact =
+                    lastCompleteSegment >= segmentId(earliestSnapshotId)
+                            ? !fileIO.exists(segmentPath(lastCompleteSegment))
+                            : lastCompleteSegment >= 0
+                                    && fileIO.exists(entryPath(lastSnapshotOfSegment));
+            if (needCompact) {
+                compact(earliestSnapshotId, lastCompleteSegment);
+            }
+        }
+
+        for (long segmentId = segmentId(earliestSnapshotId) - 1; segmentId >= 0; segmentId--) {
+            Path path = segmentPath(segmentId);
+            if (!fileIO.exists(path)) {
+                // earlier segments have been deleted by previous expirations
+                break;
+            }
+            fileIO.deleteQuietly(path);
+            segments.remove(segmentId);
+        }
+    }
+
+    private void compact(long earliestSnapshotId, long lastCompleteSegment) throws IOException {
+        Map<Long, List<Long>> entriesOfSegments =
+                listVersionedFiles(fileIO, snapshotManager.snapshotDirectory(), TIME_ENTRY_PREFIX)
+                        .collect(Collectors.groupingBy(SnapshotTimeIndex::segmentId));
+        for (Map.Entry<Long, List<Long>> entries : entriesOfSegments.entrySet()) {
+            long segmentId = entries.getKey();
+            if (segmentId > lastCompleteSegment) {
+                continue;
+            }
+
+            if (segmentId >= segmentId(earliestSnapshotId)
+                    && !fileIO.exists(segmentPath(segmentId))) {
+                long[] segment = new long[SEGMENT_SIZE];
+                Arrays.fill(segment, UNKNOWN);
+                for (long snapshotId : entries.getValue()) {
+                    Long timeMillis = readEntry(snapshotId);
+                    if (timeMillis != null) {
+                        segment[offset(snapshotId)] = timeMillis;
+                    }
+                }
+                writeSegment(segmentId, segment);
+            }
+
+            // entries of compacted or expired segments are not needed anymore
+            for (long snapshotId : entries.getValue()) {
+                fileIO.deleteQuietly(entryPath(snapshotId));
+            }
+        }
+    }
+
+    /** Remove commit times of snapshots later than the latest snapshot, used by rollback. */
+    public void truncate(long latestSnapshotId) throws IOException {
+        Path snapshotDir = snapshotManager.snapshotDirectory();
+        List<Long> entries =
+                listVersionedFiles(fileIO, snapshotDir, TIME_ENTRY_PREFIX)
+                        .filter(snapshotId -> snapshotId > latestSnapshotId)
+                        .collect(Collectors.toList());
+        for (long snapshotId : entries) {
+            fileIO.deleteQuietly(entryPath(snapshotId));
+        }
+
+        // segments containing rolled back snapshots are not complete anymore, snapshots of them
+        // which are retained are read from the snapshot files
+        List<Long> segmentIds =
+                listVersionedFiles(fileIO, snapshotDir, TIME_INDEX_PREFIX)
+                        .filter(segmentId -> segmentId >= segmentId(latestSnapshotId + 1))
+                        .collect(Collectors.toList());
+        for (long segmentId : segmentIds) {
+            fileIO.deleteQuietly(segmentPath(segmentId));
+            segments.remove(segmentId);
+        }
+    }
+
+    @Nullable
+    private Long readEntry(long snapshotId) {
+        try {
+            return Long.parseLong(fileIO.readFileUtf8(entryPath(snapshotId)));
+        } catch (FileNotFoundException e) {
+            return null;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private long[] readSegment(long segmentId) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (SeekableInputStream in = fileIO.newInputStream(segmentPath(segmentId))) {
+            IOUtils.copyBytes(in, bytes, 4096, false);
+        } catch (FileNotFoundException e) {
+            return new long[0];
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(bytes.toByteArray());
+        long[] segment = new long[buffer.remaining() / Long.BYTES];
+        for (int i = 0; i < segment.length; i++) {
+            segment[i] = buffer.getLong();
+        }
+        return segment;
+    }
+
+    private void writeSegment(long segmentId, long[] segment) throws IOException {
+        Path path = segmentPath(segmentId);
+        Path tmp = new Path(path.getParent(), "." + path.getName() + UUID.randomUUID());
+        boolean success = false;
+        try {
+            try (PositionOutputStream out = fileIO.newOutputStream(tmp, false)) {
+                DataOutputStream output = new DataOutputStream(out);
+                for (long time : segment) {
+                    output.writeLong(time);
+                }
+                output.flush();
+            }
+            // the segment is immutable, the rename fails if it has been written concurrently
+            success = fileIO.rename(tmp, path);
+        } finally {
+            if (!success) {
+                fileIO.deleteQuietly(tmp);
+            }
+        }
+    }
+
+    private Path segmentPath(long segmentId) {
+        return new Path(snapshotManager.snapshotDirectory(), TIME_INDEX_PREFIX + segmentId);
+    }
+
+    private Path entryPath(long snapshotId) {
+        return new Path(snapshotManager.snapshotDirectory(), TIME_ENTRY_PREFIX + snapshotId);
+    }
+
+    private static long segmentId(long snapshotId) {
+        return snapshotId / SEGMENT_SIZE;
+    }
+
+    private static int offset(long snapshotId) {
+        return (int) (snapshotId % SEGMENT_SIZE);
+    }
+}
@@ -112,7 +112,8 @@ public class TestFileStore extends KeyValueFileStore {
                 keyType,
                 valueType,
                 keyValueFieldsExtractor,
-                mfFactory);
+                mfFactory,
+                null);
         this.root = root;
         this.fileIO = FileIOFinder.find(new Path(root));
         this.keySerializer = new InternalRowSerializer(keyType);
@@ -541,6 +542,7 @@ public class TestFileStore extends KeyValueFileStore {
         private final MergeFunctionFactory<KeyValue> mfFactory;
 
         private CoreOptions.ChangelogProducer changelogProducer;
+        private boolean keyBloomFilterEnabled;
 
         public Builder(
                 String format,
@@ -568,6 +570,11 @@ public class TestFileStore extends KeyValueFileStore {
             return this;
         }
 
+        public Builder keyBloomFilterEnabled(boolean keyBloomFilterEnabled) {
+            this.keyBloomFilterEnabled = keyBloomFilterEnabled;
+            return this;
+        }
+
         public TestFileStore build() {
             Options conf = new Options();
 
@@ -585,6 +592,7 @@ public class TestFileStore extends KeyValueFileStore {
             conf.set(CoreOptions.BUCKET, numBuckets);
 
             conf.set(CoreOptions.CHANGELOG_PRODUCER, changelogProducer);
+            conf.set(CoreOptions.FILE_KEY_BLOOM_FILTER_ENABLED, keyBloomFilterEnabled);
 
             // disable dynamic-partition-overwrite in FileStoreCommit layer test
             conf.set(CoreOptions.DYNAMIC_PARTITION_OVERWRITE, false);
@@ -20,8 +20,12 @@ package org.apache.paimon.catalog;
 
 import org.apache.paimon.fs.Path;
 import org.apache.paimon.fs.local.LocalFileIO;
+import org.apache.paimon.options.MemorySize;
 import org.apache.paimon.options.Options;
+import org.apache.paimon.schema.Schema;
+import org.apache.paimon.table.FileStoreTable;
 import org.apache.paimon.table.TableType;
+import org.apache.paimon.types.DataTypes;
 
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.hdfs.HdfsConfiguration;
@@ -30,6 +34,7 @@ import org.junit.jupiter.api.io.TempDir;
 
 import java.io.IOException;
 
+import static org.apache.paimon.options.CatalogOptions.CACHE_MANIFEST_MAX_MEMORY;
 import static org.apache.paimon.options.CatalogOptions.TABLE_TYPE;
 import static org.apache.paimon.options.CatalogOptions.WAREHOUSE;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -84,4 +89,26 @@ public class CatalogFactoryTest {
         assertThat(conf.get("fs.defaultFS")).isEqualTo(defaultFS);
         assertThat(conf.get("dfs.replication")).isEqualTo(replication);
     }
+
+    @Test
+    public void testSharedManifestCache(@TempDir java.nio.file.Path path) throws Exception {
+        Path root = new Path(path.toUri().toString());
+        Options options = new Options();
+        options.set(WAREHOUSE, new Path(root, "warehouse").toString());
+        options.set(CACHE_MANIFEST_MAX_MEMORY, MemorySize.ofMebiBytes(1));
+        try (Catalog catalog = CatalogFactory.createCatalog(CatalogContext.create(options))) {
+            catalog.createDatabase("db", false);
+            Identifier identifier = Identifier.create("db", "t");
+            catalog.createTable(
+                    identifier,
+                    Schema.newBuilder().column("f0", DataTypes.INT()).build(),
+                    false);
+
+            FileStoreTable table1 = (FileStoreTable) catalog.getTable(identifier);
+            FileStoreTable table2 = (FileStoreTable) catalog.getTable(identifier);
+            assertThat(table1.catalogEnvironment().manifestCache()).isNotNull();
+            assertThat(table1.catalogEnvironment().manifestCache())
+                    .isSameAs(table2.catalogEnvironment().manifestCache());
+        }
+    }
 }
@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.compact;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Tests for {@link CompactScheduler}. */
+public class CompactSchedulerTest {
+
+    private static final ThreadFactory FACTORY = r -> new Thread(r, "compact-scheduler-test");
+
+    @Test
+    public void testPriorityOrder() throws Exception {
+        CompactScheduler scheduler = new CompactScheduler(1, FACTORY);
+        try {
+            CountDownLatch latch = new CountDownLatch(1);
+            scheduler.submit(
+                    () -> {
+                        latch.await();
+                        return null;
+                    },
+                    CompactPriority.NORMAL);
+
+            List<String> order = Collections.synchronizedList(new ArrayList<>());
+            scheduler.submit(() -> order.add("low"), CompactPriority.LOW);
+            scheduler.submit(() -> order.add("normal-1"), CompactPriority.NORMAL);
+            scheduler.submit(() -> order.add("high"), CompactPriority.HIGH);
+            Future<?> last = scheduler.submit(() -> order.add("normal-2"), CompactPriority.NORMAL);
+            assertThat(scheduler.queueLength(CompactPriority.NORMAL)).isEqualTo(2);
+
+            latch.countDown();
+            scheduler.submit(() -> true, CompactPriority.LOW).get();
+            last.get();
+            assertThat(order).containsExactly("high", "normal-1", "normal-2", "low");
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testRaisePriority() throws Exception {
+        CompactScheduler scheduler = new CompactScheduler(1, FACTORY);
+        try {
+            CountDownLatch latch = new CountDownLatch(1);
+            scheduler.submit(
+                    () -> {
+                        latch.await();
+                        return null;
+                    },
+                    CompactPriority.NORMAL);
+
+            List<String> order = Collections.synchronizedList(new ArrayList<>());
+            scheduler.submit(() -> order.add("normal"), CompactPriority.NORMAL);
+            Future<?> low = scheduler.submit(() -> order.add("low"), CompactPriority.LOW);
+            scheduler.raisePriority(low, CompactPriority.HIGH);
+            assertThat(scheduler.queueLength(CompactPriority.HIGH)).isEqualTo(1);
+            assertThat(scheduler.queueLength(CompactPriority.LOW)).isEqualTo(0);
+
+            latch.countDown();
+            scheduler.submit(() -> true, CompactPriority.LOW).get();
+            assertThat(order).containsExactly("low", "normal");
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testRaisePriorityAfterShutdown() throws Exception {
+        CompactScheduler scheduler = new CompactScheduler(1, FACTORY);
+        try {
+            CountDownLatch latch = new CountDownLatch(1);
+            scheduler.submit(
+                    () -> {
+                        latch.await();
+                        return null;
+                    },
+                    CompactPriority.NORMAL);
+            Future<Boolean> low = scheduler.submit(() -> true, CompactPriority.LOW);
+
+            // queued tasks are still run after shutdown, raising them must not drop them
+            scheduler.shutdown();
+            scheduler.raisePriority(low, CompactPriority.HIGH);
+            assertThat(scheduler.queueLength(CompactPriority.LOW)).isEqualTo(1);
+
+            latch.countDown();
+            assertThat(low.get()).isTrue();
+            assertThat(scheduler.awaitTermination(1, TimeUnit.MINUTES)).isTrue();
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+}
@@ -70,6 +70,10 @@ public class HashIndexFileTest {
         List<Integer> result = IntIterator.toIntList(file.read(name));
         assertThat(result).containsExactlyInAnyOrderElementsOf(random);
 
+        List<Integer> bulkResult = new ArrayList<>();
+        file.read(name, bulkResult::add);
+        assertThat(bulkResult).containsExactlyElementsOf(random);
+
         assertThat(file.fileSize(name)).isEqualTo(random.size() * 4L);
     }
 }
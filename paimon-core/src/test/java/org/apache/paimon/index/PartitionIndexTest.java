@@ -0,0 +1,181 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.index;
+
+import org.apache.paimon.catalog.PrimaryKeyTableTestBase;
+import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.io.CompactIncrement;
+import org.apache.paimon.io.IndexIncrement;
+import org.apache.paimon.io.NewFilesIncrement;
+import org.apache.paimon.table.sink.CommitMessage;
+import org.apache.paimon.table.sink.CommitMessageImpl;
+import org.apache.paimon.table.sink.StreamTableCommit;
+import org.apache.paimon.utils.FileUtils;
+import org.apache.paimon.utils.Int2ShortHashMap;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.apache.paimon.io.DataFileTestUtils.row;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Test for {@link PartitionIndex}. */
+public class PartitionIndexTest extends PrimaryKeyTableTestBase {
+
+    private IndexFileHandler fileHandler;
+    private StreamTableCommit commit;
+
+    @BeforeEach
+    public void beforeEach() throws Exception {
+        fileHandler = table.store().newIndexFileHandler();
+        commit = table.newStreamWriteBuilder().withCommitUser(commitUser).newCommit();
+    }
+
+    @Test
+    public void testAssign() {
+        PartitionIndex index =
+                new PartitionIndex(new Int2ShortHashMap(), new long[0], 3, bucket -> true);
+
+        assertThat(index.assign(1)).isEqualTo(0);
+        assertThat(index.assign(2)).isEqualTo(0);
+        assertThat(index.assign(3)).isEqualTo(0);
+        assertThat(index.rowNumber(0)).isEqualTo(3);
+
+        // assigned hashes keep their bucket and do not increase the row number
+        assertThat(index.assign(1)).isEqualTo(0);
+        assertThat(index.assign(3)).isEqualTo(0);
+        assertThat(index.rowNumber(0)).isEqualTo(3);
+        assertThat(index.hash2Bucket.size()).isEqualTo(3);
+    }
+
+    @Test
+    public void testBucketRollover() {
+        // only even buckets belong to this assigner
+        PartitionIndex index =
+                new PartitionIndex(
+                        new Int2ShortHashMap(), new long[0], 2, bucket -> bucket % 2 == 0);
+
+        assertThat(index.assign(1)).isEqualTo(0);
+        assertThat(index.assign(2)).isEqualTo(0);
+        assertThat(index.assign(3)).isEqualTo(2);
+        assertThat(index.assign(4)).isEqualTo(2);
+        assertThat(index.assign(5)).isEqualTo(4);
+        assertThat(index.rowNumber(1)).isEqualTo(0);
+        assertThat(index.rowNumber(4)).isEqualTo(1);
+
+        // buckets grow beyond the initial capacity of the row numbers
+        for (int i = 6; i < 100; i++) {
+            index.assign(i);
+        }
+        assertThat(index.assign(100)).isEqualTo(98);
+        assertThat(index.rowNumber(98)).isEqualTo(2);
+    }
+
+    @Test
+    public void testRestoredBuckets() {
+        // bucket 1 is full, bucket 0 and bucket 3 are not full, bucket 2 does not exist
+        PartitionIndex index =
+                new PartitionIndex(
+                        new Int2ShortHashMap(), new long[] {2, 3, 0, 1}, 3, bucket -> true);
+
+        // non full buckets are filled from the smallest
+        assertThat(index.assign(1)).isEqualTo(0);
+        assertThat(index.assign(2)).isEqualTo(3);
+        assertThat(index.assign(3)).isEqualTo(3);
+
+        // then the missing bucket is created before the new ones
+        assertThat(index.assign(4)).isEqualTo(2);
+        assertThat(index.assign(5)).isEqualTo(2);
+        assertThat(index.assign(6)).isEqualTo(2);
+        assertThat(index.assign(7)).isEqualTo(4);
+    }
+
+    @Test
+    public void testReload() {
+        IndexFileMeta bucket0 = fileHandler.writeHashIndex(new int[] {1, 2});
+        IndexFileMeta bucket1 = fileHandler.writeHashIndex(new int[] {3, 4, 5});
+        commit.commit(
+                0,
+                Arrays.asList(
+                        createCommitMessage(row(1), 0, bucket0),
+                        createCommitMessage(row(1), 1, bucket1)));
+
+        PartitionIndex index =
+                PartitionIndex.loadIndex(fileHandler, row(1), 3, hash -> true, bucket -> true);
+        assertThat(index.hash2Bucket.size()).isEqualTo(5);
+        assertThat(index.rowNumber(0)).isEqualTo(2);
+        assertThat(index.rowNumber(1)).isEqualTo(3);
+
+        // loaded hashes keep their bucket
+        assertThat(index.assign(2)).isEqualTo(0);
+        assertThat(index.assign(5)).isEqualTo(1);
+
+        // new hashes fill the non full bucket, then roll over to a new bucket
+        assertThat(index.assign(6)).isEqualTo(0);
+        assertThat(index.assign(7)).isEqualTo(2);
+
+        // an unknown partition is empty
+        index = PartitionIndex.loadIndex(fileHandler, row(2), 3, hash -> true, bucket -> true);
+        assertThat(index.hash2Bucket.size()).isEqualTo(0);
+        assertThat(index.assign(1)).isEqualTo(0);
+    }
+
+    @Test
+    public void testLoadFilter() {
+        // more files than the parallelism of a load batch
+        int numFiles = FileUtils.COMMON_IO_FORK_JOIN_POOL.getParallelism() * 2 + 1;
+        List<CommitMessage> messages = new ArrayList<>();
+        for (int i = 0; i < numFiles; i++) {
+            int[] hashes = new int[10];
+            for (int j = 0; j < hashes.length; j++) {
+                hashes[j] = i * hashes.length + j;
+            }
+            messages.add(createCommitMessage(row(1), i, fileHandler.writeHashIndex(hashes)));
+        }
+        commit.commit(0, messages);
+
+        // only even hashes are loaded, but row numbers count all hashes of the files
+        PartitionIndex index =
+                PartitionIndex.loadIndex(
+                        fileHandler, row(1), 20, hash -> hash % 2 == 0, bucket -> true);
+        assertThat(index.hash2Bucket.size()).isEqualTo(numFiles * 5);
+        for (int i = 0; i < numFiles; i++) {
+            assertThat(index.rowNumber(i)).isEqualTo(10);
+            assertThat(index.hash2Bucket.containsKey(i * 10)).isTrue();
+            assertThat(index.hash2Bucket.get(i * 10)).isEqualTo((short) i);
+            assertThat(index.hash2Bucket.containsKey(i * 10 + 1)).isFalse();
+        }
+        assertThat(index.rowNumber(numFiles)).isEqualTo(0);
+    }
+
+    private CommitMessage createCommitMessage(BinaryRow partition, int bucket, IndexFileMeta file) {
+        return new CommitMessageImpl(
+                partition,
+                bucket,
+                new NewFilesIncrement(Collections.emptyList(), Collections.emptyList()),
+                new CompactIncrement(
+                        Collections.emptyList(), Collections.emptyList(), Collections.emptyList()),
+                new IndexIncrement(Collections.singletonList(file)));
+    }
+}
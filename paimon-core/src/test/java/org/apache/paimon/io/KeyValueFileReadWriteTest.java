@@ -25,6 +25,7 @@ import org.apache.paimon.TestKeyValueGenerator;
 import org.apache.paimon.data.BinaryRow;
 import org.apache.paimon.data.GenericRow;
 import org.apache.paimon.data.serializer.InternalRowSerializer;
+import org.apache.paimon.data.serializer.RowCompactedSerializer;
 import org.apache.paimon.format.FlushingFileFormat;
 import org.apache.paimon.fs.FileIO;
 import org.apache.paimon.fs.FileIOFinder;
@@ -40,6 +41,7 @@ import org.apache.paimon.types.DataType;
 import org.apache.paimon.types.IntType;
 import org.apache.paimon.types.RowType;
 import org.apache.paimon.types.VarCharType;
+import org.apache.paimon.utils.BloomFilter;
 import org.apache.paimon.utils.CloseableIterator;
 import org.apache.paimon.utils.FailingFileIO;
 import org.apache.paimon.utils.FileStorePathFactory;
@@ -115,6 +117,49 @@ public class KeyValueFileReadWriteTest {
                 kv -> kv);
     }
 
+    @Test
+    public void testWriteKeyBloomFilter() throws Exception {
+        DataFileTestDataGenerator.Data data = gen.next();
+        Options options = new Options();
+        options.set(CoreOptions.FILE_KEY_BLOOM_FILTER_ENABLED, true);
+        KeyValueFileWriterFactory writerFactory =
+                createWriterFactory(tempDir.toString(), "avro", options);
+
+        RollingFileWriter<KeyValue, DataFileMeta> writer =
+                writerFactory.createRollingMergeTreeFileWriter(0);
+        writer.write(CloseableIterator.fromList(data.content, kv -> {}));
+        writer.close();
+        List<DataFileMeta> actualMetas = writer.result();
+
+        KeyValueFileReaderFactory readerFactory =
+                createReaderFactory(tempDir.toString(), "avro", null, null);
+        RowCompactedSerializer keySerializer = new RowCompactedSerializer(KEY_TYPE);
+        for (DataFileMeta meta : actualMetas) {
+            assertThat(meta.extraFiles())
+                    .containsExactly(KeyBloomFilterFile.fileName(meta.fileName()));
+            BloomFilter bloomFilter = readerFactory.readKeyBloomFilter(meta);
+            assertThat(bloomFilter).isNotNull();
+            try (RecordReaderIterator<KeyValue> iterator =
+                    new RecordReaderIterator<>(
+                            readerFactory.createRecordReader(
+                                    meta.schemaId(), meta.fileName(), meta.level()))) {
+                while (iterator.hasNext()) {
+                    byte[] keyBytes = keySerializer.serializeToBytes(iterator.next().key());
+                    assertThat(bloomFilter.testHash(KeyBloomFilterFile.hash(keyBytes))).isTrue();
+                }
+            }
+        }
+
+        // sidecar files are deleted together with data files
+        for (DataFileMeta meta : actualMetas) {
+            writerFactory.deleteFile(meta);
+        }
+        Path root = new Path(tempDir.toString());
+        for (FileStatus bucketStatus : LocalFileIO.create().listStatus(root)) {
+            assertThat(LocalFileIO.create().listStatus(bucketStatus.getPath())).isEmpty();
+        }
+    }
+
     @RepeatedTest(10)
     public void testCleanUpForException() throws IOException {
         String failingName = UUID.randomUUID().toString();
@@ -235,6 +280,11 @@ public class KeyValueFileReadWriteTest {
     }
 
     protected KeyValueFileWriterFactory createWriterFactory(String pathStr, String format) {
+        return createWriterFactory(pathStr, format, new Options());
+    }
+
+    private KeyValueFileWriterFactory createWriterFactory(
+            String pathStr, String format, Options options) {
         Path path = new Path(pathStr);
         FileStorePathFactory pathFactory =
                 new FileStorePathFactory(
@@ -244,7 +294,6 @@ public class KeyValueFileReadWriteTest {
                         format);
         int suggestedFileSize = ThreadLocalRandom.current().nextInt(8192) + 1024;
         FileIO fileIO = FileIOFinder.find(path);
-        Options options = new Options();
         options.set(CoreOptions.METADATA_STATS_MODE, "FULL");
 
         Map<String, FileStorePathFactory> pathFactoryMap = new HashMap<>();
@@ -18,9 +18,15 @@
 
 package org.apache.paimon.manifest;
 
+import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.data.serializer.InternalRowSerializer;
 import org.apache.paimon.utils.ObjectSerializer;
 import org.apache.paimon.utils.ObjectSerializerTestBase;
 
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
 /** Tests for {@link ManifestEntrySerializerTest}. */
 public class ManifestEntrySerializerTest extends ObjectSerializerTestBase<ManifestEntry> {
 
@@ -35,4 +41,29 @@ public class ManifestEntrySerializerTest extends ObjectSerializerTestBase<Manife
     protected ManifestEntry object() {
         return gen.next();
     }
+
+    @Test
+    public void testGetters() {
+        ManifestEntrySerializer serializer = new ManifestEntrySerializer();
+        ManifestEntry entry = object();
+        BinaryRow row =
+                new InternalRowSerializer(serializer.fieldTypes())
+                        .toBinaryRow(serializer.toRow(entry));
+
+        assertThat(ManifestEntrySerializer.partitionGetter().apply(row))
+                .isEqualTo(entry.partition());
+        assertThat(ManifestEntrySerializer.bucketGetter().apply(row)).isEqualTo(entry.bucket());
+        assertThat(ManifestEntrySerializer.totalBucketGetter().apply(row))
+                .isEqualTo(entry.totalBuckets());
+        assertThat(ManifestEntrySerializer.rowCountGetter().apply(row))
+                .isEqualTo(entry.file().rowCount());
+        assertThat(ManifestEntrySerializer.schemaIdGetter().apply(row))
+                .isEqualTo(entry.file().schemaId());
+        assertThat(ManifestEntrySerializer.levelGetter().apply(row))
+                .isEqualTo(entry.file().level());
+        assertThat(ManifestEntrySerializer.keyStatsGetter().apply(row))
+                .isEqualTo(entry.file().keyStats());
+        assertThat(ManifestEntrySerializer.valueStatsGetter().apply(row))
+                .isEqualTo(entry.file().valueStats());
+    }
 }
@@ -36,6 +36,7 @@ import org.junit.jupiter.params.provider.ValueSource;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Optional;
@@ -46,6 +47,7 @@ import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 /** Tests for {@link ManifestFileMeta}. */
 public class ManifestFileMetaTest extends ManifestFileMetaTestBase {
@@ -289,6 +291,82 @@ public class ManifestFileMetaTest extends ManifestFileMetaTestBase {
         }
 
         containSameEntryFile(mergedManifest, expected);
+
+        // only base files of the changed partitions are rewritten
+        assertThat(mergedManifest).contains(input.get(0));
+        assertThat(mergedManifest).doesNotContain(input.get(1), input.get(2));
+        assertThat(newMetas).doesNotContain(input.get(0));
+    }
+
+    @Test
+    public void testFullCompactionKeepsUntouchedBaseFiles() {
+        List<ManifestFileMeta> input = new ArrayList<>();
+
+        // base manifest
+        input.add(makeManifest(makeEntry(true, "X"), makeEntry(true, "Y")));
+        input.add(makeManifest(makeEntry(true, "A"), makeEntry(true, "B")));
+        input.add(makeManifest(makeEntry(true, "U"), makeEntry(true, "V")));
+
+        // delta manifest
+        input.add(makeManifest(makeEntry(false, "A"), makeEntry(true, "C"), makeEntry(true, "D")));
+        input.add(makeManifest(makeEntry(false, "B"), makeEntry(false, "D")));
+
+        List<ManifestFileMeta> newMetas = new ArrayList<>();
+        List<ManifestFileMeta> merged =
+                ManifestFileMeta.tryFullCompaction(
+                                input, newMetas, manifestFile, 200, 0, getPartitionType())
+                        .get();
+
+        // ADD entries of the base and the delta are cancelled by their DELETE entries
+        containSameEntryFile(merged, Arrays.asList("ADD-X", "ADD-Y", "ADD-U", "ADD-V", "ADD-C"));
+        assertEquivalentEntries(input, merged);
+
+        // base files without deleted entries are kept wherever they are, only the base file
+        // containing deleted entries is rewritten
+        assertThat(merged).contains(input.get(0), input.get(2));
+        assertThat(merged).doesNotContain(input.get(1));
+        assertThat(newMetas).doesNotContain(input.get(0), input.get(2));
+        containSameEntryFile(newMetas, Collections.singletonList("ADD-C"));
+    }
+
+    @Test
+    public void testMergeReversedEntries() {
+        List<ManifestEntry> entries =
+                Arrays.asList(
+                        makeEntry(true, "A"),
+                        makeEntry(true, "B"),
+                        makeEntry(false, "A"),
+                        makeEntry(true, "C"),
+                        makeEntry(false, "D"));
+        assertThat(mergeReversed(entries))
+                .hasSameElementsAs(
+                        ManifestEntry.mergeEntries(entries).stream()
+                                .map(e -> e.kind() + "-" + e.file().fileName())
+                                .collect(Collectors.toList()));
+
+        // a file added twice without a DELETE entry between is detected
+        assertThatThrownBy(
+                        () ->
+                                mergeReversed(
+                                        Arrays.asList(
+                                                makeEntry(true, "A"),
+                                                makeEntry(true, "A"),
+                                                makeEntry(false, "A"))))
+                .hasMessageContaining("which is already added");
+        assertThatThrownBy(
+                        () ->
+                                mergeReversed(
+                                        Arrays.asList(makeEntry(true, "A"), makeEntry(true, "A"))))
+                .hasMessageContaining("which is already added");
+    }
+
+    private List<String> mergeReversed(List<ManifestEntry> entries) {
+        List<ManifestEntry> reversed = new ArrayList<>(entries);
+        Collections.reverse(reversed);
+        List<String> result = new ArrayList<>();
+        ManifestEntry.mergeReversedEntries(reversed.iterator())
+                .forEachRemaining(e -> result.add(e.kind() + "-" + e.file().fileName()));
+        return result;
     }
 
     private void createData(
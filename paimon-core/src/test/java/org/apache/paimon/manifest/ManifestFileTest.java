@@ -19,6 +19,8 @@
 package org.apache.paimon.manifest;
 
 import org.apache.paimon.CoreOptions;
+import org.apache.paimon.codegen.CodeGenUtils;
+import org.apache.paimon.codegen.RecordComparator;
 import org.apache.paimon.format.FileFormat;
 import org.apache.paimon.fs.FileIO;
 import org.apache.paimon.fs.FileIOFinder;
@@ -66,6 +68,27 @@ public class ManifestFileTest {
         assertThat(actualEntries).isEqualTo(entries);
     }
 
+    @RepeatedTest(10)
+    public void testWriteSortedByPartition() {
+        List<ManifestEntry> entries = generateData();
+        ManifestFileMeta meta = gen.createManifestFileMeta(entries);
+        ManifestFile manifestFile = createManifestFile(tempDir.toString(), true);
+
+        List<ManifestFileMeta> actualMetas = manifestFile.write(entries);
+        checkRollingFiles(meta, actualMetas, manifestFile.suggestedFileSize());
+        List<ManifestEntry> actualEntries =
+                actualMetas.stream()
+                        .flatMap(m -> manifestFile.read(m.fileName()).stream())
+                        .collect(Collectors.toList());
+
+        RecordComparator comparator =
+                CodeGenUtils.newRecordComparator(
+                        DEFAULT_PART_TYPE.getFieldTypes(), "ManifestPartitionComparator");
+        List<ManifestEntry> expected = new ArrayList<>(entries);
+        expected.sort((e1, e2) -> comparator.compare(e1.partition(), e2.partition()));
+        assertThat(actualEntries).isEqualTo(expected);
+    }
+
     @RepeatedTest(10)
     public void testCleanUpForException() throws IOException {
         String failingName = UUID.randomUUID().toString();
@@ -92,6 +115,10 @@ public class ManifestFileTest {
     }
 
     private ManifestFile createManifestFile(String pathStr) {
+        return createManifestFile(pathStr, false);
+    }
+
+    private ManifestFile createManifestFile(String pathStr, boolean sortByPartition) {
         Path path = new Path(pathStr);
         FileStorePathFactory pathFactory =
                 new FileStorePathFactory(
@@ -108,6 +135,7 @@ public class ManifestFileTest {
                         avro,
                         pathFactory,
                         suggestedFileSize,
+                        sortByPartition,
                         null)
                 .create();
     }
@@ -31,6 +31,7 @@ import org.apache.paimon.io.KeyValueFileReaderFactory;
 import org.apache.paimon.io.KeyValueFileWriterFactory;
 import org.apache.paimon.io.RollingFileWriter;
 import org.apache.paimon.io.cache.CacheManager;
+import org.apache.paimon.lookup.LookupStoreFactory;
 import org.apache.paimon.lookup.hash.HashLookupStoreFactory;
 import org.apache.paimon.options.MemorySize;
 import org.apache.paimon.options.Options;
@@ -181,10 +182,13 @@ public class ContainsLevelsTest {
                 comparator,
                 keyType,
                 file -> createReaderFactory().createRecordReader(0, file.fileName(), file.level()),
+                new KeyBloomFilterCache(
+                        file -> null, Duration.ofHours(1), MemorySize.ofMebiBytes(1)),
                 () -> new File(tempDir.toFile(), LOOKUP_FILE_PREFIX + UUID.randomUUID()),
                 new HashLookupStoreFactory(new CacheManager(2048, MemorySize.ofMebiBytes(1)), 0.75),
                 Duration.ofHours(1),
-                maxDiskSize);
+                maxDiskSize,
+                LookupStoreFactory.bfGenerator(new Options()));
     }
 
     private KeyValue kv(int key, int value) {
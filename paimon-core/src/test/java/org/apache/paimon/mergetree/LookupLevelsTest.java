@@ -31,7 +31,9 @@ import org.apache.paimon.io.KeyValueFileReaderFactory;
 import org.apache.paimon.io.KeyValueFileWriterFactory;
 import org.apache.paimon.io.RollingFileWriter;
 import org.apache.paimon.io.cache.CacheManager;
+import org.apache.paimon.lookup.LookupStoreFactory;
 import org.apache.paimon.lookup.hash.HashLookupStoreFactory;
+import org.apache.paimon.metrics.DescriptiveStatisticsHistogram;
 import org.apache.paimon.options.MemorySize;
 import org.apache.paimon.options.Options;
 import org.apache.paimon.schema.KeyValueFieldsExtractor;
@@ -58,11 +60,15 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import static org.apache.paimon.CoreOptions.TARGET_FILE_SIZE;
 import static org.apache.paimon.KeyValue.UNKNOWN_SEQUENCE;
 import static org.apache.paimon.io.DataFileTestUtils.row;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 /** Test {@link LookupLevels}. */
 public class LookupLevelsTest {
@@ -79,6 +85,8 @@ public class LookupLevelsTest {
                     DataTypes.FIELD(0, "key", DataTypes.INT()),
                     DataTypes.FIELD(1, "value", DataTypes.INT()));
 
+    private boolean keyBloomFilterEnabled = false;
+
     @Test
     public void testMultiLevels() throws IOException {
         Levels levels =
@@ -163,6 +171,102 @@ public class LookupLevelsTest {
         assertThat(lookupLevels.lookupFiles().estimatedSize()).isEqualTo(0);
     }
 
+    @Test
+    public void testLookupBatch() throws IOException {
+        Levels levels =
+                new Levels(
+                        comparator,
+                        Arrays.asList(
+                                newFile(1, kv(1, 11), kv(3, 33)),
+                                newFile(1, kv(5, 5), kv(7, 77)),
+                                newFile(2, kv(2, 22), kv(5, 55)),
+                                newFile(2, kv(8, 88), kv(9, 99))),
+                        3);
+        LookupLevels lookupLevels = createLookupLevels(levels, MemorySize.ofMebiBytes(10));
+
+        List<InternalRow> keys = new ArrayList<>();
+        for (int i = 0; i <= 10; i++) {
+            keys.add(row(i));
+        }
+        List<KeyValue> results = lookupLevels.lookupBatch(keys, 1);
+        assertThat(results).hasSize(keys.size());
+        for (int i = 0; i <= 10; i++) {
+            KeyValue expected = lookupLevels.lookup(row(i), 1);
+            KeyValue kv = results.get(i);
+            if (expected == null) {
+                assertThat(kv).isNull();
+            } else {
+                assertThat(kv).isNotNull();
+                assertThat(kv.key().getInt(0)).isEqualTo(i);
+                assertThat(kv.level()).isEqualTo(expected.level());
+                assertThat(kv.value().getInt(1)).isEqualTo(expected.value().getInt(1));
+            }
+        }
+
+        // both in level 1 and level 2, level 1 wins
+        assertThat(results.get(5).level()).isEqualTo(1);
+        assertThat(results.get(5).value().getInt(1)).isEqualTo(5);
+        assertThat(results.get(9).level()).isEqualTo(2);
+        assertThat(results.get(4)).isNull();
+
+        // start from level 2
+        results = lookupLevels.lookupBatch(Arrays.<InternalRow>asList(row(1), row(5), row(8)), 2);
+        assertThat(results.get(0)).isNull();
+        assertThat(results.get(1).value().getInt(1)).isEqualTo(55);
+        assertThat(results.get(2).value().getInt(1)).isEqualTo(88);
+
+        assertThatThrownBy(
+                        () ->
+                                lookupLevels.lookupBatch(
+                                        Arrays.<InternalRow>asList(row(2), row(1)), 1))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        lookupLevels.close();
+    }
+
+    @Test
+    public void testLookupBatchLevel0() throws IOException {
+        Levels levels =
+                new Levels(
+                        comparator,
+                        Arrays.asList(
+                                newFile(0, kv(1, 10, 1), kv(4, 40, 2)),
+                                newFile(0, kv(1, 11, 3), kv(3, 31, 4)),
+                                newFile(0, kv(3, 32, 5), kv(6, 62, 6)),
+                                newFile(1, kv(1, 100, 0), kv(2, 200, 0)),
+                                newFile(1, kv(5, 500, 0), kv(7, 700, 0))),
+                        3);
+        LookupLevels lookupLevels = createLookupLevels(levels, MemorySize.ofMebiBytes(10));
+
+        List<InternalRow> keys = new ArrayList<>();
+        for (int i = 0; i <= 8; i++) {
+            keys.add(row(i));
+        }
+        List<KeyValue> results = lookupLevels.lookupBatch(keys, 0);
+        for (int i = 0; i <= 8; i++) {
+            KeyValue expected = lookupLevels.lookup(row(i), 0);
+            KeyValue kv = results.get(i);
+            if (expected == null) {
+                assertThat(kv).isNull();
+            } else {
+                assertThat(kv).isNotNull();
+                assertThat(kv.level()).isEqualTo(expected.level());
+                assertThat(kv.value().getInt(1)).isEqualTo(expected.value().getInt(1));
+            }
+        }
+
+        // level 0 files are looked up from the newest
+        assertThat(results.get(1).value().getInt(1)).isEqualTo(11);
+        assertThat(results.get(3).value().getInt(1)).isEqualTo(32);
+        assertThat(results.get(4).value().getInt(1)).isEqualTo(40);
+        assertThat(results.get(2).level()).isEqualTo(1);
+        assertThat(results.get(5).level()).isEqualTo(1);
+        assertThat(results.get(0)).isNull();
+        assertThat(results.get(8)).isNull();
+
+        lookupLevels.close();
+    }
+
     @Test
     public void testMaxDiskSize() throws IOException {
         List<DataFileMeta> files = new ArrayList<>();
@@ -198,6 +302,69 @@ public class LookupLevelsTest {
         assertThat(lookupLevels.lookupFiles().estimatedSize()).isEqualTo(0);
     }
 
+    @Test
+    public void testPrefetch() throws Exception {
+        Levels levels =
+                new Levels(comparator, Collections.singletonList(newFile(1, kv(1, 11))), 3);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        DescriptiveStatisticsHistogram buildLatency = new DescriptiveStatisticsHistogram(10);
+        LookupLevels lookupLevels =
+                createLookupLevels(levels, MemorySize.ofMebiBytes(10))
+                        .withPrefetchExecutor(executor)
+                        .withBuildLatency(buildLatency);
+
+        // files added by compaction are built in background
+        DataFileMeta newFile = newFile(2, kv(2, 22), kv(3, 33));
+        levels.update(Collections.emptyList(), Collections.singletonList(newFile));
+        executor.shutdown();
+        assertThat(executor.awaitTermination(1, TimeUnit.MINUTES)).isTrue();
+        assertThat(lookupLevels.lookupFiles().getIfPresent(newFile.fileName())).isNotNull();
+        assertThat(buildLatency.getCount()).isEqualTo(1);
+
+        // prefetched file is not built again
+        KeyValue kv = lookupLevels.lookup(row(2), 2);
+        assertThat(kv).isNotNull();
+        assertThat(kv.level()).isEqualTo(2);
+        assertThat(kv.value().getInt(1)).isEqualTo(22);
+        assertThat(buildLatency.getCount()).isEqualTo(1);
+
+        // file not prefetched is built on lookup
+        kv = lookupLevels.lookup(row(1), 1);
+        assertThat(kv).isNotNull();
+        assertThat(kv.value().getInt(1)).isEqualTo(11);
+        assertThat(buildLatency.getCount()).isEqualTo(2);
+
+        lookupLevels.close();
+        assertThat(lookupLevels.lookupFiles().estimatedSize()).isEqualTo(0);
+    }
+
+    @Test
+    public void testKeyBloomFilter() throws IOException {
+        keyBloomFilterEnabled = true;
+        Levels levels =
+                new Levels(
+                        comparator,
+                        Arrays.asList(
+                                newFile(1, kv(1, 11), kv(3, 33)),
+                                newFile(2, kv(2, 22), kv(5, 55))),
+                        3);
+        LookupLevels lookupLevels = createLookupLevels(levels, MemorySize.ofMebiBytes(10));
+
+        // the level 1 file covers the key range, but is skipped by its key bloom filter
+        KeyValue kv = lookupLevels.lookup(row(2), 1);
+        assertThat(kv).isNotNull();
+        assertThat(kv.level()).isEqualTo(2);
+        assertThat(kv.value().getInt(1)).isEqualTo(22);
+        assertThat(lookupLevels.lookupFiles().estimatedSize()).isEqualTo(1);
+
+        // no lookup file is built for a key which does not exist
+        assertThat(lookupLevels.lookup(row(4), 1)).isNull();
+        assertThat(lookupLevels.lookupFiles().estimatedSize()).isEqualTo(1);
+
+        lookupLevels.close();
+        assertThat(lookupLevels.lookupFiles().estimatedSize()).isEqualTo(0);
+    }
+
     private LookupLevels createLookupLevels(Levels levels, MemorySize maxDiskSize) {
         return new LookupLevels(
                 levels,
@@ -205,10 +372,15 @@ public class LookupLevelsTest {
                 keyType,
                 rowType,
                 file -> createReaderFactory().createRecordReader(0, file.fileName(), file.level()),
+                new KeyBloomFilterCache(
+                        createReaderFactory()::readKeyBloomFilter,
+                        Duration.ofHours(1),
+                        MemorySize.ofMebiBytes(1)),
                 () -> new File(tempDir.toFile(), LOOKUP_FILE_PREFIX + UUID.randomUUID()),
                 new HashLookupStoreFactory(new CacheManager(2048, MemorySize.ofMebiBytes(1)), 0.75),
                 Duration.ofHours(1),
-                maxDiskSize);
+                maxDiskSize,
+                LookupStoreFactory.bfGenerator(new Options()));
     }
 
     private KeyValue kv(int key, int value) {
@@ -216,6 +388,15 @@ public class LookupLevelsTest {
                 .replace(GenericRow.of(key), RowKind.INSERT, GenericRow.of(key, value));
     }
 
+    private KeyValue kv(int key, int value, long sequenceNumber) {
+        return new KeyValue()
+                .replace(
+                        GenericRow.of(key),
+                        sequenceNumber,
+                        RowKind.INSERT,
+                        GenericRow.of(key, value));
+    }
+
     private DataFileMeta newFile(int level, KeyValue... records) throws IOException {
         RollingFileWriter<KeyValue, DataFileMeta> writer =
                 createWriterFactory().createRollingMergeTreeFileWriter(level);
@@ -231,6 +412,8 @@ public class LookupLevelsTest {
         String identifier = "avro";
         Map<String, FileStorePathFactory> pathFactoryMap = new HashMap<>();
         pathFactoryMap.put(identifier, new FileStorePathFactory(path));
+        Options options = new Options();
+        options.set(CoreOptions.FILE_KEY_BLOOM_FILTER_ENABLED, keyBloomFilterEnabled);
         return KeyValueFileWriterFactory.builder(
                         FileIOFinder.find(path),
                         0,
@@ -239,7 +422,7 @@ public class LookupLevelsTest {
                         new FlushingFileFormat(identifier),
                         pathFactoryMap,
                         TARGET_FILE_SIZE.defaultValue().getBytes())
-                .build(BinaryRow.EMPTY_ROW, 0, new CoreOptions(new Options()));
+                .build(BinaryRow.EMPTY_ROW, 0, new CoreOptions(options));
     }
 
     private KeyValueFileReaderFactory createReaderFactory() {
@@ -26,6 +26,7 @@ import org.apache.paimon.compact.CompactResult;
 import org.apache.paimon.data.BinaryRow;
 import org.apache.paimon.data.GenericRow;
 import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.disk.IOManager;
 import org.apache.paimon.format.FileFormat;
 import org.apache.paimon.format.FlushingFileFormat;
 import org.apache.paimon.fs.FileStatus;
@@ -36,12 +37,16 @@ import org.apache.paimon.io.KeyValueFileReaderFactory;
 import org.apache.paimon.io.KeyValueFileWriterFactory;
 import org.apache.paimon.io.RollingFileWriter;
 import org.apache.paimon.memory.HeapMemorySegmentPool;
+import org.apache.paimon.memory.MemorySegment;
+import org.apache.paimon.memory.MemorySegmentPool;
 import org.apache.paimon.mergetree.compact.AbstractCompactRewriter;
 import org.apache.paimon.mergetree.compact.CompactRewriter;
 import org.apache.paimon.mergetree.compact.CompactStrategy;
 import org.apache.paimon.mergetree.compact.DeduplicateMergeFunction;
 import org.apache.paimon.mergetree.compact.IntervalPartition;
+import org.apache.paimon.mergetree.compact.MergeFunction;
 import org.apache.paimon.mergetree.compact.MergeTreeCompactManager;
+import org.apache.paimon.mergetree.compact.MergeTreeCompactRewriter;
 import org.apache.paimon.mergetree.compact.UniversalCompaction;
 import org.apache.paimon.options.MemorySize;
 import org.apache.paimon.options.Options;
@@ -67,6 +72,8 @@ import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import javax.annotation.Nullable;
+
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -79,13 +86,16 @@ import java.util.Map;
 import java.util.Random;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
 import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 /** Tests for {@link MergeTreeReaders} and {@link MergeTreeWriter}. */
 public abstract class MergeTreeTestBase {
@@ -357,6 +367,271 @@ public abstract class MergeTreeTestBase {
         doTestWriteRead(3, 20_000);
     }
 
+    @Test
+    public void testWriteManyWithAsyncFlush() throws Exception {
+        ExecutorService flushExecutor = Executors.newSingleThreadExecutor();
+        try {
+            writer.close();
+            writer =
+                    createMergeTreeWriter(
+                            Collections.emptyList(),
+                            createCompactManager(service, Collections.emptyList()),
+                            flushExecutor);
+            doTestWriteRead(3, 20_000);
+        } finally {
+            flushExecutor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testAsyncFlushWithSpillableBuffer() throws Exception {
+        ExecutorService flushExecutor = Executors.newSingleThreadExecutor();
+        Thread writerThread = Thread.currentThread();
+        AtomicBoolean accessedByOtherThread = new AtomicBoolean(false);
+        HeapMemorySegmentPool memoryPool =
+                new HeapMemorySegmentPool(options.writeBufferSize() * 2, options.pageSize()) {
+                    @Override
+                    public MemorySegment nextSegment() {
+                        checkThread();
+                        return super.nextSegment();
+                    }
+
+                    @Override
+                    public void returnAll(List<MemorySegment> memory) {
+                        checkThread();
+                        super.returnAll(memory);
+                    }
+
+                    private void checkThread() {
+                        if (Thread.currentThread() != writerThread) {
+                            accessedByOtherThread.set(true);
+                        }
+                    }
+                };
+        try (IOManager ioManager = IOManager.create(tempDir.toString())) {
+            writer.close();
+            writer =
+                    createAsyncFlushWriter(
+                            flushExecutor,
+                            DeduplicateMergeFunction.factory().create(),
+                            ioManager,
+                            memoryPool);
+            // the buffer spills when it is full and is read back by the flush
+            doTestWriteRead(3, 20_000);
+            assertThat(accessedByOtherThread).isFalse();
+        } finally {
+            flushExecutor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testAsyncFlushFailure() throws Exception {
+        ExecutorService flushExecutor = Executors.newSingleThreadExecutor();
+        try {
+            writer.close();
+            writer =
+                    createAsyncFlushWriter(
+                            flushExecutor,
+                            new TestMergeFunction() {
+                                @Override
+                                public void add(KeyValue kv) {
+                                    throw new RuntimeException("Flush failed.");
+                                }
+                            },
+                            null,
+                            new HeapMemorySegmentPool(
+                                    options.writeBufferSize() * 2, options.pageSize()));
+            assertThatThrownBy(
+                            () -> {
+                                writeBatch(20_000);
+                                writer.prepareCommit(true);
+                            })
+                    .hasMessageContaining("Flush failed.");
+            writer.close();
+            assertNoDataFiles();
+        } finally {
+            flushExecutor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testInterruptedAsyncFlush() throws Exception {
+        ExecutorService flushExecutor = Executors.newSingleThreadExecutor();
+        CountDownLatch flushStarted = new CountDownLatch(1);
+        Thread writerThread = Thread.currentThread();
+        Thread interrupter =
+                new Thread(
+                        () -> {
+                            try {
+                                flushStarted.await();
+                            } catch (InterruptedException e) {
+                                return;
+                            }
+                            writerThread.interrupt();
+                        });
+        try {
+            writer.close();
+            writer =
+                    createAsyncFlushWriter(
+                            flushExecutor,
+                            new TestMergeFunction() {
+                                @Override
+                                public void add(KeyValue kv) {
+                                    flushStarted.countDown();
+                                    try {
+                                        // blocks until the flush is cancelled
+                                        new CountDownLatch(1).await();
+                                    } catch (InterruptedException e) {
+                                        throw new RuntimeException(e);
+                                    }
+                                }
+                            },
+                            null,
+                            new HeapMemorySegmentPool(
+                                    options.writeBufferSize() * 2, options.pageSize()));
+            interrupter.start();
+            assertThatThrownBy(
+                            () -> {
+                                writeBatch(20_000);
+                                writer.prepareCommit(true);
+                            })
+                    .isInstanceOf(InterruptedException.class);
+            interrupter.join();
+
+            // the cancelled flush has stopped and the writer can be closed
+            writer.close();
+            assertNoDataFiles();
+        } finally {
+            Thread.interrupted();
+            flushExecutor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testWriteManyWithCompactSubtasks() throws Exception {
+        ExecutorService subtaskExecutor = Executors.newFixedThreadPool(3);
+        try {
+            CompactRewriter rewriter =
+                    new MergeTreeCompactRewriter(
+                                    compactReaderFactory,
+                                    writerFactory,
+                                    comparator,
+                                    DeduplicateMergeFunction.factory(),
+                                    new MergeSorter(options, null, null, null))
+                            .withSubtasks(subtaskExecutor, 4, 0);
+            writer.close();
+            writer =
+                    createMergeTreeWriter(
+                            Collections.emptyList(),
+                            createCompactManager(service, Collections.emptyList(), rewriter));
+            doTestWriteRead(3, 20_000);
+        } finally {
+            subtaskExecutor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testCompactSubtasksDoNotOverlap() throws Exception {
+        ExecutorService subtaskExecutor = Executors.newFixedThreadPool(3);
+        try {
+            MergeTreeCompactRewriter rewriter =
+                    new MergeTreeCompactRewriter(
+                                    compactReaderFactory,
+                                    writerFactory,
+                                    comparator,
+                                    DeduplicateMergeFunction.factory(),
+                                    new MergeSorter(options, null, null, null))
+                            .withSubtasks(subtaskExecutor, 4, 0);
+
+            // sections of disjoint key ranges, each with two overlapping runs
+            List<TestRecord> expected = new ArrayList<>();
+            List<List<SortedRun>> sections = new ArrayList<>();
+            long sequenceNumber = 0;
+            for (int i = 0; i < 8; i++) {
+                List<SortedRun> section = new ArrayList<>();
+                for (int j = 0; j < 2; j++) {
+                    List<TestRecord> records = new ArrayList<>();
+                    for (int k = i * 100; k < i * 100 + 100; k += j + 1) {
+                        records.add(new TestRecord(RowKind.INSERT, k, j));
+                    }
+                    section.add(SortedRun.fromSingle(writeFile(records, sequenceNumber)));
+                    sequenceNumber += records.size();
+                    expected.addAll(records);
+                }
+                sections.add(section);
+            }
+
+            List<DataFileMeta> after = rewriter.rewrite(1, true, sections).after();
+            assertThat(after.size()).isGreaterThan(1);
+            for (int i = 1; i < after.size(); i++) {
+                assertThat(comparator.compare(after.get(i - 1).maxKey(), after.get(i).minKey()))
+                        .isLessThan(0);
+            }
+            assertRecords(expected, after, true);
+        } finally {
+            subtaskExecutor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testCompactSubtaskFailureLeavesNoFiles() throws Exception {
+        ExecutorService subtaskExecutor = Executors.newFixedThreadPool(3);
+        try {
+            MergeTreeCompactRewriter rewriter =
+                    new MergeTreeCompactRewriter(
+                                    compactReaderFactory,
+                                    writerFactory,
+                                    comparator,
+                                    DeduplicateMergeFunction.factory(),
+                                    new MergeSorter(options, null, null, null))
+                            .withSubtasks(subtaskExecutor, 4, 0);
+
+            List<List<SortedRun>> sections = new ArrayList<>();
+            Set<String> inputFiles = new HashSet<>();
+            for (int i = 0; i < 8; i++) {
+                List<TestRecord> records = new ArrayList<>();
+                for (int k = i * 100; k < i * 100 + 100; k++) {
+                    records.add(new TestRecord(RowKind.INSERT, k, k));
+                }
+                DataFileMeta file = writeFile(records, i * 100);
+                sections.add(singletonList(SortedRun.fromSingle(file)));
+                inputFiles.add(file.fileName());
+            }
+
+            // the subtask of the last sections fails, the other subtasks succeed
+            DataFileMeta missing = sections.get(7).get(0).files().get(0);
+            writerFactory.deleteFile(missing);
+            inputFiles.remove(missing.fileName());
+
+            assertThatThrownBy(() -> rewriter.rewrite(1, true, sections));
+
+            // the files written by all subtasks are deleted
+            Path bucketDir = writerFactory.pathFactory(0).toPath("ignore").getParent();
+            assertThat(LocalFileIO.create().listStatus(bucketDir))
+                    .extracting(status -> status.getPath().getName())
+                    .containsExactlyInAnyOrderElementsOf(inputFiles);
+        } finally {
+            subtaskExecutor.shutdownNow();
+        }
+    }
+
+    private DataFileMeta writeFile(List<TestRecord> records, long sequenceNumber)
+            throws Exception {
+        RollingFileWriter<KeyValue, DataFileMeta> fileWriter =
+                writerFactory.createRollingMergeTreeFileWriter(0);
+        for (TestRecord record : records) {
+            fileWriter.write(
+                    new KeyValue()
+                            .replace(
+                                    row(record.k),
+                                    sequenceNumber++,
+                                    record.kind,
+                                    row(record.v)));
+        }
+        fileWriter.close();
+        return fileWriter.result().get(0);
+    }
+
     private void doTestWriteRead(int batchNumber) throws Exception {
         doTestWriteRead(batchNumber, 200);
     }
@@ -409,6 +684,13 @@ public abstract class MergeTreeTestBase {
 
     private MergeTreeWriter createMergeTreeWriter(
             List<DataFileMeta> files, MergeTreeCompactManager compactManager) {
+        return createMergeTreeWriter(files, compactManager, null);
+    }
+
+    private MergeTreeWriter createMergeTreeWriter(
+            List<DataFileMeta> files,
+            MergeTreeCompactManager compactManager,
+            @Nullable ExecutorService flushExecutor) {
         long maxSequenceNumber =
                 files.stream().map(DataFileMeta::maxSequenceNumber).max(Long::compare).orElse(-1L);
         MergeTreeWriter writer =
@@ -424,13 +706,51 @@ public abstract class MergeTreeTestBase {
                         options.commitForceCompact(),
                         ChangelogProducer.NONE,
                         null);
-        writer.setMemoryPool(
-                new HeapMemorySegmentPool(options.writeBufferSize(), options.pageSize()));
+        long bufferSize = options.writeBufferSize();
+        if (flushExecutor != null) {
+            // each half of the buffer needs enough pages to hold a sort buffer
+            writer.withAsyncFlush(flushExecutor);
+            bufferSize *= 2;
+        }
+        writer.setMemoryPool(new HeapMemorySegmentPool(bufferSize, options.pageSize()));
         return writer;
     }
 
+    private MergeTreeWriter createAsyncFlushWriter(
+            ExecutorService flushExecutor,
+            MergeFunction<KeyValue> mergeFunction,
+            @Nullable IOManager ioManager,
+            MemorySegmentPool memoryPool) {
+        MergeTreeWriter writer =
+                new MergeTreeWriter(
+                        true,
+                        128,
+                        ioManager,
+                        createCompactManager(service, Collections.emptyList()),
+                        -1,
+                        comparator,
+                        mergeFunction,
+                        writerFactory,
+                        options.commitForceCompact(),
+                        ChangelogProducer.NONE,
+                        null);
+        writer.withAsyncFlush(flushExecutor);
+        writer.setMemoryPool(memoryPool);
+        return writer;
+    }
+
+    private void assertNoDataFiles() throws IOException {
+        Path bucketDir = writerFactory.pathFactory(0).toPath("ignore").getParent();
+        assertThat(LocalFileIO.create().listStatus(bucketDir)).isEmpty();
+    }
+
     private MergeTreeCompactManager createCompactManager(
             ExecutorService compactExecutor, List<DataFileMeta> files) {
+        return createCompactManager(compactExecutor, files, new TestRewriter());
+    }
+
+    private MergeTreeCompactManager createCompactManager(
+            ExecutorService compactExecutor, List<DataFileMeta> files, CompactRewriter rewriter) {
         CompactStrategy strategy =
                 new UniversalCompaction(
                         options.maxSizeAmplificationPercent(),
@@ -443,7 +763,7 @@ public abstract class MergeTreeTestBase {
                 comparator,
                 options.compactionFileSize(),
                 options.numSortedRunStopTrigger(),
-                new TestRewriter());
+                rewriter);
     }
 
     static class MockFailResultCompactionManager extends MergeTreeCompactManager {
@@ -603,6 +923,19 @@ public abstract class MergeTreeTestBase {
         }
     }
 
+    /** A {@link MergeFunction} for tests to override {@link #add}. */
+    private abstract static class TestMergeFunction implements MergeFunction<KeyValue> {
+
+        @Override
+        public void reset() {}
+
+        @Nullable
+        @Override
+        public KeyValue getResult() {
+            return null;
+        }
+    }
+
     private static class TestRecord {
 
         private final RowKind kind;
@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.mergetree.compact;
+
+import org.apache.paimon.CoreOptions.SortEngine;
+import org.apache.paimon.KeyValue;
+import org.apache.paimon.reader.RecordReader;
+import org.apache.paimon.utils.ReusingTestData;
+import org.apache.paimon.utils.TestReusingRecordReader;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Tests for {@link PrefetchConcatRecordReader}. */
+public class PrefetchConcatRecordReaderTest extends ConcatRecordReaderTest {
+
+    private static ExecutorService executor;
+
+    @BeforeAll
+    public static void before() {
+        executor = Executors.newFixedThreadPool(2);
+    }
+
+    @AfterAll
+    public static void after() {
+        executor.shutdownNow();
+        executor = null;
+    }
+
+    @Override
+    protected RecordReader<KeyValue> createRecordReader(
+            List<TestReusingRecordReader> readers, SortEngine sortEngine) {
+        return new PrefetchConcatRecordReader<>(
+                readers.stream()
+                        .map(r -> (ConcatRecordReader.ReaderSupplier<KeyValue>) () -> r)
+                        .collect(Collectors.toList()),
+                2,
+                executor);
+    }
+
+    @Test
+    public void testCloseReleasesPrefetchedBatches() throws Exception {
+        ExecutorService prefetchExecutor = Executors.newSingleThreadExecutor();
+        List<TestReusingRecordReader> opened = new CopyOnWriteArrayList<>();
+        List<ConcatRecordReader.ReaderSupplier<KeyValue>> suppliers = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            List<ReusingTestData> data = ReusingTestData.generateOrderedNoDuplicatedKeys(10, false);
+            suppliers.add(
+                    () -> {
+                        TestReusingRecordReader reader = new TestReusingRecordReader(data);
+                        opened.add(reader);
+                        return reader;
+                    });
+        }
+
+        // read only the first batch, the following readers are opened with their first batches
+        RecordReader<KeyValue> reader =
+                new PrefetchConcatRecordReader<>(suppliers, 2, prefetchExecutor);
+        RecordReader.RecordIterator<KeyValue> batch = reader.readBatch();
+        assertThat(batch).isNotNull();
+        batch.releaseBatch();
+        reader.close();
+
+        prefetchExecutor.shutdown();
+        assertThat(prefetchExecutor.awaitTermination(1, TimeUnit.MINUTES)).isTrue();
+        assertThat(opened).hasSize(3);
+        for (TestReusingRecordReader openedReader : opened) {
+            openedReader.assertCleanUp();
+        }
+    }
+}
@@ -25,9 +25,12 @@ import org.apache.paimon.TestKeyValueGenerator;
 import org.apache.paimon.data.BinaryRow;
 import org.apache.paimon.fs.Path;
 import org.apache.paimon.fs.local.LocalFileIO;
+import org.apache.paimon.io.KeyBloomFilterFile;
+import org.apache.paimon.manifest.ManifestEntry;
 import org.apache.paimon.manifest.ManifestFileMeta;
 import org.apache.paimon.manifest.ManifestList;
 import org.apache.paimon.mergetree.compact.DeduplicateMergeFunction;
+import org.apache.paimon.predicate.Predicate;
 import org.apache.paimon.predicate.PredicateBuilder;
 import org.apache.paimon.schema.Schema;
 import org.apache.paimon.schema.SchemaManager;
@@ -143,6 +146,101 @@ public class KeyValueFileStoreScanTest {
         runTestContainsAll(scan, snapshot.id(), expected);
     }
 
+    @Test
+    public void testWithKeyBloomFilter() throws Exception {
+        store = createKeyBloomFilterStore();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        List<KeyValue> data = generateData(random.nextInt(1000) + 100);
+        writeData(data);
+
+        KeyValue wanted = data.get(random.nextInt(data.size()));
+        int wantedShopId = wanted.key().getInt(0);
+        long wantedOrderId = wanted.key().getLong(1);
+        PredicateBuilder builder = new PredicateBuilder(TestKeyValueGenerator.KEY_TYPE);
+
+        KeyValueFileStoreScan scan = store.newScan();
+        scan.withKeyFilter(
+                PredicateBuilder.and(
+                        builder.equal(0, wantedShopId), builder.equal(1, wantedOrderId)));
+        assertThat(scan.hasFileIndexFilter()).isTrue();
+
+        int skipped = 0;
+        for (ManifestEntry entry : store.newScan().plan().files()) {
+            boolean containsKey =
+                    store.readKvsFromManifestEntries(Collections.singletonList(entry), false)
+                            .stream()
+                            .anyMatch(
+                                    kv ->
+                                            kv.key().getInt(0) == wantedShopId
+                                                    && kv.key().getLong(1) == wantedOrderId);
+            boolean selected = scan.filterByFileIndex(entry);
+            if (containsKey) {
+                assertThat(selected).isTrue();
+            } else if (!selected) {
+                skipped++;
+            }
+        }
+        assertThat(skipped).isGreaterThan(0);
+
+        // only an equality on all primary keys can use the key bloom filter
+        scan = store.newScan().withKeyFilter(builder.equal(0, wantedShopId));
+        assertThat(scan.hasFileIndexFilter()).isFalse();
+    }
+
+    @Test
+    public void testKeyBloomFilterCacheAndReadFailure() throws Exception {
+        store = createKeyBloomFilterStore();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        List<KeyValue> data = generateData(random.nextInt(1000) + 100);
+        writeData(data);
+
+        KeyValue wanted = data.get(random.nextInt(data.size()));
+        PredicateBuilder builder = new PredicateBuilder(TestKeyValueGenerator.KEY_TYPE);
+        Predicate keyFilter =
+                PredicateBuilder.and(
+                        builder.equal(0, wanted.key().getInt(0)),
+                        builder.equal(1, wanted.key().getLong(1)));
+
+        List<ManifestEntry> files = store.newScan().plan().files();
+        KeyValueFileStoreScan scan = store.newScan().withKeyFilter(keyFilter);
+        List<Boolean> selected =
+                files.stream().map(scan::filterByFileIndex).collect(Collectors.toList());
+        assertThat(selected).contains(false);
+
+        for (ManifestEntry entry : files) {
+            LocalFileIO.create()
+                    .delete(
+                            store.pathFactory()
+                                    .createDataFilePathFactory(entry.partition(), entry.bucket())
+                                    .toPath(KeyBloomFilterFile.find(entry.file())),
+                            false);
+        }
+
+        // the bloom filters are cached by the store, so new scans still skip files
+        KeyValueFileStoreScan cachedScan = store.newScan().withKeyFilter(keyFilter);
+        assertThat(files.stream().map(cachedScan::filterByFileIndex))
+                .containsExactlyElementsOf(selected);
+
+        // files whose bloom filter cannot be read are not skipped
+        KeyValueFileStoreScan uncachedScan =
+                createKeyBloomFilterStore().newScan().withKeyFilter(keyFilter);
+        assertThat(files).allMatch(uncachedScan::filterByFileIndex);
+    }
+
+    private TestFileStore createKeyBloomFilterStore() {
+        return new TestFileStore.Builder(
+                        "avro",
+                        tempDir.toString(),
+                        NUM_BUCKETS,
+                        TestKeyValueGenerator.DEFAULT_PART_TYPE,
+                        TestKeyValueGenerator.KEY_TYPE,
+                        TestKeyValueGenerator.DEFAULT_ROW_TYPE,
+                        TestKeyValueGenerator.TestKeyValueFieldsExtractor.EXTRACTOR,
+                        DeduplicateMergeFunction.factory())
+                .keyBloomFilterEnabled(true)
+                .build();
+    }
+
     @Test
     public void testWithBucket() throws Exception {
         ThreadLocalRandom random = ThreadLocalRandom.current();
@@ -189,6 +287,21 @@ public class KeyValueFileStoreScanTest {
         runTestExactMatch(scan, wantedSnapshot, expected);
     }
 
+    @Test
+    public void testReadFileIterator() throws Exception {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int numCommits = random.nextInt(10) + 1;
+        for (int i = 0; i < numCommits; i++) {
+            List<KeyValue> data = generateData(random.nextInt(100) + 1);
+            writeData(data);
+        }
+
+        List<ManifestEntry> expected = store.newScan().plan().files();
+        List<ManifestEntry> actual = new ArrayList<>();
+        store.newScan().readFileIterator().forEachRemaining(actual::add);
+        assertThat(actual).containsExactlyInAnyOrderElementsOf(expected);
+    }
+
     @Test
     public void testWithManifestList() throws Exception {
         ThreadLocalRandom random = ThreadLocalRandom.current();
@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.utils;
+
+import org.apache.paimon.data.BinaryString;
+import org.apache.paimon.data.Decimal;
+import org.apache.paimon.data.GenericRow;
+import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.data.Timestamp;
+import org.apache.paimon.data.serializer.RowCompactedSerializer;
+import org.apache.paimon.types.DataTypes;
+import org.apache.paimon.types.RowType;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Test for {@link KeyComparatorSupplier}. */
+public class KeyComparatorSupplierTest {
+
+    @Test
+    public void testSerializedKeyOrder() {
+        RowType keyType =
+                RowType.of(
+                        DataTypes.INT(),
+                        DataTypes.STRING(),
+                        DataTypes.BIGINT(),
+                        DataTypes.DOUBLE(),
+                        DataTypes.BOOLEAN(),
+                        DataTypes.BYTES(),
+                        DataTypes.DECIMAL(10, 2),
+                        DataTypes.TIMESTAMP(3),
+                        DataTypes.TIMESTAMP(9));
+        Comparator<InternalRow> keyComparator = new KeyComparatorSupplier(keyType).get();
+        RowCompactedSerializer serializer = new RowCompactedSerializer(keyType);
+        Comparator<byte[]> bytesComparator = serializer.createBytesComparator();
+        assertThat(bytesComparator).isNotNull();
+
+        Random random = new Random();
+        for (int i = 0; i < 10000; i++) {
+            InternalRow key1 = randomKey(random);
+            InternalRow key2 = randomKey(random);
+            assertThat(
+                            Integer.signum(
+                                    bytesComparator.compare(
+                                            serializer.serializeToBytes(key1),
+                                            serializer.serializeToBytes(key2))))
+                    .isEqualTo(Integer.signum(keyComparator.compare(key1, key2)));
+        }
+    }
+
+    @Test
+    public void testUnsupportedType() {
+        RowType keyType = RowType.of(DataTypes.INT(), DataTypes.DECIMAL(38, 2));
+        assertThat(new RowCompactedSerializer(keyType).createBytesComparator()).isNull();
+    }
+
+    private static InternalRow randomKey(Random random) {
+        // small domains, so that keys often share prefixes
+        return GenericRow.of(
+                random.nextInt(4) == 0 ? null : random.nextInt(3) - 1,
+                random.nextBoolean()
+                        ? BinaryString.fromString("s" + random.nextInt(3))
+                        : BinaryString.fromString(random.nextBoolean() ? "" : "é"),
+                (long) random.nextInt(3) - 1,
+                random.nextInt(3) - 1.5,
+                random.nextBoolean(),
+                new byte[] {(byte) (random.nextInt(3) - 1)},
+                Decimal.fromUnscaledLong(random.nextInt(3) - 1, 10, 2),
+                Timestamp.fromEpochMillis(random.nextInt(3)),
+                Timestamp.fromEpochMillis(random.nextInt(2), random.nextInt(2) * 999));
+    }
+}
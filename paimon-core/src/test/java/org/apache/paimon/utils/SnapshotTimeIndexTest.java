@@ -0,0 +1,186 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.utils;
+
+import org.apache.paimon.Snapshot;
+import org.apache.paimon.fs.FileIO;
+import org.apache.paimon.fs.Path;
+import org.apache.paimon.fs.local.LocalFileIO;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+
+import static org.apache.paimon.utils.SnapshotTimeIndex.SEGMENT_SIZE;
+import static org.apache.paimon.utils.SnapshotTimeIndex.TIME_ENTRY_PREFIX;
+import static org.apache.paimon.utils.SnapshotTimeIndex.TIME_INDEX_PREFIX;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/** Tests for {@link SnapshotTimeIndex}. */
+public class SnapshotTimeIndexTest {
+
+    private static final long MILLIS = 1684726826L;
+
+    @TempDir java.nio.file.Path tempDir;
+
+    private FileIO fileIO;
+    private SnapshotManager snapshotManager;
+
+    @BeforeEach
+    public void before() {
+        fileIO = LocalFileIO.create();
+        snapshotManager = new SnapshotManager(fileIO, new Path(tempDir.toString()));
+    }
+
+    @Test
+    public void testCommitTime() throws IOException {
+        long numSnapshots = SEGMENT_SIZE + 10;
+        for (long i = 1; i <= numSnapshots; i++) {
+            snapshotManager.commitTimeIndex(i, MILLIS + i * 1000);
+        }
+        assertThat(fileIO.exists(entryPath(1))).isTrue();
+        assertThat(fileIO.exists(entryPath(numSnapshots))).isTrue();
+        assertThat(fileIO.exists(segmentPath(0))).isFalse();
+
+        // snapshot files do not exist, commit times are served by the index
+        SnapshotTimeIndex timeIndex = snapshotManager.timeIndex();
+        for (long i = 1; i <= numSnapshots; i++) {
+            assertThat(timeIndex.commitTime(i)).isEqualTo(MILLIS + i * 1000);
+        }
+
+        // entries of the complete segment are compacted on expiration
+        snapshotManager.commitLatestHint(numSnapshots);
+        snapshotManager.expireTimeIndex(1);
+        assertThat(fileIO.exists(segmentPath(0))).isTrue();
+        assertThat(fileIO.exists(segmentPath(1))).isFalse();
+        assertThat(fileIO.exists(entryPath(1))).isFalse();
+        assertThat(fileIO.exists(entryPath(SEGMENT_SIZE - 1))).isFalse();
+        assertThat(fileIO.exists(entryPath(SEGMENT_SIZE))).isTrue();
+        timeIndex = snapshotManager.timeIndex();
+        for (long i = 1; i <= numSnapshots; i++) {
+            assertThat(timeIndex.commitTime(i)).isEqualTo(MILLIS + i * 1000);
+        }
+
+        // not indexed, read from snapshot file
+        writeSnapshot(numSnapshots + 1);
+        assertThat(snapshotManager.timeIndex().commitTime(numSnapshots + 1))
+                .isEqualTo(MILLIS + (numSnapshots + 1) * 1000);
+        assertThatThrownBy(() -> snapshotManager.timeIndex().commitTime(numSnapshots + 2))
+                .isInstanceOf(RuntimeException.class);
+    }
+
+    @Test
+    public void testGapOfConcurrentCommits() throws IOException {
+        snapshotManager.commitTimeIndex(1, MILLIS + 1000);
+        snapshotManager.commitTimeIndex(3, MILLIS + 3000);
+        writeSnapshot(2);
+
+        SnapshotTimeIndex timeIndex = snapshotManager.timeIndex();
+        assertThat(timeIndex.commitTime(1)).isEqualTo(MILLIS + 1000);
+        assertThat(timeIndex.commitTime(2)).isEqualTo(MILLIS + 2000);
+        assertThat(timeIndex.commitTime(3)).isEqualTo(MILLIS + 3000);
+    }
+
+    @Test
+    public void testExpireAndTruncate() throws IOException {
+        long numSnapshots = SEGMENT_SIZE * 2L + 10;
+        for (long i = 1; i <= numSnapshots; i++) {
+            snapshotManager.commitTimeIndex(i, MILLIS + i * 1000);
+        }
+        snapshotManager.commitLatestHint(numSnapshots);
+
+        // segment 0 is expired before it is compacted, only its entries are deleted
+        snapshotManager.expireTimeIndex(SEGMENT_SIZE + 1);
+        assertThat(fileIO.exists(segmentPath(0))).isFalse();
+        assertThat(fileIO.exists(entryPath(1))).isFalse();
+        assertThat(fileIO.exists(segmentPath(1))).isTrue();
+        assertThat(fileIO.exists(entryPath(SEGMENT_SIZE + 1))).isFalse();
+        assertThat(fileIO.exists(segmentPath(2))).isFalse();
+        assertThat(fileIO.exists(entryPath(SEGMENT_SIZE * 2L + 1))).isTrue();
+        assertThat(snapshotManager.timeIndex().commitTime(SEGMENT_SIZE + 5))
+                .isEqualTo(MILLIS + (SEGMENT_SIZE + 5) * 1000L);
+
+        // the segment containing rolled back snapshots is dropped with the later entries
+        snapshotManager.timeIndex().truncate(SEGMENT_SIZE + 5);
+        assertThat(fileIO.exists(segmentPath(1))).isFalse();
+        assertThat(fileIO.exists(entryPath(SEGMENT_SIZE * 2L + 1))).isFalse();
+
+        // rolled back snapshots are recommitted with new commit times
+        snapshotManager.commitTimeIndex(SEGMENT_SIZE + 6, MILLIS);
+        assertThat(snapshotManager.timeIndex().commitTime(SEGMENT_SIZE + 6)).isEqualTo(MILLIS);
+
+        // an entry left by a rolled back snapshot is replaced
+        snapshotManager.commitTimeIndex(SEGMENT_SIZE + 6, MILLIS + 1);
+        assertThat(snapshotManager.timeIndex().commitTime(SEGMENT_SIZE + 6))
+                .isEqualTo(MILLIS + 1);
+    }
+
+    @Test
+    public void testSearchByTime() throws IOException {
+        for (long i = 1; i <= 100; i++) {
+            writeSnapshot(i);
+            snapshotManager.commitLatestHint(i);
+            snapshotManager.commitTimeIndex(i, MILLIS + i * 1000);
+        }
+        snapshotManager.commitEarliestHint(1);
+
+        assertThat(snapshotManager.earlierThanTimeMills(MILLIS + 1000)).isEqualTo(0);
+        assertThat(snapshotManager.earlierThanTimeMills(MILLIS + 1001)).isEqualTo(1);
+        assertThat(snapshotManager.earlierThanTimeMills(MILLIS + 50_000)).isEqualTo(49);
+        assertThat(snapshotManager.earlierThanTimeMills(MILLIS + 500_000)).isEqualTo(100);
+
+        assertThat(snapshotManager.earlierOrEqualTimeMills(MILLIS + 999)).isNull();
+        assertThat(snapshotManager.earlierOrEqualTimeMills(MILLIS + 1000).id()).isEqualTo(1);
+        assertThat(snapshotManager.earlierOrEqualTimeMills(MILLIS + 50_000).id()).isEqualTo(50);
+        assertThat(snapshotManager.earlierOrEqualTimeMills(MILLIS + 50_999).id()).isEqualTo(50);
+        assertThat(snapshotManager.earlierOrEqualTimeMills(MILLIS + 500_000).id()).isEqualTo(100);
+    }
+
+    private Path segmentPath(long segmentId) {
+        return new Path(snapshotManager.snapshotDirectory(), TIME_INDEX_PREFIX + segmentId);
+    }
+
+    private Path entryPath(long snapshotId) {
+        return new Path(snapshotManager.snapshotDirectory(), TIME_ENTRY_PREFIX + snapshotId);
+    }
+
+    private void writeSnapshot(long id) throws IOException {
+        Snapshot snapshot =
+                new Snapshot(
+                        id,
+                        0L,
+                        null,
+                        null,
+                        null,
+                        null,
+                        null,
+                        0L,
+                        Snapshot.CommitKind.APPEND,
+                        MILLIS + id * 1000,
+                        null,
+                        null,
+                        null,
+                        null,
+                        null);
+        fileIO.writeFileUtf8(snapshotManager.snapshotPath(id), snapshot.toJson());
+    }
+}
@@ -24,7 +24,9 @@ import org.apache.flink.table.connector.source.TableFunctionProvider;
 /** Factory to create {@link LookupRuntimeProvider}. */
 public class LookupRuntimeProviderFactory {
 
-    public static LookupRuntimeProvider create(FileStoreLookupFunction function) {
+    /** Async lookup is not supported before Flink 1.16, {@code enableAsync} is ignored. */
+    public static LookupRuntimeProvider create(
+            FileStoreLookupFunction function, boolean enableAsync) {
         return TableFunctionProvider.of(new OldLookupFunction(function));
     }
 }
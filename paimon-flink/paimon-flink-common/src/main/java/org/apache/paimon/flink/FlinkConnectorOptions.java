@@ -181,6 +181,36 @@ public class FlinkConnectorOptions {
                     .withDescription(
                             "The mode used by StaticFileStoreSplitEnumerator to assign splits.");
 
+    public static final ConfigOption<Boolean> LOOKUP_REFRESH_ASYNC =
+            ConfigOptions.key("lookup.refresh.async")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to refresh lookup table in a background thread. If true, lookups "
+                                    + "continue against the current data while new snapshots are "
+                                    + "loaded; otherwise lookups are blocked until the refresh finishes.");
+
+    public static final ConfigOption<Boolean> LOOKUP_ASYNC =
+            ConfigOptions.key("lookup.async")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to enable async lookup join. Lookups are executed by a "
+                                    + "dedicated thread, and the keys arriving while it is busy are "
+                                    + "looked up in one batch. The output order is controlled by "
+                                    + "Flink's 'table.exec.async-lookup.output-mode'. Only Flink "
+                                    + "1.16 and above supports async lookup.");
+
+    public static final ConfigOption<Boolean> LOOKUP_DIRECT =
+            ConfigOptions.key("lookup.direct")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to lookup the data files of the table directly instead of "
+                                    + "loading all records into a local RocksDB. It requires the "
+                                    + "join keys to be the primary keys of a fixed bucket table "
+                                    + "with deduplicate merge engine and without sequence field.");
+
     /* Sink writer allocate segments from managed memory. */
     public static final ConfigOption<Boolean> SINK_USE_MANAGED_MEMORY =
             ConfigOptions.key("sink.use-managed-memory-allocator")
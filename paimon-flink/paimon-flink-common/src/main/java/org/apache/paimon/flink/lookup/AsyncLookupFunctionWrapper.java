@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.flink.lookup;
+
+import org.apache.paimon.utils.ExecutorThreadFactory;
+import org.apache.paimon.utils.Pair;
+
+import org.apache.flink.table.data.RowData;
+import org.apache.flink.table.functions.AsyncLookupFunction;
+import org.apache.flink.table.functions.FunctionContext;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An {@link AsyncLookupFunction} to wrap {@link FileStoreLookupFunction}. Lookups are executed by a
+ * dedicated thread, keys arriving while it is busy are looked up together in one batch.
+ */
+public class AsyncLookupFunctionWrapper extends AsyncLookupFunction {
+
+    private static final long serialVersionUID = 1L;
+
+    private final FileStoreLookupFunction function;
+
+    private transient ExecutorService executor;
+    private transient BlockingQueue<Pair<RowData, CompletableFuture<Collection<RowData>>>>
+            pendingRequests;
+
+    public AsyncLookupFunctionWrapper(FileStoreLookupFunction function) {
+        this.function = function;
+    }
+
+    @Override
+    public void open(FunctionContext context) throws Exception {
+        function.open(context);
+        open();
+    }
+
+    // we tag this method friendly for testing
+    void open(String tmpDirectory) throws Exception {
+        function.open(tmpDirectory);
+        open();
+    }
+
+    private void open() {
+        this.pendingRequests = new LinkedBlockingQueue<>();
+        this.executor =
+                Executors.newSingleThreadExecutor(new ExecutorThreadFactory("paimon-async-lookup"));
+    }
+
+    @Override
+    public CompletableFuture<Collection<RowData>> asyncLookup(RowData keyRow) {
+        CompletableFuture<Collection<RowData>> future = new CompletableFuture<>();
+        pendingRequests.add(Pair.of(keyRow, future));
+        executor.execute(this::lookupPendingRequests);
+        return future;
+    }
+
+    private void lookupPendingRequests() {
+        List<Pair<RowData, CompletableFuture<Collection<RowData>>>> requests = new ArrayList<>();
+        pendingRequests.drainTo(requests);
+        if (requests.isEmpty()) {
+            // already served by the previous batch
+            return;
+        }
+
+        List<RowData> keyRows = new ArrayList<>(requests.size());
+        for (Pair<RowData, CompletableFuture<Collection<RowData>>> request : requests) {
+            keyRows.add(request.getLeft());
+        }
+
+        try {
+            List<Collection<RowData>> results = function.lookup(keyRows);
+            for (int i = 0; i < requests.size(); i++) {
+                requests.get(i).getRight().complete(results.get(i));
+            }
+        } catch (Throwable t) {
+            for (Pair<RowData, CompletableFuture<Collection<RowData>>> request : requests) {
+                request.getRight().completeExceptionally(t);
+            }
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (executor != null) {
+            executor.shutdownNow();
+            // the running lookup may still read the lookup table, wait for it before closing
+            executor.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+            executor = null;
+
+            // requests after the running batch will never be looked up
+            List<Pair<RowData, CompletableFuture<Collection<RowData>>>> requests =
+                    new ArrayList<>();
+            pendingRequests.drainTo(requests);
+            for (Pair<RowData, CompletableFuture<Collection<RowData>>> request : requests) {
+                request.getRight()
+                        .completeExceptionally(
+                                new IllegalStateException("The lookup function is closed."));
+            }
+        }
+        function.close();
+    }
+}
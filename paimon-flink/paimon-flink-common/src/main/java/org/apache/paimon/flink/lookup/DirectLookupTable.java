@@ -0,0 +1,236 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.flink.lookup;
+
+import org.apache.paimon.CoreOptions;
+import org.apache.paimon.codegen.CodeGenUtils;
+import org.apache.paimon.codegen.Projection;
+import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.disk.IOManager;
+import org.apache.paimon.operation.ScanKind;
+import org.apache.paimon.schema.TableSchema;
+import org.apache.paimon.table.BucketMode;
+import org.apache.paimon.table.FileStoreTable;
+import org.apache.paimon.table.Table;
+import org.apache.paimon.table.query.LocalTableQuery;
+import org.apache.paimon.table.sink.KeyAndBucketExtractor;
+import org.apache.paimon.table.source.DataSplit;
+import org.apache.paimon.table.source.OutOfRangeException;
+import org.apache.paimon.table.source.Split;
+import org.apache.paimon.table.source.snapshot.SnapshotReader;
+import org.apache.paimon.types.RowType;
+import org.apache.paimon.utils.ProjectedRow;
+import org.apache.paimon.utils.SnapshotManager;
+import org.apache.paimon.utils.TypeUtils;
+
+import javax.annotation.Nullable;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * A lookup table of a primary key table which looks up the data files directly with {@link
+ * LocalTableQuery} instead of copying all records into RocksDB. New snapshots are followed by
+ * adding and dropping the data files they commit.
+ */
+public class DirectLookupTable implements Closeable {
+
+    private final LocalTableQuery tableQuery;
+    private final SnapshotManager snapshotManager;
+    private final SnapshotReader snapshotReader;
+    private final int numBuckets;
+    private final Projection partitionProjection;
+    private final Projection bucketKeyProjection;
+    private final Projection keyProjection;
+    private final int[] valueProjection;
+    private final Predicate<InternalRow> recordFilter;
+
+    @Nullable private Long nextSnapshotId;
+
+    public DirectLookupTable(
+            FileStoreTable table,
+            int[] projection,
+            List<String> joinKeys,
+            Predicate<InternalRow> recordFilter,
+            IOManager ioManager) {
+        TableSchema schema = table.schema();
+        List<String> fieldNames = table.rowType().getFieldNames();
+        RowType joinKeyType =
+                TypeUtils.project(
+                        table.rowType(), joinKeys.stream().mapToInt(fieldNames::indexOf).toArray());
+        this.tableQuery = new LocalTableQuery(table).withIOManager(ioManager);
+        this.snapshotManager = table.snapshotManager();
+        this.snapshotReader = table.newSnapshotReader();
+        this.numBuckets = table.coreOptions().bucket();
+        this.partitionProjection = newProjection(joinKeyType, joinKeys, schema.partitionKeys());
+        this.bucketKeyProjection = newProjection(joinKeyType, joinKeys, schema.bucketKeys());
+        this.keyProjection = newProjection(joinKeyType, joinKeys, schema.trimmedPrimaryKeys());
+        this.valueProjection = projection;
+        this.recordFilter = recordFilter;
+    }
+
+    private static Projection newProjection(
+            RowType joinKeyType, List<String> joinKeys, List<String> fields) {
+        return CodeGenUtils.newProjection(
+                joinKeyType, fields.stream().mapToInt(joinKeys::indexOf).toArray());
+    }
+
+    /**
+     * Whether the table can be looked up directly by the join keys. The join keys must be the
+     * primary keys of a fixed bucket table, and the newest record of a key must be its value.
+     */
+    public static boolean isSupported(Table table, List<String> joinKeys) {
+        if (!(table instanceof FileStoreTable) || table.primaryKeys().isEmpty()) {
+            return false;
+        }
+
+        FileStoreTable fileStoreTable = (FileStoreTable) table;
+        CoreOptions options = fileStoreTable.coreOptions();
+        return fileStoreTable.bucketMode() == BucketMode.FIXED
+                && new HashSet<>(table.primaryKeys()).equals(new HashSet<>(joinKeys))
+                && options.mergeEngine() == CoreOptions.MergeEngine.DEDUPLICATE
+                && !options.sequenceField().isPresent();
+    }
+
+    public List<InternalRow> get(InternalRow joinKey) throws IOException {
+        InternalRow value =
+                tableQuery.lookup(
+                        partitionProjection.apply(joinKey),
+                        bucket(joinKey),
+                        keyProjection.apply(joinKey));
+        return toResult(value);
+    }
+
+    /**
+     * Get the rows of the join keys in batch, the results are in the order of the keys. Keys of
+     * the same bucket are looked up together by {@link LocalTableQuery#lookupBatch}.
+     */
+    public List<List<InternalRow>> getAll(List<InternalRow> joinKeys) throws IOException {
+        Map<BinaryRow, Map<Integer, List<Integer>>> indicesOfBuckets = new HashMap<>();
+        for (int i = 0; i < joinKeys.size(); i++) {
+            InternalRow joinKey = joinKeys.get(i);
+            BinaryRow partition = partitionProjection.apply(joinKey).copy();
+            indicesOfBuckets
+                    .computeIfAbsent(partition, k -> new HashMap<>())
+                    .computeIfAbsent(bucket(joinKey), k -> new ArrayList<>())
+                    .add(i);
+        }
+
+        List<List<InternalRow>> results =
+                new ArrayList<>(Collections.nCopies(joinKeys.size(), null));
+        for (Map.Entry<BinaryRow, Map<Integer, List<Integer>>> partition :
+                indicesOfBuckets.entrySet()) {
+            for (Map.Entry<Integer, List<Integer>> bucket : partition.getValue().entrySet()) {
+                List<Integer> indices = bucket.getValue();
+                List<InternalRow> keys = new ArrayList<>(indices.size());
+                for (int i : indices) {
+                    keys.add(keyProjection.apply(joinKeys.get(i)).copy());
+                }
+                List<InternalRow> values =
+                        tableQuery.lookupBatch(partition.getKey(), bucket.getKey(), keys);
+                for (int i = 0; i < indices.size(); i++) {
+                    results.set(indices.get(i), toResult(values.get(i)));
+                }
+            }
+        }
+        return results;
+    }
+
+    private int bucket(InternalRow joinKey) {
+        return KeyAndBucketExtractor.bucket(
+                KeyAndBucketExtractor.bucketKeyHashCode(bucketKeyProjection.apply(joinKey)),
+                numBuckets);
+    }
+
+    private List<InternalRow> toResult(@Nullable InternalRow value) {
+        if (value == null) {
+            return Collections.emptyList();
+        }
+
+        InternalRow projected = ProjectedRow.from(valueProjection).replaceRow(value);
+        return recordFilter.test(projected)
+                ? Collections.singletonList(projected)
+                : Collections.emptyList();
+    }
+
+    /** Id of the next snapshot to follow, null if no snapshot has been loaded yet. */
+    @Nullable
+    public Long nextSnapshotId() {
+        return nextSnapshotId;
+    }
+
+    /**
+     * Read file changes of the next snapshot, all files of the latest snapshot at first. Returns
+     * null if there is no new snapshot. The changes should be applied by {@link #refresh}.
+     */
+    @Nullable
+    public SnapshotReader.Plan nextChanges() {
+        if (nextSnapshotId == null) {
+            Long latestSnapshotId = snapshotManager.latestSnapshotId();
+            if (latestSnapshotId == null) {
+                return null;
+            }
+            SnapshotReader.Plan plan =
+                    snapshotReader.withSnapshot(latestSnapshotId).withKind(ScanKind.ALL).read();
+            nextSnapshotId = latestSnapshotId + 1;
+            return plan;
+        }
+
+        if (!snapshotManager.snapshotExists(nextSnapshotId)) {
+            Long earliestSnapshotId = snapshotManager.earliestSnapshotId();
+            if (earliestSnapshotId != null && earliestSnapshotId > nextSnapshotId) {
+                throw new OutOfRangeException(
+                        String.format(
+                                "The snapshot with id %d has expired. You can: "
+                                        + "1. increase the snapshot expiration time. "
+                                        + "2. use consumer-id to ensure that unconsumed snapshots will not be expired.",
+                                nextSnapshotId));
+            }
+            return null;
+        }
+
+        SnapshotReader.Plan plan = snapshotReader.withSnapshot(nextSnapshotId).readChanges();
+        nextSnapshotId++;
+        return plan;
+    }
+
+    public void refresh(SnapshotReader.Plan changes) {
+        for (Split split : changes.splits()) {
+            DataSplit dataSplit = (DataSplit) split;
+            tableQuery.refreshFiles(
+                    dataSplit.partition(),
+                    dataSplit.bucket(),
+                    dataSplit.beforeFiles(),
+                    dataSplit.dataFiles());
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        tableQuery.close();
+    }
+}
@@ -20,6 +20,8 @@ package org.apache.paimon.flink.lookup;
 
 import org.apache.paimon.CoreOptions;
 import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.data.serializer.InternalRowSerializer;
+import org.apache.paimon.disk.IOManager;
 import org.apache.paimon.flink.FlinkRowData;
 import org.apache.paimon.flink.FlinkRowWrapper;
 import org.apache.paimon.flink.utils.TableScanUtils;
@@ -27,14 +29,22 @@ import org.apache.paimon.options.Options;
 import org.apache.paimon.predicate.Predicate;
 import org.apache.paimon.predicate.PredicateFilter;
 import org.apache.paimon.reader.RecordReaderIterator;
+import org.apache.paimon.table.DataTable;
+import org.apache.paimon.table.FileStoreTable;
 import org.apache.paimon.table.Table;
 import org.apache.paimon.table.source.OutOfRangeException;
+import org.apache.paimon.table.source.snapshot.SnapshotReader;
 import org.apache.paimon.types.RowType;
+import org.apache.paimon.utils.ExceptionUtils;
+import org.apache.paimon.utils.ExecutorThreadFactory;
 import org.apache.paimon.utils.FileIOUtils;
+import org.apache.paimon.utils.SnapshotManager;
 import org.apache.paimon.utils.TypeUtils;
 
 import org.apache.paimon.shade.guava30.com.google.common.primitives.Ints;
 
+import org.apache.flink.metrics.Gauge;
+import org.apache.flink.metrics.MetricGroup;
 import org.apache.flink.streaming.api.operators.StreamingRuntimeContext;
 import org.apache.flink.table.data.RowData;
 import org.apache.flink.table.functions.FunctionContext;
@@ -55,12 +65,21 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
+import static org.apache.paimon.flink.FlinkConnectorOptions.LOOKUP_DIRECT;
+import static org.apache.paimon.flink.FlinkConnectorOptions.LOOKUP_REFRESH_ASYNC;
 import static org.apache.paimon.flink.RocksDBOptions.LOOKUP_CACHE_ROWS;
 import static org.apache.paimon.predicate.PredicateBuilder.transformFieldMapping;
+import static org.apache.paimon.utils.Preconditions.checkArgument;
 
 /** A lookup {@link TableFunction} for file store. */
 public class FileStoreLookupFunction implements Serializable, Closeable {
@@ -74,14 +93,34 @@ public class FileStoreLookupFunction implements Serializable, Closeable {
     private final List<String> joinKeys;
     @Nullable private final Predicate predicate;
 
+    // whether to lookup data files directly instead of loading records into RocksDB
+    private final boolean directLookup;
+
     private transient Duration refreshInterval;
     private transient File path;
     private transient RocksDBStateFactory stateFactory;
     private transient LookupTable lookupTable;
+    private transient IOManager ioManager;
+    private transient DirectLookupTable directLookupTable;
 
     // timestamp when cache expires
     private transient long nextLoadTime;
     private transient TableStreamingReader streamingReader;
+    private transient InternalRowSerializer rowSerializer;
+
+    // lookups and refresh share the lookup table, only the async refresh really contends it
+    private transient ReentrantLock lock;
+    private transient boolean asyncRefresh;
+    @Nullable private transient ExecutorService refreshExecutor;
+    @Nullable private transient Future<?> refreshFuture;
+    // set only when metrics are registered, the lag is not computed without metrics
+    @Nullable private transient SnapshotManager snapshotManager;
+
+    // metrics
+    private transient volatile long lastRefreshDuration;
+    private transient volatile long refreshLagSnapshots;
+    // commit time of the oldest snapshot not loaded yet, 0 if there is none
+    private transient volatile long oldestPendingSnapshotTime;
 
     public FileStoreLookupFunction(
             Table table, int[] projection, int[] joinKeyIndex, @Nullable Predicate predicate) {
@@ -108,11 +147,19 @@ public class FileStoreLookupFunction implements Serializable, Closeable {
         }
 
         this.predicate = predicate;
+
+        this.directLookup = Options.fromMap(table.options()).get(LOOKUP_DIRECT);
+        checkArgument(
+                !directLookup || DirectLookupTable.isSupported(table, joinKeys),
+                "Direct lookup requires join keys %s to be the primary keys of a fixed bucket "
+                        + "table with deduplicate merge engine and without sequence field.",
+                joinKeys);
     }
 
     public void open(FunctionContext context) throws Exception {
         String tmpDirectory = getTmpDirectory(context);
         open(tmpDirectory);
+        registerMetrics(context.getMetricGroup());
     }
 
     // we tag this method friendly for testing
@@ -124,26 +171,60 @@ public class FileStoreLookupFunction implements Serializable, Closeable {
     private void open() throws Exception {
         Options options = Options.fromMap(table.options());
         this.refreshInterval = options.get(CoreOptions.CONTINUOUS_DISCOVERY_INTERVAL);
-        this.stateFactory = new RocksDBStateFactory(path.toString(), options);
+        this.lock = new ReentrantLock();
+        this.asyncRefresh = options.get(LOOKUP_REFRESH_ASYNC);
 
         List<String> fieldNames = table.rowType().getFieldNames();
         int[] projection = projectFields.stream().mapToInt(fieldNames::indexOf).toArray();
         RowType rowType = TypeUtils.project(table.rowType(), projection);
 
         PredicateFilter recordFilter = createRecordFilter(projection);
-        this.lookupTable =
-                LookupTable.create(
-                        stateFactory,
-                        rowType,
-                        table.primaryKeys(),
-                        joinKeys,
-                        recordFilter,
-                        options.get(LOOKUP_CACHE_ROWS));
         this.nextLoadTime = -1;
-        this.streamingReader = new TableStreamingReader(table, projection, this.predicate);
+        if (directLookup) {
+            this.ioManager = IOManager.create(path.toString());
+            this.directLookupTable =
+                    new DirectLookupTable(
+                            (FileStoreTable) table,
+                            projection,
+                            joinKeys,
+                            recordFilter,
+                            ioManager);
+        } else {
+            this.stateFactory = new RocksDBStateFactory(path.toString(), options);
+            this.lookupTable =
+                    LookupTable.create(
+                            stateFactory,
+                            rowType,
+                            table.primaryKeys(),
+                            joinKeys,
+                            recordFilter,
+                            options.get(LOOKUP_CACHE_ROWS));
+            this.streamingReader = new TableStreamingReader(table, projection, this.predicate);
+            this.rowSerializer = new InternalRowSerializer(rowType);
+        }
 
-        // do first load
+        // do first load, the starting snapshot is bulk loaded into the empty lookup table
+        if (lookupTable != null) {
+            bootstrap();
+        }
         refresh();
+
+        if (asyncRefresh) {
+            this.refreshExecutor =
+                    Executors.newSingleThreadExecutor(
+                            new ExecutorThreadFactory("paimon-lookup-refresh"));
+        }
+    }
+
+    private void registerMetrics(MetricGroup metricGroup) {
+        if (table instanceof DataTable) {
+            this.snapshotManager = ((DataTable) table).snapshotManager();
+            updateRefreshLag();
+        }
+        MetricGroup group = metricGroup.addGroup("lookup");
+        group.gauge("lastRefreshDuration", (Gauge<Long>) () -> lastRefreshDuration);
+        group.gauge("refreshLagSnapshots", (Gauge<Long>) () -> refreshLagSnapshots);
+        group.gauge("refreshLagMillis", (Gauge<Long>) this::refreshLagMillis);
     }
 
     private PredicateFilter createRecordFilter(int[] projection) {
@@ -165,12 +246,18 @@ public class FileStoreLookupFunction implements Serializable, Closeable {
     public Collection<RowData> lookup(RowData keyRow) {
         try {
             checkRefresh();
-            List<InternalRow> results = lookupTable.get(new FlinkRowWrapper(keyRow));
-            List<RowData> rows = new ArrayList<>(results.size());
-            for (InternalRow matchedRow : results) {
-                rows.add(new FlinkRowData(matchedRow));
+            List<InternalRow> results;
+            lock.lock();
+            try {
+                InternalRow key = new FlinkRowWrapper(keyRow);
+                results =
+                        directLookupTable != null
+                                ? directLookupTable.get(key)
+                                : lookupTable.get(key);
+            } finally {
+                lock.unlock();
             }
-            return rows;
+            return toRowData(results);
         } catch (OutOfRangeException e) {
             reopen();
             return lookup(keyRow);
@@ -179,6 +266,48 @@ public class FileStoreLookupFunction implements Serializable, Closeable {
         }
     }
 
+    /**
+     * Lookup the key rows in batch, so that the lookup table can serve them with one multi get.
+     * The results are in the order of the key rows.
+     */
+    public List<Collection<RowData>> lookup(List<RowData> keyRows) {
+        try {
+            checkRefresh();
+            List<InternalRow> keys = new ArrayList<>(keyRows.size());
+            for (RowData keyRow : keyRows) {
+                keys.add(new FlinkRowWrapper(keyRow));
+            }
+            List<List<InternalRow>> results;
+            lock.lock();
+            try {
+                results =
+                        directLookupTable != null
+                                ? directLookupTable.getAll(keys)
+                                : lookupTable.getAll(keys);
+            } finally {
+                lock.unlock();
+            }
+            List<Collection<RowData>> rows = new ArrayList<>(results.size());
+            for (List<InternalRow> result : results) {
+                rows.add(toRowData(result));
+            }
+            return rows;
+        } catch (OutOfRangeException e) {
+            reopen();
+            return lookup(keyRows);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static List<RowData> toRowData(List<InternalRow> results) {
+        List<RowData> rows = new ArrayList<>(results.size());
+        for (InternalRow matchedRow : results) {
+            rows.add(new FlinkRowData(matchedRow));
+        }
+        return rows;
+    }
+
     private void reopen() {
         try {
             close();
@@ -189,6 +318,21 @@ public class FileStoreLookupFunction implements Serializable, Closeable {
     }
 
     private void checkRefresh() throws Exception {
+        if (refreshFuture != null) {
+            if (!refreshFuture.isDone()) {
+                // lookup against current data, the running refresh will catch up
+                return;
+            }
+
+            Future<?> finished = refreshFuture;
+            refreshFuture = null;
+            try {
+                finished.get();
+            } catch (ExecutionException e) {
+                ExceptionUtils.rethrowException(e.getCause());
+            }
+        }
+
         if (nextLoadTime > System.currentTimeMillis()) {
             return;
         }
@@ -198,30 +342,144 @@ public class FileStoreLookupFunction implements Serializable, Closeable {
                     refreshInterval.toMillis() / 1000);
         }
 
-        refresh();
+        if (asyncRefresh) {
+            refreshFuture =
+                    refreshExecutor.submit(
+                            () -> {
+                                refresh();
+                                return null;
+                            });
+        } else {
+            refresh();
+        }
 
         nextLoadTime = System.currentTimeMillis() + refreshInterval.toMillis();
     }
 
     private void refresh() throws Exception {
-        while (true) {
-            try (RecordReaderIterator<InternalRow> batch =
-                    new RecordReaderIterator<>(streamingReader.nextBatch())) {
-                if (!batch.hasNext()) {
-                    return;
+        long start = System.currentTimeMillis();
+        while (directLookupTable != null ? refreshDirectLookupTable() : refreshLookupTable()) {
+            if (asyncRefresh && Thread.currentThread().isInterrupted()) {
+                throw new InterruptedException("Lookup refresh is interrupted.");
+            }
+        }
+        lastRefreshDuration = System.currentTimeMillis() - start;
+        // once per refresh, the lag reads the latest snapshot from the file system
+        updateRefreshLag();
+    }
+
+    private void bootstrap() throws Exception {
+        try (RecordReaderIterator<InternalRow> batch =
+                new RecordReaderIterator<>(streamingReader.nextBatch())) {
+            lookupTable.bootstrap(batch);
+        }
+    }
+
+    /** Apply file changes of the next snapshot, returns false if there is no new snapshot. */
+    private boolean refreshDirectLookupTable() {
+        SnapshotReader.Plan changes = directLookupTable.nextChanges();
+        if (changes == null) {
+            return false;
+        }
+
+        lock.lock();
+        try {
+            directLookupTable.refresh(changes);
+        } finally {
+            lock.unlock();
+        }
+        return true;
+    }
+
+    /** Load the next batch of records into the lookup table, returns false if there is none. */
+    private boolean refreshLookupTable() throws Exception {
+        try (RecordReaderIterator<InternalRow> batch =
+                new RecordReaderIterator<>(streamingReader.nextBatch())) {
+            if (!batch.hasNext()) {
+                return false;
+            }
+
+            if (asyncRefresh) {
+                // read the whole batch before taking the lock, so that lookups are not blocked
+                // by reading files and see either none or all changes of a snapshot
+                List<InternalRow> staged = new ArrayList<>();
+                while (batch.hasNext()) {
+                    staged.add(rowSerializer.copy(batch.next()));
+                }
+                lock.lock();
+                try {
+                    lookupTable.refresh(staged.iterator());
+                } finally {
+                    lock.unlock();
                 }
-                this.lookupTable.refresh(batch);
+            } else {
+                lookupTable.refresh(batch);
             }
         }
+        return true;
+    }
+
+    private void updateRefreshLag() {
+        if (snapshotManager == null) {
+            return;
+        }
+
+        Long latest = snapshotManager.latestSnapshotId();
+        Long next =
+                directLookupTable != null
+                        ? directLookupTable.nextSnapshotId()
+                        : streamingReader.nextSnapshotId();
+        if (latest == null || next == null || next > latest) {
+            refreshLagSnapshots = 0;
+            oldestPendingSnapshotTime = 0;
+        } else {
+            refreshLagSnapshots = latest - next + 1;
+            oldestPendingSnapshotTime =
+                    snapshotManager.snapshotExists(next)
+                            ? snapshotManager.snapshot(next).timeMillis()
+                            : 0;
+        }
+    }
+
+    private long refreshLagMillis() {
+        long pendingTime = oldestPendingSnapshotTime;
+        return pendingTime == 0 ? 0 : Math.max(0, System.currentTimeMillis() - pendingTime);
     }
 
     @Override
     public void close() throws IOException {
+        if (refreshExecutor != null) {
+            refreshExecutor.shutdownNow();
+            try {
+                // the running refresh may still write to the state, wait for it before closing
+                refreshExecutor.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            }
+            refreshExecutor = null;
+            refreshFuture = null;
+        }
+
         if (stateFactory != null) {
             stateFactory.close();
             stateFactory = null;
         }
 
+        if (directLookupTable != null) {
+            directLookupTable.close();
+            directLookupTable = null;
+        }
+
+        if (ioManager != null) {
+            try {
+                ioManager.close();
+            } catch (Exception e) {
+                throw new IOException(e);
+            }
+            ioManager = null;
+        }
+
         if (path != null) {
             FileIOUtils.deleteDirectoryQuietly(path);
         }
@@ -22,6 +22,7 @@ import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.types.RowType;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
@@ -32,8 +33,22 @@ public interface LookupTable {
 
     List<InternalRow> get(InternalRow key) throws IOException;
 
+    /** Get the rows of the keys in batch, the results are in the order of the keys. */
+    default List<List<InternalRow>> getAll(List<InternalRow> keys) throws IOException {
+        List<List<InternalRow>> results = new ArrayList<>(keys.size());
+        for (InternalRow key : keys) {
+            results.add(get(key));
+        }
+        return results;
+    }
+
     void refresh(Iterator<InternalRow> incremental) throws IOException;
 
+    /** Load the initial data into the empty lookup table, same as {@link #refresh} by default. */
+    default void bootstrap(Iterator<InternalRow> initial) throws IOException {
+        refresh(initial);
+    }
+
     static LookupTable create(
             RocksDBStateFactory stateFactory,
             RowType rowType,
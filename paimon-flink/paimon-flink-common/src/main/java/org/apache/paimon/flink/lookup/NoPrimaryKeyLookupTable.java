@@ -65,6 +65,11 @@ public class NoPrimaryKeyLookupTable implements LookupTable {
         return state.get(key);
     }
 
+    @Override
+    public List<List<InternalRow>> getAll(List<InternalRow> keys) throws IOException {
+        return state.getAll(keys);
+    }
+
     @Override
     public void refresh(Iterator<InternalRow> incremental) throws IOException {
         while (incremental.hasNext()) {
@@ -26,6 +26,7 @@ import org.apache.paimon.utils.KeyProjectedRow;
 import org.apache.paimon.utils.TypeUtils;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
@@ -34,6 +35,8 @@ import java.util.function.Predicate;
 /** A {@link LookupTable} for primary key table. */
 public class PrimaryKeyLookupTable implements LookupTable {
 
+    protected final RocksDBStateFactory stateFactory;
+
     protected final RocksDBValueState<InternalRow, InternalRow> tableState;
 
     protected final Predicate<InternalRow> recordFilter;
@@ -49,6 +52,7 @@ public class PrimaryKeyLookupTable implements LookupTable {
             Predicate<InternalRow> recordFilter,
             long lruCacheSize)
             throws IOException {
+        this.stateFactory = stateFactory;
         List<String> fieldNames = rowType.getFieldNames();
         this.primaryKeyMapping = primaryKey.stream().mapToInt(fieldNames::indexOf).toArray();
         this.primaryKey = new KeyProjectedRow(primaryKeyMapping);
@@ -67,21 +71,45 @@ public class PrimaryKeyLookupTable implements LookupTable {
         return value == null ? Collections.emptyList() : Collections.singletonList(value);
     }
 
+    @Override
+    public List<List<InternalRow>> getAll(List<InternalRow> keys) throws IOException {
+        List<List<InternalRow>> results = new ArrayList<>(keys.size());
+        for (InternalRow value : tableState.getAll(keys)) {
+            results.add(
+                    value == null ? Collections.emptyList() : Collections.singletonList(value));
+        }
+        return results;
+    }
+
     @Override
     public void refresh(Iterator<InternalRow> incremental) throws IOException {
-        while (incremental.hasNext()) {
-            InternalRow row = incremental.next();
+        write(incremental, tableState);
+    }
+
+    @Override
+    public void bootstrap(Iterator<InternalRow> initial) throws IOException {
+        // the writes are the same as refresh, but go to SST files instead of the memtable
+        RocksDBBulkLoader<InternalRow, InternalRow> loader = stateFactory.bulkLoader(tableState);
+        write(initial, loader);
+        loader.finish();
+    }
+
+    private void write(
+            Iterator<InternalRow> rows, RocksDBValueWriter<InternalRow, InternalRow> writer)
+            throws IOException {
+        while (rows.hasNext()) {
+            InternalRow row = rows.next();
             primaryKey.replaceRow(row);
             if (row.getRowKind() == RowKind.INSERT || row.getRowKind() == RowKind.UPDATE_AFTER) {
                 if (recordFilter.test(row)) {
-                    tableState.put(primaryKey, row);
+                    writer.put(primaryKey, row);
                 } else {
                     // The new record under primary key is filtered
                     // We need to delete this primary key as it no longer exists.
-                    tableState.delete(primaryKey);
+                    writer.delete(primaryKey);
                 }
             } else {
-                tableState.delete(primaryKey);
+                writer.delete(primaryKey);
             }
         }
     }
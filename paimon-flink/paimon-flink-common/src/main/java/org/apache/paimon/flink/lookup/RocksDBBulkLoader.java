@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.flink.lookup;
+
+import org.apache.paimon.utils.FileIOUtils;
+import org.apache.paimon.utils.Pair;
+
+import org.rocksdb.EnvOptions;
+import org.rocksdb.IngestExternalFileOptions;
+import org.rocksdb.Options;
+import org.rocksdb.RocksDB;
+import org.rocksdb.RocksDBException;
+import org.rocksdb.SstFileWriter;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Bulk loader to load the initial data of an empty {@link RocksDBValueState}. Records are sorted
+ * in memory, written to SST files by {@link SstFileWriter} and ingested into RocksDB, which
+ * bypasses the memtable and its flushes. A later write of a key overrides the former ones.
+ */
+public class RocksDBBulkLoader<K, V> implements RocksDBValueWriter<K, V> {
+
+    // estimated heap bytes of a buffered record besides its key and value bytes: the pair, the
+    // headers of the two arrays and the slot in the buffer
+    private static final int RECORD_OVERHEAD = 72;
+
+    private final RocksDB db;
+    private final RocksDBValueState<K, V> state;
+    private final Options options;
+    private final File tmpDir;
+    private final long bufferSize;
+
+    // key and value bytes, a null value means deletion
+    private final List<Pair<byte[], byte[]>> buffer;
+    private long bufferedBytes;
+    private int fileNumber;
+
+    public RocksDBBulkLoader(
+            RocksDB db,
+            RocksDBValueState<K, V> state,
+            Options options,
+            File tmpDir,
+            long bufferSize) {
+        this.db = db;
+        this.state = state;
+        this.options = options;
+        this.tmpDir = tmpDir;
+        this.bufferSize = bufferSize;
+        this.buffer = new ArrayList<>();
+    }
+
+    @Override
+    public void put(K key, V value) throws IOException {
+        write(state.serializeKey(key), state.serializeValue(value));
+    }
+
+    @Override
+    public void delete(K key) throws IOException {
+        write(state.serializeKey(key), null);
+    }
+
+    private void write(byte[] keyBytes, byte[] valueBytes) throws IOException {
+        buffer.add(Pair.of(keyBytes, valueBytes));
+        bufferedBytes +=
+                RECORD_OVERHEAD + keyBytes.length + (valueBytes == null ? 0 : valueBytes.length);
+        if (bufferedBytes >= bufferSize) {
+            flush();
+        }
+    }
+
+    /** Ingest the remaining records, the loaded data is visible to the state after this. */
+    public void finish() throws IOException {
+        try {
+            flush();
+            state.cache.invalidateAll();
+        } finally {
+            FileIOUtils.deleteDirectoryQuietly(tmpDir);
+        }
+    }
+
+    private void flush() throws IOException {
+        if (buffer.isEmpty()) {
+            return;
+        }
+
+        // RocksDB orders keys by unsigned bytes, which differs from the order of the rows, the
+        // sort is stable so that later writes of a key stay behind the former ones
+        buffer.sort((o1, o2) -> compare(o1.getKey(), o2.getKey()));
+        if (!tmpDir.exists() && !tmpDir.mkdirs()) {
+            throw new IOException("Failed to create directory " + tmpDir);
+        }
+        File file = new File(tmpDir, "bulk-load-" + fileNumber++ + ".sst");
+        try (EnvOptions envOptions = new EnvOptions();
+                SstFileWriter writer = new SstFileWriter(envOptions, options)) {
+            writer.open(file.getPath());
+            for (int i = 0; i < buffer.size(); i++) {
+                Pair<byte[], byte[]> record = buffer.get(i);
+                boolean overridden =
+                        i + 1 < buffer.size()
+                                && compare(record.getKey(), buffer.get(i + 1).getKey()) == 0;
+                if (overridden) {
+                    continue;
+                }
+
+                if (record.getValue() == null) {
+                    writer.delete(record.getKey());
+                } else {
+                    writer.put(record.getKey(), record.getValue());
+                }
+            }
+            writer.finish();
+        } catch (RocksDBException e) {
+            throw new IOException(e);
+        }
+
+        // files are ingested one by one, as the key ranges of them may overlap
+        try (IngestExternalFileOptions ingestOptions =
+                new IngestExternalFileOptions().setMoveFiles(true)) {
+            db.ingestExternalFile(
+                    state.columnFamily, Collections.singletonList(file.getPath()), ingestOptions);
+        } catch (RocksDBException e) {
+            throw new IOException(e);
+        }
+
+        buffer.clear();
+        bufferedBytes = 0;
+    }
+
+    private static int compare(byte[] left, byte[] right) {
+        int length = Math.min(left.length, right.length);
+        for (int i = 0; i < length; i++) {
+            int cmp = (left[i] & 0xFF) - (right[i] & 0xFF);
+            if (cmp != 0) {
+                return cmp;
+            }
+        }
+        return left.length - right.length;
+    }
+}
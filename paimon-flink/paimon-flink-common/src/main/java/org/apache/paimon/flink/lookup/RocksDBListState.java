@@ -25,6 +25,7 @@ import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
@@ -72,9 +73,42 @@ public class RocksDBListState<K, V> extends RocksDBState<K, V, List<V>> {
                 });
     }
 
-    private byte[] serializeValue(V value) throws IOException {
-        valueOutputView.clear();
-        valueSerializer.serialize(value, valueOutputView);
-        return valueOutputView.getCopyOfBuffer();
+    /** Get values of the keys in batch, the values of a missing key is an empty list. */
+    public List<List<V>> getAll(List<K> keys) throws IOException {
+        List<ByteArray> keyBytes = new ArrayList<>(keys.size());
+        List<List<V>> values = new ArrayList<>(keys.size());
+        List<Integer> missed = new ArrayList<>();
+        for (K key : keys) {
+            ByteArray keyByteArray = wrap(serializeKey(key));
+            List<V> rows = cache.getIfPresent(keyByteArray);
+            if (rows == null) {
+                missed.add(keyBytes.size());
+            }
+            keyBytes.add(keyByteArray);
+            values.add(rows);
+        }
+
+        if (!missed.isEmpty()) {
+            List<byte[]> missedKeys = new ArrayList<>(missed.size());
+            for (int i : missed) {
+                missedKeys.add(keyBytes.get(i).bytes);
+            }
+            List<byte[]> missedValues;
+            try {
+                missedValues = multiGet(missedKeys);
+            } catch (RocksDBException e) {
+                throw new IOException(e);
+            }
+            for (int i = 0; i < missed.size(); i++) {
+                List<V> rows =
+                        listSerializer.deserializeList(missedValues.get(i), valueSerializer);
+                if (rows == null) {
+                    rows = Collections.emptyList();
+                }
+                values.set(missed.get(i), rows);
+                cache.put(keyBytes.get(missed.get(i)), rows);
+            }
+        }
+        return values;
     }
 }
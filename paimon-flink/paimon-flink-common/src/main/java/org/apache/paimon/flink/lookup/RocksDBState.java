@@ -28,12 +28,15 @@ import org.apache.paimon.shade.guava30.com.google.common.util.concurrent.MoreExe
 
 import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.RocksDB;
+import org.rocksdb.RocksDBException;
 import org.rocksdb.WriteOptions;
 
 import javax.annotation.Nullable;
 
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 /** Rocksdb state for key value. */
 public abstract class RocksDBState<K, V, CacheV> {
@@ -83,6 +86,17 @@ public abstract class RocksDBState<K, V, CacheV> {
         return keyOutView.getCopyOfBuffer();
     }
 
+    protected byte[] serializeValue(V value) throws IOException {
+        valueOutputView.clear();
+        valueSerializer.serialize(value, valueOutputView);
+        return valueOutputView.getCopyOfBuffer();
+    }
+
+    /** Get values of the serialized keys with one RocksDB call, missing values are null. */
+    protected List<byte[]> multiGet(List<byte[]> keyBytes) throws RocksDBException {
+        return db.multiGetAsList(Collections.nCopies(keyBytes.size(), columnFamily), keyBytes);
+    }
+
     protected ByteArray wrap(byte[] bytes) {
         return new ByteArray(bytes);
     }
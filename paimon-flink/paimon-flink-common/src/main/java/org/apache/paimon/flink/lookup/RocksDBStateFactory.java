@@ -30,8 +30,10 @@ import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
 
 import java.io.Closeable;
+import java.io.File;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.UUID;
 
 /** Factory to create state. */
 public class RocksDBStateFactory implements Closeable {
@@ -40,8 +42,14 @@ public class RocksDBStateFactory implements Closeable {
 
     private RocksDB db;
 
+    private final String path;
+
+    private final Options options;
+
     private final ColumnFamilyOptions columnFamilyOptions;
 
+    private final long writeBufferSize;
+
     public RocksDBStateFactory(String path, org.apache.paimon.options.Options conf)
             throws IOException {
         DBOptions dbOptions =
@@ -54,9 +62,12 @@ public class RocksDBStateFactory implements Closeable {
         this.columnFamilyOptions =
                 RocksDBOptions.createColumnOptions(new ColumnFamilyOptions(), conf)
                         .setMergeOperatorName(MERGE_OPERATOR_NAME);
+        this.path = path;
+        this.options = new Options(dbOptions, columnFamilyOptions);
+        this.writeBufferSize = conf.get(RocksDBOptions.WRITE_BUFFER_SIZE).getBytes();
 
         try {
-            this.db = RocksDB.open(new Options(dbOptions, columnFamilyOptions), path);
+            this.db = RocksDB.open(options, path);
         } catch (RocksDBException e) {
             throw new IOException("Error while opening RocksDB instance.", e);
         }
@@ -93,6 +104,19 @@ public class RocksDBStateFactory implements Closeable {
                 db, createColumnFamily(name), keySerializer, valueSerializer, lruCacheSize);
     }
 
+    /**
+     * Create a {@link RocksDBBulkLoader} to load the initial data of the empty state, each SST file
+     * holds about one write buffer of records.
+     */
+    public <K, V> RocksDBBulkLoader<K, V> bulkLoader(RocksDBValueState<K, V> state) {
+        return new RocksDBBulkLoader<>(
+                db,
+                state,
+                options,
+                new File(path, "bulk-load-" + UUID.randomUUID()),
+                writeBufferSize);
+    }
+
     private ColumnFamilyHandle createColumnFamily(String name) throws IOException {
         try {
             return db.createColumnFamily(
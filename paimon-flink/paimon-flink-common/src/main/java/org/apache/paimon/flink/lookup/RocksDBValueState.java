@@ -27,11 +27,14 @@ import org.rocksdb.RocksDBException;
 import javax.annotation.Nullable;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.apache.paimon.utils.Preconditions.checkArgument;
 
 /** Rocksdb state for key -> a single value. */
-public class RocksDBValueState<K, V> extends RocksDBState<K, V, RocksDBState.Reference> {
+public class RocksDBValueState<K, V> extends RocksDBState<K, V, RocksDBState.Reference>
+        implements RocksDBValueWriter<K, V> {
 
     public RocksDBValueState(
             RocksDB db,
@@ -52,6 +55,45 @@ public class RocksDBValueState<K, V> extends RocksDBState<K, V, RocksDBState.Ref
         }
     }
 
+    /** Get values of the keys in batch, the value of a missing key is null. */
+    public List<V> getAll(List<K> keys) throws IOException {
+        try {
+            List<ByteArray> keyBytes = new ArrayList<>(keys.size());
+            List<Reference> valueRefs = new ArrayList<>(keys.size());
+            List<Integer> missed = new ArrayList<>();
+            for (K key : keys) {
+                ByteArray keyByteArray = wrap(serializeKey(key));
+                Reference valueRef = cache.getIfPresent(keyByteArray);
+                if (valueRef == null) {
+                    missed.add(keyBytes.size());
+                }
+                keyBytes.add(keyByteArray);
+                valueRefs.add(valueRef);
+            }
+
+            if (!missed.isEmpty()) {
+                List<byte[]> missedKeys = new ArrayList<>(missed.size());
+                for (int i : missed) {
+                    missedKeys.add(keyBytes.get(i).bytes);
+                }
+                List<byte[]> missedValues = multiGet(missedKeys);
+                for (int i = 0; i < missed.size(); i++) {
+                    Reference valueRef = ref(missedValues.get(i));
+                    valueRefs.set(missed.get(i), valueRef);
+                    cache.put(keyBytes.get(missed.get(i)), valueRef);
+                }
+            }
+
+            List<V> values = new ArrayList<>(keys.size());
+            for (Reference valueRef : valueRefs) {
+                values.add(valueRef.isPresent() ? deserializeValue(valueRef.bytes) : null);
+            }
+            return values;
+        } catch (Exception e) {
+            throw new IOException(e);
+        }
+    }
+
     private Reference get(ByteArray keyBytes) throws RocksDBException {
         Reference valueRef = cache.getIfPresent(keyBytes);
         if (valueRef == null) {
@@ -62,6 +104,7 @@ public class RocksDBValueState<K, V> extends RocksDBState<K, V, RocksDBState.Ref
         return valueRef;
     }
 
+    @Override
     public void put(K key, V value) throws IOException {
         checkArgument(value != null);
 
@@ -75,6 +118,7 @@ public class RocksDBValueState<K, V> extends RocksDBState<K, V, RocksDBState.Ref
         }
     }
 
+    @Override
     public void delete(K key) throws IOException {
         try {
             byte[] keyBytes = serializeKey(key);
@@ -92,10 +136,4 @@ public class RocksDBValueState<K, V> extends RocksDBState<K, V, RocksDBState.Ref
         valueInputView.setBuffer(valueBytes);
         return valueSerializer.deserialize(valueInputView);
     }
-
-    private byte[] serializeValue(V value) throws IOException {
-        valueOutputView.clear();
-        valueSerializer.serialize(value, valueOutputView);
-        return valueOutputView.getCopyOfBuffer();
-    }
 }
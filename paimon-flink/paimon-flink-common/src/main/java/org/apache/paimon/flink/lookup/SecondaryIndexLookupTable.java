@@ -71,6 +71,32 @@ public class SecondaryIndexLookupTable extends PrimaryKeyLookupTable {
         return values;
     }
 
+    @Override
+    public List<List<InternalRow>> getAll(List<InternalRow> keys) throws IOException {
+        // resolve the primary keys of all secondary keys first, then get their values in batch
+        List<List<InternalRow>> pksOfKeys = new ArrayList<>(keys.size());
+        List<InternalRow> allPks = new ArrayList<>();
+        for (InternalRow key : keys) {
+            List<InternalRow> pks = indexState.get(key);
+            pksOfKeys.add(pks);
+            allPks.addAll(pks);
+        }
+
+        Iterator<InternalRow> allValues = tableState.getAll(allPks).iterator();
+        List<List<InternalRow>> results = new ArrayList<>(keys.size());
+        for (List<InternalRow> pks : pksOfKeys) {
+            List<InternalRow> values = new ArrayList<>(pks.size());
+            for (int i = 0; i < pks.size(); i++) {
+                InternalRow value = allValues.next();
+                if (value != null) {
+                    values.add(value);
+                }
+            }
+            results.add(values);
+        }
+        return results;
+    }
+
     @Override
     public void refresh(Iterator<InternalRow> incremental) throws IOException {
         while (incremental.hasNext()) {
@@ -94,4 +120,10 @@ public class SecondaryIndexLookupTable extends PrimaryKeyLookupTable {
             }
         }
     }
+
+    @Override
+    public void bootstrap(Iterator<InternalRow> initial) throws IOException {
+        // the secondary index is maintained with the previous values, do not bulk load
+        refresh(initial);
+    }
 }
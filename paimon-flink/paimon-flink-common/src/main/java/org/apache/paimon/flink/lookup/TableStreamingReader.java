@@ -101,6 +101,12 @@ public class TableStreamingReader {
         }
     }
 
+    /** Id of the next snapshot to read, null if no snapshot has been planned yet. */
+    @Nullable
+    public Long nextSnapshotId() {
+        return scan.checkpoint();
+    }
+
     private RecordReader<InternalRow> read(TableScan.Plan plan) throws IOException {
         TableRead read = readBuilder.newRead();
 
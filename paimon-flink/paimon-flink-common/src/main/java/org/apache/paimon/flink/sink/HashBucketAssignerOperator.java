@@ -89,4 +89,12 @@ public class HashBucketAssignerOperator<T> extends AbstractStreamOperator<Tuple2
     public void prepareSnapshotPreBarrier(long checkpointId) {
         assigner.prepareCommit(checkpointId);
     }
+
+    @Override
+    public void close() throws Exception {
+        super.close();
+        if (assigner != null) {
+            assigner.close();
+        }
+    }
 }
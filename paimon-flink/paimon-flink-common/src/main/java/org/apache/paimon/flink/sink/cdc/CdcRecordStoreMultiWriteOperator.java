@@ -18,9 +18,11 @@
 
 package org.apache.paimon.flink.sink.cdc;
 
+import org.apache.paimon.CoreOptions;
 import org.apache.paimon.annotation.VisibleForTesting;
 import org.apache.paimon.catalog.Catalog;
 import org.apache.paimon.catalog.Identifier;
+import org.apache.paimon.compact.CompactScheduler;
 import org.apache.paimon.data.GenericRow;
 import org.apache.paimon.flink.sink.MultiTableCommittable;
 import org.apache.paimon.flink.sink.PrepareCommitOperator;
@@ -46,7 +48,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 
 import static org.apache.paimon.flink.sink.cdc.CdcRecordStoreWriteOperator.RETRY_SLEEP_TIME;
@@ -64,6 +65,7 @@ public class CdcRecordStoreMultiWriteOperator
     private final StoreSinkWrite.WithWriteBufferProvider storeSinkWriteProvider;
     private final String initialCommitUser;
     private final Catalog.Loader catalogLoader;
+    private final int compactionThreads;
 
     private MemoryPoolFactory memoryPoolFactory;
     private Catalog catalog;
@@ -82,6 +84,7 @@ public class CdcRecordStoreMultiWriteOperator
         this.catalogLoader = catalogLoader;
         this.storeSinkWriteProvider = storeSinkWriteProvider;
         this.initialCommitUser = initialCommitUser;
+        this.compactionThreads = options.get(CoreOptions.COMPACTION_THREADS);
     }
 
     @Override
@@ -101,8 +104,10 @@ public class CdcRecordStoreMultiWriteOperator
         state = new StoreSinkWriteState(context, (tableName, partition, bucket) -> true);
         tables = new HashMap<>();
         writes = new HashMap<>();
+        // compactions of all tables share one pool and are scheduled by their priority
         compactExecutor =
-                Executors.newSingleThreadScheduledExecutor(
+                new CompactScheduler(
+                        compactionThreads,
                         new ExecutorThreadFactory(
                                 Thread.currentThread().getName() + "-CdcMultiWrite-Compaction"));
     }
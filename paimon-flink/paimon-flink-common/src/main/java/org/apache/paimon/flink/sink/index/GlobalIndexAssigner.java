@@ -23,6 +23,7 @@ import org.apache.paimon.CoreOptions.MergeEngine;
 import org.apache.paimon.data.BinaryRow;
 import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.data.serializer.RowCompactedSerializer;
+import org.apache.paimon.flink.lookup.RocksDBBulkLoader;
 import org.apache.paimon.flink.lookup.RocksDBStateFactory;
 import org.apache.paimon.flink.lookup.RocksDBValueState;
 import org.apache.paimon.options.Options;
@@ -40,6 +41,8 @@ import org.apache.paimon.utils.PositiveIntIntSerializer;
 import org.apache.paimon.utils.SerBiFunction;
 import org.apache.paimon.utils.SerializableFunction;
 
+import javax.annotation.Nullable;
+
 import java.io.File;
 import java.io.IOException;
 import java.io.Serializable;
@@ -70,6 +73,7 @@ public class GlobalIndexAssigner<T> implements Serializable {
     private transient File path;
     private transient RocksDBStateFactory stateFactory;
     private transient RocksDBValueState<InternalRow, PositiveIntInt> keyIndex;
+    @Nullable private transient RocksDBBulkLoader<InternalRow, PositiveIntInt> bootstrapLoader;
 
     private transient IDMapping<BinaryRow> partMapping;
     private transient BucketAssigner bucketAssigner;
@@ -111,6 +115,7 @@ public class GlobalIndexAssigner<T> implements Serializable {
                         new RowCompactedSerializer(keyType),
                         new PositiveIntIntSerializer(),
                         cacheSize);
+        this.bootstrapLoader = stateFactory.bulkLoader(keyIndex);
 
         this.partMapping = new IDMapping<>(BinaryRow::copy);
         this.bucketAssigner = new BucketAssigner();
@@ -118,6 +123,8 @@ public class GlobalIndexAssigner<T> implements Serializable {
     }
 
     public void process(T value) throws Exception {
+        finishBootstrap();
+
         BinaryRow partition = extractor.partition(value);
         BinaryRow key = extractor.trimmedPrimaryKey(value);
 
@@ -164,9 +171,25 @@ public class GlobalIndexAssigner<T> implements Serializable {
 
     public void bootstrap(T value) throws IOException {
         BinaryRow partition = keyPartExtractor.partition(value);
-        keyIndex.put(
-                keyPartExtractor.trimmedPrimaryKey(value),
-                new PositiveIntInt(partMapping.index(partition), assignBucket(partition)));
+        BinaryRow key = keyPartExtractor.trimmedPrimaryKey(value);
+        PositiveIntInt partitionBucket =
+                new PositiveIntInt(partMapping.index(partition), assignBucket(partition));
+        if (bootstrapLoader != null) {
+            bootstrapLoader.put(key, partitionBucket);
+        } else {
+            keyIndex.put(key, partitionBucket);
+        }
+    }
+
+    /**
+     * Ingest the bulk loaded keys before the first record is processed, keys bootstrapped later
+     * are put into the index directly.
+     */
+    private void finishBootstrap() throws IOException {
+        if (bootstrapLoader != null) {
+            bootstrapLoader.finish();
+            bootstrapLoader = null;
+        }
     }
 
     private void processNewRecord(BinaryRow partition, int partId, BinaryRow key, T value)
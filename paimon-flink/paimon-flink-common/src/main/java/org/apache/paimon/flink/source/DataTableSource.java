@@ -277,7 +277,8 @@ public class DataTableSource extends FlinkTableSource {
                         : Projection.of(projectFields).toTopLevelIndexes();
         int[] joinKey = Projection.of(context.getKeys()).toTopLevelIndexes();
         return LookupRuntimeProviderFactory.create(
-                new FileStoreLookupFunction(table, projection, joinKey, predicate));
+                new FileStoreLookupFunction(table, projection, joinKey, predicate),
+                Options.fromMap(table.options()).get(FlinkConnectorOptions.LOOKUP_ASYNC));
     }
 
     @Override
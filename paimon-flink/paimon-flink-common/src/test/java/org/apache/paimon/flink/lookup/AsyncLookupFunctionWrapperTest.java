@@ -0,0 +1,245 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.flink.lookup;
+
+import org.apache.paimon.fs.Path;
+import org.apache.paimon.fs.local.LocalFileIO;
+import org.apache.paimon.schema.Schema;
+import org.apache.paimon.schema.SchemaManager;
+import org.apache.paimon.schema.TableSchema;
+import org.apache.paimon.table.FileStoreTable;
+import org.apache.paimon.table.FileStoreTableFactory;
+import org.apache.paimon.types.DataType;
+import org.apache.paimon.types.DataTypes;
+import org.apache.paimon.types.RowType;
+
+import org.apache.flink.table.data.GenericRowData;
+import org.apache.flink.table.data.RowData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/** Tests for {@link AsyncLookupFunctionWrapper}. */
+public class AsyncLookupFunctionWrapperTest {
+
+    @TempDir java.nio.file.Path tempDir;
+
+    private TestLookupFunction function;
+    private AsyncLookupFunctionWrapper wrapper;
+
+    @BeforeEach
+    public void before() throws Exception {
+        Path path = new Path(tempDir.toString());
+        RowType rowType =
+                RowType.of(
+                        new DataType[] {DataTypes.INT(), DataTypes.BIGINT()},
+                        new String[] {"k", "v"});
+        TableSchema tableSchema =
+                new SchemaManager(LocalFileIO.create(), path)
+                        .createTable(
+                                new Schema(
+                                        rowType.getFields(),
+                                        Collections.emptyList(),
+                                        Collections.singletonList("k"),
+                                        Collections.emptyMap(),
+                                        ""));
+        FileStoreTable table =
+                FileStoreTableFactory.create(LocalFileIO.create(), path, tableSchema);
+
+        function = new TestLookupFunction(table);
+        wrapper = new AsyncLookupFunctionWrapper(function);
+        wrapper.open(tempDir.toString());
+    }
+
+    @Test
+    public void testBatchWhileBusy() throws Exception {
+        CountDownLatch firstBatch = function.blockNextBatch();
+        CompletableFuture<Collection<RowData>> first = wrapper.asyncLookup(key(0));
+        function.awaitRunning();
+
+        // keys arriving while the first batch is running are looked up together
+        List<CompletableFuture<Collection<RowData>>> futures = new ArrayList<>();
+        for (int i = 1; i < 4; i++) {
+            futures.add(wrapper.asyncLookup(key(i)));
+        }
+        firstBatch.countDown();
+
+        assertThat(first.get()).containsExactly(key(0));
+        for (int i = 1; i < 4; i++) {
+            assertThat(futures.get(i - 1).get()).containsExactly(key(i));
+        }
+        assertThat(function.batches)
+                .containsExactly(
+                        Collections.singletonList(key(0)), Arrays.asList(key(1), key(2), key(3)));
+    }
+
+    @Test
+    public void testFailBatch() throws Exception {
+        CountDownLatch firstBatch = function.blockNextBatch();
+        CompletableFuture<Collection<RowData>> first = wrapper.asyncLookup(key(0));
+        function.awaitRunning();
+
+        List<CompletableFuture<Collection<RowData>>> futures = new ArrayList<>();
+        for (int i = 1; i < 4; i++) {
+            futures.add(wrapper.asyncLookup(key(i)));
+        }
+        function.failingKey = 2;
+        firstBatch.countDown();
+
+        assertThat(first.get()).containsExactly(key(0));
+        // one failing key fails all futures of its batch
+        for (CompletableFuture<Collection<RowData>> future : futures) {
+            assertThatThrownBy(future::get)
+                    .isInstanceOf(ExecutionException.class)
+                    .hasMessageContaining("Lookup failure.");
+        }
+
+        // later lookups are not affected
+        assertThat(wrapper.asyncLookup(key(4)).get()).containsExactly(key(4));
+    }
+
+    @Test
+    public void testCloseDuringRunningBatch() throws Exception {
+        CountDownLatch firstBatch = function.blockNextBatch();
+        CompletableFuture<Collection<RowData>> first = wrapper.asyncLookup(key(0));
+        function.awaitRunning();
+        CompletableFuture<Collection<RowData>> pending = wrapper.asyncLookup(key(1));
+
+        Thread closeThread =
+                new Thread(
+                        () -> {
+                            try {
+                                wrapper.close();
+                            } catch (Exception e) {
+                                throw new RuntimeException(e);
+                            }
+                        });
+        closeThread.start();
+
+        // the lookup table must not be closed while the running batch reads it
+        closeThread.join(100);
+        assertThat(closeThread.isAlive()).isTrue();
+        assertThat(function.closed).isFalse();
+
+        firstBatch.countDown();
+        closeThread.join();
+        assertThat(function.closed).isTrue();
+        assertThat(function.closedWhileRunning).isFalse();
+
+        // the running batch is finished, the requests after it are failed
+        assertThat(first.get()).containsExactly(key(0));
+        assertThatThrownBy(pending::get)
+                .isInstanceOf(ExecutionException.class)
+                .hasRootCauseInstanceOf(IllegalStateException.class);
+    }
+
+    private static RowData key(int k) {
+        return GenericRowData.of(k);
+    }
+
+    /** A {@link FileStoreLookupFunction} which returns the keys and records its batches. */
+    private static class TestLookupFunction extends FileStoreLookupFunction {
+
+        private final List<List<RowData>> batches = new CopyOnWriteArrayList<>();
+
+        private volatile CountDownLatch running = new CountDownLatch(1);
+        private volatile CountDownLatch blocker;
+        private volatile int failingKey = -1;
+        private volatile boolean inBatch;
+        private volatile boolean closed;
+        private volatile boolean closedWhileRunning;
+
+        private TestLookupFunction(FileStoreTable table) {
+            super(table, new int[] {0, 1}, new int[] {0}, null);
+        }
+
+        private CountDownLatch blockNextBatch() {
+            running = new CountDownLatch(1);
+            blocker = new CountDownLatch(1);
+            return blocker;
+        }
+
+        private void awaitRunning() throws InterruptedException {
+            running.await();
+        }
+
+        @Override
+        void open(String tmpDirectory) {}
+
+        @Override
+        public List<Collection<RowData>> lookup(List<RowData> keyRows) {
+            inBatch = true;
+            try {
+                running.countDown();
+                CountDownLatch latch = blocker;
+                if (latch != null) {
+                    blocker = null;
+                    // like a read of the lookup table, the batch is not interruptible
+                    awaitUninterruptibly(latch);
+                }
+
+                batches.add(new ArrayList<>(keyRows));
+                List<Collection<RowData>> results = new ArrayList<>();
+                for (RowData keyRow : keyRows) {
+                    if (keyRow.getInt(0) == failingKey) {
+                        throw new RuntimeException("Lookup failure.");
+                    }
+                    results.add(Collections.singletonList(keyRow));
+                }
+                return results;
+            } finally {
+                inBatch = false;
+            }
+        }
+
+        @Override
+        public void close() {
+            closedWhileRunning = inBatch;
+            closed = true;
+        }
+
+        private static void awaitUninterruptibly(CountDownLatch latch) {
+            boolean interrupted = false;
+            while (true) {
+                try {
+                    latch.await();
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -18,10 +18,14 @@
 
 package org.apache.paimon.flink.lookup;
 
+import org.apache.paimon.AbstractFileStore;
 import org.apache.paimon.CoreOptions;
 import org.apache.paimon.data.GenericRow;
 import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.flink.FlinkConnectorOptions;
 import org.apache.paimon.flink.FlinkRowData;
+import org.apache.paimon.io.DataFileMeta;
+import org.apache.paimon.io.DataFilePathFactory;
 import org.apache.paimon.options.MemorySize;
 import org.apache.paimon.options.Options;
 import org.apache.paimon.schema.Schema;
@@ -30,12 +34,16 @@ import org.apache.paimon.schema.TableSchema;
 import org.apache.paimon.table.FileStoreTable;
 import org.apache.paimon.table.FileStoreTableFactory;
 import org.apache.paimon.table.sink.CommitMessage;
+import org.apache.paimon.table.sink.CommitMessageImpl;
 import org.apache.paimon.table.sink.StreamTableWrite;
 import org.apache.paimon.types.DataType;
 import org.apache.paimon.types.DataTypes;
+import org.apache.paimon.types.RowKind;
 import org.apache.paimon.types.RowType;
 import org.apache.paimon.utils.TraceableFileIO;
 
+import org.apache.flink.table.data.GenericRowData;
+import org.apache.flink.table.data.RowData;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -44,12 +52,15 @@ import java.nio.file.Path;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Random;
 import java.util.UUID;
 
+import static org.apache.paimon.io.DataFileTestUtils.row;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 /** Tests for {@link FileStoreLookupFunction}. */
 public class FileStoreLookupFunctionTest {
@@ -127,6 +138,265 @@ public class FileStoreLookupFunctionTest {
         fileStoreLookupFunction.lookup(new FlinkRowData(GenericRow.of(1, 1, 10L)));
     }
 
+    @Test
+    public void testBatchLookup() throws Exception {
+        StreamTableWrite writer = fileStoreTable.newStreamWriteBuilder().newWrite();
+        for (int i = 0; i < 10; i++) {
+            writer.write(GenericRow.of(1, i, (long) i));
+        }
+        commit(writer.prepareCommit(true, 0));
+        writer.close();
+
+        List<RowData> keys = new ArrayList<>();
+        for (int i = 12; i >= 0; i--) {
+            keys.add(GenericRowData.of(i));
+        }
+        List<Collection<RowData>> results = fileStoreLookupFunction.lookup(keys);
+        assertThat(results).hasSize(13);
+        for (int i = 0; i < 13; i++) {
+            int k = 12 - i;
+            if (k >= 10) {
+                assertThat(results.get(i)).isEmpty();
+            } else {
+                assertThat(results.get(i)).hasSize(1);
+                assertThat(results.get(i).iterator().next().getInt(1)).isEqualTo(k);
+            }
+        }
+    }
+
+    @Test
+    public void testAsyncRefresh() throws Exception {
+        fileStoreLookupFunction.close();
+        fileStoreLookupFunction =
+                new FileStoreLookupFunction(
+                        fileStoreTable.copy(
+                                Collections.singletonMap(
+                                        FlinkConnectorOptions.LOOKUP_REFRESH_ASYNC.key(), "true")),
+                        new int[] {0, 1},
+                        new int[] {1},
+                        null);
+        fileStoreLookupFunction.open(tempDir.toString());
+
+        StreamTableWrite writer = fileStoreTable.newStreamWriteBuilder().newWrite();
+        writer.write(GenericRow.of(1, 1, 10L));
+        commit(writer.prepareCommit(true, 0));
+        writer.close();
+
+        // lookup does not wait for the refresh, data is visible once the refresh finishes
+        FlinkRowData key = new FlinkRowData(GenericRow.of(1, 1, 10L));
+        long deadline = System.currentTimeMillis() + 60_000;
+        Collection<RowData> result = fileStoreLookupFunction.lookup(key);
+        while (result.isEmpty() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+            result = fileStoreLookupFunction.lookup(key);
+        }
+        assertThat(result).hasSize(1);
+        assertThat(result.iterator().next().getLong(2)).isEqualTo(10L);
+    }
+
+    @Test
+    public void testAsyncRefreshAppliesSnapshotAtOnce() throws Exception {
+        fileStoreLookupFunction.close();
+        fileStoreLookupFunction =
+                new FileStoreLookupFunction(
+                        fileStoreTable.copy(
+                                Collections.singletonMap(
+                                        FlinkConnectorOptions.LOOKUP_REFRESH_ASYNC.key(), "true")),
+                        new int[] {0, 1, 2},
+                        new int[] {0},
+                        null);
+        fileStoreLookupFunction.open(tempDir.toString());
+
+        StreamTableWrite writer = fileStoreTable.newStreamWriteBuilder().newWrite();
+        for (int i = 0; i < 3000; i++) {
+            writer.write(GenericRow.of(1, i, (long) i));
+        }
+        commit(writer.prepareCommit(true, 0));
+        writer.close();
+
+        // lookups during the refresh see either none or all records of the snapshot
+        RowData key = GenericRowData.of(1);
+        long deadline = System.currentTimeMillis() + 60_000;
+        Collection<RowData> result = fileStoreLookupFunction.lookup(key);
+        while (result.size() < 3000 && System.currentTimeMillis() < deadline) {
+            assertThat(result).isEmpty();
+            result = fileStoreLookupFunction.lookup(key);
+        }
+        assertThat(result).hasSize(3000);
+    }
+
+    @Test
+    public void testDirectLookup() throws Exception {
+        FileStoreTable directTable =
+                fileStoreTable.copy(
+                        Collections.singletonMap(
+                                FlinkConnectorOptions.LOOKUP_DIRECT.key(), "true"));
+        assertThatThrownBy(
+                        () ->
+                                new FileStoreLookupFunction(
+                                        directTable, new int[] {0, 1}, new int[] {1}, null))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        fileStoreLookupFunction.close();
+        fileStoreLookupFunction =
+                new FileStoreLookupFunction(
+                        directTable, new int[] {0, 1, 2}, new int[] {0, 1}, null);
+        fileStoreLookupFunction.open(tempDir.toString());
+
+        StreamTableWrite writer = fileStoreTable.newStreamWriteBuilder().newWrite();
+        for (int i = 0; i < 10; i++) {
+            writer.write(GenericRow.of(1, i, (long) i));
+        }
+        commit(writer.prepareCommit(true, 0));
+
+        for (int i = 0; i < 10; i++) {
+            Collection<RowData> result = fileStoreLookupFunction.lookup(GenericRowData.of(1, i));
+            assertThat(result).hasSize(1);
+            RowData row = result.iterator().next();
+            assertThat(row.getInt(1)).isEqualTo(i);
+            assertThat(row.getLong(2)).isEqualTo(i);
+        }
+        assertThat(fileStoreLookupFunction.lookup(GenericRowData.of(2, 0))).isEmpty();
+
+        // updates in later snapshots are picked up by the next refresh
+        for (int i = 0; i < 5; i++) {
+            writer.write(GenericRow.of(1, i, i + 100L));
+        }
+        commit(writer.prepareCommit(true, 1));
+        writer.close();
+
+        for (int i = 0; i < 10; i++) {
+            Collection<RowData> result = fileStoreLookupFunction.lookup(GenericRowData.of(1, i));
+            assertThat(result).hasSize(1);
+            assertThat(result.iterator().next().getLong(2)).isEqualTo(i < 5 ? i + 100L : i);
+        }
+    }
+
+    @Test
+    public void testDirectLookupAfterCompaction() throws Exception {
+        openDirectLookupFunction();
+
+        StreamTableWrite writer = fileStoreTable.newStreamWriteBuilder().newWrite();
+        for (int i = 0; i < 10; i++) {
+            writer.write(GenericRow.of(1, i, (long) i));
+        }
+        List<CommitMessage> messages = new ArrayList<>(writer.prepareCommit(true, 0));
+        commit(messages);
+        assertThat(fileStoreLookupFunction.lookup(GenericRowData.of(2, 0))).isEmpty();
+        for (int i = 0; i < 5; i++) {
+            writer.write(GenericRow.of(1, i, i + 100L));
+        }
+        List<CommitMessage> update = writer.prepareCommit(true, 1);
+        messages.addAll(update);
+        commit(update);
+        assertThat(fileStoreLookupFunction.lookup(GenericRowData.of(2, 0))).isEmpty();
+
+        // the compaction snapshot drops the level 0 files from the lookup levels
+        for (int bucket = 0; bucket < 2; bucket++) {
+            writer.compact(row(1), bucket, true);
+        }
+        commit(writer.prepareCommit(true, 2));
+        assertThat(fileStoreLookupFunction.lookup(GenericRowData.of(2, 0))).isEmpty();
+
+        // expire the snapshots before the compaction, so that the dropped files are deleted
+        for (int i = 0; i < 3; i++) {
+            writer.write(GenericRow.of(3, i, (long) i));
+            commit(writer.prepareCommit(true, 3 + i));
+            assertThat(fileStoreLookupFunction.lookup(GenericRowData.of(2, 0))).isEmpty();
+        }
+        writer.close();
+        for (CommitMessage message : messages) {
+            CommitMessageImpl messageImpl = (CommitMessageImpl) message;
+            DataFilePathFactory pathFactory =
+                    ((AbstractFileStore<?>) fileStoreTable.store())
+                            .pathFactory()
+                            .createDataFilePathFactory(
+                                    messageImpl.partition(), messageImpl.bucket());
+            for (DataFileMeta file : messageImpl.newFilesIncrement().newFiles()) {
+                assertThat(fileIO.exists(pathFactory.toPath(file.fileName()))).isFalse();
+            }
+        }
+
+        for (int i = 0; i < 10; i++) {
+            Collection<RowData> result = fileStoreLookupFunction.lookup(GenericRowData.of(1, i));
+            assertThat(result).hasSize(1);
+            assertThat(result.iterator().next().getLong(2)).isEqualTo(i < 5 ? i + 100L : i);
+        }
+    }
+
+    @Test
+    public void testDirectLookupDeletedKey() throws Exception {
+        openDirectLookupFunction();
+
+        StreamTableWrite writer = fileStoreTable.newStreamWriteBuilder().newWrite();
+        for (int i = 0; i < 10; i++) {
+            writer.write(GenericRow.of(1, i, (long) i));
+        }
+        commit(writer.prepareCommit(true, 0));
+        writer.write(GenericRow.ofKind(RowKind.DELETE, 1, 3, 3L));
+        writer.write(GenericRow.ofKind(RowKind.DELETE, 1, 7, 7L));
+        commit(writer.prepareCommit(true, 1));
+        writer.close();
+
+        // the newest record of a deleted key is a DELETE, it must not fall back to older files
+        List<RowData> keys = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            keys.add(GenericRowData.of(1, i));
+        }
+        List<Collection<RowData>> results = fileStoreLookupFunction.lookup(keys);
+        for (int i = 0; i < 10; i++) {
+            boolean deleted = i == 3 || i == 7;
+            assertThat(fileStoreLookupFunction.lookup(keys.get(i))).hasSize(deleted ? 0 : 1);
+            assertThat(results.get(i)).hasSize(deleted ? 0 : 1);
+        }
+    }
+
+    @Test
+    public void testDirectLookupLevel0Order() throws Exception {
+        openDirectLookupFunction();
+
+        // three overlapping level 0 files, the newest file of a key wins
+        StreamTableWrite writer = fileStoreTable.newStreamWriteBuilder().newWrite();
+        for (int i = 0; i < 10; i++) {
+            writer.write(GenericRow.of(1, i, (long) i));
+        }
+        commit(writer.prepareCommit(true, 0));
+        for (int i = 3; i < 7; i++) {
+            writer.write(GenericRow.of(1, i, i + 100L));
+        }
+        commit(writer.prepareCommit(true, 1));
+        writer.write(GenericRow.of(1, 5, 1000L));
+        commit(writer.prepareCommit(true, 2));
+        writer.close();
+
+        long[] expected = {0, 1, 2, 103, 104, 1000, 106, 7, 8, 9};
+        List<RowData> keys = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            keys.add(GenericRowData.of(1, i));
+        }
+        List<Collection<RowData>> results = fileStoreLookupFunction.lookup(keys);
+        for (int i = 0; i < 10; i++) {
+            Collection<RowData> result = fileStoreLookupFunction.lookup(keys.get(i));
+            assertThat(result).hasSize(1);
+            assertThat(result.iterator().next().getLong(2)).isEqualTo(expected[i]);
+            assertThat(results.get(i)).hasSize(1);
+            assertThat(results.get(i).iterator().next().getLong(2)).isEqualTo(expected[i]);
+        }
+    }
+
+    private void openDirectLookupFunction() throws Exception {
+        fileStoreLookupFunction.close();
+        fileStoreLookupFunction =
+                new FileStoreLookupFunction(
+                        fileStoreTable.copy(
+                                Collections.singletonMap(
+                                        FlinkConnectorOptions.LOOKUP_DIRECT.key(), "true")),
+                        new int[] {0, 1, 2},
+                        new int[] {0, 1},
+                        null);
+        fileStoreLookupFunction.open(tempDir.toString());
+    }
+
     private void commit(List<CommitMessage> messages) {
         fileStoreTable.newCommit(commitUser).commit(messages);
     }
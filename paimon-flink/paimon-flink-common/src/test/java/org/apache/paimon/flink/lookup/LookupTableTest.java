@@ -20,6 +20,8 @@ package org.apache.paimon.flink.lookup;
 
 import org.apache.paimon.data.GenericRow;
 import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.flink.RocksDBOptions;
+import org.apache.paimon.options.MemorySize;
 import org.apache.paimon.options.Options;
 import org.apache.paimon.types.IntType;
 import org.apache.paimon.types.RowKind;
@@ -32,6 +34,7 @@ import org.junit.jupiter.api.io.TempDir;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.ThreadLocalRandom;
@@ -110,6 +113,90 @@ public class LookupTableTest {
         assertThat(result).hasSize(0);
     }
 
+    @Test
+    public void testPkTableGetAll() throws IOException {
+        LookupTable table =
+                LookupTable.create(
+                        stateFactory,
+                        rowType,
+                        singletonList("f0"),
+                        singletonList("f0"),
+                        r -> r.getInt(0) < 3,
+                        ThreadLocalRandom.current().nextInt(2) * 10);
+
+        table.refresh(Arrays.asList(row(1, 11, 111), row(2, 22, 222)).iterator());
+        // the cached key 1 and the missed keys are served in one batch
+        table.get(row(1));
+        List<List<InternalRow>> results = table.getAll(Arrays.asList(row(2), row(3), row(1)));
+        assertThat(results).hasSize(3);
+        assertThat(results.get(0)).hasSize(1);
+        assertRow(results.get(0).get(0), 2, 22, 222);
+        assertThat(results.get(1)).hasSize(0);
+        assertThat(results.get(2)).hasSize(1);
+        assertRow(results.get(2).get(0), 1, 11, 111);
+    }
+
+    @Test
+    public void testSecKeyTableGetAll() throws IOException {
+        LookupTable table =
+                LookupTable.create(
+                        stateFactory,
+                        rowType,
+                        singletonList("f0"),
+                        singletonList("f1"),
+                        r -> r.getInt(0) < 3,
+                        ThreadLocalRandom.current().nextInt(2) * 10);
+
+        table.refresh(
+                Arrays.asList(row(1, 11, 111), row(2, 22, 222), row(3, 22, 333)).iterator());
+        List<List<InternalRow>> results = table.getAll(Arrays.asList(row(22), row(33), row(11)));
+        assertThat(results).hasSize(3);
+        assertThat(results.get(0)).hasSize(1);
+        assertRow(results.get(0).get(0), 2, 22, 222);
+        assertThat(results.get(1)).hasSize(0);
+        assertThat(results.get(2)).hasSize(1);
+        assertRow(results.get(2).get(0), 1, 11, 111);
+    }
+
+    @Test
+    public void testPkTableBootstrap() throws IOException {
+        // a tiny write buffer makes every record a separate SST file
+        Options options = new Options();
+        options.set(
+                RocksDBOptions.WRITE_BUFFER_SIZE,
+                new MemorySize(ThreadLocalRandom.current().nextBoolean() ? 1 : 1024));
+        try (RocksDBStateFactory factory =
+                new RocksDBStateFactory(tempDir.resolve("bootstrap").toString(), options)) {
+            LookupTable table =
+                    LookupTable.create(
+                            factory,
+                            rowType,
+                            singletonList("f0"),
+                            singletonList("f0"),
+                            r -> r.getInt(0) < 3,
+                            ThreadLocalRandom.current().nextInt(2) * 10);
+
+            table.bootstrap(
+                    Arrays.asList(
+                                    row(1, 11, 111),
+                                    row(2, 22, 222),
+                                    row(1, 12, 112),
+                                    row(RowKind.DELETE, 2, 22, 222),
+                                    row(3, 33, 333))
+                            .iterator());
+            List<InternalRow> result = table.get(row(1));
+            assertThat(result).hasSize(1);
+            assertRow(result.get(0), 1, 12, 112);
+            assertThat(table.get(row(2))).hasSize(0);
+            assertThat(table.get(row(3))).hasSize(0);
+
+            table.refresh(singletonList(row(2, 23, 223)).iterator());
+            result = table.get(row(2));
+            assertThat(result).hasSize(1);
+            assertRow(result.get(0), 2, 23, 223);
+        }
+    }
+
     @Test
     public void testSecKeyTable() throws IOException {
         LookupTable table =
@@ -172,6 +259,11 @@ public class LookupTableTest {
         assertThat(result).hasSize(2);
         assertRow(result.get(0), 1, 11, 111);
         assertRow(result.get(1), 1, 11, 111);
+
+        List<List<InternalRow>> results = table.getAll(Arrays.asList(row(22), row(11)));
+        assertThat(results).hasSize(2);
+        assertThat(results.get(0)).hasSize(0);
+        assertThat(results.get(1)).hasSize(2);
     }
 
     private static InternalRow row(Object... values) {
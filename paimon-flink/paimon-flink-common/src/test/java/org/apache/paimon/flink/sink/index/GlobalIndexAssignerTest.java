@@ -141,6 +141,39 @@ public class GlobalIndexAssignerTest extends TableTestBase {
         assigner.close();
     }
 
+    @Test
+    public void testBootstrap() throws Exception {
+        GlobalIndexAssigner<RowData> assigner = createAssigner(MergeEngine.DEDUPLICATE);
+        List<Tuple2<RowData, Integer>> output = new ArrayList<>();
+        assigner.open(
+                new File(warehouse.getPath()),
+                2,
+                0,
+                (row, bucket) -> output.add(new Tuple2<>(row, bucket)));
+
+        // bulk loaded keys are visible to the first processed record
+        assigner.bootstrap(GenericRowData.of(1, 1));
+        assigner.bootstrap(GenericRowData.of(2, 1));
+        assigner.process(GenericRowData.of(2, 1, 2));
+        assertThat(output)
+                .containsExactly(
+                        new Tuple2<>(GenericRowData.ofKind(RowKind.DELETE, 1, 1, 2), 0),
+                        new Tuple2<>(GenericRowData.of(2, 1, 2), 0));
+        output.clear();
+
+        // keys bootstrapped after the first processed record
+        assigner.bootstrap(GenericRowData.of(3, 1));
+        assigner.process(GenericRowData.of(1, 2, 2));
+        assigner.process(GenericRowData.of(1, 3, 3));
+        assertThat(output)
+                .containsExactly(
+                        new Tuple2<>(GenericRowData.of(1, 2, 2), 0),
+                        new Tuple2<>(GenericRowData.of(1, 3, 3), 0));
+        output.clear();
+
+        assigner.close();
+    }
+
     @Test
     public void testUseOldPartition() throws Exception {
         MergeEngine mergeEngine =
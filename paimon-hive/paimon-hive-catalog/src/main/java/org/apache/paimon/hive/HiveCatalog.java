@@ -407,6 +407,7 @@ public class HiveCatalog extends AbstractCatalog {
     @Override
     public void close() throws Exception {
         client.close();
+        super.close();
     }
 
     @Override